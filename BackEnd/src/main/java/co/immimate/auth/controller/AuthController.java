@@ -1,5 +1,6 @@
 package co.immimate.auth.controller;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
@@ -47,7 +48,6 @@ public class AuthController {
     private static final String ME_ENDPOINT = "/me";
     private static final String LOGOUT_ENDPOINT = "/logout";
     private static final String VERIFY_ENDPOINT = "/verify";
-    private static final String CSRF_TOKEN_ENDPOINT = "/csrf-token";
 
     private final AuthService authService;
 
@@ -94,12 +94,13 @@ public class AuthController {
     /**
      * Logout the current user by clearing the JWT cookie
      * 
+     * @param request HTTP request carrying the JWT cookie
      * @param response HTTP response to clear cookies
      * @return Success message
      */
     @PostMapping(LOGOUT_ENDPOINT)
-    public ResponseEntity<?> logoutUser(HttpServletResponse response) {
-        return authService.logoutUser(response);
+    public ResponseEntity<?> logoutUser(HttpServletRequest request, HttpServletResponse response) {
+        return authService.logoutUser(request, response);
     }
     
     /**
@@ -111,15 +112,4 @@ public class AuthController {
     public ResponseEntity<?> verifyToken() {
         return authService.verifyCurrentToken();
     }
-
-    /**
-     * Endpoint to get a CSRF token
-     * This is needed by the frontend to make non-GET requests
-     * 
-     * @return Empty response with CSRF token in cookie
-     */
-    @GetMapping(CSRF_TOKEN_ENDPOINT)
-    public ResponseEntity<?> getCsrfToken() {
-        return ResponseEntity.ok().build();
-    }
 } 
\ No newline at end of file
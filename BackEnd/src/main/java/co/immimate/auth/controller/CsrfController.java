@@ -2,12 +2,13 @@ package co.immimate.auth.controller;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
-import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,54 +16,54 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Controller for CSRF token management
+ * Controller for CSRF token management.
+ * The token is a double-submit cookie: the CsrfFilter issues the XSRF-TOKEN cookie once per browser
+ * session and keeps reusing it, so the SPA can read the cookie directly and echo it in the X-XSRF-TOKEN
+ * header. This endpoint is only needed when the cookie is not readable (e.g. a different site).
  */
 @RestController
 @RequestMapping("/api")
 public class CsrfController {
-    
+
     // API endpoints
     private static final String CSRF_ENDPOINT = "/csrf";
-    
-    // CSRF token cookie and response properties
-    private static final String CSRF_COOKIE_NAME = "XSRF-TOKEN";
-    private static final String CSRF_COOKIE_PATH = "/";
-    private static final boolean CSRF_COOKIE_HTTP_ONLY = false;
-    
+
+    // Defaults
+    private static final long DEFAULT_CACHE_MAX_AGE_SECONDS = 300;
+
     // Response map keys
     private static final String RESPONSE_TOKEN_KEY = "token";
     private static final String RESPONSE_HEADER_NAME_KEY = "headerName";
 
+    // How long the browser may reuse the response; it varies on Cookie, so a new session refetches
+    @Value("${csrf.cache-max-age-seconds:" + DEFAULT_CACHE_MAX_AGE_SECONDS + "}")
+    private long cacheMaxAgeSeconds = DEFAULT_CACHE_MAX_AGE_SECONDS;
+
     /**
-     * Endpoint to fetch a CSRF token.
-     * This is useful for client-side applications that need to include CSRF tokens in requests.
+     * Endpoint to fetch the session's CSRF token.
+     * The token comes from the XSRF-TOKEN cookie when the request carries one, so repeated calls
+     * return the same token and never rotate it under an open form.
      *
      * @param request The HTTP request
-     * @param response The HTTP response
-     * @return A response containing the CSRF token
+     * @return A response containing the CSRF token and the header to send it in
      */
     @GetMapping(CSRF_ENDPOINT)
-    public ResponseEntity<Map<String, String>> getCsrfToken(
-            HttpServletRequest request, HttpServletResponse response) {
-        
+    public ResponseEntity<Map<String, String>> getCsrfToken(HttpServletRequest request) {
+
         CsrfToken csrf = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
-        
-        if (csrf != null) {
-            // Create a cookie for the CSRF token
-            Cookie cookie = new Cookie(CSRF_COOKIE_NAME, csrf.getToken());
-            cookie.setPath(CSRF_COOKIE_PATH);
-            cookie.setHttpOnly(CSRF_COOKIE_HTTP_ONLY); // Allow JavaScript access to this cookie
-            response.addCookie(cookie);
-            
-            // Also return the token in the response body
-            Map<String, String> responseMap = new HashMap<>();
-            responseMap.put(RESPONSE_TOKEN_KEY, csrf.getToken());
-            responseMap.put(RESPONSE_HEADER_NAME_KEY, csrf.getHeaderName());
-            
-            return new ResponseEntity<>(responseMap, HttpStatus.OK);
+
+        if (csrf == null) {
+            // CSRF protection is disabled, nothing to hand out or cache
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(new HashMap<>());
         }
-        
-        // If no CSRF token is available, return an empty response
-        return new ResponseEntity<>(new HashMap<>(), HttpStatus.OK);
+
+        Map<String, String> responseMap = new HashMap<>();
+        responseMap.put(RESPONSE_TOKEN_KEY, csrf.getToken());
+        responseMap.put(RESPONSE_HEADER_NAME_KEY, csrf.getHeaderName());
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(cacheMaxAgeSeconds, TimeUnit.SECONDS).cachePrivate())
+                .header(HttpHeaders.VARY, HttpHeaders.COOKIE)
+                .body(responseMap);
     }
-} 
\ No newline at end of file
+}
@@ -22,6 +22,7 @@ import org.springframework.web.servlet.view.RedirectView;
 import co.immimate.auth.security.JwtUtil;
 import co.immimate.user.model.User;
 import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserDetailsServiceImpl;
 
 /**
  * Controller for handling OAuth2 authentication flows
@@ -92,6 +93,9 @@ public class OAuth2Controller {
     
     @Autowired
     private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
     
     /**
      * This endpoint is for OAuth2 success redirection
@@ -147,6 +151,7 @@ public class OAuth2Controller {
                 user.setGoogleId(providerId);
                 user.setRole(ROLE_USER);
                 user = userRepository.save(user);
+                userDetailsService.invalidate(email);
                 logger.info(LOG_NEW_USER_CREATED, user.getId());
             }
             
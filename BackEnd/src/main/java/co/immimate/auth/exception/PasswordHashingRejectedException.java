@@ -0,0 +1,16 @@
+package co.immimate.auth.exception;
+
+/**
+ * Thrown when the password hashing executor is saturated, i.e. its queue is full
+ * or a queued hash did not complete in time. Callers answer with 503 so clients back off.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,72 @@
+package co.immimate.auth.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+
+/**
+ * Keeps buckets in a bounded cache on this node. Buckets are dropped once idle for the configured expiry,
+ * so memory stays fixed however many client addresses are seen.
+ */
+public class InMemoryBucketStore implements RateLimitBucketStore {
+
+    // Defaults; an idle bucket is full again after one refill period, so dropping it loses nothing
+    public static final long DEFAULT_MAX_BUCKETS = 100_000L;
+    public static final long DEFAULT_IDLE_EXPIRY_MS = 60_000L;
+
+    // Metrics
+    private static final String METRIC_BACKEND = "backend";
+    private static final String METRIC_LIVE_BUCKETS = "liveBuckets";
+    private static final String METRIC_EVICTIONS = "evictions";
+    private static final String BACKEND_NAME = "memory";
+
+    private final Cache<String, Bucket> buckets;
+
+    /**
+     * @param maxBuckets Most buckets kept at once
+     * @param idleExpiryMs Idle time after which a bucket is dropped; at least one refill period loses no state
+     */
+    public InMemoryBucketStore(long maxBuckets, long idleExpiryMs) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleExpiryMs, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Bucket resolve(String key, Supplier<BucketConfiguration> configuration) {
+        return buckets.get(key, k -> {
+            LocalBucketBuilder builder = Bucket.builder();
+            for (Bandwidth bandwidth : configuration.get().getBandwidths()) {
+                builder.addLimit(bandwidth);
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * Runs pending evictions now instead of on the next cache access
+     */
+    public void cleanUp() {
+        buckets.cleanUp();
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(METRIC_BACKEND, BACKEND_NAME);
+        metrics.put(METRIC_LIVE_BUCKETS, buckets.estimatedSize());
+        metrics.put(METRIC_EVICTIONS, buckets.stats().evictionCount());
+        return metrics;
+    }
+}
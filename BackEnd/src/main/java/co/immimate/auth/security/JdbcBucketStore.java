@@ -0,0 +1,285 @@
+package co.immimate.auth.security;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.AbstractSelectForUpdateBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.LockAndGetResult;
+import io.github.bucket4j.distributed.proxy.generic.select_for_update.SelectForUpdateBasedTransaction;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+
+/**
+ * Shares buckets between backend nodes through a database table, using Bucket4j's select-for-update proxy manager.
+ * Each consume locks the bucket's row, applies the command and writes the new state back in one transaction.
+ * Every write moves the row's expiry forward by the idle expiry, like the in-memory store's expire-after-access,
+ * and {@link #purgeExpired(long, int)} deletes idle rows in bounded batches.
+ * The table is not a JPA entity: its name is configurable and Bucket4j needs row locks through plain JDBC,
+ * so the store creates it on startup. The state column is BYTEA on PostgreSQL and BLOB elsewhere (H2, MySQL).
+ */
+public class JdbcBucketStore implements RateLimitBucketStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcBucketStore.class);
+
+    // Table names come from configuration and are inlined into SQL, so only plain identifiers are accepted
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    // SQL
+    private static final String SQL_CREATE_TABLE =
+            "CREATE TABLE IF NOT EXISTS %s (id VARCHAR(128) PRIMARY KEY, state %s, expires_at BIGINT NOT NULL)";
+    private static final String SQL_CREATE_EXPIRY_INDEX = "CREATE INDEX IF NOT EXISTS %s_expires_at_idx ON %s (expires_at)";
+    private static final String SQL_SELECT_FOR_UPDATE = "SELECT state FROM %s WHERE id = ? FOR UPDATE";
+    private static final String SQL_INSERT_EMPTY = "INSERT INTO %s (id, state, expires_at) VALUES (?, NULL, ?)";
+    private static final String SQL_UPDATE = "UPDATE %s SET state = ?, expires_at = ? WHERE id = ?";
+    private static final String SQL_DELETE = "DELETE FROM %s WHERE id = ?";
+    // The outer expiry check is re-evaluated on rows a concurrent consume has just locked and renewed
+    private static final String SQL_PURGE_EXPIRED =
+            "DELETE FROM %1$s WHERE expires_at < ? AND id IN (SELECT id FROM %1$s WHERE expires_at < ? LIMIT ?)";
+
+    // Binary column type per database product
+    private static final String DATABASE_POSTGRESQL = "PostgreSQL";
+    private static final String BINARY_TYPE_POSTGRESQL = "BYTEA";
+    private static final String BINARY_TYPE_DEFAULT = "BLOB";
+
+    // SQLState class for integrity constraint violations, e.g. a concurrent insert of the same key
+    private static final String SQLSTATE_INTEGRITY_VIOLATION = "23";
+
+    // Messages
+    private static final String ERR_INVALID_TABLE = "Invalid rate-limit table name: %s";
+    private static final String LOG_TABLE_READY = "Rate-limit bucket table {} is ready";
+    private static final String LOG_RELEASE_FAILED = "Failed to release rate-limit connection: {}";
+
+    // Metrics
+    private static final String METRIC_BACKEND = "backend";
+    private static final String METRIC_TABLE = "table";
+    private static final String METRIC_TRANSACTIONS = "transactions";
+    private static final String METRIC_PURGED = "purged";
+    private static final String BACKEND_NAME = "jdbc";
+
+    private final DataSource dataSource;
+    private final String table;
+    private final String selectForUpdateSql;
+    private final String insertEmptySql;
+    private final String updateSql;
+    private final String purgeExpiredSql;
+    private final long idleExpiryMs;
+    private final JdbcProxyManager proxyManager;
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+
+    /**
+     * @param dataSource Shared database
+     * @param table Bucket table, optionally schema qualified
+     * @param idleExpiryMs How long a bucket row is kept after its last use
+     */
+    public JdbcBucketStore(DataSource dataSource, String table, long idleExpiryMs) {
+        if (table == null || !TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException(String.format(ERR_INVALID_TABLE, table));
+        }
+        this.dataSource = dataSource;
+        this.table = table;
+        this.selectForUpdateSql = String.format(SQL_SELECT_FOR_UPDATE, table);
+        this.insertEmptySql = String.format(SQL_INSERT_EMPTY, table);
+        this.updateSql = String.format(SQL_UPDATE, table);
+        this.purgeExpiredSql = String.format(SQL_PURGE_EXPIRED, table);
+        this.idleExpiryMs = idleExpiryMs;
+        this.proxyManager = new JdbcProxyManager();
+    }
+
+    /**
+     * Creates the bucket table and its expiry index when they do not exist yet
+     *
+     * @throws SQLException If the table cannot be created
+     */
+    public void createTableIfMissing() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            String binaryType = DATABASE_POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName())
+                    ? BINARY_TYPE_POSTGRESQL : BINARY_TYPE_DEFAULT;
+            statement.execute(String.format(SQL_CREATE_TABLE, table, binaryType));
+            // Index names cannot be schema qualified
+            statement.execute(String.format(SQL_CREATE_EXPIRY_INDEX, table.substring(table.lastIndexOf('.') + 1), table));
+        }
+        logger.info(LOG_TABLE_READY, table);
+    }
+
+    /**
+     * Deletes up to limit buckets that have not been used within the idle expiry, in one short transaction
+     *
+     * @param now Current time in epoch milliseconds
+     * @param limit Maximum rows to delete
+     * @return Number of rows deleted
+     * @throws SQLException If the delete fails
+     */
+    public int purgeExpired(long now, int limit) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(purgeExpiredSql)) {
+            statement.setLong(1, now);
+            statement.setLong(2, now);
+            statement.setInt(3, limit);
+            int rows = statement.executeUpdate();
+            purged.add(rows);
+            return rows;
+        }
+    }
+
+    private long nextExpiry() {
+        return System.currentTimeMillis() + idleExpiryMs;
+    }
+
+    @Override
+    public Bucket resolve(String key, Supplier<BucketConfiguration> configuration) {
+        return proxyManager.builder().build(key, configuration);
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(METRIC_BACKEND, BACKEND_NAME);
+        metrics.put(METRIC_TABLE, table);
+        metrics.put(METRIC_TRANSACTIONS, transactions.sum());
+        metrics.put(METRIC_PURGED, purged.sum());
+        return metrics;
+    }
+
+    /**
+     * Proxy manager that runs every bucket command in its own JDBC transaction
+     */
+    private class JdbcProxyManager extends AbstractSelectForUpdateBasedProxyManager<String> {
+
+        JdbcProxyManager() {
+            super(ClientSideConfig.getDefault());
+        }
+
+        @Override
+        protected SelectForUpdateBasedTransaction allocateTransaction(String key) {
+            return new JdbcTransaction(key);
+        }
+
+        @Override
+        public void removeProxy(String key) {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(String.format(SQL_DELETE, table))) {
+                statement.setString(1, key);
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean isAsyncModeSupported() {
+            return false;
+        }
+    }
+
+    /**
+     * One locked read-modify-write of a bucket row
+     */
+    private class JdbcTransaction implements SelectForUpdateBasedTransaction {
+
+        private final String key;
+        private Connection connection;
+
+        JdbcTransaction(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void begin() {
+            try {
+                connection = dataSource.getConnection();
+                connection.setAutoCommit(false);
+                transactions.increment();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public LockAndGetResult tryLockAndGet() {
+            try (PreparedStatement statement = connection.prepareStatement(selectForUpdateSql)) {
+                statement.setString(1, key);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? LockAndGetResult.locked(resultSet.getBytes(1)) : LockAndGetResult.notLocked();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean tryInsertEmptyData() {
+            try (PreparedStatement statement = connection.prepareStatement(insertEmptySql)) {
+                statement.setString(1, key);
+                statement.setLong(2, nextExpiry());
+                return statement.executeUpdate() > 0;
+            } catch (SQLException e) {
+                // Another node inserted the row first; the caller retries and locks that row instead
+                if (e.getSQLState() != null && e.getSQLState().startsWith(SQLSTATE_INTEGRITY_VIOLATION)) {
+                    return false;
+                }
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void update(byte[] data, RemoteBucketState newState) {
+            try (PreparedStatement statement = connection.prepareStatement(updateSql)) {
+                statement.setBytes(1, data);
+                statement.setLong(2, nextExpiry());
+                statement.setString(3, key);
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void commit() {
+            try {
+                connection.commit();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void rollback() {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void release() {
+            if (connection == null) {
+                return;
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.warn(LOG_RELEASE_FAILED, e.getMessage());
+            } finally {
+                connection = null;
+            }
+        }
+    }
+}
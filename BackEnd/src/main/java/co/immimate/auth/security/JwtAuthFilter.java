@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import co.immimate.user.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 
 /**
@@ -32,22 +33,8 @@ import io.jsonwebtoken.ExpiredJwtException;
 public class JwtAuthFilter extends OncePerRequestFilter {
     
     
-    // Endpoint paths for filtering
-    private static final String API_PREFIX_DUPLICATE = "/api/api/";
-    private static final String API_PREFIX = "/api/";
-    private static final String AUTH_LOGIN_PATH = "/auth/login";
-    private static final String AUTH_REGISTER_PATH = "/auth/register";
-    private static final String AUTH_LOGOUT_PATH = "/auth/logout";
-    private static final String AUTH_VERIFY_PATH = "/auth/verify";
-    private static final String AUTH_CSRF_TOKEN_PATH = "/auth/csrf-token";
-    private static final String OAUTH2_PATH = "/oauth2/";
-    private static final String API_HEALTH_PATH = "/api/health";
-    private static final String API_CSRF_PATH = "/api/csrf";
-    private static final String API_CSRF_INFO_PATH = "/api/csrf-info";
-    
     // Logging constants
-    private static final String DEBUG_SKIP_FILTER = "Skipping JWT filter for public endpoint: {}";
-    private static final String DEBUG_APPLY_FILTER = "Applying JWT filter for protected endpoint: {}";
+    private static final String DEBUG_STATELESS_AUTH = "Authenticating {} from token claims";
     
     
     private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
@@ -57,10 +44,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private PublicEndpointMatcher publicEndpointMatcher;
     
     @Value("${jwt.cookie.name:jwt}")
     private String jwtCookieName;
 
+    // Build the authentication from the token's role claim instead of loading the user per request.
+    // Credential changes are tracked per node, so this is only safe for a single instance.
+    @Value("${jwt.stateless-auth:false}")
+    private boolean statelessAuth;
+
     @Autowired
     private Environment environment;
 
@@ -85,13 +80,6 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             log.debug("Processing /api/auth/me endpoint - requires valid JWT");
         }
         
-        // Skip JWT validation for public endpoints (except /api/auth/me)
-        if (shouldSkipJwtValidation(path)) {
-            log.debug("Skipping JWT filter for public endpoint: {}", path);
-            filterChain.doFilter(request, response);
-            return;
-        }
-        
         // Check cookies
         Cookie[] cookies = request.getCookies();
         boolean foundJwtCookie = false;
@@ -150,12 +138,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
         
         try {
+            // Verify the signature once; the claims are reused by every check below and downstream
+            Claims claims = jwtUtil.verifyRequestClaims(request, jwt);
+            String email = claims.getSubject();
+            
             // Special case for test environment to ensure tests pass
             if (isTestProfile && isAuthMeEndpoint && foundJwtCookie && !cookieIsCleared) {
                 // In test profile, we trust the JWT cookie without extensive validation
                 // This is only for integration tests where we're not testing the JWT validation itself
-                String email = jwtUtil.extractEmail(jwt);
-                
                 if (email != null) {
                     UserDetails userDetails = userDetailsService.loadUserByUsername(email);
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -170,12 +160,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             }
             
             // Normal JWT validation flow for production environment
-            String email = jwtUtil.extractEmail(jwt);
-            
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                UserDetails userDetails = resolveUserDetails(claims, email);
                 
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+                if (jwtUtil.validateClaims(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                     
@@ -215,6 +203,25 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * Resolves the user behind verified claims. In stateless mode the role claim is trusted unless the
+     * user's role or password changed after the token was issued; otherwise the (cached) user is loaded.
+     *
+     * @param claims Verified claims of the token
+     * @param email Token subject
+     * @return UserDetails for the authentication
+     */
+    private UserDetails resolveUserDetails(Claims claims, String email) {
+        if (statelessAuth) {
+            String role = jwtUtil.extractRole(claims);
+            if (role != null && !userDetailsService.isChangedSince(email, claims.getIssuedAt())) {
+                log.debug(DEBUG_STATELESS_AUTH, email);
+                return userDetailsService.fromClaims(email, role);
+            }
+        }
+        return userDetailsService.loadUserByUsername(email);
+    }
+    
     /**
      * Extracts JWT token from cookies
      * 
@@ -243,66 +250,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     
     /**
      * Determines whether the filter should be applied to this request.
-     * Skip JWT filter for authentication and public endpoints.
+     * Skip JWT filter for authentication and public endpoints, as listed by {@link PublicEndpointMatcher}.
      *
      * @param request The HTTP request
      * @return true if the filter should be skipped, false otherwise
      */
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
-        
-        // Remove duplicate context path if present (handles both /api/api/auth/login and /api/auth/login)
-        if (path.startsWith(API_PREFIX_DUPLICATE)) {
-            path = path.replaceFirst(API_PREFIX_DUPLICATE, API_PREFIX);
-        }
-        
-        // Define patterns to match - important: ME endpoint is NOT in this list
-        // We want JWT validation to happen for the ME endpoint
-        boolean shouldSkip = path.contains(AUTH_LOGIN_PATH) || 
-                             path.contains(AUTH_REGISTER_PATH) ||
-                             path.contains(AUTH_LOGOUT_PATH) ||
-                             path.contains(AUTH_VERIFY_PATH) ||
-                             path.contains(AUTH_CSRF_TOKEN_PATH) ||
-                             path.contains(OAUTH2_PATH) ||
-                             path.equals(API_HEALTH_PATH) || 
-                             path.equals(API_CSRF_PATH) || 
-                             path.equals(API_CSRF_INFO_PATH);
-        
-        // Skip filter for certain public endpoints
-        boolean isPublicEndpoint = shouldSkip;
-        
-        if (isPublicEndpoint) {
-            log.debug(DEBUG_SKIP_FILTER, path);
-        } else {
-            log.debug(DEBUG_APPLY_FILTER, path);
-        }
-        
-        // Never skip filter for /auth/me endpoint, regardless of environment
-        if (path.contains("/api/auth/me")) {
-            log.debug("Never skipping JWT filter for /api/auth/me endpoint");
-            return false;
-        }
-        
-        return isPublicEndpoint;
-    }
-
-    /**
-     * Checks if the given path should skip JWT validation
-     */
-    private boolean shouldSkipJwtValidation(String path) {
-        // Never skip validation for /api/auth/me endpoint
-        if (path.contains("/api/auth/me")) {
-            log.debug("Never skipping JWT validation for /api/auth/me endpoint");
-            return false;
-        }
-        
-        // Allow access to authentication endpoints without JWT
-        return path.contains("/auth/login") 
-            || path.contains("/auth/register") 
-            || path.contains("/auth/google") 
-            || path.contains("/auth/logout")
-            || path.contains("/csrf") 
-            || path.contains("/actuator");
+        return publicEndpointMatcher.matches(request.getRequestURI());
     }
-} 
\ No newline at end of file
+}
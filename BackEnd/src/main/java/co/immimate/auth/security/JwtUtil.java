@@ -1,11 +1,20 @@
 package co.immimate.auth.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import javax.annotation.PostConstruct;
+
 import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
@@ -15,6 +24,12 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import co.immimate.config.MetricsSource;
 import co.immimate.user.model.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -28,10 +43,23 @@ import io.jsonwebtoken.UnsupportedJwtException;
  * Utility class for handling JWT tokens
  */
 @Component
-public class JwtUtil {
+public class JwtUtil implements MetricsSource {
     
     private static final Logger log = LoggerFactory.getLogger(JwtUtil.class);
     
+    /**
+     * Request attribute holding the verified {@link Claims} of the request's JWT, set by {@link JwtAuthFilter}
+     */
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".claims";
+    
+    // Verified-token cache
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String METRICS_NAME = "jwtClaimsCache";
+    private static final String METRIC_HITS = "hits";
+    private static final String METRIC_MISSES = "misses";
+    private static final String METRIC_EVICTIONS = "evictions";
+    private static final String METRIC_SIZE = "size";
+    
     // JWT claim keys
     private static final String CLAIM_ID = "id";
     private static final String CLAIM_ROLE = "role";
@@ -49,7 +77,6 @@ public class JwtUtil {
     private static final String ERR_TOKEN_EXPIRED = "JWT token is expired: {}";
     private static final String ERR_TOKEN_UNSUPPORTED = "JWT token is unsupported: {}";
     private static final String ERR_CLAIMS_EMPTY = "JWT claims string is empty: {}";
-    private static final String ERR_TOKEN_EXPIRATION = "Error checking token expiration: {}";
     private static final String ERR_VALIDATING_TOKEN = "Error validating token: {}";
     
     // Debug message constants
@@ -78,6 +105,17 @@ public class JwtUtil {
     // Cookie path - default to root path
     @Value("${jwt.cookie.path:/}")
     private String cookiePath;
+    
+    // Verified-token cache size, 0 disables the cache
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+    
+    // Upper bound on how long a verified token is trusted without checking it again
+    @Value("${jwt.claims-cache.max-ttl-ms:900000}")
+    private long claimsCacheMaxTtlMs;
+    
+    // Token digest -> verified claims, built in initClaimsCache
+    private volatile Cache<String, Claims> claimsCache;
 
     /**
      * Extracts the username (email) from the JWT token
@@ -111,6 +149,56 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verifies the signature of the JWT token and returns its claims.
+     * Repeat tokens are served from the verified-token cache; the returned claims are shared and must not be modified.
+     * 
+     * @param token JWT token
+     * @return All claims
+     */
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
+    /**
+     * Reads the role claim from already verified claims
+     *
+     * @param claims Verified claims of the token
+     * @return Role, or null if the token carries none
+     */
+    public String extractRole(Claims claims) {
+        Object role = claims.get(CLAIM_ROLE);
+        return role == null ? null : role.toString();
+    }
+
+    /**
+     * Returns the claims verified earlier in this request, if any
+     * 
+     * @param request HTTP request
+     * @return Claims stored by {@link #verifyRequestClaims}, or null
+     */
+    public static Claims getVerifiedClaims(HttpServletRequest request) {
+        Object claims = request.getAttribute(CLAIMS_ATTRIBUTE);
+        return claims instanceof Claims ? (Claims) claims : null;
+    }
+
+    /**
+     * Verifies the request's JWT at most once per request and stores the claims as
+     * {@link #CLAIMS_ATTRIBUTE}; later calls for the same request reuse them
+     * 
+     * @param request HTTP request
+     * @param token JWT token from the request
+     * @return All claims
+     */
+    public Claims verifyRequestClaims(HttpServletRequest request, String token) {
+        Claims claims = getVerifiedClaims(request);
+        if (claims == null) {
+            claims = parseClaims(token);
+            request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        }
+        return claims;
+    }
+
     /**
      * Extracts all claims from the JWT token
      * 
@@ -118,6 +206,26 @@ public class JwtUtil {
      * @return All claims
      */
     private Claims extractAllClaims(String token) {
+        Cache<String, Claims> cache = claimsCache;
+        if (cache == null) {
+            return verifyClaims(token);
+        }
+        String key = digest(token);
+        Claims claims = cache.getIfPresent(key);
+        if (claims == null) {
+            claims = verifyClaims(token);
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Verifies the signature of the JWT token and parses its claims, bypassing the cache
+     * 
+     * @param token JWT token
+     * @return All claims
+     */
+    private Claims verifyClaims(String token) {
         try {
             return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
         } catch (SignatureException e) {
@@ -139,20 +247,107 @@ public class JwtUtil {
     }
 
     /**
-     * Checks if the JWT token is expired
+     * Builds the verified-token cache. Entries live until the token's own expiration,
+     * and never longer than the configured maximum TTL.
+     */
+    @PostConstruct
+    public void initClaimsCache() {
+        if (claimsCacheMaxSize <= 0) {
+            claimsCache = null;
+            return;
+        }
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return remainingLifetimeNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return remainingLifetimeNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Drops a token from the verified-token cache, e.g. on logout
      * 
      * @param token JWT token
-     * @return True if expired, false otherwise
      */
-    private Boolean isTokenExpired(String token) {
+    public void evictToken(String token) {
+        Cache<String, Claims> cache = claimsCache;
+        if (cache != null && token != null && !token.isEmpty()) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    /**
+     * Drops the token carried by the request's JWT cookie from the verified-token cache
+     * 
+     * @param request HTTP request
+     */
+    public void evictToken(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (jwtCookieName.equals(cookie.getName())) {
+                evictToken(cookie.getValue());
+            }
+        }
+    }
+
+    private long remainingLifetimeNanos(Claims claims) {
+        long maxTtlNanos = TimeUnit.MILLISECONDS.toNanos(claimsCacheMaxTtlMs);
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return 0;
+        }
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+        return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+    }
+
+    /**
+     * Cache key for a token, so raw tokens are never kept in memory as map keys
+     */
+    private static String digest(String token) {
         try {
-            return extractExpiration(token).before(new Date());
-        } catch (Exception e) {
-            log.error(ERR_TOKEN_EXPIRATION, e.getMessage());
-            return true;
+            MessageDigest sha256 = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
+    @Override
+    public String getMetricsName() {
+        return METRICS_NAME;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        Cache<String, Claims> cache = claimsCache;
+        if (cache == null) {
+            return metrics;
+        }
+        CacheStats stats = cache.stats();
+        metrics.put(METRIC_HITS, stats.hitCount());
+        metrics.put(METRIC_MISSES, stats.missCount());
+        metrics.put(METRIC_EVICTIONS, stats.evictionCount());
+        metrics.put(METRIC_SIZE, cache.estimatedSize());
+        return metrics;
+    }
+
     /**
      * Generates a JWT token for the given user
      * 
@@ -193,28 +388,51 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = extractEmail(token);
-            boolean isValid = (username != null && username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-            if (isValid) {
-                log.debug(DEBUG_TOKEN_VALID, username);
-            } else {
-                log.debug(DEBUG_TOKEN_INVALID, username);
-                if (username == null) {
-                    log.debug(DEBUG_USERNAME_NULL);
-                } else if (!username.equals(userDetails.getUsername())) {
-                    log.debug(DEBUG_USERNAME_MISMATCH, username, userDetails.getUsername());
-                }
-                if (isTokenExpired(token)) {
-                    log.debug(DEBUG_TOKEN_EXPIRED);
-                }
-            }
-            return isValid;
+            return validateClaims(extractAllClaims(token), userDetails);
         } catch (Exception e) {
             log.error(ERR_VALIDATING_TOKEN, e.getMessage());
             return false;
         }
     }
     
+    /**
+     * Validates already verified claims against a user, without parsing the token again
+     * 
+     * @param claims Verified claims of the token
+     * @param userDetails User details
+     * @return True if valid, false otherwise
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        boolean expired = isExpired(claims);
+        boolean isValid = (username != null && username.equals(userDetails.getUsername()) && !expired);
+        if (isValid) {
+            log.debug(DEBUG_TOKEN_VALID, username);
+        } else {
+            log.debug(DEBUG_TOKEN_INVALID, username);
+            if (username == null) {
+                log.debug(DEBUG_USERNAME_NULL);
+            } else if (!username.equals(userDetails.getUsername())) {
+                log.debug(DEBUG_USERNAME_MISMATCH, username, userDetails.getUsername());
+            }
+            if (expired) {
+                log.debug(DEBUG_TOKEN_EXPIRED);
+            }
+        }
+        return isValid;
+    }
+    
+    /**
+     * Checks if verified claims are expired
+     * 
+     * @param claims Verified claims of the token
+     * @return True if expired or without expiration, false otherwise
+     */
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration == null || expiration.before(new Date());
+    }
+    
     /**
      * Creates a JWT cookie with the token for the user
      * 
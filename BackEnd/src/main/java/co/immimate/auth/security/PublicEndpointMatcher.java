@@ -0,0 +1,134 @@
+package co.immimate.auth.security;
+
+import java.util.Arrays;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Matches the public endpoints that need neither a JWT nor an authenticated user.
+ * Built once from {@code security.public-paths} and shared by {@link SecurityConfig} (permitAll, CSRF exemption)
+ * and {@link JwtAuthFilter} (filter skipped), so the two cannot drift.
+ * <p>
+ * Patterns are exact paths, or prefixes ending in {@code /**} that match the prefix and everything below it.
+ * They are compiled into a character trie, so a lookup walks the path once, whatever the number of patterns,
+ * and allocates nothing.
+ */
+@Component
+public class PublicEndpointMatcher implements RequestMatcher {
+
+    // Default public endpoints; /api/auth/me is deliberately absent, it always requires a valid JWT
+    static final String DEFAULT_PUBLIC_PATHS = "/api/auth/login,/api/auth/register,/api/auth/logout,"
+            + "/api/auth/verify,/api/oauth2/**,/api/login/oauth2/**,"
+            + "/api/health,/api/csrf";
+
+    // Pattern syntax
+    private static final String PATH_SEPARATOR = ",";
+    private static final String PREFIX_SUFFIX = "/**";
+    private static final char SLASH = '/';
+
+    // Some clients prepend the API prefix twice, e.g. /api/api/auth/login
+    private static final String API_PREFIX_DUPLICATE = "/api/api/";
+    private static final int API_PREFIX_LENGTH = "/api".length();
+
+    // Only ASCII paths can match; anything else falls through to protected
+    private static final int ALPHABET_SIZE = 128;
+
+    // Error messages
+    private static final String ERR_INVALID_PATTERN = "Public path must start with '/': %s";
+    private static final String ERR_NON_ASCII_PATTERN = "Public path must be ASCII: %s";
+
+    private final Node root = new Node();
+    private final String[] patterns;
+
+    public PublicEndpointMatcher(@Value("${security.public-paths:" + DEFAULT_PUBLIC_PATHS + "}") String publicPaths) {
+        String[] configured = publicPaths.split(PATH_SEPARATOR);
+        int count = 0;
+        for (int i = 0; i < configured.length; i++) {
+            String pattern = configured[i].trim();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            if (pattern.charAt(0) != SLASH) {
+                throw new IllegalArgumentException(String.format(ERR_INVALID_PATTERN, pattern));
+            }
+            configured[count++] = pattern;
+            add(pattern);
+        }
+        this.patterns = Arrays.copyOf(configured, count);
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getRequestURI());
+    }
+
+    /**
+     * Whether the path is a public endpoint
+     *
+     * @param path Request URI
+     * @return True if no JWT is needed
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        int start = path.startsWith(API_PREFIX_DUPLICATE) ? API_PREFIX_LENGTH : 0;
+        Node node = root;
+        for (int i = start; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (node.prefix && c == SLASH) {
+                return true;
+            }
+            if (c >= ALPHABET_SIZE || node.children == null || (node = node.children[c]) == null) {
+                return false;
+            }
+        }
+        return node.exact || node.prefix;
+    }
+
+    /**
+     * The configured patterns, in configuration order
+     *
+     * @return Copy of the patterns
+     */
+    public String[] getPatterns() {
+        return patterns.clone();
+    }
+
+    private void add(String pattern) {
+        boolean prefix = pattern.endsWith(PREFIX_SUFFIX);
+        String path = prefix ? pattern.substring(0, pattern.length() - PREFIX_SUFFIX.length()) : pattern;
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c >= ALPHABET_SIZE) {
+                throw new IllegalArgumentException(String.format(ERR_NON_ASCII_PATTERN, pattern));
+            }
+            if (node.children == null) {
+                node.children = new Node[ALPHABET_SIZE];
+            }
+            if (node.children[c] == null) {
+                node.children[c] = new Node();
+            }
+            node = node.children[c];
+        }
+        if (prefix) {
+            node.prefix = true;
+        } else {
+            node.exact = true;
+        }
+    }
+
+    /**
+     * Trie node; exact marks the end of an exact path, prefix the end of a {@code /**} pattern
+     */
+    private static final class Node {
+        private Node[] children;
+        private boolean exact;
+        private boolean prefix;
+    }
+}
@@ -0,0 +1,31 @@
+package co.immimate.auth.security;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Storage for the rate-limit buckets used by {@link RateLimitFilter}.
+ * {@link InMemoryBucketStore} limits each node on its own, {@link JdbcBucketStore} shares the buckets
+ * between nodes through a database table so the limit holds cluster-wide.
+ */
+public interface RateLimitBucketStore {
+
+    /**
+     * Get the bucket for a key, creating it on first use
+     *
+     * @param key Bucket key, endpoint and client address
+     * @param configuration Limits applied when the bucket is created
+     * @return The bucket
+     */
+    Bucket resolve(String key, Supplier<BucketConfiguration> configuration);
+
+    /**
+     * Store specific counters, reported with the filter's own metrics
+     *
+     * @return Metric name to value
+     */
+    Map<String, Object> getMetrics();
+}
@@ -2,9 +2,14 @@ package co.immimate.auth.security;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -13,29 +18,44 @@ import javax.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import co.immimate.config.MetricsSource;
 import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
 
 /**
  * Filter to implement rate limiting on authentication endpoints
  * to prevent brute force attacks.
+ * Each endpoint has its own configurable limit per client address. Buckets are kept by the
+ * configured {@link RateLimitBucketStore}, in memory on this node or shared between nodes.
+ * The client address is the connection's remote address; X-Forwarded-For is only read when the
+ * connection comes from one of the configured trusted proxies.
  */
-public class RateLimitFilter extends OncePerRequestFilter {
+public class RateLimitFilter extends OncePerRequestFilter implements MetricsSource {
 
     private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
     
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
-    
-    // Rate limiting configuration
-    private static final int CAPACITY = 5; // 5 requests initially available
-    private static final int REFILL_TOKENS = 5; // 5 tokens refilled
-    private static final int REFILL_MINUTES = 1; // tokens refilled every 1 minute
+    // Default limit per endpoint: 5 requests, refilled every minute
+    private static final long DEFAULT_CAPACITY = 5;
+    private static final long DEFAULT_REFILL_TOKENS = 5;
+    private static final long DEFAULT_REFILL_PERIOD_MS = 60_000L;
+
+    // X-Forwarded-For is client controlled; keys are capped at the longest textual IPv6 address
+    private static final int MAX_CLIENT_KEY_LENGTH = 45;
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final char KEY_SEPARATOR = '|';
+
+    // Metrics
+    private static final String METRICS_NAME = "rateLimit";
+    private static final String METRIC_ALLOWED = "allowed";
+    private static final String METRIC_REJECTED = "rejected";
+    private static final String METRIC_STORE_ERRORS = "storeErrors";
     
     // Protected endpoints patterns
     private static final String LOGIN_ENDPOINT = "/api/auth/login";
@@ -45,8 +65,79 @@ public class RateLimitFilter extends OncePerRequestFilter {
     // Test environment control
     private static final String TEST_RATE_LIMIT_HEADER = "X-Test-Rate-Limit";
 
+    // Log messages
+    private static final String LOG_STORE_ERROR = "Rate-limit store unavailable, allowing request: {}";
+
     @Autowired
     private Environment environment;
+
+    @Autowired(required = false)
+    private RateLimitBucketStore bucketStore;
+
+    @Value("${rate-limit.login.capacity:" + DEFAULT_CAPACITY + "}")
+    private long loginCapacity = DEFAULT_CAPACITY;
+
+    @Value("${rate-limit.login.refill-tokens:" + DEFAULT_REFILL_TOKENS + "}")
+    private long loginRefillTokens = DEFAULT_REFILL_TOKENS;
+
+    @Value("${rate-limit.login.refill-period-ms:" + DEFAULT_REFILL_PERIOD_MS + "}")
+    private long loginRefillPeriodMs = DEFAULT_REFILL_PERIOD_MS;
+
+    @Value("${rate-limit.register.capacity:" + DEFAULT_CAPACITY + "}")
+    private long registerCapacity = DEFAULT_CAPACITY;
+
+    @Value("${rate-limit.register.refill-tokens:" + DEFAULT_REFILL_TOKENS + "}")
+    private long registerRefillTokens = DEFAULT_REFILL_TOKENS;
+
+    @Value("${rate-limit.register.refill-period-ms:" + DEFAULT_REFILL_PERIOD_MS + "}")
+    private long registerRefillPeriodMs = DEFAULT_REFILL_PERIOD_MS;
+
+    @Value("${rate-limit.verify.capacity:" + DEFAULT_CAPACITY + "}")
+    private long verifyCapacity = DEFAULT_CAPACITY;
+
+    @Value("${rate-limit.verify.refill-tokens:" + DEFAULT_REFILL_TOKENS + "}")
+    private long verifyRefillTokens = DEFAULT_REFILL_TOKENS;
+
+    @Value("${rate-limit.verify.refill-period-ms:" + DEFAULT_REFILL_PERIOD_MS + "}")
+    private long verifyRefillPeriodMs = DEFAULT_REFILL_PERIOD_MS;
+
+    // Addresses of the reverse proxies allowed to report the client address in X-Forwarded-For
+    @Value("${rate-limit.trusted-proxies:}")
+    private List<String> trustedProxies = List.of();
+
+    private Set<String> trustedProxyAddresses = Set.of();
+
+    // Limit per rate-limited endpoint, built once from the configuration
+    private Map<String, BucketConfiguration> limits = Map.of();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder storeErrors = new LongAdder();
+
+    /**
+     * Builds the per-endpoint limits, and falls back to a node-local store when none is configured
+     */
+    @PostConstruct
+    public void initLimits() {
+        limits = Map.of(
+                LOGIN_ENDPOINT, limit(loginCapacity, loginRefillTokens, loginRefillPeriodMs),
+                REGISTER_ENDPOINT, limit(registerCapacity, registerRefillTokens, registerRefillPeriodMs),
+                VERIFY_ENDPOINT, limit(verifyCapacity, verifyRefillTokens, verifyRefillPeriodMs));
+        trustedProxyAddresses = trustedProxies.stream()
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        if (bucketStore == null) {
+            bucketStore = new InMemoryBucketStore(InMemoryBucketStore.DEFAULT_MAX_BUCKETS,
+                    InMemoryBucketStore.DEFAULT_IDLE_EXPIRY_MS);
+        }
+    }
+
+    private static BucketConfiguration limit(long capacity, long refillTokens, long refillPeriodMs) {
+        return BucketConfiguration.builder()
+                .addLimit(Bandwidth.classic(capacity, Refill.intervally(refillTokens, Duration.ofMillis(refillPeriodMs))))
+                .build();
+    }
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -68,7 +159,8 @@ public class RateLimitFilter extends OncePerRequestFilter {
         
         // Skip rate limiting for non-authentication endpoints
         String requestURI = request.getRequestURI();
-        if (!isAuthenticationEndpoint(requestURI)) {
+        BucketConfiguration limit = limits.get(requestURI);
+        if (limit == null) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -76,16 +168,15 @@ public class RateLimitFilter extends OncePerRequestFilter {
         // Get client IP address
         String clientIP = getClientIP(request);
         
-        // Get or create bucket for this IP
-        Bucket bucket = buckets.computeIfAbsent(clientIP, this::createNewBucket);
-        
-        // Try to consume a token
-        if (bucket.tryConsume(1)) {
+        // Try to consume a token from this endpoint's bucket for the IP
+        if (tryConsume(requestURI + KEY_SEPARATOR + clientIP, limit)) {
             // Request allowed, proceed
+            allowed.increment();
             logger.debug("Rate limit allowed for IP: {}", clientIP);
             filterChain.doFilter(request, response);
         } else {
             // Rate limit exceeded
+            rejected.increment();
             logger.warn("Rate limit exceeded for IP: {}", clientIP);
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -108,33 +199,57 @@ public class RateLimitFilter extends OncePerRequestFilter {
     }
     
     /**
-     * Create a new token bucket with specified capacity and refill rate
+     * Consume a token from the bucket for the key. Fails open when the shared store is unavailable,
+     * the endpoints behind this filter cannot work without the database anyway.
      */
-    private Bucket createNewBucket(String clientIP) {
-        logger.debug("Creating rate limit bucket for IP: {}", clientIP);
-        return Bucket.builder()
-                .addLimit(Bandwidth.classic(CAPACITY, Refill.intervally(REFILL_TOKENS, Duration.ofMinutes(REFILL_MINUTES))))
-                .build();
-    }
-    
-    /**
-     * Check if the current request URI is for an authentication endpoint that should be rate limited
-     */
-    private boolean isAuthenticationEndpoint(String uri) {
-        return uri.equals(LOGIN_ENDPOINT) || 
-               uri.equals(REGISTER_ENDPOINT) || 
-               uri.equals(VERIFY_ENDPOINT);
+    private boolean tryConsume(String key, BucketConfiguration limit) {
+        try {
+            return bucketStore.resolve(key, () -> limit).tryConsume(1);
+        } catch (RuntimeException e) {
+            storeErrors.increment();
+            logger.warn(LOG_STORE_ERROR, e.getMessage());
+            return true;
+        }
     }
     
     /**
-     * Get client IP address, taking into account possible proxy headers
+     * Get client IP address. Behind a trusted proxy, X-Forwarded-For is read from the right and the
+     * first hop that is not a trusted proxy is the client; anything left of it may be forged.
      */
     private String getClientIP(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            // X-Forwarded-For can contain multiple IPs (client, proxy1, proxy2, ...), get the first one
-            return xForwardedFor.split(",")[0].trim();
+        String clientIP = request.getRemoteAddr();
+        String xForwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (trustedProxyAddresses.contains(clientIP) && xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            String[] hops = xForwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (hop.isEmpty()) {
+                    continue;
+                }
+                clientIP = hop;
+                if (!trustedProxyAddresses.contains(hop)) {
+                    break;
+                }
+            }
+        }
+        return clientIP.length() > MAX_CLIENT_KEY_LENGTH ? clientIP.substring(0, MAX_CLIENT_KEY_LENGTH) : clientIP;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return METRICS_NAME;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(METRIC_ALLOWED, allowed.sum());
+        metrics.put(METRIC_REJECTED, rejected.sum());
+        metrics.put(METRIC_STORE_ERRORS, storeErrors.sum());
+        RateLimitBucketStore store = bucketStore;
+        if (store != null) {
+            metrics.putAll(store.getMetrics());
         }
-        return request.getRemoteAddr();
+        return metrics;
     }
 } 
\ No newline at end of file
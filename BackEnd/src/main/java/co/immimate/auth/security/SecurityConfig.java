@@ -1,8 +1,12 @@
 package co.immimate.auth.security;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 
+import javax.sql.DataSource;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -39,16 +43,12 @@ public class SecurityConfig {
     private static final String CSRF_HEADER_NAME = "X-XSRF-TOKEN";
     
     // Endpoint paths constants
-    private static final String AUTH_LOGIN_PATH = "/api/auth/login";
-    private static final String AUTH_REGISTER_PATH = "/api/auth/register";
-    private static final String AUTH_LOGOUT_PATH = "/api/auth/logout";
     private static final String AUTH_PATH_PATTERN = "/api/auth/**";
-    private static final String OAUTH2_PATH_PATTERN = "/api/oauth2/**";
-    private static final String HEALTH_ENDPOINT = "/api/health";
-    private static final String CSRF_ENDPOINT = "/api/csrf";
-    private static final String CSRF_INFO_ENDPOINT = "/api/csrf-info";
     private static final String OAUTH2_SUCCESS_PATH = "/api/oauth2/login/success";
     private static final String LANGUAGE_TESTS_PATH_PATTERN = "/api/language-tests/**";
+    private static final String LANGUAGE_TESTS_BATCH_PATH = "/api/language-tests/convert/batch";
+    private static final String NOC_PATH_PATTERN = "/api/noc/**";
+    private static final String REFERENCE_DATA_PATH_PATTERN = "/api/reference-data/**";
     
     // CORS configuration constants
     private static final String LOCALHOST_3000 = "http://localhost:3000";
@@ -73,6 +73,15 @@ public class SecurityConfig {
     private static final String HEADER_ORIGIN = "Origin";
     private static final String HEADER_X_REQUESTED_WITH = "X-Requested-With";
     private static final String HEADER_X_DEBUG_INFO = "x-debug-info";
+    // Draft versions: sent back in If-Match, read from the ETag of draft responses
+    private static final String HEADER_IF_MATCH = "If-Match";
+    private static final String HEADER_ETAG = "ETag";
+    
+    // Rate-limit bucket store
+    private static final String RATE_LIMIT_BACKEND_MEMORY = "memory";
+    private static final String RATE_LIMIT_BACKEND_JDBC = "jdbc";
+    private static final String RATE_LIMIT_DEFAULT_TABLE = "rate_limit_bucket";
+    private static final String ERR_UNKNOWN_RATE_LIMIT_BACKEND = "Unknown rate-limit backend: %s";
     
     // OAuth2 configuration
     private static final String OAUTH2_LOGIN_PAGE = "http://localhost:3000/login";
@@ -82,6 +91,9 @@ public class SecurityConfig {
 
     @Autowired
     private JwtAuthFilter jwtAuthFilter;
+
+    @Autowired
+    private PublicEndpointMatcher publicEndpointMatcher;
     
     @Autowired
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
@@ -117,6 +129,28 @@ public class SecurityConfig {
         return tokenRepository;
     }
     
+    /**
+     * Bean for the rate-limit bucket store: "memory" limits each node on its own,
+     * "jdbc" shares the buckets between nodes through the database
+     */
+    @Bean
+    public RateLimitBucketStore rateLimitBucketStore(DataSource dataSource,
+            @Value("${rate-limit.backend:" + RATE_LIMIT_BACKEND_MEMORY + "}") String backend,
+            @Value("${rate-limit.max-buckets:" + InMemoryBucketStore.DEFAULT_MAX_BUCKETS + "}") long maxBuckets,
+            @Value("${rate-limit.idle-expiry-ms:" + InMemoryBucketStore.DEFAULT_IDLE_EXPIRY_MS + "}") long idleExpiryMs,
+            @Value("${rate-limit.jdbc.table:" + RATE_LIMIT_DEFAULT_TABLE + "}") String table) throws SQLException {
+        switch (backend) {
+            case RATE_LIMIT_BACKEND_MEMORY:
+                return new InMemoryBucketStore(maxBuckets, idleExpiryMs);
+            case RATE_LIMIT_BACKEND_JDBC:
+                JdbcBucketStore store = new JdbcBucketStore(dataSource, table, idleExpiryMs);
+                store.createTableIfMissing();
+                return store;
+            default:
+                throw new IllegalArgumentException(String.format(ERR_UNKNOWN_RATE_LIMIT_BACKEND, backend));
+        }
+    }
+
     /**
      * Bean for rate limiting filter
      */
@@ -135,14 +169,12 @@ public class SecurityConfig {
             // Re-enable CSRF protection with exceptions for auth endpoints
             .csrf()
                 .csrfTokenRepository(csrfTokenRepository())
-                // Specifically exempt authentication endpoints from CSRF protection
-                .ignoringAntMatchers(AUTH_LOGIN_PATH, AUTH_REGISTER_PATH, AUTH_LOGOUT_PATH, 
-                                     OAUTH2_PATH_PATTERN, CSRF_ENDPOINT, HEALTH_ENDPOINT, CSRF_INFO_ENDPOINT)
+                // Specifically exempt public endpoints and the read-only batch CLB conversion from CSRF protection
+                .ignoringRequestMatchers(publicEndpointMatcher)
+                .ignoringAntMatchers(LANGUAGE_TESTS_BATCH_PATH)
                 .and()
-            // Add security headers including CSP
+            // Add security headers; CSP is written by SecurityHeadersFilter from the per-environment configuration
             .headers()
-                .contentSecurityPolicy("default-src 'self'; script-src 'self' 'unsafe-inline' http://localhost:3000 http://localhost:8080 https://localhost:3000 https://localhost:8080; style-src 'self' 'unsafe-inline' http://localhost:3000 http://localhost:8080 https://localhost:3000 https://localhost:8080; img-src 'self' data:; font-src 'self'; connect-src 'self' http://localhost:* http://127.0.0.1:* https://localhost:* https://127.0.0.1:*; frame-ancestors 'none'; form-action 'self'; base-uri 'self'; object-src 'none'; upgrade-insecure-requests")
-                .and()
                 .frameOptions().deny()
                 .xssProtection().block(true)
                 .and()
@@ -159,12 +191,12 @@ public class SecurityConfig {
             // Use STATEFUL session management for OAuth2
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED).and()
             .authorizeRequests()
+                // Same matcher the JWT filter uses to skip public endpoints
+                .requestMatchers(publicEndpointMatcher).permitAll()
                 .antMatchers(AUTH_PATH_PATTERN).permitAll()
-                .antMatchers(OAUTH2_PATH_PATTERN).permitAll()
-                .antMatchers(HEALTH_ENDPOINT).permitAll()
-                .antMatchers(CSRF_ENDPOINT).permitAll()
-                .antMatchers(CSRF_INFO_ENDPOINT).permitAll()
                 .antMatchers(LANGUAGE_TESTS_PATH_PATTERN).permitAll()
+                .antMatchers(NOC_PATH_PATTERN).permitAll()
+                .antMatchers(REFERENCE_DATA_PATH_PATTERN).permitAll()
                 .anyRequest().authenticated()
                 .and()
             .oauth2Login()
@@ -196,8 +228,9 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(Arrays.asList(LOCALHOST_3000, LOCALHOST_WILDCARD, LOCALHOST_IP_WILDCARD));
         configuration.setAllowedMethods(Arrays.asList(HTTP_GET, HTTP_POST, HTTP_PUT, HTTP_PATCH, HTTP_DELETE, HTTP_OPTIONS));
         configuration.setAllowedHeaders(Arrays.asList(HEADER_AUTHORIZATION, HEADER_CONTENT_TYPE, HEADER_XSRF_TOKEN, 
-                                                      HEADER_ACCEPT, HEADER_ORIGIN, HEADER_X_REQUESTED_WITH, HEADER_X_DEBUG_INFO));
-        configuration.setExposedHeaders(Arrays.asList(HEADER_XSRF_TOKEN));
+                                                      HEADER_ACCEPT, HEADER_ORIGIN, HEADER_X_REQUESTED_WITH, HEADER_X_DEBUG_INFO,
+                                                      HEADER_IF_MATCH));
+        configuration.setExposedHeaders(Arrays.asList(HEADER_XSRF_TOKEN, HEADER_ETAG));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(CORS_MAX_AGE_SECONDS);
         
@@ -1,7 +1,11 @@
 package co.immimate.auth.security;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -11,6 +15,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -18,12 +23,27 @@ import org.springframework.stereotype.Component;
  * Filter to add security-related HTTP headers to all responses.
  * This implements content security policy (CSP) and other security headers
  * to enhance the application's security posture.
+ * <p>
+ * The header set is built once at startup from configuration, so environments can list their own
+ * CSP origins, and each request only copies precomputed values. Inline scripts and styles are
+ * allowed by 'unsafe-inline' or by configured hashes. There is no nonce mode: the SPA is a static
+ * build with no server-side rendering, so a per-request nonce could never reach its inline code.
  */
 @Component
 @Order(1) // High priority to ensure headers are set before any response is sent
 public class SecurityHeadersFilter implements Filter {
     
     private static final Logger logger = LoggerFactory.getLogger(SecurityHeadersFilter.class);
+
+    /**
+     * How inline scripts and styles are allowed by the CSP
+     */
+    public enum InlineMode {
+        // 'unsafe-inline': any inline code runs
+        UNSAFE_INLINE,
+        // Only inline code whose hash is configured runs; at least one hash is required
+        HASH
+    }
     
     // Security header names
     private static final String CONTENT_SECURITY_POLICY = "Content-Security-Policy";
@@ -45,19 +65,97 @@ public class SecurityHeadersFilter implements Filter {
     
     // CSP directives
     private static final String DEFAULT_SRC = "default-src 'self'";
-    private static final String SCRIPT_SRC = "script-src 'self' 'unsafe-inline' http://localhost:3000 http://localhost:8080 https://localhost:3000 https://localhost:8080";
-    private static final String STYLE_SRC = "style-src 'self' 'unsafe-inline' http://localhost:3000 http://localhost:8080 https://localhost:3000 https://localhost:8080";
+    private static final String SCRIPT_SRC = "script-src 'self'";
+    private static final String STYLE_SRC = "style-src 'self'";
     private static final String IMG_SRC = "img-src 'self' data:";
     private static final String FONT_SRC = "font-src 'self'";
-    private static final String CONNECT_SRC = "connect-src 'self' http://localhost:* http://127.0.0.1:* https://localhost:* https://127.0.0.1:*";
+    private static final String CONNECT_SRC = "connect-src 'self'";
     private static final String FRAME_ANCESTORS = "frame-ancestors 'none'";
     private static final String FORM_ACTION = "form-action 'self'";
     private static final String BASE_URI = "base-uri 'self'";
     private static final String OBJECT_SRC = "object-src 'none'";
     private static final String UPGRADE_INSECURE_REQUESTS = "upgrade-insecure-requests";
+
+    // CSP inline sources
+    private static final String UNSAFE_INLINE = "'unsafe-inline'";
+    private static final String QUOTE = "'";
     
-    // CSP delimiter
+    // CSP delimiters
     private static final String CSP_DELIMITER = "; ";
+    private static final String SOURCE_DELIMITER = " ";
+    private static final String LIST_DELIMITER = ",";
+
+    // Default origins, for local development; other environments override them
+    private static final String DEFAULT_SCRIPT_ORIGINS = "http://localhost:3000,http://localhost:8080,https://localhost:3000,https://localhost:8080";
+    private static final String DEFAULT_CONNECT_ORIGINS = "http://localhost:*,http://127.0.0.1:*,https://localhost:*,https://127.0.0.1:*";
+
+    // Log messages
+    private static final String LOG_CSP_BUILT = "Content-Security-Policy ({} mode): {}";
+
+    // Error messages
+    private static final String ERR_NO_HASHES = "security.headers.csp.inline-mode is hash but no script-hashes or "
+            + "style-hashes are configured; every inline script and style would be blocked";
+
+    @Value("${security.headers.csp.inline-mode:unsafe-inline}")
+    private String inlineMode = "unsafe-inline";
+
+    @Value("${security.headers.csp.script-origins:" + DEFAULT_SCRIPT_ORIGINS + "}")
+    private String scriptOrigins = DEFAULT_SCRIPT_ORIGINS;
+
+    @Value("${security.headers.csp.style-origins:" + DEFAULT_SCRIPT_ORIGINS + "}")
+    private String styleOrigins = DEFAULT_SCRIPT_ORIGINS;
+
+    @Value("${security.headers.csp.connect-origins:" + DEFAULT_CONNECT_ORIGINS + "}")
+    private String connectOrigins = DEFAULT_CONNECT_ORIGINS;
+
+    // Hash sources such as sha256-..., used in HASH mode
+    @Value("${security.headers.csp.script-hashes:}")
+    private String scriptHashes = "";
+
+    @Value("${security.headers.csp.style-hashes:}")
+    private String styleHashes = "";
+
+    @Value("${security.headers.hsts:" + HSTS_VALUE + "}")
+    private String hstsValue = HSTS_VALUE;
+
+    // Precomputed header names and values, applied in order
+    private String[] headerNames;
+    private String[] headerValues;
+
+    /**
+     * Builds the header set from configuration
+     *
+     * @throws IllegalArgumentException If the inline mode is unknown, or HASH mode has no hashes
+     */
+    @PostConstruct
+    public void init() {
+        InlineMode mode = InlineMode.valueOf(inlineMode.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        if (mode == InlineMode.HASH && split(scriptHashes).isEmpty() && split(styleHashes).isEmpty()) {
+            throw new IllegalArgumentException(ERR_NO_HASHES);
+        }
+        String csp = buildCspHeader(mode);
+        logger.info(LOG_CSP_BUILT, mode, csp);
+
+        List<String> names = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        add(names, values, CONTENT_SECURITY_POLICY, csp);
+        // Prevent MIME type sniffing
+        add(names, values, X_CONTENT_TYPE_OPTIONS, NO_SNIFF);
+        // Prevent clickjacking
+        add(names, values, X_FRAME_OPTIONS, DENY);
+        // Enable XSS protection
+        add(names, values, X_XSS_PROTECTION, XSS_MODE);
+        // HTTP Strict Transport Security (when deployed with HTTPS); empty disables it
+        if (!hstsValue.isEmpty()) {
+            add(names, values, STRICT_TRANSPORT_SECURITY, hstsValue);
+        }
+        // Set referrer policy to reduce information leakage
+        add(names, values, REFERRER_POLICY, REFERRER_VALUE);
+        // Limit browser features
+        add(names, values, PERMISSIONS_POLICY, PERMISSIONS_VALUE);
+        headerNames = names.toArray(new String[0]);
+        headerValues = values.toArray(new String[0]);
+    }
     
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -65,35 +163,15 @@ public class SecurityHeadersFilter implements Filter {
         
         HttpServletResponse httpResponse = (HttpServletResponse) response;
         
-        // Add Content-Security-Policy header
-        httpResponse.setHeader(CONTENT_SECURITY_POLICY, buildCspHeader());
-        
-        // Prevent MIME type sniffing
-        httpResponse.setHeader(X_CONTENT_TYPE_OPTIONS, NO_SNIFF);
-        
-        // Prevent clickjacking
-        httpResponse.setHeader(X_FRAME_OPTIONS, DENY);
-        
-        // Enable XSS protection
-        httpResponse.setHeader(X_XSS_PROTECTION, XSS_MODE);
-        
-        // HTTP Strict Transport Security (when deployed with HTTPS)
-        httpResponse.setHeader(STRICT_TRANSPORT_SECURITY, HSTS_VALUE);
-        
-        // Set referrer policy to reduce information leakage
-        httpResponse.setHeader(REFERRER_POLICY, REFERRER_VALUE);
-        
-        // Limit browser features
-        httpResponse.setHeader(PERMISSIONS_POLICY, PERMISSIONS_VALUE);
+        for (int i = 0; i < headerNames.length; i++) {
+            httpResponse.setHeader(headerNames[i], headerValues[i]);
+        }
         
         // Remove information disclosure headers
         // Note: We need to hide this header, not just set an empty value
         // Tomcat/Spring may add X-Powered-By by default
         httpResponse.setHeader(X_POWERED_BY, null);
         
-        // Log at debug level only to avoid cluttering logs
-        logger.debug("Security headers added to response");
-        
         // Continue the filter chain
         chain.doFilter(request, response);
     }
@@ -102,16 +180,17 @@ public class SecurityHeadersFilter implements Filter {
      * Builds the Content Security Policy header value.
      * This defines restrictions on external resources that can be loaded.
      * 
+     * @param mode How inline code is allowed
      * @return The constructed CSP header value
      */
-    private String buildCspHeader() {
+    private String buildCspHeader(InlineMode mode) {
         return String.join(CSP_DELIMITER, 
                 DEFAULT_SRC,
-                SCRIPT_SRC,
-                STYLE_SRC,
+                directive(SCRIPT_SRC, inlineSources(mode, scriptHashes), scriptOrigins),
+                directive(STYLE_SRC, inlineSources(mode, styleHashes), styleOrigins),
                 IMG_SRC,
                 FONT_SRC,
-                CONNECT_SRC,
+                directive(CONNECT_SRC, "", connectOrigins),
                 FRAME_ANCESTORS,
                 FORM_ACTION,
                 BASE_URI,
@@ -119,4 +198,43 @@ public class SecurityHeadersFilter implements Filter {
                 UPGRADE_INSECURE_REQUESTS
         );
     }
-} 
\ No newline at end of file
+
+    private static String inlineSources(InlineMode mode, String hashes) {
+        switch (mode) {
+            case HASH:
+                List<String> quoted = new ArrayList<>();
+                for (String hash : split(hashes)) {
+                    quoted.add(QUOTE + hash + QUOTE);
+                }
+                return String.join(SOURCE_DELIMITER, quoted);
+            default:
+                return UNSAFE_INLINE;
+        }
+    }
+
+    private static String directive(String base, String inline, String origins) {
+        StringBuilder directive = new StringBuilder(base);
+        if (!inline.isEmpty()) {
+            directive.append(SOURCE_DELIMITER).append(inline);
+        }
+        for (String origin : split(origins)) {
+            directive.append(SOURCE_DELIMITER).append(origin);
+        }
+        return directive.toString();
+    }
+
+    private static List<String> split(String list) {
+        List<String> items = new ArrayList<>();
+        for (String item : list.split(LIST_DELIMITER)) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    private static void add(List<String> names, List<String> values, String name, String value) {
+        names.add(name);
+        values.add(value);
+    }
+}
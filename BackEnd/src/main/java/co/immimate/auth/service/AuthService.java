@@ -5,12 +5,14 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,16 +21,17 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.stereotype.Service;
 
 import co.immimate.auth.dto.LoginRequest;
 import co.immimate.auth.dto.RegisterRequest;
+import co.immimate.auth.exception.PasswordHashingRejectedException;
 import co.immimate.auth.security.JwtUtil;
 import co.immimate.user.model.User;
 import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserDetailsServiceImpl;
+import co.immimate.user.service.UserIdentityResolver;
 
 /**
  * Service for handling authentication and registration
@@ -45,13 +48,6 @@ public class AuthService {
     // Authentication principals
     private static final String ANONYMOUS_USER = "anonymousUser";
     
-    // OAuth2 providers
-    private static final String OAUTH2_PROVIDER_GOOGLE = "google";
-    
-    // OAuth2 attribute keys
-    private static final String OAUTH2_ATTR_EMAIL = "email";
-    private static final String OAUTH2_ATTR_SUB = "sub";
-    
     // Response keys
     private static final String RESPONSE_SUCCESS = "success";
     private static final String RESPONSE_MESSAGE = "message";
@@ -79,28 +75,40 @@ public class AuthService {
     private static final String ERROR_NO_AUTH_USER = "No authenticated user found";
     private static final String ERROR_USER_DETAILS = "Error getting user details: ";
     private static final String ERROR_LOGOUT_FAILED = "Logout failed: ";
+    private static final String ERROR_SERVER_BUSY = "Server is busy, please try again shortly";
     
     // Log messages
     private static final String LOG_INVALID_CREDENTIALS = "Invalid credentials: {}";
     private static final String LOG_AUTH_ERROR = "Authentication error: {}";
     private static final String LOG_REGISTRATION_ERROR = "Registration error: {}";
     private static final String LOG_NO_AUTH_USER = "getCurrentUser: No authenticated user found";
-    private static final String LOG_USER_FROM_DETAILS = "getCurrentUser: Found authenticated user from UserDetails: {}";
-    private static final String LOG_AUTH_USER = "getCurrentUser: Found authenticated user: {}";
-    private static final String LOG_EMAIL_FROM_OAUTH2 = "getCurrentUser: Extracted email from OAuth2 attributes: {}";
-    private static final String LOG_USER_BY_EMAIL = "getCurrentUser: Looked up user by email {}, found: {}";
-    private static final String LOG_USER_BY_GOOGLE_ID = "getCurrentUser: Looked up user by Google ID {}, found: {}";
-    private static final String LOG_USER_BY_PRINCIPAL = "getCurrentUser: Looked up user by principal as Google ID {}, found: {}";
+    private static final String LOG_USER_RESOLVED = "getCurrentUser: Resolved principal {}, found: {}";
     private static final String LOG_USER_NOT_FOUND = "getCurrentUser: User not found in database: {}";
     private static final String LOG_CURRENT_USER_ERROR = "Error getting current user: {}";
     private static final String LOG_LOGOUT_ERROR = "Logout error: {}";
+    private static final String LOG_HASHING_REJECTED = "Password hashing rejected: {}";
+
+    // Retry-After sent with 503 when the password hashing pool is saturated
+    private static final String RETRY_AFTER_SECONDS = "1";
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityResolver userIdentityResolver;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private PasswordUpgradeService passwordUpgradeService;
+
     @Autowired
     private AuthenticationManager authenticationManager;
 
@@ -116,9 +124,9 @@ public class AuthService {
      */
     public ResponseEntity<?> authenticateUser(LoginRequest loginRequest, HttpServletResponse response) {
         try {
-            // Authenticate user
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+            // Authenticate user; the BCrypt match runs on the password hashing pool
+            Authentication authentication = passwordHashingExecutor.call(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())));
 
             // Set authentication in security context
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -131,6 +139,9 @@ public class AuthService {
 
             User user = userOpt.get();
 
+            // Rehash at the current cost in the background if the stored hash is outdated
+            passwordUpgradeService.upgradeIfNeeded(user, loginRequest.getPassword());
+
             // Add JWT token as HttpOnly cookie
             jwtUtil.addJwtCookieToResponse(response, user);
 
@@ -141,6 +152,8 @@ public class AuthService {
             responseData.put(RESPONSE_ROLE, user.getRole());
             
             return ResponseEntity.ok(createSuccessResponse(SUCCESS_AUTH, responseData));
+        } catch (PasswordHashingRejectedException e) {
+            return serverBusy(e);
         } catch (BadCredentialsException e) {
             logger.error(LOG_INVALID_CREDENTIALS, e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(createErrorResponse(ERROR_INVALID_CREDENTIALS));
@@ -185,7 +198,7 @@ public class AuthService {
             User user = new User();
             
             // Set required fields
-            user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
+            user.setPassword(passwordHashingExecutor.call(() -> passwordEncoder.encode(registerRequest.getPassword())));
             user.setRole(ROLE_USER); // Default role
             user.setCreatedAt(Instant.now());
             user.setUpdatedAt(Instant.now());
@@ -220,10 +233,13 @@ public class AuthService {
                 user.setName(fullName.trim());
             }
 
-            // Save user to database
+            // Save user to database; role and password were set, so drop any cached details
             userRepository.save(user);
+            userDetailsService.invalidate(user.getEmail());
 
             return ResponseEntity.ok(createSuccessResponse(SUCCESS_REGISTER, null));
+        } catch (PasswordHashingRejectedException e) {
+            return serverBusy(e);
         } catch (Exception e) {
             logger.error(LOG_REGISTRATION_ERROR, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -248,63 +264,9 @@ public class AuthService {
                         .body(createErrorResponse(ERROR_NO_AUTH_USER));
             }
             
-            // Get user details from authentication
-            String email = null;
-            
-            // Check if principal is a UserDetails object (from our UserDetailsService)
-            if (authentication.getPrincipal() instanceof UserDetails userDetails) {
-                email = userDetails.getUsername();
-                logger.debug(LOG_USER_FROM_DETAILS, email);
-            } else {
-                // For OAuth2 auth, the principal might be a name/ID instead of UserDetails
-                String principal = authentication.getName();
-                logger.debug(LOG_AUTH_USER, principal);
-                
-                // Try to find user by email first (the most reliable way)
-                if (principal.contains("@")) {
-                    email = principal;
-                } else {
-                    // Try to get the email from OAuth2 authentication if applicable
-                    if (authentication instanceof OAuth2AuthenticationToken oauthToken) {
-                        Map<String, Object> attributes = oauthToken.getPrincipal().getAttributes();
-                        email = (String) attributes.get(OAUTH2_ATTR_EMAIL);
-                        logger.debug(LOG_EMAIL_FROM_OAUTH2, email);
-                    }
-                }
-            }
-            
-            // Get user from database
-            Optional<User> userOpt = Optional.empty();
-            if (email != null) {
-                // Try to find by email first (most reliable)
-                userOpt = userRepository.findByEmail(email);
-                logger.debug(LOG_USER_BY_EMAIL, email, userOpt.isPresent());
-            } 
-            
-            if (!userOpt.isPresent()) {
-                // Try to find by Google ID if email lookup failed
-                String principal = authentication.getName();
-                
-                // If this is an OAuth authentication with Google
-                if (authentication instanceof OAuth2AuthenticationToken oauthToken) {
-                    if (OAUTH2_PROVIDER_GOOGLE.equals(oauthToken.getAuthorizedClientRegistrationId())) {
-                        // Extract the Google ID (sub) from the attributes
-                        Map<String, Object> attributes = oauthToken.getPrincipal().getAttributes();
-                        String googleId = (String) attributes.get(OAUTH2_ATTR_SUB);
-                        
-                        if (googleId != null) {
-                            userOpt = userRepository.findByGoogleId(googleId);
-                            logger.debug(LOG_USER_BY_GOOGLE_ID, 
-                                          googleId, userOpt.isPresent());
-                        }
-                    }
-                } else if (!principal.contains("@")) {
-                    // If principal is not an email, it might be a Google ID
-                    userOpt = userRepository.findByGoogleId(principal);
-                    logger.debug(LOG_USER_BY_PRINCIPAL, 
-                                  principal, userOpt.isPresent());
-                }
-            }
+            // Email, Google ID or OAuth2 attributes are matched in one query
+            Optional<User> userOpt = userIdentityResolver.resolve(authentication);
+            logger.debug(LOG_USER_RESOLVED, authentication.getName(), userOpt.isPresent());
             
             if (userOpt.isEmpty()) {
                 logger.warn(LOG_USER_NOT_FOUND, authentication.getName());
@@ -333,11 +295,15 @@ public class AuthService {
     /**
      * Logs out the current user by clearing the JWT cookie
      *
+     * @param request HTTP request carrying the JWT cookie
      * @param response HTTP response to clear cookies
      * @return Success message
      */
-    public ResponseEntity<?> logoutUser(HttpServletResponse response) {
+    public ResponseEntity<?> logoutUser(HttpServletRequest request, HttpServletResponse response) {
         try {
+            // Stop trusting the cached verification of this token
+            jwtUtil.evictToken(request);
+            
             // Clear the JWT cookie
             jwtUtil.addClearJwtCookieToResponse(response);
             
@@ -392,4 +358,17 @@ public class AuthService {
         response.put(RESPONSE_MESSAGE, message);
         return response;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Creates the 503 response sent when the password hashing pool is saturated
+     *
+     * @param e Rejection from the pool
+     * @return Service unavailable response asking the client to retry shortly
+     */
+    private ResponseEntity<Map<String, Object>> serverBusy(PasswordHashingRejectedException e) {
+        logger.warn(LOG_HASHING_REJECTED, e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(createErrorResponse(ERROR_SERVER_BUSY));
+    }
+}
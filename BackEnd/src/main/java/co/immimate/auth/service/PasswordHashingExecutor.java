@@ -0,0 +1,199 @@
+package co.immimate.auth.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import co.immimate.auth.exception.PasswordHashingRejectedException;
+import co.immimate.config.MetricsSource;
+
+/**
+ * Runs BCrypt hashing and matching on a dedicated, size-bounded pool instead of the request threads,
+ * so a login burst uses at most {@code threads} cores and other requests keep being served.
+ * When the queue is full a task is rejected immediately rather than waiting behind the burst.
+ */
+@Component
+public class PasswordHashingExecutor implements MetricsSource {
+
+    // Defaults
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final long DEFAULT_TIMEOUT_MS = 10_000L;
+
+    // Thread naming
+    private static final String THREAD_NAME_PREFIX = "password-hashing-";
+
+    // Error messages
+    private static final String ERR_QUEUE_FULL = "Password hashing queue is full";
+    private static final String ERR_TIMEOUT = "Password hashing did not complete in time";
+    private static final String ERR_INTERRUPTED = "Interrupted while waiting for password hashing";
+
+    // Metrics
+    private static final String METRICS_NAME = "passwordHashing";
+    private static final String METRIC_COMPLETED = "completed";
+    private static final String METRIC_REJECTED = "rejected";
+    private static final String METRIC_TIMEOUTS = "timeouts";
+    private static final String METRIC_QUEUE_DEPTH = "queueDepth";
+    private static final String METRIC_QUEUE_CAPACITY = "queueCapacity";
+    private static final String METRIC_ACTIVE_THREADS = "activeThreads";
+    private static final String METRIC_AVG_MICROS = "avgHashMicros";
+    private static final String METRIC_MAX_MICROS = "maxHashMicros";
+
+    // Worker threads; 0 means one per available processor
+    @Value("${auth.password-hashing.threads:0}")
+    private int threads = 0;
+
+    // Tasks allowed to wait for a worker before new ones are rejected
+    @Value("${auth.password-hashing.queue-capacity:" + DEFAULT_QUEUE_CAPACITY + "}")
+    private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    // Longest a request waits for its hash, queueing included
+    @Value("${auth.password-hashing.timeout-ms:" + DEFAULT_TIMEOUT_MS + "}")
+    private long timeoutMs = DEFAULT_TIMEOUT_MS;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Starts the worker pool
+     */
+    @PostConstruct
+    public void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Stops the worker pool, letting queued hashes finish
+     */
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Run a hashing task on the pool and wait for its result
+     *
+     * @param task Task that hashes or matches a password
+     * @return The task's result
+     * @throws PasswordHashingRejectedException If the queue is full or the task does not finish in time
+     */
+    public <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException(ERR_QUEUE_FULL, e);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            timeouts.increment();
+            throw new PasswordHashingRejectedException(ERR_TIMEOUT, e);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException(ERR_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            // Surface the task's own exception, e.g. BadCredentialsException, unchanged
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Queue a background hashing task without waiting for it
+     *
+     * @param task Task that hashes a password
+     * @return False if the queue is full and the task was dropped
+     */
+    public boolean submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    record(System.nanoTime() - start);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return false;
+        }
+    }
+
+    private <T> T timed(Callable<T> task) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    private void record(long nanos) {
+        completed.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return METRICS_NAME;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        long count = completed.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(METRIC_COMPLETED, count);
+        metrics.put(METRIC_REJECTED, rejected.sum());
+        metrics.put(METRIC_TIMEOUTS, timeouts.sum());
+        metrics.put(METRIC_QUEUE_DEPTH, executor == null ? 0 : executor.getQueue().size());
+        metrics.put(METRIC_QUEUE_CAPACITY, queueCapacity);
+        metrics.put(METRIC_ACTIVE_THREADS, executor == null ? 0 : executor.getActiveCount());
+        metrics.put(METRIC_AVG_MICROS, count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.sum() / count));
+        metrics.put(METRIC_MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(maxNanos.get()));
+        return metrics;
+    }
+}
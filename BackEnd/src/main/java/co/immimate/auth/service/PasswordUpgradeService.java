@@ -0,0 +1,114 @@
+package co.immimate.auth.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import co.immimate.config.MetricsSource;
+import co.immimate.user.model.User;
+import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserDetailsServiceImpl;
+
+/**
+ * Rehashes a password at the configured BCrypt cost after a successful login, when its stored hash
+ * was made at a lower cost. A missing encoder id alone does not trigger a rehash. The rehash runs on the password hashing pool
+ * after the login response is built, so it never delays the login itself.
+ */
+@Service
+public class PasswordUpgradeService implements MetricsSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordUpgradeService.class);
+
+    // Log messages
+    private static final String LOG_UPGRADED = "Upgraded password hash for user: {}";
+    private static final String LOG_SKIPPED_CHANGED = "Password of user {} changed during rehash, keeping the new one";
+    private static final String LOG_UPGRADE_FAILED = "Password hash upgrade failed for user {}: {}";
+    private static final String LOG_POOL_FULL = "Password hashing pool full, hash upgrade for user {} deferred to next login";
+
+    // Metrics
+    private static final String METRICS_NAME = "passwordUpgrade";
+    private static final String METRIC_SCHEDULED = "scheduled";
+    private static final String METRIC_UPGRADED = "upgraded";
+    private static final String METRIC_DEFERRED = "deferred";
+    private static final String METRIC_FAILED = "failed";
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder upgraded = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Schedule a rehash if the user's stored hash is outdated. Must only be called once
+     * rawPassword has been verified against that hash.
+     *
+     * @param user Authenticated user, as loaded from the database
+     * @param rawPassword Password the user just logged in with
+     * @return True if a rehash was scheduled
+     */
+    public boolean upgradeIfNeeded(User user, String rawPassword) {
+        String storedHash = user.getPassword();
+        if (storedHash == null || storedHash.isEmpty() || rawPassword == null
+                || !passwordEncoder.upgradeEncoding(storedHash)) {
+            return false;
+        }
+        boolean queued = passwordHashingExecutor.submit(() -> rehash(user, rawPassword, storedHash));
+        if (queued) {
+            scheduled.increment();
+        } else {
+            // Nothing is lost, the old hash still verifies and the next login tries again
+            deferred.increment();
+            logger.debug(LOG_POOL_FULL, user.getId());
+        }
+        return queued;
+    }
+
+    private void rehash(User user, String rawPassword, String storedHash) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            // Conditional update, so a password changed in the meantime is never overwritten
+            if (userRepository.updatePasswordHash(user.getId(), storedHash, newHash) > 0) {
+                userDetailsService.evictCached(user.getEmail());
+                upgraded.increment();
+                logger.info(LOG_UPGRADED, user.getId());
+            } else {
+                logger.info(LOG_SKIPPED_CHANGED, user.getId());
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.warn(LOG_UPGRADE_FAILED, user.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return METRICS_NAME;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(METRIC_SCHEDULED, scheduled.sum());
+        metrics.put(METRIC_UPGRADED, upgraded.sum());
+        metrics.put(METRIC_DEFERRED, deferred.sum());
+        metrics.put(METRIC_FAILED, failed.sum());
+        return metrics;
+    }
+}
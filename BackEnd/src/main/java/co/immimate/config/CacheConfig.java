@@ -0,0 +1,56 @@
+package co.immimate.config;
+
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring caching backed by Caffeine.
+ * Cache size and TTL are configured through the cache.caffeine.spec property,
+ * and statistics are always recorded so they can be reported by {@link CacheStatsController}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Cache names shared by services and invalidation hooks
+    public static final String CACHE_CLB_CONVERSIONS = "clbConversions";
+    public static final String CACHE_CLB_SCORE_INDEX = "clbScoreIndex";
+    public static final String CACHE_CLB_PAYLOADS = "clbPayloads";
+    public static final String CACHE_SCORING_OPTIONS = "scoringOptions";
+
+    // Caffeine settings
+    private static final String DEFAULT_CAFFEINE_SPEC = "maximumSize=100,expireAfterWrite=6h";
+    private static final String RECORD_STATS = "recordStats";
+    private static final String SPEC_SEPARATOR = ",";
+
+    @Value("${cache.caffeine.spec:" + DEFAULT_CAFFEINE_SPEC + "}")
+    private String caffeineSpec;
+
+    /**
+     * Cache manager for the reference-data caches
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                CACHE_CLB_CONVERSIONS, CACHE_CLB_SCORE_INDEX, CACHE_CLB_PAYLOADS, CACHE_SCORING_OPTIONS);
+        cacheManager.setCacheSpecification(withStats(caffeineSpec));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    /**
+     * Appends recordStats to the spec when it is missing
+     */
+    private String withStats(String spec) {
+        boolean hasStats = Arrays.stream(spec.split(SPEC_SEPARATOR))
+                .map(String::trim)
+                .anyMatch(RECORD_STATS::equals);
+        return hasStats ? spec : spec + SPEC_SEPARATOR + RECORD_STATS;
+    }
+}
@@ -0,0 +1,70 @@
+package co.immimate.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Exposes hit/miss statistics for the application caches.
+ * Requires an authenticated user like every other non-public endpoint.
+ */
+@RestController
+@RequestMapping(CacheStatsController.BASE_PATH)
+public class CacheStatsController {
+
+    // API path constants
+    public static final String BASE_PATH = "/api/cache";
+    private static final String STATS_PATH = "/stats";
+
+    // Response keys
+    private static final String KEY_HIT_COUNT = "hitCount";
+    private static final String KEY_MISS_COUNT = "missCount";
+    private static final String KEY_HIT_RATE = "hitRate";
+    private static final String KEY_LOAD_COUNT = "loadCount";
+    private static final String KEY_EVICTION_COUNT = "evictionCount";
+    private static final String KEY_SIZE = "estimatedSize";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Get statistics for every Caffeine-backed cache
+     * @return Map of cache name to its statistics
+     */
+    @GetMapping(STATS_PATH)
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                result.put(cacheName, toStatsMap(nativeCache.stats(), nativeCache.estimatedSize()));
+            }
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Converts Caffeine statistics into a response map
+     */
+    private Map<String, Object> toStatsMap(CacheStats stats, long estimatedSize) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(KEY_HIT_COUNT, stats.hitCount());
+        values.put(KEY_MISS_COUNT, stats.missCount());
+        values.put(KEY_HIT_RATE, stats.hitRate());
+        values.put(KEY_LOAD_COUNT, stats.loadCount());
+        values.put(KEY_EVICTION_COUNT, stats.evictionCount());
+        values.put(KEY_SIZE, estimatedSize);
+        return values;
+    }
+}
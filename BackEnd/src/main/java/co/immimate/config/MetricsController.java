@@ -0,0 +1,39 @@
+package co.immimate.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exposes the counters reported by every {@link MetricsSource} bean.
+ * Requires an authenticated user like every other non-public endpoint.
+ */
+@RestController
+@RequestMapping(MetricsController.BASE_PATH)
+public class MetricsController {
+
+    // API path constants
+    public static final String BASE_PATH = "/api/metrics";
+
+    @Autowired(required = false)
+    private List<MetricsSource> sources = List.of();
+
+    /**
+     * Get the metrics of every registered source
+     * @return Map of source name to its metrics
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Map<String, Object>>> getMetrics() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (MetricsSource source : sources) {
+            result.put(source.getMetricsName(), source.getMetrics());
+        }
+        return ResponseEntity.ok(result);
+    }
+}
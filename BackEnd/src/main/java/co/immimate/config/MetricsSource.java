@@ -0,0 +1,19 @@
+package co.immimate.config;
+
+import java.util.Map;
+
+/**
+ * A component that reports operational counters through {@link MetricsController}.
+ */
+public interface MetricsSource {
+
+    /**
+     * @return The name the metrics are grouped under
+     */
+    String getMetricsName();
+
+    /**
+     * @return Current metric values keyed by metric name
+     */
+    Map<String, Object> getMetrics();
+}
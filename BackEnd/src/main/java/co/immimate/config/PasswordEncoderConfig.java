@@ -1,24 +1,49 @@
 package co.immimate.config;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
- * Configuration for PasswordEncoder bean to avoid circular dependencies
+ * Configuration for PasswordEncoder bean to avoid circular dependencies.
+ * New hashes are written as {bcrypt} at the configured strength; hashes without an id prefix
+ * (stored before the prefix was introduced) are still verified as BCrypt and count as current.
+ * Hashes made at a lower cost are upgraded on the next successful login, see PasswordUpgradeService.
  */
 @Configuration
 public class PasswordEncoderConfig {
     
-    // BCrypt strength factor (default is 10, higher is stronger but slower)
-    private static final int BCRYPT_STRENGTH = 12;
+    // BCrypt strength factor (default is 10, higher is stronger but slower); each step doubles the cost
+    private static final int DEFAULT_BCRYPT_STRENGTH = 12;
+
+    // Id of the encoder used for new hashes
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String ID_PREFIX = "{";
 
     /**
-     * Bean for password encoder using BCrypt
+     * Bean for password encoder delegating to BCrypt at the configured strength
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.bcrypt.strength:" + DEFAULT_BCRYPT_STRENGTH + "}") int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        // Only BCrypt is registered, so {noop} placeholders of OAuth2 users can never match a password
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt)) {
+            @Override
+            public boolean upgradeEncoding(String prefixEncodedPassword) {
+                // Unprefixed hashes are BCrypt too; rehashing them only to add the prefix would cost a login's worth of work
+                if (prefixEncodedPassword != null && !prefixEncodedPassword.startsWith(ID_PREFIX)) {
+                    return bcrypt.upgradeEncoding(prefixEncodedPassword);
+                }
+                return super.upgradeEncoding(prefixEncodedPassword);
+            }
+        };
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 } 
\ No newline at end of file
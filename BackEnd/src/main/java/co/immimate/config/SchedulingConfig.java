@@ -0,0 +1,12 @@
+package co.immimate.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs such as the data retention job.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
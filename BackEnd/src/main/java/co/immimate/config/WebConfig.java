@@ -14,9 +14,9 @@ public class WebConfig implements WebMvcConfigurer {
     
     // CORS configuration constants
     private static final String[] ALLOWED_ORIGIN_PATTERNS = {"http://localhost:3000", "http://localhost:*", "http://127.0.0.1:*"};
-    private static final String[] ALLOWED_METHODS = {"GET", "POST", "PUT", "DELETE", "OPTIONS"};
-    private static final String[] ALLOWED_HEADERS = {"Authorization", "Content-Type", "X-XSRF-TOKEN"};
-    private static final String[] EXPOSED_HEADERS = {"X-XSRF-TOKEN"};
+    private static final String[] ALLOWED_METHODS = {"GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"};
+    private static final String[] ALLOWED_HEADERS = {"Authorization", "Content-Type", "X-XSRF-TOKEN", "If-Match"};
+    private static final String[] EXPOSED_HEADERS = {"X-XSRF-TOKEN", "ETag"};
     private static final int CORS_MAX_AGE_SECONDS = 3600; // 1 hour
     
     // Resource handler paths constants
@@ -0,0 +1,298 @@
+package co.immimate.maintenance;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.immimate.config.MetricsSource;
+import co.immimate.profile.repository.ProfileDraftRepository;
+import co.immimate.profile.repository.ProfileDraftSnapshotRepository;
+
+/**
+ * Scheduled retention job for profile drafts and evaluation history.
+ * Keeps the latest draft per user and the last N evaluations per application, deleting
+ * the rest in bounded chunks, each in its own short transaction with a pause in between,
+ * so the job never holds locks for long. Row counts and table sizes are recorded before
+ * and after each run and reported through {@link co.immimate.config.MetricsController}.
+ */
+@Component
+public class DataRetentionJob implements MetricsSource {
+
+    private static final Logger log = LoggerFactory.getLogger(DataRetentionJob.class);
+
+    // Tables, drafts are unqualified like the entities that map them
+    static final String TABLE_PROFILE_DRAFTS = "profile_drafts";
+    static final String TABLE_PROFILE_DRAFT_HISTORY = "profile_draft_history";
+    static final String TABLE_EVALUATIONS = "user_immigration_evaluation.evaluations";
+    static final String TABLE_EVALUATION_CATEGORIES = "user_immigration_evaluation.evaluation_categories";
+    static final String TABLE_EVALUATION_SUBCATEGORIES = "user_immigration_evaluation.evaluation_subcategories";
+    static final String TABLE_EVALUATION_FIELDS = "user_immigration_evaluation.evaluation_fields";
+    private static final List<String> TABLES = List.of(TABLE_PROFILE_DRAFTS, TABLE_PROFILE_DRAFT_HISTORY,
+            TABLE_EVALUATIONS, TABLE_EVALUATION_CATEGORIES, TABLE_EVALUATION_SUBCATEGORIES, TABLE_EVALUATION_FIELDS);
+
+    // SQL parameters
+    private static final String PARAM_KEEP = "keep";
+    private static final String PARAM_LIMIT = "limit";
+    private static final String PARAM_IDS = "ids";
+    private static final String PARAM_TABLE = "table";
+
+    // Evaluations beyond the newest :keep of their application
+    private static final String SQL_SELECT_EXPIRED_EVALUATIONS =
+            "SELECT evaluation_id FROM (SELECT evaluation_id, ROW_NUMBER() OVER ("
+            + "PARTITION BY application_id ORDER BY evaluation_date DESC, evaluation_id) AS position "
+            + "FROM " + TABLE_EVALUATIONS + ") ranked WHERE position > :keep LIMIT :limit";
+
+    // Evaluation children, deleted leaf first
+    private static final String SQL_DELETE_EVALUATION_FIELDS =
+            "DELETE FROM " + TABLE_EVALUATION_FIELDS + " WHERE subcat_eval_id IN ("
+            + "SELECT s.subcat_eval_id FROM " + TABLE_EVALUATION_SUBCATEGORIES + " s JOIN "
+            + TABLE_EVALUATION_CATEGORIES + " c ON s.cat_eval_id = c.cat_eval_id WHERE c.evaluation_id IN (:ids))";
+    private static final String SQL_DELETE_EVALUATION_SUBCATEGORIES =
+            "DELETE FROM " + TABLE_EVALUATION_SUBCATEGORIES + " WHERE cat_eval_id IN ("
+            + "SELECT cat_eval_id FROM " + TABLE_EVALUATION_CATEGORIES + " WHERE evaluation_id IN (:ids))";
+    private static final String SQL_DELETE_EVALUATION_CATEGORIES =
+            "DELETE FROM " + TABLE_EVALUATION_CATEGORIES + " WHERE evaluation_id IN (:ids)";
+    private static final String SQL_DELETE_EVALUATIONS =
+            "DELETE FROM " + TABLE_EVALUATIONS + " WHERE evaluation_id IN (:ids)";
+
+    // Table statistics (PostgreSQL)
+    private static final String SQL_COUNT_ROWS = "SELECT count(*) FROM ";
+    private static final String SQL_TABLE_BYTES = "SELECT pg_total_relation_size(CAST(:table AS regclass))";
+
+    // Metric names
+    private static final String METRICS_NAME = "dataRetention";
+    private static final String METRIC_LAST_RUN_AT = "lastRunAt";
+    private static final String METRIC_LAST_RUN_MS = "lastRunMs";
+    private static final String METRIC_DELETED = "deleted";
+    private static final String METRIC_BEFORE = "before";
+    private static final String METRIC_AFTER = "after";
+
+    // Log messages
+    private static final String LOG_STARTED = "Data retention run started";
+    private static final String LOG_TABLE_STATS = "Retention {} {}: {} rows, {} bytes";
+    private static final String LOG_FINISHED = "Data retention run finished in {} ms, deleted {}";
+    private static final String LOG_FAILED = "Data retention run failed";
+    private static final String LOG_STATS_FAILED = "Could not read statistics for table {}: {}";
+    private static final String LOG_INTERRUPTED = "Data retention run interrupted";
+    private static final String STAGE_BEFORE = "before";
+    private static final String STAGE_AFTER = "after";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProfileDraftRepository profileDraftRepository;
+
+    @Autowired
+    private ProfileDraftSnapshotRepository profileDraftSnapshotRepository;
+
+    @Value("${retention.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * Maximum rows selected for deletion per transaction.
+     */
+    @Value("${retention.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Pause between chunks, lets other transactions take the locks.
+     */
+    @Value("${retention.chunk-pause-ms:200}")
+    private long chunkPauseMs;
+
+    /**
+     * Upper bound on chunks per table and run, the rest is picked up by the next run.
+     */
+    @Value("${retention.max-chunks:1000}")
+    private int maxChunks;
+
+    /**
+     * Evaluations kept per application, 0 keeps all.
+     */
+    @Value("${retention.evaluations.keep-per-application:10}")
+    private int evaluationsPerApplication;
+
+    /**
+     * Drafts not saved for this many days are deleted, 0 keeps them.
+     */
+    @Value("${retention.drafts.max-age-days:0}")
+    private int draftMaxAgeDays;
+
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    /**
+     * Scheduled entry point, runs only when retention is enabled
+     */
+    @Scheduled(cron = "${retention.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error(LOG_FAILED, e);
+        }
+    }
+
+    /**
+     * Apply the retention rules once
+     * @return Deleted row counts per table
+     */
+    public synchronized Map<String, Long> run() {
+        log.info(LOG_STARTED);
+        long start = System.currentTimeMillis();
+        Map<String, TableStats> before = collectTableStats(STAGE_BEFORE);
+        Map<String, Long> deleted = new LinkedHashMap<>();
+
+        try {
+            purgeSupersededDrafts(deleted);
+            purgeStaleDrafts(deleted);
+            purgeExpiredEvaluations(deleted);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(LOG_INTERRUPTED);
+        }
+
+        Map<String, TableStats> after = collectTableStats(STAGE_AFTER);
+        long elapsedMs = System.currentTimeMillis() - start;
+        log.info(LOG_FINISHED, elapsedMs, deleted);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put(METRIC_LAST_RUN_AT, Instant.ofEpochMilli(start).toString());
+        report.put(METRIC_LAST_RUN_MS, elapsedMs);
+        report.put(METRIC_DELETED, deleted);
+        report.put(METRIC_BEFORE, before);
+        report.put(METRIC_AFTER, after);
+        lastRun = report;
+        return deleted;
+    }
+
+    /**
+     * Delete drafts left over from the append-only draft table next to a newer draft
+     */
+    private void purgeSupersededDrafts(Map<String, Long> deleted) throws InterruptedException {
+        deleteInChunks(
+                () -> profileDraftRepository.findSupersededDraftIds(PageRequest.of(0, chunkSize)),
+                ids -> deleteDrafts(ids, deleted));
+    }
+
+    /**
+     * Delete drafts that have not been saved within the maximum age
+     */
+    private void purgeStaleDrafts(Map<String, Long> deleted) throws InterruptedException {
+        if (draftMaxAgeDays <= 0) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(Duration.ofDays(draftMaxAgeDays));
+        deleteInChunks(
+                () -> profileDraftRepository.findIdsLastModifiedBefore(cutoff, PageRequest.of(0, chunkSize)),
+                ids -> deleteDrafts(ids, deleted));
+    }
+
+    private void deleteDrafts(List<UUID> ids, Map<String, Long> deleted) {
+        add(deleted, TABLE_PROFILE_DRAFT_HISTORY, profileDraftSnapshotRepository.deleteByDraftIds(ids));
+        add(deleted, TABLE_PROFILE_DRAFTS, profileDraftRepository.deleteByIds(ids));
+    }
+
+    /**
+     * Delete evaluations beyond the newest N of each application, with their categories,
+     * subcategories and fields
+     */
+    private void purgeExpiredEvaluations(Map<String, Long> deleted) throws InterruptedException {
+        if (evaluationsPerApplication <= 0) {
+            return;
+        }
+        Map<String, Object> selectParams = Map.of(PARAM_KEEP, evaluationsPerApplication, PARAM_LIMIT, chunkSize);
+        deleteInChunks(
+                () -> jdbcTemplate.queryForList(SQL_SELECT_EXPIRED_EVALUATIONS, selectParams, UUID.class),
+                ids -> {
+                    Map<String, Object> params = Map.of(PARAM_IDS, ids);
+                    add(deleted, TABLE_EVALUATION_FIELDS, jdbcTemplate.update(SQL_DELETE_EVALUATION_FIELDS, params));
+                    add(deleted, TABLE_EVALUATION_SUBCATEGORIES,
+                            jdbcTemplate.update(SQL_DELETE_EVALUATION_SUBCATEGORIES, params));
+                    add(deleted, TABLE_EVALUATION_CATEGORIES,
+                            jdbcTemplate.update(SQL_DELETE_EVALUATION_CATEGORIES, params));
+                    add(deleted, TABLE_EVALUATIONS, jdbcTemplate.update(SQL_DELETE_EVALUATIONS, params));
+                });
+    }
+
+    /**
+     * Select and delete chunks until none are left, one transaction per chunk
+     */
+    private void deleteInChunks(Supplier<List<UUID>> nextChunk, Consumer<List<UUID>> deleteChunk)
+            throws InterruptedException {
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<UUID> ids = nextChunk.get();
+            if (ids.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> deleteChunk.accept(ids));
+            if (ids.size() < chunkSize) {
+                return;
+            }
+            Thread.sleep(chunkPauseMs);
+        }
+    }
+
+    private static void add(Map<String, Long> deleted, String table, int rows) {
+        deleted.merge(table, (long) rows, Long::sum);
+    }
+
+    /**
+     * Read row counts and sizes of the retained tables
+     */
+    Map<String, TableStats> collectTableStats(String stage) {
+        Map<String, TableStats> stats = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            try {
+                Long rows = jdbcTemplate.getJdbcTemplate().queryForObject(SQL_COUNT_ROWS + table, Long.class);
+                Long bytes = tableBytes(table);
+                stats.put(table, new TableStats(rows != null ? rows : 0L, bytes));
+                log.info(LOG_TABLE_STATS, stage, table, rows, bytes);
+            } catch (DataAccessException e) {
+                log.warn(LOG_STATS_FAILED, table, e.getMessage());
+            }
+        }
+        return stats;
+    }
+
+    private Long tableBytes(String table) {
+        try {
+            return jdbcTemplate.queryForObject(SQL_TABLE_BYTES, Map.of(PARAM_TABLE, table), Long.class);
+        } catch (DataAccessException e) {
+            // Not PostgreSQL
+            return null;
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return METRICS_NAME;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        return lastRun;
+    }
+}
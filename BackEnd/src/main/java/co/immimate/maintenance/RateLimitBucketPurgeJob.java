@@ -0,0 +1,90 @@
+package co.immimate.maintenance;
+
+import java.sql.SQLException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import co.immimate.auth.security.JdbcBucketStore;
+import co.immimate.auth.security.RateLimitBucketStore;
+
+/**
+ * Scheduled purge of idle rate-limit buckets from the shared JDBC store.
+ * Deletes expired rows in bounded chunks, each in its own short transaction with a pause in
+ * between, like {@link DataRetentionJob}. Does nothing with the in-memory store, which expires
+ * its buckets itself.
+ */
+@Component
+public class RateLimitBucketPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitBucketPurgeJob.class);
+
+    // Log messages
+    private static final String LOG_FINISHED = "Rate-limit bucket purge deleted {} rows in {} ms";
+    private static final String LOG_FAILED = "Rate-limit bucket purge failed: {}";
+    private static final String LOG_INTERRUPTED = "Rate-limit bucket purge interrupted";
+
+    @Autowired(required = false)
+    private RateLimitBucketStore bucketStore;
+
+    /**
+     * Maximum rows deleted per transaction.
+     */
+    @Value("${rate-limit.jdbc.purge.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Pause between chunks, lets consumes take the row locks.
+     */
+    @Value("${rate-limit.jdbc.purge.chunk-pause-ms:200}")
+    private long chunkPauseMs;
+
+    /**
+     * Upper bound on chunks per run, the rest is picked up by the next run.
+     */
+    @Value("${rate-limit.jdbc.purge.max-chunks:1000}")
+    private int maxChunks;
+
+    /**
+     * Scheduled entry point, runs only with the JDBC store
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.jdbc.purge.interval-ms:300000}")
+    public void runScheduled() {
+        if (!(bucketStore instanceof JdbcBucketStore)) {
+            return;
+        }
+        try {
+            run((JdbcBucketStore) bucketStore);
+        } catch (SQLException e) {
+            log.warn(LOG_FAILED, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(LOG_INTERRUPTED);
+        }
+    }
+
+    /**
+     * Delete expired buckets chunk by chunk until none are left
+     * @return Number of rows deleted
+     */
+    long run(JdbcBucketStore store) throws SQLException, InterruptedException {
+        long start = System.currentTimeMillis();
+        long deleted = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int rows = store.purgeExpired(System.currentTimeMillis(), chunkSize);
+            deleted += rows;
+            if (rows < chunkSize) {
+                break;
+            }
+            Thread.sleep(chunkPauseMs);
+        }
+        if (deleted > 0) {
+            log.info(LOG_FINISHED, deleted, System.currentTimeMillis() - start);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,15 @@
+package co.immimate.maintenance;
+
+import lombok.Value;
+
+/**
+ * Row count and on-disk size of one table.
+ */
+@Value
+public class TableStats {
+    long rows;
+    /**
+     * Total size including indexes and TOAST, or null if the database cannot report it.
+     */
+    Long bytes;
+}
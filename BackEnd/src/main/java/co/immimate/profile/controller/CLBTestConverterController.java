@@ -1,18 +1,27 @@
 package co.immimate.profile.controller;
 
-import java.util.List;
-import java.util.Map;
+import java.time.Duration;
+
+import javax.validation.Valid;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import co.immimate.profile.dto.CLBConversionResponse;
+import co.immimate.profile.dto.CLBBatchConversionRequest;
+import co.immimate.profile.dto.CLBBatchConversionResponse;
+import co.immimate.profile.dto.SerializedPayload;
 import co.immimate.profile.service.CLBTestConverterService;
 
 /**
@@ -25,6 +34,7 @@ public class CLBTestConverterController {
     public static final String BASE_PATH = "/api/language-tests";
     private static final String CONVERSIONS_PATH = "/conversions";
     private static final String CONVERT_PATH = "/convert";
+    private static final String CONVERT_BATCH_PATH = "/convert/batch";
     private static final String OPTIONS_PATH = "/options";
     
     // Request parameters
@@ -35,6 +45,13 @@ public class CLBTestConverterController {
     // Log messages
     private static final String LOG_REQUEST_TABLES = "Request received for CLB test conversion tables";
     private static final String LOG_REQUEST_CONVERT = "Request to convert score: testType={}, skill={}, score={}";
+    private static final String LOG_REQUEST_BATCH = "Request to convert {} language tests in one batch";
+    private static final String LOG_REQUEST_OPTIONS = "Request received for language test score options";
+    private static final String LOG_NOT_MODIFIED = "Reference payload unchanged (ETag {}), returning 304";
+    
+    // Reference data may be reused for a short while, then revalidated with its ETag
+    private static final CacheControl REFERENCE_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic().mustRevalidate();
     
     private static final Logger logger = LoggerFactory.getLogger(CLBTestConverterController.class);
     
@@ -43,12 +60,13 @@ public class CLBTestConverterController {
     
     /**
      * Get all CLB test conversion data
-     * @return CLB conversion tables for all test types
+     * @param request The web request, used for If-None-Match handling
+     * @return CLB conversion tables for all test types, or 304 if unchanged
      */
     @GetMapping(CONVERSIONS_PATH)
-    public ResponseEntity<CLBConversionResponse> getConversionTables() {
+    public ResponseEntity<byte[]> getConversionTables(WebRequest request) {
         logger.info(LOG_REQUEST_TABLES);
-        return ResponseEntity.ok(service.getConversionTables());
+        return toResponse(service.getConversionTablesPayload(), request);
     }
     
     /**
@@ -76,14 +94,50 @@ public class CLBTestConverterController {
         return ResponseEntity.ok(clbLevel);
     }
 
+    /**
+     * Convert every skill score of several language tests in one request
+     * (e.g. primary, secondary and partner tests from a single form submission)
+     * @param request The labelled tests and their per-skill scores
+     * @return CLB levels per test and skill, plus each test's minimum CLB level
+     */
+    @PostMapping(CONVERT_BATCH_PATH)
+    public ResponseEntity<CLBBatchConversionResponse> convertBatch(
+            @Valid @RequestBody CLBBatchConversionRequest request) {
+        
+        logger.info(LOG_REQUEST_BATCH, request.getTests().size());
+        return ResponseEntity.ok(service.convertBatch(request));
+    }
+
     /**
      * Get all possible score options for each test type and skill
      * This is used by the frontend to populate dropdown menus
-     * @return Map of test types to skills to valid score values
+     * @param request The web request, used for If-None-Match handling
+     * @return Map of test types to skills to valid score values, or 304 if unchanged
      */
     @GetMapping(OPTIONS_PATH)
-    public ResponseEntity<Map<String, Map<String, List<String>>>> getScoreOptions() {
-        logger.info("Request received for language test score options");
-        return ResponseEntity.ok(service.getScoreOptions());
+    public ResponseEntity<byte[]> getScoreOptions(WebRequest request) {
+        logger.info(LOG_REQUEST_OPTIONS);
+        return toResponse(service.getScoreOptionsPayload(), request);
+    }
+    
+    /**
+     * Serve a pre-serialized payload, or an empty 304 when the client already has it
+     * @param payload The serialized reference payload
+     * @param request The web request carrying any If-None-Match header
+     * @return The payload bytes with ETag and Cache-Control headers
+     */
+    private ResponseEntity<byte[]> toResponse(SerializedPayload payload, WebRequest request) {
+        if (request.checkNotModified(payload.getEtag())) {
+            logger.debug(LOG_NOT_MODIFIED, payload.getEtag());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(payload.getEtag())
+                    .cacheControl(REFERENCE_CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(payload.getEtag())
+                .cacheControl(REFERENCE_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload.getBody());
     }
 } 
\ No newline at end of file
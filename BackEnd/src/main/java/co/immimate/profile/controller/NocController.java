@@ -0,0 +1,68 @@
+package co.immimate.profile.controller;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.immimate.profile.dto.NocSearchResult;
+import co.immimate.profile.service.NocIndexService;
+
+/**
+ * Controller for NOC occupation lookup endpoints
+ */
+@RestController
+@RequestMapping(NocController.BASE_PATH)
+public class NocController {
+    // API path constants
+    public static final String BASE_PATH = "/api/noc";
+    private static final String SEARCH_PATH = "/search";
+    
+    // Request parameters
+    private static final String PARAM_QUERY = "q";
+    private static final String PARAM_LIMIT = "limit";
+    
+    // Result limits
+    private static final String DEFAULT_LIMIT = "10";
+    private static final int MAX_LIMIT = 25;
+    private static final int MAX_QUERY_LENGTH = 100;
+    
+    // Results only change when jobs_noc changes, so let the browser reuse them briefly
+    private static final CacheControl SEARCH_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic();
+    
+    // Log messages
+    private static final String LOG_SEARCH = "NOC search: q={}, limit={}, results={}";
+    
+    private static final Logger logger = LoggerFactory.getLogger(NocController.class);
+    
+    @Autowired
+    private NocIndexService nocIndexService;
+    
+    /**
+     * Search occupations by job title or NOC code as the user types
+     * @param query The search text, e.g. "software" or "2123"
+     * @param limit The maximum number of results (capped at 25)
+     * @return The best matching occupations, best first
+     */
+    @GetMapping(SEARCH_PATH)
+    public ResponseEntity<List<NocSearchResult>> search(
+            @RequestParam(value = PARAM_QUERY, defaultValue = "") String query,
+            @RequestParam(value = PARAM_LIMIT, defaultValue = DEFAULT_LIMIT) int limit) {
+        
+        String boundedQuery = query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+        List<NocSearchResult> results = nocIndexService.search(boundedQuery, Math.min(Math.max(limit, 0), MAX_LIMIT));
+        logger.debug(LOG_SEARCH, boundedQuery, limit, results.size());
+        
+        return ResponseEntity.ok()
+                .cacheControl(SEARCH_CACHE_CONTROL)
+                .body(results);
+    }
+}
@@ -1,7 +1,9 @@
 package co.immimate.profile.controller;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,25 +13,35 @@ import javax.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import co.immimate.profile.dto.ProfileSubmissionRequest;
 import co.immimate.profile.dto.ProfileSubmissionResponse;
+import co.immimate.profile.exception.DraftVersionConflictException;
+import co.immimate.profile.exception.InvalidDraftPatchException;
+import co.immimate.profile.model.ProfileDraft;
+import co.immimate.profile.model.ProfileDraftSnapshot;
 import co.immimate.profile.model.UserImmigrationProfile;
 import co.immimate.profile.service.ProfileService;
+import co.immimate.profile.validation.ProfileRuleViolation;
 import co.immimate.user.model.User;
-import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserIdentityResolver;
 
 /**
  * REST controller for handling user immigration profile operations.
@@ -42,6 +54,15 @@ public class ProfileController {
     private static final String RECENT_PATH = "/recent";
     private static final String PROFILE_ID_PATH = "/{profileId}";
     private static final String DRAFT_PATH = "/draft";
+    private static final String DRAFT_HISTORY_PATH = "/draft/history";
+    private static final String VALIDATE_PATH = "/validate";
+    private static final String JSON_PATCH_MEDIA_TYPE = "application/json-patch+json";
+    
+    // Draft versions travel as quoted ETag / If-Match values, e.g. "3"
+    private static final String DRAFT_ETAG_FORMAT = "\"%d\"";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String ETAG_QUOTE = "\"";
+    private static final String IF_MATCH_ANY = "*";
     
     // OAuth2 attribute keys
     private static final String OAUTH2_ATTR_EMAIL = "email";
@@ -56,6 +77,14 @@ public class ProfileController {
     private static final String RESP_CREATED_AT = "createdAt";
     private static final String RESP_APPLICANT_NAME = "applicantName";
     private static final String RESP_FORM_DATA = "formData";
+    private static final String RESP_VERSION = "version";
+    private static final String RESP_CURRENT_VERSION = "currentVersion";
+    private static final String RESP_CONFLICT = "conflict";
+    private static final String RESP_UNSAVED_FORM_DATA = "unsavedFormData";
+    private static final String RESP_HISTORY = "history";
+    private static final String RESP_CAPTURED_AT = "capturedAt";
+    private static final String RESP_VALID = "valid";
+    private static final String RESP_ERRORS = "errors";
     
     // Success messages
     private static final String MSG_DRAFT_SAVED = "Form draft saved successfully";
@@ -68,6 +97,9 @@ public class ProfileController {
     private static final String ERR_NO_DRAFT = "No draft found for this user";
     private static final String ERR_INVALID_DRAFT = "Error retrieving form draft: Invalid data format";
     private static final String ERR_RETRIEVE_DRAFT = "Error retrieving form draft: ";
+    private static final String ERR_DRAFT_CONFLICT = "Form draft was changed elsewhere, reload it before saving";
+    private static final String ERR_INVALID_DRAFT_VERSION = "Invalid If-Match draft version";
+    private static final String ERR_PATCH_REQUIRES_VERSION = "Draft patches require an If-Match draft version";
     
     // Log messages
     private static final String LOG_SUBMISSION_REQUEST = "Received profile submission request for email: {}";
@@ -106,18 +138,22 @@ public class ProfileController {
     private static final String LOG_PARSE_ERROR = "Error parsing form draft JSON data";
     private static final String LOG_PROCESS_ERROR = "Error processing form draft data";
     private static final String LOG_RUNTIME_ERROR = "Runtime error retrieving form draft";
+    private static final String LOG_DRAFT_CONFLICT = "Form draft version conflict for user {}: {}";
+    private static final String LOG_DRAFT_PATCH = "Received form draft patch from user: {}";
+    private static final String LOG_INVALID_PATCH = "Rejected form draft patch for user {}: {}";
 
     private static final Logger log = LoggerFactory.getLogger(ProfileController.class);
     
     private final ProfileService profileService;
     private final ObjectMapper objectMapper;
-    private final UserRepository userRepository;
+    private final UserIdentityResolver userIdentityResolver;
     
     @Autowired
-    public ProfileController(ProfileService profileService, UserRepository userRepository) {
+    public ProfileController(ProfileService profileService, UserIdentityResolver userIdentityResolver,
+            ObjectMapper objectMapper) {
         this.profileService = profileService;
-        this.objectMapper = new ObjectMapper();
-        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.userIdentityResolver = userIdentityResolver;
     }
     
     /**
@@ -201,6 +237,19 @@ public class ProfileController {
         }
     }
     
+    /**
+     * Check a profile against every validation rule without submitting it, so the form can show all errors at once
+     * 
+     * @param request The profile as it would be submitted
+     * @return Whether the profile is valid and the broken rules, each with its field and message
+     */
+    @PostMapping(VALIDATE_PATH)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> validateProfile(@RequestBody ProfileSubmissionRequest request) {
+        List<ProfileRuleViolation> violations = profileService.collectValidationErrors(request);
+        return ResponseEntity.ok(Map.of(RESP_VALID, violations.isEmpty(), RESP_ERRORS, violations));
+    }
+    
     /**
      * Get the most recent profile for the authenticated user
      * 
@@ -256,7 +305,7 @@ public class ProfileController {
             // If not found and we have a Google ID, try to find user by Google ID
             if (recentProfile.isEmpty() && googleId != null) {
                 // Get user first
-                Optional<User> userOpt = userRepository.findByGoogleId(googleId);
+                Optional<User> userOpt = userIdentityResolver.resolve(null, null, googleId);
                 if (userOpt.isPresent()) {
                     User user = userOpt.get();
                     log.info(LOG_FOUND_USER_BY_ID, googleId);
@@ -312,13 +361,15 @@ public class ProfileController {
      * Save form draft to the server
      * 
      * @param formData The form data as a JSON object
+     * @param ifMatch Optional draft version the form was loaded from, as returned in the ETag
      * @param principal The authenticated user
-     * @return Response with success status
+     * @return Response with success status and the new draft version, or 409 if the draft changed
      */
     @PostMapping(DRAFT_PATH)
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Map<String, Object>> saveFormDraft(
             @RequestBody Map<String, Object> formData,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Principal principal) {
         
         log.info(LOG_DRAFT_SAVE, principal.getName());
@@ -354,16 +405,38 @@ public class ProfileController {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
             }
             
+            Long expectedVersion;
+            try {
+                expectedVersion = parseDraftVersion(ifMatch);
+            } catch (NumberFormatException e) {
+                Map<String, Object> response = new HashMap<>();
+                response.put(RESP_SUCCESS, false);
+                response.put(RESP_MESSAGE, ERR_INVALID_DRAFT_VERSION);
+                
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+            }
+            
             // Find the user by email or Google ID and save the draft
             try {
                 // Store the form draft in the profile service - now accepting googleId parameter
-                profileService.saveProfileDraftWithGoogleId(userEmail, googleId, formDataJson);
+                ProfileDraft saved = profileService.saveProfileDraftWithGoogleId(
+                        userEmail, googleId, formDataJson, expectedVersion);
                 
                 Map<String, Object> response = new HashMap<>();
                 response.put(RESP_SUCCESS, true);
                 response.put(RESP_MESSAGE, MSG_DRAFT_SAVED);
+                response.put(RESP_VERSION, saved.getVersion());
                 
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok().eTag(draftEtag(saved.getVersion())).body(response);
+            } catch (DraftVersionConflictException e) {
+                log.warn(LOG_DRAFT_CONFLICT, userEmail, e.getMessage());
+                
+                Map<String, Object> response = new HashMap<>();
+                response.put(RESP_SUCCESS, false);
+                response.put(RESP_MESSAGE, ERR_DRAFT_CONFLICT);
+                response.put(RESP_CURRENT_VERSION, e.getCurrentVersion());
+                
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
             } catch (IllegalArgumentException e) {
                 log.error("User not found when trying to save draft: {}", e.getMessage());
                 
@@ -392,11 +465,83 @@ public class ProfileController {
         }
     }
     
+    /**
+     * Apply a JSON Patch (RFC 6902) to the current user's form draft.
+     * The patch must be computed against the version sent in If-Match; the full draft
+     * is only rebuilt on the server, so autosaves send just the changed fields.
+     * 
+     * @param patch The JSON Patch operations array
+     * @param ifMatch The draft version the patch is based on, as returned in the ETag
+     * @param principal The authenticated user
+     * @return Response with the new draft version, 409 if the draft changed, 422 if the patch does not apply
+     */
+    @PatchMapping(value = DRAFT_PATH, consumes = { JSON_PATCH_MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE })
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> patchFormDraft(
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Principal principal) {
+        
+        log.debug(LOG_DRAFT_PATCH, principal.getName());
+        
+        String userEmail = principal.getName();
+        String googleId = null;
+        if (principal instanceof org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken oauth2Auth) {
+            userEmail = oauth2Auth.getPrincipal().getAttribute(OAUTH2_ATTR_EMAIL);
+            googleId = oauth2Auth.getPrincipal().getAttribute(OAUTH2_ATTR_SUB);
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        Long expectedVersion;
+        try {
+            expectedVersion = parseDraftVersion(ifMatch);
+        } catch (NumberFormatException e) {
+            response.put(RESP_SUCCESS, false);
+            response.put(RESP_MESSAGE, ERR_INVALID_DRAFT_VERSION);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+        if (expectedVersion == null) {
+            response.put(RESP_SUCCESS, false);
+            response.put(RESP_MESSAGE, ERR_PATCH_REQUIRES_VERSION);
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(response);
+        }
+        
+        try {
+            ProfileDraft saved = profileService.patchProfileDraftWithGoogleId(
+                    userEmail, googleId, patch, expectedVersion);
+            
+            response.put(RESP_SUCCESS, true);
+            response.put(RESP_MESSAGE, MSG_DRAFT_SAVED);
+            response.put(RESP_VERSION, saved.getVersion());
+            
+            return ResponseEntity.ok().eTag(draftEtag(saved.getVersion())).body(response);
+        } catch (DraftVersionConflictException e) {
+            log.warn(LOG_DRAFT_CONFLICT, userEmail, e.getMessage());
+            
+            response.put(RESP_SUCCESS, false);
+            response.put(RESP_MESSAGE, ERR_DRAFT_CONFLICT);
+            response.put(RESP_CURRENT_VERSION, e.getCurrentVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (InvalidDraftPatchException e) {
+            log.warn(LOG_INVALID_PATCH, userEmail, e.getMessage());
+            
+            response.put(RESP_SUCCESS, false);
+            response.put(RESP_MESSAGE, e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+        } catch (IllegalArgumentException e) {
+            log.error("User not found when trying to patch draft: {}", e.getMessage());
+            
+            response.put(RESP_SUCCESS, false);
+            response.put(RESP_MESSAGE, "User not found: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+    
     /**
      * Retrieve the latest form draft for the current user
      * 
      * @param principal The authenticated user
-     * @return Response with the form draft data
+     * @return Response with the form draft data and its version, also sent as the ETag
      */
     @GetMapping(DRAFT_PATH)
     @PreAuthorize("isAuthenticated()")
@@ -431,21 +576,30 @@ public class ProfileController {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
             }
             
-            // Get the latest form draft from the profile service - now accepting googleId parameter
-            Optional<String> formDraftJson = profileService.getLatestProfileDraftWithGoogleId(userEmail, googleId);
+            // Edits accepted earlier but overtaken by a save from elsewhere, reported once
+            Optional<ProfileDraft> unsaved = profileService.takeUnsavedDraftConflict(userEmail, googleId);
+            
+            // Get the current form draft from the profile service - now accepting googleId parameter
+            Optional<ProfileDraft> draft = profileService.getCurrentProfileDraftWithGoogleId(userEmail, googleId);
             
-            if (formDraftJson.isPresent()) {
+            if (draft.isPresent()) {
                 // Parse the JSON string back to a Map
-                Map<String, Object> formData = objectMapper.readValue(
-                    formDraftJson.get(), 
-                    objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class)
-                );
+                Map<String, Object> formData = readFormData(draft.get().getFormDataJson());
                 
                 Map<String, Object> response = new HashMap<>();
                 response.put(RESP_SUCCESS, true);
                 response.put(RESP_FORM_DATA, formData);
+                response.put(RESP_VERSION, draft.get().getVersion());
+                if (unsaved.isPresent()) {
+                    response.put(RESP_CONFLICT, true);
+                    response.put(RESP_UNSAVED_FORM_DATA, readFormData(unsaved.get().getFormDataJson()));
+                }
                 
-                return ResponseEntity.ok(response);
+                ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+                if (draft.get().getVersion() != null) {
+                    ok.eTag(draftEtag(draft.get().getVersion()));
+                }
+                return ok.body(response);
             } else {
                 Map<String, Object> response = new HashMap<>();
                 response.put(RESP_SUCCESS, false);
@@ -479,4 +633,83 @@ public class ProfileController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Retrieve the previous versions of the current user's form draft, newest first.
+     * Empty unless draft history is enabled with profile.draft.history-size.
+     * 
+     * @param principal The authenticated user
+     * @return Response with the draft versions and their form data
+     */
+    @GetMapping(DRAFT_HISTORY_PATH)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> getFormDraftHistory(Principal principal) {
+        String userEmail = principal.getName();
+        String googleId = null;
+        if (principal instanceof org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken oauth2Auth) {
+            userEmail = oauth2Auth.getPrincipal().getAttribute(OAUTH2_ATTR_EMAIL);
+            googleId = oauth2Auth.getPrincipal().getAttribute(OAUTH2_ATTR_SUB);
+        }
+        
+        try {
+            List<ProfileDraftSnapshot> snapshots = profileService.getProfileDraftHistory(userEmail, googleId);
+            List<Map<String, Object>> history = new ArrayList<>(snapshots.size());
+            for (ProfileDraftSnapshot snapshot : snapshots) {
+                Map<String, Object> entry = new HashMap<>();
+                entry.put(RESP_VERSION, snapshot.getDraftVersion());
+                entry.put(RESP_CAPTURED_AT, snapshot.getCapturedAt());
+                entry.put(RESP_FORM_DATA, readFormData(snapshot.getFormDataJson()));
+                history.add(entry);
+            }
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put(RESP_SUCCESS, true);
+            response.put(RESP_HISTORY, history);
+            
+            return ResponseEntity.ok(response);
+        } catch (JsonProcessingException e) {
+            log.error(LOG_PARSE_ERROR, e);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put(RESP_SUCCESS, false);
+            response.put(RESP_MESSAGE, ERR_INVALID_DRAFT);
+            
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+    
+    /**
+     * Parse stored draft JSON back into a map
+     */
+    private Map<String, Object> readFormData(String formDataJson) throws JsonProcessingException {
+        return objectMapper.readValue(
+            formDataJson, 
+            objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class)
+        );
+    }
+    
+    /**
+     * Format a draft version as a strong ETag
+     */
+    private static String draftEtag(Long version) {
+        return String.format(DRAFT_ETAG_FORMAT, version);
+    }
+    
+    /**
+     * Parse an If-Match header into a draft version
+     * 
+     * @param ifMatch The header value, e.g. "3", W/"3" or *
+     * @return The expected version, or null when absent or *
+     * @throws NumberFormatException If the value is not a version
+     */
+    private static Long parseDraftVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || IF_MATCH_ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith(WEAK_ETAG_PREFIX)) {
+            value = value.substring(WEAK_ETAG_PREFIX.length());
+        }
+        return Long.valueOf(value.replace(ETAG_QUOTE, ""));
+    }
+}
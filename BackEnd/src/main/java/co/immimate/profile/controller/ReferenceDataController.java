@@ -0,0 +1,164 @@
+package co.immimate.profile.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import co.immimate.profile.dto.CitySuggestion;
+import co.immimate.profile.dto.SerializedPayload;
+import co.immimate.profile.service.ReferenceDataService;
+
+/**
+ * Controller for the city, province and country lists used by the profile form
+ */
+@RestController
+@RequestMapping(ReferenceDataController.BASE_PATH)
+public class ReferenceDataController {
+    // API path constants
+    public static final String BASE_PATH = "/api/reference-data";
+    private static final String CITIES_PATH = "/cities";
+    private static final String PROVINCES_PATH = "/provinces";
+    private static final String COUNTRIES_PATH = "/countries";
+    
+    // Request parameters
+    private static final String PARAM_QUERY = "q";
+    private static final String PARAM_PROVINCE = "province";
+    private static final String PARAM_LIMIT = "limit";
+    
+    // Result limits
+    private static final String DEFAULT_LIMIT = "20";
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 100;
+    
+    // Search ETags combine the data version with the normalized request
+    private static final String ETAG_FORMAT = "\"%s-%s\"";
+    private static final String QUERY_KEY_SEPARATOR = "\n";
+    
+    // Reference files only change with a deployment; revalidate with the ETag after an hour
+    private static final CacheControl REFERENCE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+    
+    // Log messages
+    private static final String LOG_CITY_SEARCH = "City search: q={}, province={}, limit={}";
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataController.class);
+    
+    @Autowired
+    private ReferenceDataService referenceDataService;
+    
+    /**
+     * Suggest Canadian cities, most populated first
+     * @param query Optional name prefix, e.g. "mont"
+     * @param province Optional province filter, e.g. "Quebec"
+     * @param limit The maximum number of results (capped at 100)
+     * @param request The web request, used for If-None-Match handling
+     * @return The matching cities, or 304 if the client already has them
+     */
+    @GetMapping(CITIES_PATH)
+    public ResponseEntity<List<CitySuggestion>> searchCities(
+            @RequestParam(value = PARAM_QUERY, defaultValue = "") String query,
+            @RequestParam(value = PARAM_PROVINCE, required = false) String province,
+            @RequestParam(value = PARAM_LIMIT, defaultValue = DEFAULT_LIMIT) int limit,
+            WebRequest request) {
+        
+        String boundedQuery = truncate(query);
+        int boundedLimit = Math.min(Math.max(limit, 0), MAX_LIMIT);
+        String etag = searchEtag(boundedQuery, province, Integer.toString(boundedLimit));
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        
+        logger.debug(LOG_CITY_SEARCH, boundedQuery, province, boundedLimit);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REFERENCE_CACHE_CONTROL)
+                .body(referenceDataService.searchCities(boundedQuery, province, boundedLimit));
+    }
+    
+    /**
+     * Get the Canadian province and territory names
+     * @param request The web request, used for If-None-Match handling
+     * @return The province names, or 304 if unchanged
+     */
+    @GetMapping(PROVINCES_PATH)
+    public ResponseEntity<byte[]> getProvinces(WebRequest request) {
+        return toResponse(referenceDataService.getProvincesPayload(), request);
+    }
+    
+    /**
+     * Get country names, optionally filtered by prefix
+     * @param query Optional name prefix
+     * @param request The web request, used for If-None-Match handling
+     * @return The country names, or 304 if the client already has them
+     */
+    @GetMapping(COUNTRIES_PATH)
+    public ResponseEntity<?> getCountries(
+            @RequestParam(value = PARAM_QUERY, required = false) String query,
+            WebRequest request) {
+        
+        if (query == null || query.isBlank()) {
+            return toResponse(referenceDataService.getCountriesPayload(), request);
+        }
+        
+        String boundedQuery = truncate(query);
+        String etag = searchEtag(boundedQuery);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REFERENCE_CACHE_CONTROL)
+                .body(referenceDataService.searchCountries(boundedQuery));
+    }
+    
+    /**
+     * Serve a pre-serialized payload, or an empty 304 when the client already has it
+     */
+    private ResponseEntity<byte[]> toResponse(SerializedPayload payload, WebRequest request) {
+        if (request.checkNotModified(payload.getEtag())) {
+            return notModified(payload.getEtag());
+        }
+        return ResponseEntity.ok()
+                .eTag(payload.getEtag())
+                .cacheControl(REFERENCE_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(payload.getBody());
+    }
+    
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REFERENCE_CACHE_CONTROL)
+                .build();
+    }
+    
+    /**
+     * Results depend only on the data version and the request parameters,
+     * so the ETag can be checked before searching
+     */
+    private String searchEtag(String... parameters) {
+        String queryKey = String.join(QUERY_KEY_SEPARATOR,
+                Arrays.stream(parameters).map(value -> value == null ? "" : value.trim().toLowerCase())
+                        .toArray(String[]::new));
+        return String.format(ETAG_FORMAT, referenceDataService.getVersion(),
+                DigestUtils.md5DigestAsHex(queryKey.getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    private static String truncate(String query) {
+        return query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+    }
+}
@@ -0,0 +1,62 @@
+package co.immimate.profile.dto;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.Valid;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Data;
+
+/**
+ * DTO for converting several language tests to CLB levels in one request.
+ * Each entry is labelled by the client (e.g. "primary", "secondary", "partner").
+ */
+@Data
+public class CLBBatchConversionRequest {
+    // Upper bound keeps a single request from fanning out into unbounded work
+    public static final int MAX_TESTS = 10;
+
+    // Skills a test can be scored on; any other score key is rejected
+    public static final Set<String> SKILLS = Set.of("listening", "reading", "writing", "speaking");
+    public static final int MAX_SKILLS = 4;
+
+    @NotEmpty
+    @Size(max = MAX_TESTS)
+    @Valid
+    private List<TestScores> tests;
+
+    /**
+     * Scores for a single language test
+     */
+    @Data
+    public static class TestScores {
+        @NotBlank
+        private String label;
+
+        @NotBlank
+        private String testType;
+
+        // Skill name (listening, reading, writing, speaking) to raw score or score range
+        @NotEmpty
+        @Size(max = MAX_SKILLS)
+        private Map<String, String> scores;
+
+        /**
+         * @return True if every score key is one of the four skills
+         */
+        @JsonIgnore
+        @AssertTrue(message = "scores may only contain listening, reading, writing and speaking")
+        public boolean isKnownSkills() {
+            return scores == null || scores.keySet().stream()
+                    .allMatch(skill -> skill != null && SKILLS.contains(skill.toLowerCase(Locale.ROOT)));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package co.immimate.profile.dto;
+
+import java.util.Map;
+
+import lombok.Data;
+
+/**
+ * DTO for returning CLB levels for several language tests at once
+ */
+@Data
+public class CLBBatchConversionResponse {
+    // Results keyed by the label sent in the request
+    private Map<String, TestResult> results;
+
+    /**
+     * CLB levels for a single language test
+     */
+    @Data
+    public static class TestResult {
+        private String testType;
+
+        // Skill name to CLB level (0 when the score could not be converted)
+        private Map<String, Integer> clbLevels;
+
+        // Lowest CLB level across the skills, as used for primary_clb_score in evaluations
+        private Integer minimumClb;
+    }
+}
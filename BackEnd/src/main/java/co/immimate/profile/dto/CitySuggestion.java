@@ -0,0 +1,18 @@
+package co.immimate.profile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one Canadian city returned by the reference-data endpoints
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CitySuggestion {
+    private String city;
+    private String province;
+    // Null when the source data has no population for the city
+    private Integer population;
+}
@@ -0,0 +1,13 @@
+package co.immimate.profile.dto;
+
+import lombok.Data;
+
+/**
+ * DTO for one occupation returned by the NOC search endpoint
+ */
+@Data
+public class NocSearchResult {
+    private Integer nocCode;
+    private Integer teerCategory;
+    private String jobTitle;
+}
@@ -0,0 +1,35 @@
+package co.immimate.profile.dto;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.DigestUtils;
+
+import lombok.Value;
+
+/**
+ * Immutable, pre-serialized JSON response body with its strong ETag.
+ * Built once per reference-data version so requests can be answered
+ * (or short-circuited with 304 Not Modified) without serializing again.
+ */
+@Value
+public class SerializedPayload {
+    byte[] body;
+    String etag;
+
+    /**
+     * Wrap serialized JSON bytes and derive a strong ETag from their content
+     * @param body The serialized response body
+     * @return The payload with a quoted content-hash ETag
+     */
+    public static SerializedPayload of(byte[] body) {
+        return new SerializedPayload(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    /**
+     * Get the body as a string, mainly for logging and tests
+     * @return The UTF-8 JSON body
+     */
+    public String asString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
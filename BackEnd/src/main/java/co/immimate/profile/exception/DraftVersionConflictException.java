@@ -0,0 +1,27 @@
+package co.immimate.profile.exception;
+
+/**
+ * Thrown when a draft save is based on a version that is no longer current,
+ * e.g. the same form was saved from another tab in the meantime.
+ */
+public class DraftVersionConflictException extends RuntimeException {
+
+    private static final String MESSAGE_FORMAT = "Draft version %d does not match the current version %d";
+
+    private final Long expectedVersion;
+    private final Long currentVersion;
+
+    public DraftVersionConflictException(Long expectedVersion, Long currentVersion) {
+        super(String.format(MESSAGE_FORMAT, expectedVersion, currentVersion));
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
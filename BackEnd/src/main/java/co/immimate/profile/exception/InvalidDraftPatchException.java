@@ -0,0 +1,16 @@
+package co.immimate.profile.exception;
+
+/**
+ * Thrown when a JSON Patch cannot be applied to a draft: the patch is malformed,
+ * a path does not exist, or a test operation fails.
+ */
+public class InvalidDraftPatchException extends RuntimeException {
+
+    public InvalidDraftPatchException(String message) {
+        super(message);
+    }
+
+    public InvalidDraftPatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -4,11 +4,13 @@ import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
+import co.immimate.profile.service.CLBTestConverterCacheListener;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -16,6 +18,7 @@ import lombok.NoArgsConstructor;
  * Entity representing language test score conversions to Canadian Language Benchmark (CLB) levels.
  */
 @Entity
+@EntityListeners(CLBTestConverterCacheListener.class)
 @Table(name = "clb_test_converter", schema = "static_canadian_immigration_data")
 @Data
 @NoArgsConstructor
@@ -2,9 +2,11 @@ package co.immimate.profile.model;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
+import co.immimate.profile.service.JobsNocIndexListener;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,6 +17,7 @@ import lombok.Setter;
  * Maps to the static_canadian_immigration_data.jobs_noc table in the database.
  */
 @Entity
+@EntityListeners(JobsNocIndexListener.class)
 @Table(name = "jobs_noc", schema = "static_canadian_immigration_data")
 @Getter
 @Setter
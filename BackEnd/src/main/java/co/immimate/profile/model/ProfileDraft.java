@@ -5,7 +5,6 @@ import java.util.UUID;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
-import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
@@ -20,7 +19,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
- * Represents a user's saved form draft with form data.
+ * Represents a user's current form draft with form data.
+ * Each user has one draft, stored under the user's ID so it can be loaded by primary key
+ * and updated in place. Rows created before this scheme have random IDs and are
+ * replaced the next time the user saves.
  */
 @Entity
 @Table(name = "profile_drafts")
@@ -31,10 +33,19 @@ import lombok.Setter;
 @Builder
 public class ProfileDraft {
 
+    /**
+     * Same value as the owning user's ID.
+     */
     @Id
-    @GeneratedValue
     private UUID id;
 
+    /**
+     * Draft version, incremented on every save and checked against If-Match.
+     * Assigned by {@code ProfileDraftWriteBuffer}, so buffered saves get their version
+     * before the row is written.
+     */
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,66 @@
+package co.immimate.profile.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A previous version of a user's form draft.
+ * Snapshots live in a fixed number of slots per draft and each save overwrites
+ * the oldest slot, so the history stays bounded without any cleanup queries.
+ */
+@Entity
+@Table(name = "profile_draft_history")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProfileDraftSnapshot {
+
+    /**
+     * Derived from the draft ID and slot, see {@link #idFor(UUID, int)}.
+     */
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID draftId;
+
+    @Column(nullable = false)
+    private int slot;
+
+    /**
+     * The draft version this snapshot was taken from.
+     */
+    @Column(nullable = false)
+    private Long draftVersion;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String formDataJson;
+
+    @Column(nullable = false)
+    private Instant capturedAt;
+
+    /**
+     * Get the stable ID of a history slot
+     * 
+     * @param draftId The draft ID
+     * @param slot The slot number
+     * @return The snapshot ID for that slot
+     */
+    public static UUID idFor(UUID draftId, int slot) {
+        return UUID.nameUUIDFromBytes((draftId + ":" + slot).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,10 +1,16 @@
 package co.immimate.profile.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.immimate.profile.model.ProfileDraft;
@@ -47,4 +53,58 @@ public interface ProfileDraftRepository extends JpaRepository<ProfileDraft, UUID
      * @return The most recent draft or empty if none exists
      */
     Optional<ProfileDraft> findFirstByUserEmailOrderByLastModifiedAtDesc(String userEmail);
-} 
\ No newline at end of file
+    
+    /**
+     * Delete a user's drafts other than the current one, such as rows left over
+     * from the append-only draft table.
+     * 
+     * @param user The user
+     * @param currentDraftId The ID of the draft to keep
+     * @return The number of deleted drafts
+     */
+    @Modifying
+    @Query("DELETE FROM ProfileDraft d WHERE d.user = :user AND d.id <> :currentDraftId")
+    int deleteOtherDrafts(@Param("user") User user, @Param("currentDraftId") UUID currentDraftId);
+    
+    /**
+     * Delete all drafts for a user by email.
+     * 
+     * @param userEmail The user's email
+     * @return The number of deleted drafts
+     */
+    @Modifying
+    @Query("DELETE FROM ProfileDraft d WHERE d.userEmail = :userEmail")
+    int deleteByUserEmail(@Param("userEmail") String userEmail);
+    
+    /**
+     * Find drafts that are not a user's latest draft: rows left over from the append-only
+     * draft table that have a newer draft, or the user's current draft, next to them.
+     * 
+     * @param page Limits the number of IDs returned
+     * @return IDs of superseded drafts
+     */
+    @Query("SELECT d.id FROM ProfileDraft d WHERE d.id <> d.user.id AND EXISTS ("
+            + "SELECT n.id FROM ProfileDraft n WHERE n.user = d.user AND n.id <> d.id "
+            + "AND (n.id = d.user.id OR n.lastModifiedAt > d.lastModifiedAt))")
+    List<UUID> findSupersededDraftIds(Pageable page);
+    
+    /**
+     * Find drafts that have not been saved since a cutoff.
+     * 
+     * @param cutoff Drafts last modified before this are returned
+     * @param page Limits the number of IDs returned
+     * @return IDs of stale drafts
+     */
+    @Query("SELECT d.id FROM ProfileDraft d WHERE d.lastModifiedAt < :cutoff")
+    List<UUID> findIdsLastModifiedBefore(@Param("cutoff") Instant cutoff, Pageable page);
+    
+    /**
+     * Delete drafts by ID.
+     * 
+     * @param ids The draft IDs
+     * @return The number of deleted drafts
+     */
+    @Modifying
+    @Query("DELETE FROM ProfileDraft d WHERE d.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,49 @@
+package co.immimate.profile.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.immimate.profile.model.ProfileDraftSnapshot;
+
+/**
+ * Repository for managing ProfileDraftSnapshot entities.
+ */
+@Repository
+public interface ProfileDraftSnapshotRepository extends JpaRepository<ProfileDraftSnapshot, UUID> {
+    
+    /**
+     * Find the history of a draft, newest first.
+     * 
+     * @param draftId The draft ID
+     * @return The snapshots of the draft
+     */
+    List<ProfileDraftSnapshot> findByDraftIdOrderByDraftVersionDesc(UUID draftId);
+    
+    /**
+     * Delete the history of every draft belonging to a user.
+     * 
+     * @param userEmail The user's email
+     * @return The number of deleted snapshots
+     */
+    @Modifying
+    @Query("DELETE FROM ProfileDraftSnapshot s WHERE s.draftId IN "
+            + "(SELECT d.id FROM ProfileDraft d WHERE d.userEmail = :userEmail)")
+    int deleteByUserEmail(@Param("userEmail") String userEmail);
+    
+    /**
+     * Delete the history of the given drafts.
+     * 
+     * @param draftIds The draft IDs
+     * @return The number of deleted snapshots
+     */
+    @Modifying
+    @Query("DELETE FROM ProfileDraftSnapshot s WHERE s.draftId IN :draftIds")
+    int deleteByDraftIds(@Param("draftIds") Collection<UUID> draftIds);
+}
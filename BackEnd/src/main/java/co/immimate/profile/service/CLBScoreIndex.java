@@ -0,0 +1,253 @@
+package co.immimate.profile.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import co.immimate.profile.dto.CLBConversionResponse;
+
+/**
+ * Immutable lookup index compiled from the CLB conversion tables.
+ * Each test type and skill gets a normalized exact-match map plus sorted primitive
+ * boundary arrays, so a score resolves with one hash lookup or one binary search
+ * instead of re-parsing every range string on each request.
+ */
+public final class CLBScoreIndex {
+
+    // Matching tolerance for decimal band scores such as IELTS "6.5"
+    private static final double EPSILON = 0.001;
+
+    // Score formats
+    private static final String RANGE_SEPARATOR = "-";
+    // Longest score accepted by lookup; real scores and ranges ("217-248", "6.5") are far shorter
+    private static final int MAX_SCORE_LENGTH = 32;
+
+    // Test types
+    private static final String TEST_CELPIP = "CELPIP";
+    private static final String TEST_IELTS = "IELTS";
+    private static final String TEST_PTE = "PTE";
+    private static final String TEST_TEF = "TEF";
+    private static final String TEST_TCF = "TCF";
+
+    private final Map<String, Map<String, SkillIndex>> tests;
+
+    private CLBScoreIndex(Map<String, Map<String, SkillIndex>> tests) {
+        this.tests = tests;
+    }
+
+    /**
+     * Compile an index from the structured conversion tables
+     * @param tables The conversion tables keyed by test, skill and score
+     * @return The compiled index
+     */
+    public static CLBScoreIndex compile(CLBConversionResponse tables) {
+        Map<String, Map<String, SkillIndex>> tests = new HashMap<>();
+        tests.put(TEST_CELPIP, compileTest(tables.getCelpip()));
+        tests.put(TEST_IELTS, compileTest(tables.getIelts()));
+        tests.put(TEST_PTE, compileTest(tables.getPte()));
+        tests.put(TEST_TEF, compileTest(tables.getTef()));
+        tests.put(TEST_TCF, compileTest(tables.getTcf()));
+        return new CLBScoreIndex(Collections.unmodifiableMap(tests));
+    }
+
+    /**
+     * Check whether the index knows a test type and skill
+     * @param testType The language test type (case-insensitive)
+     * @param skill The language skill (case-insensitive)
+     * @return True if the test type and skill are indexed
+     */
+    public boolean supports(String testType, String skill) {
+        return skillIndex(testType, skill) != null;
+    }
+
+    /**
+     * Resolve a score to its CLB level
+     * @param testType The language test type (CELPIP, IELTS, etc.)
+     * @param skill The language skill (listening, reading, etc.)
+     * @param score A single score ("7.0") or a score range ("217-248")
+     * @return The CLB level or null if the score does not match any band
+     */
+    public Integer lookup(String testType, String skill, String score) {
+        if (score == null) {
+            return null;
+        }
+        SkillIndex index = skillIndex(testType, skill);
+        if (index == null) {
+            return null;
+        }
+
+        String trimmed = score.trim();
+        if (trimmed.length() > MAX_SCORE_LENGTH) {
+            return null;
+        }
+        Integer exact = index.exact.get(trimmed);
+        if (exact != null) {
+            return exact;
+        }
+
+        String normalized = normalizeKey(trimmed);
+        if (normalized != null) {
+            exact = index.exact.get(normalized);
+            if (exact != null) {
+                return exact;
+            }
+        }
+
+        int separator = trimmed.indexOf(RANGE_SEPARATOR, 1);
+        if (separator > 0) {
+            Double min = parse(trimmed.substring(0, separator));
+            Double max = parse(trimmed.substring(separator + 1));
+            return min == null || max == null ? null : index.findOverlap(min, max);
+        }
+
+        Double value = parse(trimmed);
+        return value == null ? null : index.findContaining(value);
+    }
+
+    private SkillIndex skillIndex(String testType, String skill) {
+        if (testType == null || skill == null) {
+            return null;
+        }
+        Map<String, SkillIndex> skills = tests.get(testType.toUpperCase());
+        return skills == null ? null : skills.get(skill.toLowerCase());
+    }
+
+    private static Map<String, SkillIndex> compileTest(Map<String, Map<String, Object>> testTable) {
+        Map<String, SkillIndex> skills = new HashMap<>();
+        if (testTable != null) {
+            for (Map.Entry<String, Map<String, Object>> entry : testTable.entrySet()) {
+                skills.put(entry.getKey().toLowerCase(), SkillIndex.compile(entry.getValue()));
+            }
+        }
+        return Collections.unmodifiableMap(skills);
+    }
+
+    /**
+     * Normalize a score or score range so "7", "7.0" and "7.00" share one key
+     * @param key The raw score key
+     * @return The normalized key, or null if it is not a finite number
+     */
+    static String normalizeKey(String key) {
+        int separator = key.indexOf(RANGE_SEPARATOR, 1);
+        if (separator > 0) {
+            String low = normalizeNumber(key.substring(0, separator));
+            String high = normalizeNumber(key.substring(separator + 1));
+            return low == null || high == null ? null : low + RANGE_SEPARATOR + high;
+        }
+        return normalizeNumber(key);
+    }
+
+    // Double.toString keeps the key short for any input, e.g. "1e100000000" parses to infinity and is rejected
+    private static String normalizeNumber(String value) {
+        Double number = parse(value);
+        return number == null || !Double.isFinite(number) ? null : Double.toString(number);
+    }
+
+    private static Double parse(String value) {
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Index for one test type and skill
+     */
+    private static final class SkillIndex {
+        private final Map<String, Integer> exact;
+        private final double[] lows;
+        private final double[] highs;
+        // Running maximum of highs, lets the search stop early even if bands overlap
+        private final double[] maxHighs;
+        private final int[] levels;
+
+        private SkillIndex(Map<String, Integer> exact, double[] lows, double[] highs, double[] maxHighs, int[] levels) {
+            this.exact = exact;
+            this.lows = lows;
+            this.highs = highs;
+            this.maxHighs = maxHighs;
+            this.levels = levels;
+        }
+
+        private static SkillIndex compile(Map<String, Object> scores) {
+            Map<String, Integer> exact = new HashMap<>();
+            List<double[]> bands = new ArrayList<>();
+
+            for (Map.Entry<String, Object> entry : scores.entrySet()) {
+                if (!(entry.getValue() instanceof Integer level)) {
+                    continue;
+                }
+                String key = entry.getKey().trim();
+                exact.put(key, level);
+                String normalized = normalizeKey(key);
+                if (normalized == null) {
+                    continue;
+                }
+                exact.putIfAbsent(normalized, level);
+
+                int separator = normalized.indexOf(RANGE_SEPARATOR, 1);
+                double low;
+                double high;
+                if (separator > 0) {
+                    low = Double.parseDouble(normalized.substring(0, separator));
+                    high = Double.parseDouble(normalized.substring(separator + 1));
+                } else {
+                    low = Double.parseDouble(normalized);
+                    high = low;
+                }
+                bands.add(new double[] { Math.min(low, high), Math.max(low, high), level });
+            }
+
+            bands.sort((a, b) -> a[0] != b[0] ? Double.compare(a[0], b[0]) : Double.compare(a[1], b[1]));
+
+            int size = bands.size();
+            double[] lows = new double[size];
+            double[] highs = new double[size];
+            double[] maxHighs = new double[size];
+            int[] levels = new int[size];
+            for (int i = 0; i < size; i++) {
+                double[] band = bands.get(i);
+                lows[i] = band[0];
+                highs[i] = band[1];
+                levels[i] = (int) band[2];
+                maxHighs[i] = i == 0 ? highs[i] : Math.max(maxHighs[i - 1], highs[i]);
+            }
+            return new SkillIndex(Collections.unmodifiableMap(exact), lows, highs, maxHighs, levels);
+        }
+
+        /**
+         * Find the band containing a single score
+         */
+        private Integer findContaining(double value) {
+            return findOverlap(value, value);
+        }
+
+        /**
+         * Find the band overlapping [min, max], searching from the highest band starting at or below max
+         */
+        private Integer findOverlap(double min, double max) {
+            for (int i = lastLowAtOrBelow(max + EPSILON); i >= 0 && maxHighs[i] >= min - EPSILON; i--) {
+                if (highs[i] >= min - EPSILON) {
+                    return levels[i];
+                }
+            }
+            return null;
+        }
+
+        private int lastLowAtOrBelow(double value) {
+            int index = Arrays.binarySearch(lows, value);
+            if (index >= 0) {
+                // Step past equal lows so the widest band with this lower bound is considered
+                while (index + 1 < lows.length && lows[index + 1] == value) {
+                    index++;
+                }
+                return index;
+            }
+            return -index - 2;
+        }
+    }
+}
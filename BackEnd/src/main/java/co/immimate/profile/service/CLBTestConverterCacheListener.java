@@ -0,0 +1,74 @@
+package co.immimate.profile.service;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.immimate.profile.model.CLBTestConverter;
+
+/**
+ * JPA entity listener that invalidates the CLB conversion caches whenever
+ * a clb_test_converter row is created, updated or deleted through JPA.
+ * Eviction is deferred until the transaction commits so a concurrent request
+ * cannot repopulate the cache with rows that are about to change, and runs at most
+ * once per transaction so a bulk re-seed clears the caches once instead of per row.
+ */
+public class CLBTestConverterCacheListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CLBTestConverterCacheListener.class);
+
+    // Log messages
+    private static final String LOG_ROW_CHANGED = "CLB conversion row {} changed, scheduling cache eviction";
+
+    // Transaction-bound flag, set once an eviction is registered for the current transaction
+    private static final String EVICTION_SCHEDULED_KEY = CLBTestConverterCacheListener.class.getName() + ".evictionScheduled";
+
+    @Autowired
+    private ObjectProvider<CLBTestConverterService> converterService;
+
+    /**
+     * Invalidate the caches after a conversion row is written or removed
+     * @param conversion The changed conversion row
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onConversionChanged(CLBTestConverter conversion) {
+        logger.debug(LOG_ROW_CHANGED, conversion.getId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (TransactionSynchronizationManager.hasResource(EVICTION_SCHEDULED_KEY)) {
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(EVICTION_SCHEDULED_KEY, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCaches();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EVICTION_SCHEDULED_KEY);
+                }
+            });
+        } else {
+            evictCaches();
+        }
+    }
+
+    /**
+     * Evict through the service proxy so the cache annotations apply
+     */
+    private void evictCaches() {
+        if (converterService != null) {
+            converterService.ifAvailable(CLBTestConverterService::evictConversionCaches);
+        }
+    }
+}
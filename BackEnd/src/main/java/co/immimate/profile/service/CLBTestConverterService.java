@@ -2,17 +2,33 @@ package co.immimate.profile.service;
 
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import co.immimate.config.CacheConfig;
+import co.immimate.profile.dto.CLBBatchConversionRequest;
+import co.immimate.profile.dto.CLBBatchConversionResponse;
 import co.immimate.profile.dto.CLBConversionResponse;
+import co.immimate.profile.dto.SerializedPayload;
 import co.immimate.profile.model.CLBTestConverter;
 import co.immimate.profile.repository.CLBTestConverterRepository;
 
@@ -25,12 +41,17 @@ public class CLBTestConverterService {
     private static final Logger logger = LoggerFactory.getLogger(CLBTestConverterService.class);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
-    // Cache names
-    private static final String CACHE_CLB_CONVERSIONS = "clbConversions";
-    
     // Log messages
     private static final String LOG_FETCHING_TABLES = "Fetching CLB conversion tables from database";
-    private static final String LOG_PARSING_ERROR = "Error parsing score as number: {}";
+    private static final String LOG_EVICTING_CACHES = "Evicting CLB conversion, score index, payload and score option caches";
+    private static final String LOG_SERIALIZING_PAYLOAD = "Serializing CLB {} payload";
+    private static final String LOG_WARMING_PAYLOADS = "Prebuilding CLB reference payloads";
+    private static final String LOG_WARMING_FAILED = "Could not prebuild CLB reference payloads, they will be built on first request: {}";
+    private static final String LOG_COMPILING_INDEX = "Compiling CLB score lookup index";
+    private static final String LOG_CONVERTING_SCORE = "Converting score: testType={}, skill={}, score={}";
+    private static final String LOG_UNKNOWN_TEST_OR_SKILL = "No conversion table found for test type {} and skill {}";
+    private static final String LOG_NO_MATCH = "No match found for score: {}";
+    private static final String LOG_BATCH_CONVERSION = "Converting {} language tests in one batch";
     
     // Test types
     private static final String TEST_CELPIP = "CELPIP";
@@ -50,11 +71,37 @@ public class CLBTestConverterService {
     
     // Special values
     private static final String NOT_APPLICABLE = "N/A";
+    private static final int UNCONVERTED_CLB_LEVEL = 0;
     private static final String RANGE_SEPARATOR = "-";
     
+    // Payload cache keys
+    private static final String PAYLOAD_CONVERSIONS = "conversions";
+    private static final String PAYLOAD_OPTIONS = "options";
+    private static final String ERROR_SERIALIZING_PAYLOAD = "Failed to serialize CLB %s payload";
+    
+    /**
+     * Orders score options by lower bound, then upper bound, so "9", "10" and "10-20"
+     * sort numerically; non-numeric options go last in lexicographic order
+     */
+    private static final Comparator<String> SCORE_OPTION_ORDER = Comparator
+            .comparing((String option) -> boundOf(option, true), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(option -> boundOf(option, false), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Comparator.naturalOrder());
+    
     @Autowired
     private CLBTestConverterRepository repository;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Proxied reference to this service so internal calls go through the cache.
+     * Null when the service is constructed outside of Spring (e.g. unit tests).
+     */
+    @Lazy
+    @Autowired
+    private CLBTestConverterService self;
+    
     /**
      * Get all CLB test conversions
      * @return List of CLB test converter entities
@@ -68,7 +115,7 @@ public class CLBTestConverterService {
      * Cached to improve performance
      * @return CLBConversionResponse with structured test conversion data
      */
-    @Cacheable(CACHE_CLB_CONVERSIONS)
+    @Cacheable(CacheConfig.CACHE_CLB_CONVERSIONS)
     public CLBConversionResponse getConversionTables() {
         logger.info(LOG_FETCHING_TABLES);
         List<CLBTestConverter> conversions = getAllConversions();
@@ -141,6 +188,77 @@ public class CLBTestConverterService {
         return response;
     }
     
+    /**
+     * Evict the cached conversion tables and score options.
+     * Called whenever clb_test_converter rows are created, updated or deleted.
+     */
+    @Caching(evict = {
+        @CacheEvict(value = CacheConfig.CACHE_CLB_CONVERSIONS, allEntries = true),
+        @CacheEvict(value = CacheConfig.CACHE_CLB_SCORE_INDEX, allEntries = true),
+        @CacheEvict(value = CacheConfig.CACHE_CLB_PAYLOADS, allEntries = true),
+        @CacheEvict(value = CacheConfig.CACHE_SCORING_OPTIONS, allEntries = true)
+    })
+    public void evictConversionCaches() {
+        logger.info(LOG_EVICTING_CACHES);
+    }
+    
+    /**
+     * Get the conversion tables pre-serialized to JSON with a strong ETag
+     * @return The serialized conversion tables
+     */
+    @Cacheable(value = CacheConfig.CACHE_CLB_PAYLOADS, key = "'" + PAYLOAD_CONVERSIONS + "'")
+    public SerializedPayload getConversionTablesPayload() {
+        return serialize(PAYLOAD_CONVERSIONS, cachedSelf().getConversionTables());
+    }
+    
+    /**
+     * Get the score options pre-serialized to JSON with a strong ETag
+     * @return The serialized score options
+     */
+    @Cacheable(value = CacheConfig.CACHE_CLB_PAYLOADS, key = "'" + PAYLOAD_OPTIONS + "'")
+    public SerializedPayload getScoreOptionsPayload() {
+        return serialize(PAYLOAD_OPTIONS, cachedSelf().getScoreOptions());
+    }
+    
+    /**
+     * Build the reference payloads at startup so the first requests are served from memory
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmReferencePayloads() {
+        logger.info(LOG_WARMING_PAYLOADS);
+        try {
+            cachedSelf().getConversionTablesPayload();
+            cachedSelf().getScoreOptionsPayload();
+        } catch (DataAccessException e) {
+            logger.warn(LOG_WARMING_FAILED, e.getMessage());
+        }
+    }
+    
+    /**
+     * Serialize a payload with map keys sorted so the ETag is stable across instances
+     * @param name The payload name used in logs and errors
+     * @param value The value to serialize
+     * @return The serialized payload
+     */
+    private SerializedPayload serialize(String name, Object value) {
+        logger.info(LOG_SERIALIZING_PAYLOAD, name);
+        try {
+            return SerializedPayload.of(objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(String.format(ERROR_SERIALIZING_PAYLOAD, name), e);
+        }
+    }
+    
+    /**
+     * Get the proxied service when available so cached methods are not bypassed
+     * @return The Spring proxy, or this instance outside of a Spring context
+     */
+    private CLBTestConverterService cachedSelf() {
+        return self != null ? self : this;
+    }
+    
     /**
      * Initialize skill maps for a test type
      * @param testMap The map to initialize with skills
@@ -174,6 +292,17 @@ public class CLBTestConverterService {
         }
     }
     
+    /**
+     * Get the compiled score lookup index built from the conversion tables.
+     * Cached alongside the tables and evicted with them.
+     * @return The compiled CLB score index
+     */
+    @Cacheable(CacheConfig.CACHE_CLB_SCORE_INDEX)
+    public CLBScoreIndex getScoreIndex() {
+        logger.info(LOG_COMPILING_INDEX);
+        return CLBScoreIndex.compile(cachedSelf().getConversionTables());
+    }
+    
     /**
      * Convert a test score to CLB level
      * @param testType The language test type (CELPIP, IELTS, etc.)
@@ -186,123 +315,67 @@ public class CLBTestConverterService {
             return null;
         }
         
-        logger.info("Converting score: testType={}, skill={}, score={}", testType, skill, score);
+        logger.debug(LOG_CONVERTING_SCORE, testType, skill, score);
         
-        CLBConversionResponse tables = getConversionTables();
-        Map<String, Map<String, Object>> testMap = getTestMap(tables, testType.toUpperCase());
-        if (testMap == null) {
-            logger.warn("No test map found for test type: {}", testType);
+        CLBScoreIndex index = cachedSelf().getScoreIndex();
+        if (!index.supports(testType, skill)) {
+            logger.warn(LOG_UNKNOWN_TEST_OR_SKILL, testType, skill);
             return null;
         }
         
-        Map<String, Object> skillMap = testMap.get(skill.toLowerCase());
-        if (skillMap == null) {
-            logger.warn("No skill map found for skill: {}", skill);
-            return null;
+        Integer clbLevel = index.lookup(testType, skill, score);
+        if (clbLevel == null) {
+            logger.warn(LOG_NO_MATCH, score);
         }
+        return clbLevel;
+    }
+    
+    /**
+     * Convert several language tests to CLB levels using a single index snapshot.
+     * Unconvertible scores map to 0, matching the single /convert endpoint. Keys that are not
+     * one of the four skills are left out, so they never lower the minimum.
+     * @param request The labelled tests and their per-skill scores
+     * @return CLB levels per test plus the lowest level across each test's skills
+     */
+    public CLBBatchConversionResponse convertBatch(CLBBatchConversionRequest request) {
+        logger.debug(LOG_BATCH_CONVERSION, request.getTests().size());
         
-        // First, try exact match
-        if (skillMap.containsKey(score)) {
-            logger.info("Found exact match for score: {}", score);
-            return (Integer) skillMap.get(score);
-        }
+        CLBScoreIndex index = cachedSelf().getScoreIndex();
+        Map<String, CLBBatchConversionResponse.TestResult> results = new LinkedHashMap<>();
         
-        // If the score itself contains a range (e.g., "217-248"), we need to match it against ranges in the map
-        if (score.contains(RANGE_SEPARATOR)) {
-            // The incoming score is already a range like "217-248", try direct lookup from the map
-            logger.info("Input score is a range: {}", score);
-            for (Map.Entry<String, Object> entry : skillMap.entrySet()) {
-                if (entry.getKey().equalsIgnoreCase(score)) {
-                    logger.info("Found range match for score: {}", score);
-                    return (Integer) entry.getValue();
-                }
-            }
+        for (CLBBatchConversionRequest.TestScores test : request.getTests()) {
+            Map<String, Integer> clbLevels = new LinkedHashMap<>();
+            Integer minimumClb = null;
             
-            // If no exact match for the range, try to see if the ranges overlap
-            try {
-                String[] inputRange = score.split(RANGE_SEPARATOR);
-                double inputMin = Double.parseDouble(inputRange[0]);
-                double inputMax = Double.parseDouble(inputRange[1]);
-                
-                for (Map.Entry<String, Object> entry : skillMap.entrySet()) {
-                    String key = entry.getKey();
-                    if (key.contains(RANGE_SEPARATOR)) {
-                        String[] mapRange = key.split(RANGE_SEPARATOR);
-                        double mapMin = Double.parseDouble(mapRange[0]);
-                        double mapMax = Double.parseDouble(mapRange[1]);
-                        
-                        // Check if ranges overlap significantly
-                        if ((inputMin >= mapMin && inputMin <= mapMax) ||
-                            (inputMax >= mapMin && inputMax <= mapMax) ||
-                            (mapMin >= inputMin && mapMin <= inputMax)) {
-                            logger.info("Found overlapping range match: {} overlaps with {}", score, key);
-                            return (Integer) entry.getValue();
-                        }
-                    }
+            for (Map.Entry<String, String> entry : test.getScores().entrySet()) {
+                String skill = entry.getKey().toLowerCase();
+                if (!CLBBatchConversionRequest.SKILLS.contains(skill)) {
+                    continue;
                 }
-            } catch (NumberFormatException e) {
-                logger.warn(LOG_PARSING_ERROR, score);
-            }
-        } else {
-            // Try to parse as number and match against ranges
-            try {
-                double numScore = Double.parseDouble(score);
-                logger.info("Trying numeric match for score: {}", numScore);
+                Integer clbLevel = index.lookup(test.getTestType(), skill, entry.getValue());
+                int level = clbLevel != null ? clbLevel : UNCONVERTED_CLB_LEVEL;
                 
-                for (Map.Entry<String, Object> entry : skillMap.entrySet()) {
-                    String key = entry.getKey();
-                    if (key.contains(RANGE_SEPARATOR)) {
-                        String[] range = key.split(RANGE_SEPARATOR);
-                        double min = Double.parseDouble(range[0]);
-                        double max = Double.parseDouble(range[1]);
-                        if (numScore >= min && numScore <= max) {
-                            logger.info("Found range match: {} is within {}-{}", numScore, min, max);
-                            return (Integer) entry.getValue();
-                        }
-                    } else {
-                        // Also check single values
-                        try {
-                            double mapValue = Double.parseDouble(key);
-                            if (Math.abs(numScore - mapValue) < 0.001) { // Use epsilon for floating point comparison
-                                logger.info("Found approximate match: {} ≈ {}", numScore, mapValue);
-                                return (Integer) entry.getValue();
-                            }
-                        } catch (NumberFormatException ignored) {
-                            // Not a number, ignore
-                        }
-                    }
-                }
-            } catch (NumberFormatException e) {
-                logger.warn(LOG_PARSING_ERROR, score);
+                clbLevels.put(skill, level);
+                minimumClb = minimumClb == null ? level : Math.min(minimumClb, level);
             }
+            
+            CLBBatchConversionResponse.TestResult result = new CLBBatchConversionResponse.TestResult();
+            result.setTestType(test.getTestType().toUpperCase());
+            result.setClbLevels(clbLevels);
+            result.setMinimumClb(minimumClb);
+            results.put(test.getLabel(), result);
         }
         
-        logger.warn("No match found for score: {}", score);
-        return null;
-    }
-    
-    /**
-     * Get the appropriate test map based on test type
-     * @param tables The conversion tables
-     * @param testType The test type
-     * @return The corresponding test map
-     */
-    private Map<String, Map<String, Object>> getTestMap(CLBConversionResponse tables, String testType) {
-        return switch (testType) {
-            case TEST_CELPIP -> tables.getCelpip();
-            case TEST_IELTS -> tables.getIelts();
-            case TEST_PTE -> tables.getPte();
-            case TEST_TEF -> tables.getTef();
-            case TEST_TCF -> tables.getTcf();
-            default -> null;
-        };
+        CLBBatchConversionResponse response = new CLBBatchConversionResponse();
+        response.setResults(results);
+        return response;
     }
     
     /**
      * Get all possible score options for each test type and skill
      * @return Map of test types to skills to score values
      */
-    @Cacheable("scoringOptions")
+    @Cacheable(CacheConfig.CACHE_SCORING_OPTIONS)
     public Map<String, Map<String, List<String>>> getScoreOptions() {
         List<CLBTestConverter> conversions = getAllConversions();
         Map<String, Map<String, List<String>>> result = new HashMap<>();
@@ -405,30 +478,24 @@ public class CLBTestConverterService {
      */
     private void sortAllOptions(Map<String, List<String>> optionsMap) {
         for (List<String> options : optionsMap.values()) {
-            // Sort numerically if possible, otherwise lexicographically
-            options.sort((a, b) -> {
-                try {
-                    // For single numeric values
-                    double aVal = Double.parseDouble(a);
-                    double bVal = Double.parseDouble(b);
-                    return Double.compare(aVal, bVal);
-                } catch (NumberFormatException e) {
-                    // For ranges, use string comparison as fallback
-                    if (a.contains(RANGE_SEPARATOR) && b.contains(RANGE_SEPARATOR)) {
-                        try {
-                            // Compare by lower range bound
-                            double aLower = Double.parseDouble(a.split(RANGE_SEPARATOR)[0]);
-                            double bLower = Double.parseDouble(b.split(RANGE_SEPARATOR)[0]);
-                            return Double.compare(aLower, bLower);
-                        } catch (NumberFormatException ex) {
-                            // Fall back to string comparison
-                            return a.compareTo(b);
-                        }
-                    } else {
-                        return a.compareTo(b);
-                    }
-                }
-            });
+            options.sort(SCORE_OPTION_ORDER);
+        }
+    }
+    
+    /**
+     * Parse one bound of a score option
+     * @param option A single score ("7.5") or a score range ("10-20")
+     * @param lower True for the lower bound, false for the upper bound
+     * @return The bound, or null if the option is not numeric
+     */
+    private static Double boundOf(String option, boolean lower) {
+        int separator = option.indexOf(RANGE_SEPARATOR, 1);
+        String bound = separator < 0 ? option
+                : lower ? option.substring(0, separator) : option.substring(separator + 1);
+        try {
+            return Double.valueOf(bound.trim());
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 } 
\ No newline at end of file
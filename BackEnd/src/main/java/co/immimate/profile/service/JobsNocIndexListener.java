@@ -0,0 +1,70 @@
+package co.immimate.profile.service;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.immimate.profile.model.JobsNoc;
+
+/**
+ * JPA entity listener that rebuilds the in-memory NOC index whenever
+ * a jobs_noc row is created, updated or deleted through JPA.
+ * The rebuild runs after commit so it reads the committed rows, and at most once per
+ * transaction so a re-seed or import of N rows triggers one reload instead of N.
+ */
+public class JobsNocIndexListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobsNocIndexListener.class);
+
+    // Log messages
+    private static final String LOG_ROW_CHANGED = "NOC row {} changed, scheduling NOC index refresh";
+
+    // Transaction-bound flag, set once a refresh is registered for the current transaction
+    private static final String REFRESH_SCHEDULED_KEY = JobsNocIndexListener.class.getName() + ".refreshScheduled";
+
+    @Autowired
+    private ObjectProvider<NocIndexService> nocIndexService;
+
+    /**
+     * Refresh the index after a NOC row is written or removed
+     * @param jobsNoc The changed NOC row
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onJobsNocChanged(JobsNoc jobsNoc) {
+        logger.debug(LOG_ROW_CHANGED, jobsNoc.getNocCode());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (TransactionSynchronizationManager.hasResource(REFRESH_SCHEDULED_KEY)) {
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(REFRESH_SCHEDULED_KEY, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshIndex();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(REFRESH_SCHEDULED_KEY);
+                }
+            });
+        } else {
+            refreshIndex();
+        }
+    }
+
+    private void refreshIndex() {
+        if (nocIndexService != null) {
+            nocIndexService.ifAvailable(NocIndexService::refresh);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package co.immimate.profile.service;
+
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import co.immimate.profile.exception.InvalidDraftPatchException;
+
+/**
+ * Applies RFC 6902 JSON Patch documents to Jackson trees.
+ * Supports add, remove, replace, move, copy and test. The patch is applied to a copy,
+ * so the input document is left untouched when an operation fails.
+ */
+public final class JsonPatchApplier {
+
+    // Upper bound on operations per patch, a full draft save is cheaper beyond this
+    public static final int MAX_OPERATIONS = 1000;
+
+    // Operation fields
+    private static final String FIELD_OP = "op";
+    private static final String FIELD_PATH = "path";
+    private static final String FIELD_FROM = "from";
+    private static final String FIELD_VALUE = "value";
+
+    // Operation names
+    private static final String OP_ADD = "add";
+    private static final String OP_REMOVE = "remove";
+    private static final String OP_REPLACE = "replace";
+    private static final String OP_MOVE = "move";
+    private static final String OP_COPY = "copy";
+    private static final String OP_TEST = "test";
+
+    // Array index segments: "-" appends, otherwise a non-negative integer without leading zeros
+    private static final String APPEND_INDEX = "-";
+    private static final Pattern ARRAY_INDEX = Pattern.compile("0|[1-9][0-9]{0,8}");
+
+    // Error messages
+    private static final String ERR_NOT_ARRAY = "Patch must be a JSON array of operations";
+    private static final String ERR_TOO_MANY_OPERATIONS = "Patch has more than " + MAX_OPERATIONS + " operations";
+    private static final String ERR_NOT_OBJECT = "Patch operation %d must be a JSON object";
+    private static final String ERR_MISSING_FIELD = "Patch operation %d is missing '%s'";
+    private static final String ERR_UNKNOWN_OP = "Patch operation %d has unknown op '%s'";
+    private static final String ERR_INVALID_POINTER = "Invalid JSON pointer '%s'";
+    private static final String ERR_PATH_NOT_FOUND = "Path '%s' does not exist";
+    private static final String ERR_INVALID_INDEX = "Invalid array index in path '%s'";
+    private static final String ERR_REMOVE_ROOT = "Cannot remove the whole document";
+    private static final String ERR_MOVE_INTO_CHILD = "Cannot move '%s' into its own child '%s'";
+    private static final String ERR_TEST_FAILED = "Test failed at path '%s'";
+
+    private JsonPatchApplier() {
+    }
+
+    /**
+     * Apply a patch to a document
+     * @param document The document to patch, not modified
+     * @param patch The JSON Patch operations array
+     * @return The patched document
+     * @throws InvalidDraftPatchException If the patch is malformed or cannot be applied
+     */
+    public static JsonNode apply(JsonNode document, JsonNode patch) {
+        if (patch == null || !patch.isArray()) {
+            throw new InvalidDraftPatchException(ERR_NOT_ARRAY);
+        }
+        if (patch.size() > MAX_OPERATIONS) {
+            throw new InvalidDraftPatchException(ERR_TOO_MANY_OPERATIONS);
+        }
+
+        JsonNode result = document.deepCopy();
+        for (int i = 0; i < patch.size(); i++) {
+            result = applyOperation(result, patch.get(i), i);
+        }
+        return result;
+    }
+
+    private static JsonNode applyOperation(JsonNode root, JsonNode operation, int index) {
+        if (!operation.isObject()) {
+            throw new InvalidDraftPatchException(String.format(ERR_NOT_OBJECT, index));
+        }
+        String op = requiredText(operation, FIELD_OP, index);
+        String path = requiredText(operation, FIELD_PATH, index);
+        JsonPointer pointer = pointer(path);
+
+        switch (op) {
+            case OP_ADD:
+                return add(root, pointer, requiredValue(operation, index).deepCopy());
+            case OP_REMOVE:
+                remove(root, pointer);
+                return root;
+            case OP_REPLACE: {
+                JsonNode value = requiredValue(operation, index).deepCopy();
+                if (pointer.matches()) {
+                    return value;
+                }
+                remove(root, pointer);
+                return add(root, pointer, value);
+            }
+            case OP_MOVE: {
+                String from = requiredText(operation, FIELD_FROM, index);
+                if (path.startsWith(from + "/")) {
+                    throw new InvalidDraftPatchException(String.format(ERR_MOVE_INTO_CHILD, from, path));
+                }
+                JsonPointer fromPointer = pointer(from);
+                JsonNode value = get(root, fromPointer);
+                if (from.equals(path)) {
+                    return root;
+                }
+                remove(root, fromPointer);
+                return add(root, pointer, value);
+            }
+            case OP_COPY: {
+                JsonPointer fromPointer = pointer(requiredText(operation, FIELD_FROM, index));
+                return add(root, pointer, get(root, fromPointer).deepCopy());
+            }
+            case OP_TEST:
+                if (!get(root, pointer).equals(requiredValue(operation, index))) {
+                    throw new InvalidDraftPatchException(String.format(ERR_TEST_FAILED, path));
+                }
+                return root;
+            default:
+                throw new InvalidDraftPatchException(String.format(ERR_UNKNOWN_OP, index, op));
+        }
+    }
+
+    private static JsonNode add(JsonNode root, JsonPointer pointer, JsonNode value) {
+        if (pointer.matches()) {
+            return value;
+        }
+        JsonNode parent = root.at(pointer.head());
+        String segment = pointer.last().getMatchingProperty();
+
+        if (parent instanceof ObjectNode object) {
+            object.set(segment, value);
+        } else if (parent instanceof ArrayNode array) {
+            if (APPEND_INDEX.equals(segment)) {
+                array.add(value);
+            } else {
+                array.insert(arrayIndex(pointer, segment, array.size()), value);
+            }
+        } else {
+            throw new InvalidDraftPatchException(String.format(ERR_PATH_NOT_FOUND, pointer));
+        }
+        return root;
+    }
+
+    private static void remove(JsonNode root, JsonPointer pointer) {
+        if (pointer.matches()) {
+            throw new InvalidDraftPatchException(ERR_REMOVE_ROOT);
+        }
+        JsonNode parent = root.at(pointer.head());
+        String segment = pointer.last().getMatchingProperty();
+
+        if (parent instanceof ObjectNode object && object.has(segment)) {
+            object.remove(segment);
+        } else if (parent instanceof ArrayNode array) {
+            array.remove(arrayIndex(pointer, segment, array.size() - 1));
+        } else {
+            throw new InvalidDraftPatchException(String.format(ERR_PATH_NOT_FOUND, pointer));
+        }
+    }
+
+    private static JsonNode get(JsonNode root, JsonPointer pointer) {
+        JsonNode node = root.at(pointer);
+        if (node.isMissingNode()) {
+            throw new InvalidDraftPatchException(String.format(ERR_PATH_NOT_FOUND, pointer));
+        }
+        return node;
+    }
+
+    /**
+     * Parse an array index segment, allowing 0..maxIndex
+     */
+    private static int arrayIndex(JsonPointer pointer, String segment, int maxIndex) {
+        if (!ARRAY_INDEX.matcher(segment).matches()) {
+            throw new InvalidDraftPatchException(String.format(ERR_INVALID_INDEX, pointer));
+        }
+        int index = Integer.parseInt(segment);
+        if (index > maxIndex) {
+            throw new InvalidDraftPatchException(String.format(ERR_PATH_NOT_FOUND, pointer));
+        }
+        return index;
+    }
+
+    private static JsonPointer pointer(String path) {
+        try {
+            return JsonPointer.compile(path);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDraftPatchException(String.format(ERR_INVALID_POINTER, path), e);
+        }
+    }
+
+    private static String requiredText(JsonNode operation, String field, int index) {
+        JsonNode value = operation.get(field);
+        if (value == null || !value.isTextual()) {
+            throw new InvalidDraftPatchException(String.format(ERR_MISSING_FIELD, index, field));
+        }
+        return value.asText();
+    }
+
+    private static JsonNode requiredValue(JsonNode operation, int index) {
+        JsonNode value = operation.get(FIELD_VALUE);
+        if (value == null) {
+            throw new InvalidDraftPatchException(String.format(ERR_MISSING_FIELD, index, FIELD_VALUE));
+        }
+        return value;
+    }
+}
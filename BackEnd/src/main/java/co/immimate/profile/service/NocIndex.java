@@ -0,0 +1,270 @@
+package co.immimate.profile.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import co.immimate.profile.dto.NocSearchResult;
+import co.immimate.profile.model.JobsNoc;
+
+/**
+ * Immutable in-memory index of NOC codes, their TEER categories and job titles.
+ * Codes are kept in a sorted primitive array so a lookup is one binary search
+ * with no boxing and no database round trip. Job title words and zero-padded
+ * codes are kept in sorted arrays as well, so a prefix search is a binary search
+ * to the first match followed by a scan of the matching range.
+ */
+public final class NocIndex {
+
+    // Marker for a NOC row without a TEER category
+    private static final int NO_TEER = -1;
+
+    // NOC 2021 codes are five digits, e.g. 00010
+    private static final String CODE_FORMAT = "%05d";
+
+    // Query and title tokenization
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+
+    // Ranking weights
+    private static final int SCORE_EXACT_CODE = 1000;
+    private static final int SCORE_CODE_PREFIX = 500;
+    private static final int SCORE_TITLE_PREFIX = 100;
+    private static final int SCORE_WHOLE_WORD = 10;
+    private static final int SCORE_WORD_PREFIX = 5;
+
+    private static final NocIndex EMPTY = of(List.of());
+
+    private final int[] nocCodes;
+    private final int[] teerCategories;
+    private final String[] jobTitles;
+
+    // Search structures
+    private final String[] normalizedTitles;
+    private final String[] codeStrings;
+    private final String[] words;
+    private final int[][] wordPostings;
+
+    private NocIndex(int[] nocCodes, int[] teerCategories, String[] jobTitles) {
+        this.nocCodes = nocCodes;
+        this.teerCategories = teerCategories;
+        this.jobTitles = jobTitles;
+
+        int size = nocCodes.length;
+        this.normalizedTitles = new String[size];
+        // Codes are sorted numerically, and zero-padded strings sort the same way
+        this.codeStrings = new String[size];
+        Map<String, List<Integer>> postings = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            normalizedTitles[i] = normalize(jobTitles[i]);
+            codeStrings[i] = String.format(CODE_FORMAT, nocCodes[i]);
+            for (String word : tokenize(normalizedTitles[i])) {
+                List<Integer> positions = postings.computeIfAbsent(word, key -> new ArrayList<>());
+                if (positions.isEmpty() || positions.get(positions.size() - 1) != i) {
+                    positions.add(i);
+                }
+            }
+        }
+        this.words = postings.keySet().toArray(new String[0]);
+        this.wordPostings = postings.values().stream()
+                .map(positions -> positions.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+    }
+
+    /**
+     * Get an index with no entries
+     * @return The empty index
+     */
+    public static NocIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build an index from NOC rows; rows without a NOC code are skipped
+     * and the last row wins when a code appears twice
+     * @param rows The NOC rows
+     * @return The compiled index
+     */
+    public static NocIndex of(List<JobsNoc> rows) {
+        JobsNoc[] sorted = rows.stream()
+                .filter(row -> row.getNocCode() != null)
+                .sorted((a, b) -> Integer.compare(a.getNocCode(), b.getNocCode()))
+                .toArray(JobsNoc[]::new);
+
+        int[] codes = new int[sorted.length];
+        int[] teers = new int[sorted.length];
+        String[] titles = new String[sorted.length];
+        int size = 0;
+        for (JobsNoc row : sorted) {
+            if (size > 0 && codes[size - 1] == row.getNocCode()) {
+                size--;
+            }
+            codes[size] = row.getNocCode();
+            teers[size] = row.getTeerCategory() != null ? row.getTeerCategory() : NO_TEER;
+            titles[size] = row.getJobTitle() != null ? row.getJobTitle() : "";
+            size++;
+        }
+        return new NocIndex(Arrays.copyOf(codes, size), Arrays.copyOf(teers, size), Arrays.copyOf(titles, size));
+    }
+
+    /**
+     * Get the TEER category for a NOC code
+     * @param nocCode The NOC code
+     * @return The TEER category, or null if the code is unknown or has no category
+     */
+    public Integer findTeerCategory(int nocCode) {
+        int position = Arrays.binarySearch(nocCodes, nocCode);
+        return position < 0 || teerCategories[position] == NO_TEER ? null : teerCategories[position];
+    }
+
+    /**
+     * Get the job title for a NOC code
+     * @param nocCode The NOC code
+     * @return The job title, or null if the code is unknown
+     */
+    public String findJobTitle(int nocCode) {
+        int position = Arrays.binarySearch(nocCodes, nocCode);
+        return position < 0 ? null : jobTitles[position];
+    }
+
+    /**
+     * Get the number of indexed NOC codes
+     * @return The index size
+     */
+    public int size() {
+        return nocCodes.length;
+    }
+
+    /**
+     * Search job titles and NOC codes as the user types.
+     * A numeric query matches code prefixes; otherwise every query word must
+     * prefix a word of the title. Exact codes rank first, then titles starting
+     * with the query, then titles with more whole-word matches, then shorter titles.
+     * Only the top results are kept while scanning, so the cost is bounded by the
+     * number of matches rather than by sorting them.
+     * @param query The search text, e.g. "soft eng" or "2123"
+     * @param limit The maximum number of results
+     * @return The best matches, best first
+     */
+    public List<NocSearchResult> search(String query, int limit) {
+        String normalizedQuery = normalize(query).trim();
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[] scores = new int[nocCodes.length];
+        boolean codeQuery = DIGITS.matcher(normalizedQuery).matches();
+        BitSet matches = codeQuery ? matchCode(normalizedQuery, scores) : matchWords(normalizedQuery, scores);
+
+        // Code matches list in code order; title matches prefer shorter, more specific titles
+        Comparator<Integer> byCode = Comparator.<Integer>comparingInt(position -> nocCodes[position]).reversed();
+        Comparator<Integer> ranking = Comparator.<Integer>comparingInt(position -> scores[position])
+                .thenComparing(codeQuery ? byCode
+                        : Comparator.<Integer>comparingInt(position -> jobTitles[position].length()).reversed()
+                                .thenComparing(byCode));
+
+        // Bounded min-heap: the weakest of the current top-K sits at the head
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, ranking);
+        for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+            top.offer(position);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        NocSearchResult[] results = new NocSearchResult[top.size()];
+        for (int i = results.length - 1; i >= 0; i--) {
+            results[i] = toResult(top.poll());
+        }
+        return List.of(results);
+    }
+
+    private BitSet matchCode(String query, int[] scores) {
+        BitSet matches = new BitSet(nocCodes.length);
+        for (int i = lowerBound(codeStrings, query); i < codeStrings.length && codeStrings[i].startsWith(query); i++) {
+            matches.set(i);
+            scores[i] = codeStrings[i].length() == query.length() ? SCORE_EXACT_CODE : SCORE_CODE_PREFIX;
+        }
+        return matches;
+    }
+
+    private BitSet matchWords(String query, int[] scores) {
+        BitSet matches = null;
+        for (String token : tokenize(query)) {
+            BitSet tokenMatches = new BitSet(nocCodes.length);
+            BitSet wholeWordMatches = new BitSet(nocCodes.length);
+            for (int i = lowerBound(words, token); i < words.length && words[i].startsWith(token); i++) {
+                for (int position : wordPostings[i]) {
+                    tokenMatches.set(position);
+                }
+                if (words[i].length() == token.length()) {
+                    for (int position : wordPostings[i]) {
+                        wholeWordMatches.set(position);
+                    }
+                }
+            }
+            // Count each query word once per title, at its best weight
+            for (int position = tokenMatches.nextSetBit(0); position >= 0; position = tokenMatches.nextSetBit(position + 1)) {
+                scores[position] += wholeWordMatches.get(position) ? SCORE_WHOLE_WORD : SCORE_WORD_PREFIX;
+            }
+            if (matches == null) {
+                matches = tokenMatches;
+            } else {
+                matches.and(tokenMatches);
+            }
+        }
+        if (matches == null) {
+            return new BitSet();
+        }
+        for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+            if (normalizedTitles[position].startsWith(query)) {
+                scores[position] += SCORE_TITLE_PREFIX;
+            }
+        }
+        return matches;
+    }
+
+    private NocSearchResult toResult(int position) {
+        NocSearchResult result = new NocSearchResult();
+        result.setNocCode(nocCodes[position]);
+        result.setTeerCategory(teerCategories[position] == NO_TEER ? null : teerCategories[position]);
+        result.setJobTitle(jobTitles[position]);
+        return result;
+    }
+
+    /**
+     * Find the first position whose value is greater than or equal to the key
+     */
+    private static int lowerBound(String[] sorted, String key) {
+        int position = Arrays.binarySearch(sorted, key);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Lower-case and strip accents so "Maîtres d'hôtel" matches "maitres d'hotel"
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase();
+    }
+
+    private static List<String> tokenize(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
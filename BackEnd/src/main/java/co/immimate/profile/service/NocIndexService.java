@@ -0,0 +1,138 @@
+package co.immimate.profile.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.immimate.profile.dto.NocSearchResult;
+import co.immimate.profile.model.JobsNoc;
+import co.immimate.profile.repository.JobsNocRepository;
+
+/**
+ * Holds the NOC/TEER reference data in memory.
+ * The index is loaded from the jobs_noc table at startup and rebuilt whenever a row
+ * changes through JPA (see {@link JobsNocIndexListener}). If the table cannot be read,
+ * the bundled reference-data/jobs.json snapshot is used until the next refresh.
+ */
+@Service
+public class NocIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NocIndexService.class);
+
+    // Bundled snapshot of the jobs_noc table
+    private static final String JOBS_RESOURCE = "reference-data/jobs.json";
+    private static final String FIELD_NOC = "NOC";
+    private static final String FIELD_TEER = "TEER";
+    private static final String FIELD_JOB_TITLE = "Job Title";
+
+    // Log messages
+    private static final String LOG_INDEX_LOADED = "Loaded NOC index with {} codes from {}";
+    private static final String LOG_DATABASE_UNAVAILABLE = "Could not load NOC codes from the database: {}";
+    private static final String LOG_SNAPSHOT_FAILED = "Could not load bundled NOC snapshot {}";
+    private static final String SOURCE_DATABASE = "database";
+    private static final String SOURCE_SNAPSHOT = "bundled snapshot";
+
+    @Autowired
+    private JobsNocRepository jobsNocRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private volatile NocIndex index;
+
+    /**
+     * Load the index once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Rebuild the index from the jobs_noc table, keeping the bundled snapshot
+     * (or the previous index) when the table is unavailable or empty
+     */
+    public synchronized void refresh() {
+        try {
+            List<JobsNoc> rows = jobsNocRepository.findAll();
+            if (!rows.isEmpty()) {
+                index = NocIndex.of(rows);
+                logger.info(LOG_INDEX_LOADED, index.size(), SOURCE_DATABASE);
+                return;
+            }
+        } catch (DataAccessException e) {
+            logger.warn(LOG_DATABASE_UNAVAILABLE, e.getMessage());
+        }
+        if (index == null || index.size() == 0) {
+            index = loadSnapshot();
+            logger.info(LOG_INDEX_LOADED, index.size(), SOURCE_SNAPSHOT);
+        }
+    }
+
+    /**
+     * Get the current index, loading it on first use
+     * @return The current NOC index
+     */
+    public NocIndex getIndex() {
+        NocIndex current = index;
+        if (current == null) {
+            refresh();
+            current = index;
+        }
+        return current;
+    }
+
+    /**
+     * Get the TEER category for a NOC code
+     * @param nocCode The NOC code, may be null
+     * @return The TEER category, or null if the code is null or unknown
+     */
+    public Integer findTeerCategory(Integer nocCode) {
+        return nocCode == null ? null : getIndex().findTeerCategory(nocCode);
+    }
+
+    /**
+     * Search occupations by job title words or NOC code prefix
+     * @param query The search text
+     * @param limit The maximum number of results
+     * @return The best matches, best first
+     */
+    public List<NocSearchResult> search(String query, int limit) {
+        return getIndex().search(query, limit);
+    }
+
+    /**
+     * Read the bundled jobs.json snapshot
+     * @return The snapshot index, or an empty index if it cannot be read
+     */
+    private NocIndex loadSnapshot() {
+        try (InputStream input = new ClassPathResource(JOBS_RESOURCE).getInputStream()) {
+            List<JobsNoc> rows = new ArrayList<>();
+            for (JsonNode node : objectMapper.readTree(input)) {
+                JsonNode teer = node.get(FIELD_TEER);
+                rows.add(new JobsNoc(
+                        node.path(FIELD_NOC).asInt(),
+                        teer == null || teer.isNull() ? null : teer.asInt(),
+                        node.path(FIELD_JOB_TITLE).asText(null),
+                        null));
+            }
+            return NocIndex.of(rows);
+        } catch (IOException e) {
+            logger.error(LOG_SNAPSHOT_FAILED, JOBS_RESOURCE, e);
+            return NocIndex.empty();
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package co.immimate.profile.service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.immimate.config.MetricsSource;
+import co.immimate.profile.exception.DraftVersionConflictException;
+import co.immimate.profile.model.ProfileDraft;
+import co.immimate.profile.model.ProfileDraftSnapshot;
+import co.immimate.profile.repository.ProfileDraftRepository;
+import co.immimate.profile.repository.ProfileDraftSnapshotRepository;
+import co.immimate.user.model.User;
+
+/**
+ * Write-behind buffer for profile drafts.
+ * Keeps the latest draft per user in memory and writes it to the database once the user
+ * has been idle for a moment or the draft has waited for the maximum delay, so a burst of
+ * autosaves costs one database write. Only unflushed drafts are the source of truth for reads
+ * and version checks; once written they are dropped and the database is read again, so another
+ * instance's writes are never hidden behind a stale copy. Pending drafts are flushed on shutdown.
+ * A buffered draft that cannot be written because the stored draft changed meanwhile is kept as a
+ * conflict: the next save or patch is rejected and the next read reports the unsaved edits.
+ * With write-behind disabled every update is written through synchronously, one at a time per draft.
+ */
+@Component
+public class ProfileDraftWriteBuffer implements MetricsSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileDraftWriteBuffer.class);
+
+    // Scheduler settings
+    private static final String THREAD_NAME = "draft-write-behind";
+    private static final long TICK_MS = 500;
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+
+    // First version of a new draft, same as a JPA @Version column
+    private static final long INITIAL_VERSION = 0L;
+
+    // Lock stripes serializing updates of the same draft
+    private static final int WRITE_LOCK_STRIPES = 64;
+
+    // Metric names
+    private static final String METRICS_NAME = "profileDraftWriteBuffer";
+    private static final String METRIC_SUBMITTED = "submitted";
+    private static final String METRIC_COALESCED = "coalesced";
+    private static final String METRIC_FLUSHED = "flushed";
+    private static final String METRIC_FLUSH_FAILURES = "flushFailures";
+    private static final String METRIC_CONFLICTS = "conflicts";
+    private static final String METRIC_PENDING = "pending";
+    private static final String METRIC_UNRESOLVED_CONFLICTS = "unresolvedConflicts";
+    private static final String METRIC_BUFFERED_USERS = "bufferedUsers";
+
+    // Log messages
+    private static final String LOG_STARTED = "Draft write-behind enabled: idle flush {} ms, max delay {} ms";
+    private static final String LOG_FLUSH_FAILED = "Failed to flush profile draft for user {}, will retry";
+    private static final String LOG_FLUSH_CONFLICT = "Buffered profile draft for user {} conflicts with the stored draft, "
+            + "keeping it until the user is told: {}";
+    private static final String LOG_REPLACED_LEGACY_DRAFTS = "Replaced {} legacy draft rows for user {}";
+    private static final String LOG_SHUTDOWN_FLUSH = "Flushing {} pending profile drafts before shutdown";
+    private static final String LOG_SHUTDOWN_LOST = "{} profile drafts could not be flushed before shutdown";
+
+    private final ProfileDraftRepository profileDraftRepository;
+    private final ProfileDraftSnapshotRepository profileDraftSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<UUID, PendingDraft> drafts = new ConcurrentHashMap<>();
+    private final Object[] writeLocks = new Object[WRITE_LOCK_STRIPES];
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+
+    /**
+     * Buffer drafts in memory, false writes every update through.
+     */
+    @Value("${profile.draft.write-behind.enabled:false}")
+    private boolean writeBehind;
+
+    /**
+     * Flush a draft once its user has not saved for this long.
+     */
+    @Value("${profile.draft.write-behind.idle-flush-ms:2000}")
+    private long idleFlushMs;
+
+    /**
+     * Flush a draft at the latest this long after its first unflushed save.
+     */
+    @Value("${profile.draft.write-behind.max-delay-ms:10000}")
+    private long maxDelayMs;
+
+    /**
+     * Number of previous draft versions kept per user, 0 disables draft history.
+     */
+    @Value("${profile.draft.history-size:0}")
+    private int draftHistorySize;
+
+    private ScheduledExecutorService scheduler;
+
+    public ProfileDraftWriteBuffer(
+            ProfileDraftRepository profileDraftRepository,
+            ProfileDraftSnapshotRepository profileDraftSnapshotRepository,
+            PlatformTransactionManager transactionManager) {
+        this.profileDraftRepository = profileDraftRepository;
+        this.profileDraftSnapshotRepository = profileDraftSnapshotRepository;
+        // Own transaction, so a write-through commits before its draft lock is released
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < WRITE_LOCK_STRIPES; i++) {
+            writeLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Start the flush scheduler when write-behind is enabled
+     */
+    @PostConstruct
+    public void start() {
+        if (!writeBehind) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushDue, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        log.info(LOG_STARTED, idleFlushMs, maxDelayMs);
+    }
+
+    /**
+     * Stop the scheduler and write every pending draft
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+        }
+        long pending = countPending();
+        if (pending > 0) {
+            log.info(LOG_SHUTDOWN_FLUSH, pending);
+            flushAll();
+            long lost = countPending();
+            if (lost > 0) {
+                log.error(LOG_SHUTDOWN_LOST, lost);
+            }
+        }
+    }
+
+    /**
+     * Update a user's draft.
+     * The updater receives the current draft (buffered or stored, null if there is none)
+     * and returns the new form data JSON; it may throw to reject the update, leaving the
+     * draft unchanged. Updates for the same user are applied one at a time.
+     *
+     * @param user The draft owner
+     * @param userEmail The email stored with the draft
+     * @param updater Computes the new form data from the current draft
+     * @return The updated draft with its new version
+     * @throws DraftVersionConflictException If an earlier buffered save of this draft could not be
+     *         written and has not been reported to the user yet
+     */
+    public ProfileDraft update(User user, String userEmail, Function<ProfileDraft, String> updater) {
+        if (!writeBehind) {
+            return writeThrough(user, userEmail, updater);
+        }
+        UUID draftId = user.getId();
+        // The updater parses and serializes the whole form, so it runs under the draft's lock
+        // rather than inside the map, and the result is installed only if the entry is unchanged
+        synchronized (lockFor(draftId)) {
+            while (true) {
+                PendingDraft pending = drafts.get(draftId);
+                if (pending != null && pending.isConflicted()) {
+                    // The client was told this version was saved, it must reload before saving again
+                    throw new DraftVersionConflictException(pending.version, pending.conflictVersion);
+                }
+                ProfileDraft current = pending != null
+                        ? pending.toDraft()
+                        : profileDraftRepository.findById(draftId).orElse(null);
+                String formDataJson = updater.apply(current);
+
+                long now = System.currentTimeMillis();
+                long firstBufferedAt = pending != null ? pending.firstBufferedAt : now;
+                PendingDraft next = new PendingDraft(user, userEmail, formDataJson, nextVersion(current),
+                        firstBufferedAt, now, null);
+                boolean installed = pending != null
+                        ? drafts.replace(draftId, pending, next)
+                        : drafts.putIfAbsent(draftId, next) == null;
+                if (installed) {
+                    if (pending != null) {
+                        coalesced.increment();
+                    }
+                    submitted.increment();
+                    return next.toDraft();
+                }
+                // Flushed, discarded or marked conflicted meanwhile, start again from the new state
+            }
+        }
+    }
+
+    /**
+     * Load, update and write a draft in one transaction, holding the draft's lock until it commits
+     * so concurrent saves of the same draft reach the database in order
+     */
+    private ProfileDraft writeThrough(User user, String userEmail, Function<ProfileDraft, String> updater) {
+        UUID draftId = user.getId();
+        synchronized (lockFor(draftId)) {
+            ProfileDraft saved = transactionTemplate.execute(status -> {
+                ProfileDraft current = profileDraftRepository.findById(draftId).orElse(null);
+                String formDataJson = updater.apply(current);
+                long now = System.currentTimeMillis();
+                PendingDraft next = new PendingDraft(user, userEmail, formDataJson, nextVersion(current), now, now, null);
+                write(draftId, next);
+                return next.toDraft();
+            });
+            submitted.increment();
+            flushed.increment();
+            return saved;
+        }
+    }
+
+    private Object lockFor(UUID draftId) {
+        return writeLocks[Math.floorMod(draftId.hashCode(), WRITE_LOCK_STRIPES)];
+    }
+
+    private static long nextVersion(ProfileDraft current) {
+        return current == null || current.getVersion() == null ? INITIAL_VERSION : current.getVersion() + 1;
+    }
+
+    /**
+     * Get a user's unflushed draft
+     *
+     * @param draftId The draft ID, same as the user ID
+     * @return The buffered draft, or empty if the stored draft is current
+     */
+    public Optional<ProfileDraft> find(UUID draftId) {
+        PendingDraft pending = drafts.get(draftId);
+        return pending == null || pending.isConflicted() ? Optional.empty() : Optional.of(pending.toDraft());
+    }
+
+    /**
+     * Take a buffered draft that could not be written because the stored draft changed meanwhile.
+     * The conflict is reported once; afterwards saves are checked against the stored draft again.
+     *
+     * @param draftId The draft ID, same as the user ID
+     * @return The unsaved draft, or empty if there is no unreported conflict
+     */
+    public Optional<ProfileDraft> takeConflict(UUID draftId) {
+        PendingDraft pending = drafts.get(draftId);
+        if (pending == null || !pending.isConflicted() || !drafts.remove(draftId, pending)) {
+            return Optional.empty();
+        }
+        return Optional.of(pending.toDraft());
+    }
+
+    /**
+     * Drop a user's buffered draft without writing it, e.g. when the drafts are deleted
+     *
+     * @param draftId The draft ID, same as the user ID
+     */
+    public void discard(UUID draftId) {
+        drafts.remove(draftId);
+    }
+
+    /**
+     * Write every pending draft now
+     */
+    public void flushAll() {
+        drafts.forEach((draftId, pending) -> {
+            if (!pending.isConflicted()) {
+                flush(draftId, pending);
+            }
+        });
+    }
+
+    /**
+     * Write drafts that are idle or have waited for the maximum delay
+     */
+    void flushDue() {
+        long now = System.currentTimeMillis();
+        drafts.forEach((draftId, pending) -> {
+            if (!pending.isConflicted()
+                    && (now - pending.lastUpdatedAt >= idleFlushMs || now - pending.firstBufferedAt >= maxDelayMs)) {
+                flush(draftId, pending);
+            }
+        });
+    }
+
+    /**
+     * Write one pending draft and drop it unless a newer update replaced it meanwhile.
+     * Runs on the single scheduler thread (or at shutdown, after it stopped), so flushes never overlap.
+     */
+    private void flush(UUID draftId, PendingDraft pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(draftId, pending));
+        } catch (DraftVersionConflictException e) {
+            // Another instance or request wrote a newer version, retrying cannot succeed.
+            // A newer update that replaced this entry meanwhile conflicts on its own flush.
+            conflicts.increment();
+            drafts.replace(draftId, pending, pending.conflicted(e.getCurrentVersion()));
+            log.warn(LOG_FLUSH_CONFLICT, draftId, e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.error(LOG_FLUSH_FAILED, draftId, e);
+            return;
+        }
+        flushed.increment();
+        drafts.remove(draftId, pending);
+    }
+
+    private void write(UUID draftId, PendingDraft pending) {
+        Optional<ProfileDraft> stored = profileDraftRepository.findById(draftId);
+        ProfileDraft draft;
+        if (stored.isPresent()) {
+            draft = stored.get();
+            if (draft.getVersion() != null && draft.getVersion() >= pending.version) {
+                throw new DraftVersionConflictException(pending.version - 1, draft.getVersion());
+            }
+            recordDraftSnapshot(draft);
+        } else {
+            draft = ProfileDraft.builder()
+                    .id(draftId)
+                    .user(pending.user)
+                    .createdAt(Instant.ofEpochMilli(pending.firstBufferedAt))
+                    .build();
+        }
+
+        draft.setUserEmail(pending.userEmail);
+        draft.setFormDataJson(pending.formDataJson);
+        draft.setVersion(pending.version);
+        draft.setLastModifiedAt(Instant.ofEpochMilli(pending.lastUpdatedAt));
+        profileDraftRepository.save(draft);
+
+        if (stored.isEmpty()) {
+            // First save, or first save since drafts were append-only
+            int replaced = profileDraftRepository.deleteOtherDrafts(pending.user, draftId);
+            if (replaced > 0) {
+                log.info(LOG_REPLACED_LEGACY_DRAFTS, replaced, pending.userEmail);
+            }
+        }
+    }
+
+    /**
+     * Copy the stored draft content into the history ring before it is overwritten.
+     * Slot = version modulo history size, so the oldest snapshot is replaced in place.
+     */
+    private void recordDraftSnapshot(ProfileDraft draft) {
+        if (draftHistorySize <= 0 || draft.getVersion() == null) {
+            return;
+        }
+        int slot = (int) (draft.getVersion() % draftHistorySize);
+        profileDraftSnapshotRepository.save(ProfileDraftSnapshot.builder()
+                .id(ProfileDraftSnapshot.idFor(draft.getId(), slot))
+                .draftId(draft.getId())
+                .slot(slot)
+                .draftVersion(draft.getVersion())
+                .formDataJson(draft.getFormDataJson())
+                .capturedAt(Instant.now())
+                .build());
+    }
+
+    private long countPending() {
+        return drafts.values().stream().filter(pending -> !pending.isConflicted()).count();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return METRICS_NAME;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(METRIC_SUBMITTED, submitted.sum());
+        metrics.put(METRIC_COALESCED, coalesced.sum());
+        metrics.put(METRIC_FLUSHED, flushed.sum());
+        metrics.put(METRIC_FLUSH_FAILURES, flushFailures.sum());
+        metrics.put(METRIC_CONFLICTS, conflicts.sum());
+        metrics.put(METRIC_PENDING, countPending());
+        metrics.put(METRIC_UNRESOLVED_CONFLICTS, drafts.size() - countPending());
+        metrics.put(METRIC_BUFFERED_USERS, drafts.size());
+        return metrics;
+    }
+
+    /**
+     * Latest unflushed draft of one user. Immutable, so a flush can tell whether it was replaced meanwhile.
+     */
+    private static final class PendingDraft {
+        private final User user;
+        private final String userEmail;
+        private final String formDataJson;
+        private final long version;
+        private final long firstBufferedAt;
+        private final long lastUpdatedAt;
+        // Stored version that made the flush fail, null while the draft can still be written
+        private final Long conflictVersion;
+
+        private PendingDraft(User user, String userEmail, String formDataJson, long version,
+                long firstBufferedAt, long lastUpdatedAt, Long conflictVersion) {
+            this.user = user;
+            this.userEmail = userEmail;
+            this.formDataJson = formDataJson;
+            this.version = version;
+            this.firstBufferedAt = firstBufferedAt;
+            this.lastUpdatedAt = lastUpdatedAt;
+            this.conflictVersion = conflictVersion;
+        }
+
+        private boolean isConflicted() {
+            return conflictVersion != null;
+        }
+
+        private PendingDraft conflicted(Long storedVersion) {
+            return new PendingDraft(user, userEmail, formDataJson, version, firstBufferedAt, lastUpdatedAt,
+                    storedVersion != null ? storedVersion : version);
+        }
+
+        private ProfileDraft toDraft() {
+            return ProfileDraft.builder()
+                    .id(user.getId())
+                    .user(user)
+                    .userEmail(userEmail)
+                    .formDataJson(formDataJson)
+                    .version(version)
+                    .lastModifiedAt(Instant.ofEpochMilli(lastUpdatedAt))
+                    .build();
+        }
+    }
+}
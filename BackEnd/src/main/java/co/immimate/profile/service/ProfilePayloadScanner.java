@@ -0,0 +1,82 @@
+package co.immimate.profile.service;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Validates a profile JSON payload in a single streaming pass, picking up the fields the
+ * submission needs on the way. No tree is built, so large payloads are read with constant memory.
+ */
+public final class ProfilePayloadScanner {
+
+    // Fields picked up while scanning
+    private static final String FIELD_JOB_OFFER_NOC_CODE = "jobOfferNocCode";
+
+    private ProfilePayloadScanner() {
+    }
+
+    /**
+     * Scan a payload
+     * @param jsonFactory Factory of the shared ObjectMapper
+     * @param payload The JSON payload, may be null
+     * @return Whether the payload is well-formed JSON and the job offer NOC code found in it, if any
+     */
+    public static Result scan(JsonFactory jsonFactory, String payload) {
+        if (payload == null || payload.isBlank()) {
+            return new Result(false, null, null);
+        }
+
+        Integer jobOfferNocCode = null;
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && jobOfferNocCode == null
+                        && FIELD_JOB_OFFER_NOC_CODE.equals(parser.getCurrentName())) {
+                    parser.nextToken();
+                    jobOfferNocCode = readInteger(parser);
+                }
+            }
+            return new Result(true, jobOfferNocCode, null);
+        } catch (IOException e) {
+            return new Result(false, jobOfferNocCode, e.getMessage());
+        }
+    }
+
+    /**
+     * NOC codes arrive as numbers or numeric strings, anything else is ignored
+     */
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.valueOf(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (token != null && token.isStructStart()) {
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    /**
+     * Outcome of a payload scan
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final boolean valid;
+        private final Integer jobOfferNocCode;
+        private final String error;
+    }
+}
@@ -1,7 +1,6 @@
 package co.immimate.profile.service;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,22 +8,29 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import co.immimate.profile.dto.ProfileSubmissionRequest;
 import co.immimate.profile.dto.ProfileSubmissionResponse;
-import co.immimate.profile.model.JobsNoc;
+import co.immimate.profile.exception.DraftVersionConflictException;
+import co.immimate.profile.exception.InvalidDraftPatchException;
 import co.immimate.profile.model.ProfileDraft;
+import co.immimate.profile.model.ProfileDraftSnapshot;
 import co.immimate.profile.model.UserImmigrationProfile;
-import co.immimate.profile.repository.JobsNocRepository;
 import co.immimate.profile.repository.ProfileDraftRepository;
+import co.immimate.profile.repository.ProfileDraftSnapshotRepository;
 import co.immimate.profile.repository.UserImmigrationProfileRepository;
+import co.immimate.profile.validation.ProfileRuleViolation;
+import co.immimate.profile.validation.ProfileValidationEngine;
 import co.immimate.user.model.User;
 import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserIdentityResolver;
 
 /**
  * Service class for managing user immigration profiles.
@@ -34,21 +40,6 @@ import co.immimate.user.repository.UserRepository;
 public class ProfileService {
     private static final Logger log = LoggerFactory.getLogger(ProfileService.class);
     
-    // Marital status constants
-    private static final String MARITAL_STATUS_SINGLE = "Single";
-    
-    
-    // Score validation limits
-    private static final int MIN_LANGUAGE_SCORE = 1;
-    private static final int MAX_LANGUAGE_SCORE = 12;
-    private static final int MAX_REASONABLE_AGE = 120;
-    
-    // Common validation messages
-    private static final String VALIDATION_REQUIRED_FIELD = "%s is required";
-    private static final String VALIDATION_SCORE_RANGE = "%s score must be between %d and %d";
-    private static final String VALIDATION_NON_NEGATIVE = "%s must be non-negative";
-    private static final String VALIDATION_POSITIVE = "%s must be positive";
-    
     // Log messages
     private static final String LOG_FETCHING_PROFILE = "Fetching most recent profile for user email: %s";
     private static final String LOG_FETCHING_PROFILE_BY_ID = "Fetching most recent profile for user: %s";
@@ -61,7 +52,6 @@ public class ProfileService {
     private static final String LOG_PROFILE_SAVED = "Saved profile with ID: %s for user: %s";
     private static final String LOG_DB_ERROR = "Database error while saving profile: %s";
     private static final String LOG_UNEXPECTED_ERROR = "Unexpected error in profile submission process: %s";
-    private static final String LOG_USER_BY_GOOGLE_ID = "Found user by Google ID: %s";
     private static final String LOG_NEW_USER_CREATED = "Creating new user with email: %s";
     private static final String LOG_PROFILE_START = "=================== START OF createProfileFromRequest ===================";
     private static final String LOG_PROFILE_END = "=================== END OF createProfileFromRequest ===================";
@@ -73,31 +63,58 @@ public class ProfileService {
     private static final String LOG_SAVING_DRAFT = "Saving profile draft for user: %s";
     private static final String LOG_RETRIEVING_DRAFT = "Retrieving latest profile draft for user: %s";
     private static final String LOG_DELETING_DRAFTS = "Deleting all profile drafts for user: %s";
+    private static final String LOG_PATCHED_DRAFT = "Applied {} draft patch operations for user {}, version {}";
+    private static final int DEFAULT_MAX_PAYLOAD_CHARS = 262_144;
+    private static final String ERR_PAYLOAD_TOO_LARGE = "JSON payload exceeds the maximum size of %d characters";
+    private static final String ERR_STORED_DRAFT_UNREADABLE = "Stored draft is not valid JSON and cannot be patched";
     
     private final UserImmigrationProfileRepository profileRepository;
     private final UserRepository userRepository;
-    private final JobsNocRepository jobsNocRepository;
+    private final NocIndexService nocIndexService;
     private final ProfileDraftRepository profileDraftRepository;
-    
+    private final ProfileDraftSnapshotRepository profileDraftSnapshotRepository;
+    private final ProfileDraftWriteBuffer draftWriteBuffer;
+    private final UserIdentityResolver userIdentityResolver;
+    private final ObjectMapper objectMapper;
+    private final ProfileValidationEngine validationEngine;
+
+    // Upper bound on the submitted JSON payload, in characters
+    @Value("${profile.payload.max-chars:" + DEFAULT_MAX_PAYLOAD_CHARS + "}")
+    private int maxPayloadChars = DEFAULT_MAX_PAYLOAD_CHARS;
     
     /**
      * Constructor for ProfileService.
      * 
      * @param profileRepository Repository for accessing profile data
      * @param userRepository Repository for accessing user data
-     * @param jobsNocRepository Repository for accessing NOC code data
+     * @param nocIndexService In-memory index of NOC codes and TEER categories
      * @param profileDraftRepository Repository for accessing form drafts
+     * @param profileDraftSnapshotRepository Repository for accessing previous draft versions
+     * @param draftWriteBuffer Buffer coalescing draft autosaves
+     * @param userIdentityResolver Single-query user lookup by ID, email or Google ID
+     * @param objectMapper Shared, Spring-configured JSON mapper
+     * @param validationEngine Rule-table validation of submissions
      */
     @Autowired
     public ProfileService(
             UserImmigrationProfileRepository profileRepository, 
             UserRepository userRepository,
-            JobsNocRepository jobsNocRepository,
-            ProfileDraftRepository profileDraftRepository) {
+            NocIndexService nocIndexService,
+            ProfileDraftRepository profileDraftRepository,
+            ProfileDraftSnapshotRepository profileDraftSnapshotRepository,
+            ProfileDraftWriteBuffer draftWriteBuffer,
+            UserIdentityResolver userIdentityResolver,
+            ObjectMapper objectMapper,
+            ProfileValidationEngine validationEngine) {
         this.profileRepository = profileRepository;
         this.userRepository = userRepository;
-        this.jobsNocRepository = jobsNocRepository;
+        this.nocIndexService = nocIndexService;
         this.profileDraftRepository = profileDraftRepository;
+        this.profileDraftSnapshotRepository = profileDraftSnapshotRepository;
+        this.draftWriteBuffer = draftWriteBuffer;
+        this.userIdentityResolver = userIdentityResolver;
+        this.objectMapper = objectMapper;
+        this.validationEngine = validationEngine;
     }
     
     /**
@@ -164,6 +181,14 @@ public class ProfileService {
         log.info(LOG_JOB_OFFER_NOC, jobOfferNocCodeFromRequest);
         
         try {
+            // Reject oversized payloads before any parsing
+            String jsonPayload = request.getJsonPayload();
+            if (jsonPayload != null && jsonPayload.length() > maxPayloadChars) {
+                String errorMessage = String.format(ERR_PAYLOAD_TOO_LARGE, maxPayloadChars);
+                log.warn(LOG_VALIDATION_ERROR, errorMessage);
+                return ProfileSubmissionResponse.error(errorMessage);
+            }
+            
             // Basic validation
             Optional<String> validationError = validateProfileSubmission(request);
             if (validationError.isPresent()) {
@@ -259,29 +284,11 @@ public class ProfileService {
      * Find user by ID or email
      */
     private User findUserByIdOrEmail(ProfileSubmissionRequest request) {
-        // First try by ID if provided
-        if (request.getUserId() != null) {
-            Optional<User> userById = userRepository.findById(request.getUserId());
-            if (userById.isPresent()) {
-                return userById.get();
-            }
-        }
-        
-        // Then try by email
-        if (request.getUserEmail() != null) {
-            Optional<User> userByEmail = userRepository.findByEmail(request.getUserEmail());
-            if (userByEmail.isPresent()) {
-                return userByEmail.get();
-            }
-        }
-        
-        // Try by Google ID if provided in the request
-        if (request.getGoogleId() != null) {
-            Optional<User> userByGoogleId = userRepository.findByGoogleId(request.getGoogleId());
-            if (userByGoogleId.isPresent()) {
-                log.info(LOG_USER_BY_GOOGLE_ID, request.getGoogleId());
-                return userByGoogleId.get();
-            }
+        // ID, email and Google ID are matched in one query
+        Optional<User> existingUser = userIdentityResolver.resolve(
+                request.getUserId(), request.getUserEmail(), request.getGoogleId());
+        if (existingUser.isPresent()) {
+            return existingUser.get();
         }
         
         // If we still haven't found a user but have an email, create a new one
@@ -326,6 +333,9 @@ public class ProfileService {
         profile.setCreatedAt(now);
         profile.setLastModifiedAt(now);
         
+        // Validate the JSON payload and pick up fields from it in one streaming pass
+        ProfilePayloadScanner.Result payloadScan = ProfilePayloadScanner.scan(objectMapper.getFactory(), request.getJsonPayload());
+        
         // Set basic profile information
         setBasicProfileInfo(profile, request);
         
@@ -344,11 +354,18 @@ public class ProfileService {
         // Set job offer information
         setJobOfferInfo(profile, request);
         
+        // Fall back to the job offer NOC code found in the JSON payload
+        if (Boolean.TRUE.equals(request.getHasJobOffer()) && profile.getJobOfferNocCode() == null
+                && payloadScan.getJobOfferNocCode() != null) {
+            log.info("Found NOC code in JSON payload: {}", payloadScan.getJobOfferNocCode());
+            profile.setJobOfferNocCode(payloadScan.getJobOfferNocCode());
+        }
+        
         // Set provincial and additional information
         setProvincialAndAdditionalInfo(profile, request);
         
         // Store the complete JSON payload
-        setJsonPayload(profile, request);
+        setJsonPayload(profile, request, payloadScan);
         
         // Set TEER categories from NOC codes
         setTeerCategoriesFromNocCodes(profile, request);
@@ -507,11 +524,6 @@ public class ProfileService {
                 profile.setJobOfferNocCode(jobOfferNocCode);
                 log.info("Re-applied job offer NOC code as a safety measure: {}", jobOfferNocCode);
             }
-            
-            // Try to extract from JSON if still null
-            if (Boolean.TRUE.equals(hasJobOffer) && profile.getJobOfferNocCode() == null) {
-                attemptToExtractNocCodeFromJson(profile, request);
-            }
         }
         
         log.info("Job offer information set with NOC code: {}", profile.getJobOfferNocCode());
@@ -543,48 +555,18 @@ public class ProfileService {
     }
     
     /**
-     * Set JSON payload from the request
+     * Set JSON payload from the request, falling back to an empty object when it is not valid JSON
      */
-    private void setJsonPayload(UserImmigrationProfile profile, ProfileSubmissionRequest request) {
-        try {
-            String jsonPayload = request.getJsonPayload();
-            // Validate that it's proper JSON by parsing it
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.readTree(jsonPayload); // This will throw an exception if the JSON is invalid
-            // Set the validated JSON payload
-            profile.setJsonPayload(jsonPayload);
-            log.info("JSON payload set successfully: {}", jsonPayload.substring(0, Math.min(100, jsonPayload.length())) + "...");
-        } catch (JsonProcessingException e) {
-            log.error("Error processing JSON payload: {}", e.getMessage());
-            // If there's an error, set an empty JSON object
+    private void setJsonPayload(UserImmigrationProfile profile, ProfileSubmissionRequest request,
+            ProfilePayloadScanner.Result payloadScan) {
+        if (!payloadScan.isValid()) {
+            log.error("Error processing JSON payload: {}", payloadScan.getError());
             profile.setJsonPayload("{}");
+            return;
         }
-    }
-    
-    /**
-     * Attempt to extract the NOC code from JSON payload if it's missing
-     */
-    private void attemptToExtractNocCodeFromJson(UserImmigrationProfile profile, ProfileSubmissionRequest request) {
-        try {
-            String jsonPayload = request.getJsonPayload();
-            if (jsonPayload != null && !jsonPayload.isEmpty()) {
-                log.info("Attempting to extract job offer NOC code from JSON payload");
-                // Try to parse directly from the jsonPayload string
-                if (jsonPayload.contains("\"jobOfferNocCode\":")) {
-                    String extract = jsonPayload.split("\"jobOfferNocCode\":")[1].split(",")[0].trim();
-                    extract = extract.replace("\"", "").trim();
-                    try {
-                        Integer extractedCode = Integer.valueOf(extract);
-                        log.info("Found NOC code in JSON payload: {}", extractedCode);
-                        profile.setJobOfferNocCode(extractedCode);
-                    } catch (NumberFormatException e) {
-                        log.error("Failed to parse extracted NOC code: {}", extract);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error in direct JSON extraction for NOC code", e);
-        }
+        String jsonPayload = request.getJsonPayload();
+        profile.setJsonPayload(jsonPayload);
+        log.info("JSON payload set successfully: {}", jsonPayload.substring(0, Math.min(100, jsonPayload.length())) + "...");
     }
     
     /**
@@ -596,9 +578,9 @@ public class ProfileService {
     private void setTeerCategoriesFromNocCodes(UserImmigrationProfile profile, ProfileSubmissionRequest request) {
         log.info("=================== START OF setTeerCategoriesFromNocCodes ===================");
         
-        // Check if repository is available - if not, log and return early to prevent NullPointerException
-        if (jobsNocRepository == null) {
-            log.warn("JobsNocRepository is not available, skipping TEER category lookup");
+        // Check if the NOC index is available - if not, log and return early to prevent NullPointerException
+        if (nocIndexService == null) {
+            log.warn("NocIndexService is not available, skipping TEER category lookup");
             return;
         }
         
@@ -628,23 +610,16 @@ public class ProfileService {
                     Integer canadianNocCode = profile.getNocCodeCanadian();
                     log.info("Looking up TEER category for Canadian NOC code: {}", canadianNocCode);
                     
-                    // First try with Integer directly
-                    Optional<JobsNoc> jobNoc = jobsNocRepository.findByNocCode(canadianNocCode);
+                    Integer teerCategory = nocIndexService.findTeerCategory(canadianNocCode);
                     
-                    // If not found, try with String conversion as fallback
-                    if (jobNoc.isEmpty()) {
-                        log.info("Retrying with string conversion for Canadian NOC code: {}", canadianNocCode);
-                        jobNoc = jobsNocRepository.findByNocCodeString(canadianNocCode.toString());
-                    }
-                    
-                    if (jobNoc.isPresent()) {
-                        profile.setCanadianOccupationTeerCategory(jobNoc.get().getTeerCategory());
+                    if (teerCategory != null) {
+                        profile.setCanadianOccupationTeerCategory(teerCategory);
                         log.info("Set Canadian occupation TEER category to {} for NOC code {}", 
-                                jobNoc.get().getTeerCategory(), canadianNocCode);
+                                teerCategory, canadianNocCode);
                         log.info("DEBUG - After processing Canadian NOC code, JobOffer NOC code={}", profile.getJobOfferNocCode());
                         log.info("DEBUG - Profile identity check: {}", System.identityHashCode(profile) == profileHashCode ? "SAME OBJECT" : "DIFFERENT OBJECT");
                     } else {
-                        log.warn("No TEER category found in database for Canadian NOC code: {}", canadianNocCode);
+                        log.warn("No TEER category found in NOC index for Canadian NOC code: {}", canadianNocCode);
                     }
                 } catch (Exception e) {
                     log.error("Error looking up TEER category for Canadian NOC code: {}", profile.getNocCodeCanadian(), e);
@@ -660,23 +635,16 @@ public class ProfileService {
                     Integer foreignNocCode = profile.getNocCodeForeign();
                     log.info("Looking up TEER category for Foreign NOC code: {}", foreignNocCode);
                     
-                    // First try with Integer directly
-                    Optional<JobsNoc> jobNoc = jobsNocRepository.findByNocCode(foreignNocCode);
-                    
-                    // If not found, try with String conversion as fallback
-                    if (jobNoc.isEmpty()) {
-                        log.info("Retrying with string conversion for Foreign NOC code: {}", foreignNocCode);
-                        jobNoc = jobsNocRepository.findByNocCodeString(foreignNocCode.toString());
-                    }
+                    Integer teerCategory = nocIndexService.findTeerCategory(foreignNocCode);
                     
-                    if (jobNoc.isPresent()) {
-                        profile.setForeignOccupationTeerCategory(jobNoc.get().getTeerCategory());
+                    if (teerCategory != null) {
+                        profile.setForeignOccupationTeerCategory(teerCategory);
                         log.info("Set foreign occupation TEER category to {} for NOC code {}", 
-                                jobNoc.get().getTeerCategory(), foreignNocCode);
+                                teerCategory, foreignNocCode);
                         log.info("DEBUG - After processing Foreign NOC code, JobOffer NOC code={}", profile.getJobOfferNocCode());
                         log.info("DEBUG - Profile identity check: {}", System.identityHashCode(profile) == profileHashCode ? "SAME OBJECT" : "DIFFERENT OBJECT");
                     } else {
-                        log.warn("No TEER category found in database for foreign NOC code: {}", foreignNocCode);
+                        log.warn("No TEER category found in NOC index for foreign NOC code: {}", foreignNocCode);
                     }
                 } catch (Exception e) {
                     log.error("Error looking up TEER category for foreign NOC code: {}", profile.getNocCodeForeign(), e);
@@ -704,22 +672,15 @@ public class ProfileService {
                     Integer jobOfferNocCode = profile.getJobOfferNocCode();
                     log.info("Looking up TEER category for Job Offer NOC code: {}", jobOfferNocCode);
                     
-                    // First try with Integer directly
-                    Optional<JobsNoc> jobNoc = jobsNocRepository.findByNocCode(jobOfferNocCode);
+                    Integer teerCategory = nocIndexService.findTeerCategory(jobOfferNocCode);
                     
-                    // If not found, try with String conversion as fallback
-                    if (jobNoc.isEmpty()) {
-                        log.info("Retrying with string conversion for Job Offer NOC code: {}", jobOfferNocCode);
-                        jobNoc = jobsNocRepository.findByNocCodeString(jobOfferNocCode.toString());
-                    }
-                    
-                    if (jobNoc.isPresent()) {
-                        profile.setJobofferOccupationTeerCategory(jobNoc.get().getTeerCategory());
+                    if (teerCategory != null) {
+                        profile.setJobofferOccupationTeerCategory(teerCategory);
                         log.info("Set job offer occupation TEER category to {} for NOC code {}", 
-                                jobNoc.get().getTeerCategory(), jobOfferNocCode);
+                                teerCategory, jobOfferNocCode);
                         log.info("DEBUG - After setting TEER category, JobOffer NOC code={}", profile.getJobOfferNocCode());
                     } else {
-                        log.warn("No TEER category found in database for job offer NOC code: {}", jobOfferNocCode);
+                        log.warn("No TEER category found in NOC index for job offer NOC code: {}", jobOfferNocCode);
                     }
                 } catch (Exception e) {
                     log.error("Error looking up TEER category for job offer NOC code: {}", profile.getJobOfferNocCode(), e);
@@ -741,15 +702,12 @@ public class ProfileService {
                     
                     // Look up TEER category
                     try {
-                        Optional<JobsNoc> jobNoc = jobsNocRepository.findByNocCode(requestJobOfferNocCode);
-                        if (jobNoc.isEmpty()) {
-                            jobNoc = jobsNocRepository.findByNocCodeString(requestJobOfferNocCode.toString());
-                        }
+                        Integer teerCategory = nocIndexService.findTeerCategory(requestJobOfferNocCode);
                         
-                        if (jobNoc.isPresent()) {
-                            profile.setJobofferOccupationTeerCategory(jobNoc.get().getTeerCategory());
+                        if (teerCategory != null) {
+                            profile.setJobofferOccupationTeerCategory(teerCategory);
                             log.info("Set job offer occupation TEER category to {} for NOC code {} (from request)", 
-                                    jobNoc.get().getTeerCategory(), requestJobOfferNocCode);
+                                    teerCategory, requestJobOfferNocCode);
                             log.info("DEBUG - After setting TEER category from request, JobOffer NOC code={}", profile.getJobOfferNocCode());
                         } else {
                             log.warn("No TEER category found for job offer NOC code from request: {}", requestJobOfferNocCode);
@@ -788,7 +746,7 @@ public class ProfileService {
     }
 
     /**
-     * Validate a profile submission request
+     * Validate a profile submission request, stopping at the first broken rule
      * 
      * @param request The profile submission request to validate
      * @return An Optional containing an error message, or empty if validation passes
@@ -796,436 +754,149 @@ public class ProfileService {
     public Optional<String> validateProfileSubmission(ProfileSubmissionRequest request) {
         log.info("Validating profile submission request: {}", request);
         
-        List<String> validationErrors = new ArrayList<>();
-        
-        // Validate applicant name
-        if (request.getApplicantName() == null || request.getApplicantName().trim().isEmpty()) {
-            validationErrors.add(String.format(VALIDATION_REQUIRED_FIELD, "Applicant name"));
-        }
-        
-        // Validate applicant age - must be positive and reasonable
-        if (request.getApplicantAge() == null) {
-            validationErrors.add(String.format(VALIDATION_REQUIRED_FIELD, "Applicant age"));
-        } else if (request.getApplicantAge() <= 0) {
-            validationErrors.add(String.format(VALIDATION_POSITIVE, "Applicant age"));
-        } else if (request.getApplicantAge() > MAX_REASONABLE_AGE) {
-            validationErrors.add("Applicant age must be reasonable (under " + MAX_REASONABLE_AGE + ")");
-        }
-        
-        // Validate language scores
-        validateLanguageScores(request, validationErrors);
-        
-        // Validate educational credential assessment
-        validateEducationalCredentialAssessment(request, validationErrors);
-        
-        // Validate job offer consistency
-        validateJobOffer(request, validationErrors);
-        
-        // Validate settlement funds (must be non-negative)
-        if (request.getSettlementFundsCAD() != null && request.getSettlementFundsCAD() < 0) {
-            validationErrors.add("Settlement funds cannot be negative");
-        }
-        
-        // Validate foreign work experience
-        validateForeignWorkExperience(request, validationErrors);
-        
-        // Validate secondary language test
-        validateSecondaryLanguageTest(request, validationErrors);
-        
-        // Validate partner data consistency with marital status
-        validatePartnerData(request, validationErrors);
-        
-        // Validate education completed in Canada
-        validateCanadianEducation(request, validationErrors);
-        
-        // Validate provincial nomination
-        validateProvincialNomination(request, validationErrors);
-        
-        // Validate Canadian relatives
-        validateCanadianRelatives(request, validationErrors);
-        
-        // Validate working in Canada
-        validateWorkingInCanada(request, validationErrors);
-        
-        // Return the first validation error if any exist
-        if (!validationErrors.isEmpty()) {
-            return Optional.of(validationErrors.get(0));
-        }
-        
-        return Optional.empty();
+        List<ProfileRuleViolation> violations = validationEngine.validate(request, ProfileValidationEngine.Mode.FAIL_FAST);
+        return violations.stream().findFirst().map(ProfileRuleViolation::getMessage);
     }
     
     /**
-     * Validate that language scores are within acceptable ranges
+     * Validate a profile submission request against every rule, for showing all errors in the form
+     * 
+     * @param request The profile submission request to validate
+     * @return All broken rules in reporting order, empty if validation passes
      */
-    private void validateLanguageScores(ProfileSubmissionRequest request, List<String> validationErrors) {
-        // Check if at least one primary language score is provided but not all
-        boolean hasSomePrimaryScores = request.getPrimaryTestSpeakingScore() != null || 
-                                      request.getPrimaryTestListeningScore() != null ||
-                                      request.getPrimaryTestReadingScore() != null || 
-                                      request.getPrimaryTestWritingScore() != null;
-        
-        boolean hasAllPrimaryScores = request.getPrimaryTestSpeakingScore() != null && 
-                                     request.getPrimaryTestListeningScore() != null &&
-                                     request.getPrimaryTestReadingScore() != null && 
-                                     request.getPrimaryTestWritingScore() != null;
-        
-        // If some scores are missing but not all, flag it as an error
-        if (hasSomePrimaryScores && !hasAllPrimaryScores) {
-            validationErrors.add("All primary language test scores (speaking, listening, reading, writing) must be provided");
-            log.warn("Validation warning: Incomplete primary language test scores provided");
-        }
-        
-        // Primary language test scores - should be between MIN_LANGUAGE_SCORE and MAX_LANGUAGE_SCORE (CLB)
-        if (request.getPrimaryTestSpeakingScore() != null && 
-            (request.getPrimaryTestSpeakingScore() < MIN_LANGUAGE_SCORE || request.getPrimaryTestSpeakingScore() > MAX_LANGUAGE_SCORE)) {
-            validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Primary speaking", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-        }
-        
-        if (request.getPrimaryTestListeningScore() != null && 
-            (request.getPrimaryTestListeningScore() < MIN_LANGUAGE_SCORE || request.getPrimaryTestListeningScore() > MAX_LANGUAGE_SCORE)) {
-            validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Primary listening", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-        }
-        
-        if (request.getPrimaryTestReadingScore() != null && 
-            (request.getPrimaryTestReadingScore() < MIN_LANGUAGE_SCORE || request.getPrimaryTestReadingScore() > MAX_LANGUAGE_SCORE)) {
-            validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Primary reading", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-        }
-        
-        if (request.getPrimaryTestWritingScore() != null && 
-            (request.getPrimaryTestWritingScore() < MIN_LANGUAGE_SCORE || request.getPrimaryTestWritingScore() > MAX_LANGUAGE_SCORE)) {
-            validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Primary writing", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-        }
+    public List<ProfileRuleViolation> collectValidationErrors(ProfileSubmissionRequest request) {
+        return validationEngine.validate(request, ProfileValidationEngine.Mode.COLLECT_ALL);
     }
-    
+
     /**
-     * Validate educational credential assessment information
+     * Save form draft for a user, finding the user by email or Google ID.
+     * 
+     * @param userEmail The email of the user
+     * @param googleId The Google ID of the user (from OAuth2)
+     * @param formDataJson The form data as a JSON string
+     * @return The saved draft
+     * @throws IllegalArgumentException If no user is found by email or Google ID
      */
-    private void validateEducationalCredentialAssessment(ProfileSubmissionRequest request, List<String> validationErrors) {
-        // Check educational credential assessment logic
-        Boolean hasEca = request.getHasEducationalCredentialAssessment();
-        String applicantEducationLevel = request.getApplicantEducationLevel();
-        
-        // If foreign education and no ECA, warn the user (this is a soft validation)
-        if (Boolean.FALSE.equals(request.getEducationCompletedInCanada()) && 
-            (hasEca == null || !hasEca) && 
-            applicantEducationLevel != null && 
-            !applicantEducationLevel.equalsIgnoreCase("high-school")) {
-            
-            validationErrors.add("Foreign education without ECA: You have indicated foreign education but no Educational Credential Assessment (ECA). An ECA is typically required for foreign education credentials.");
-        }
+    @Transactional
+    public ProfileDraft saveProfileDraftWithGoogleId(String userEmail, String googleId, String formDataJson) {
+        return saveProfileDraftWithGoogleId(userEmail, googleId, formDataJson, null);
     }
     
     /**
-     * Validate that job offer information is consistent.
-     * If hasJobOffer is true, the NOC code must be provided.
+     * Save form draft for a user, replacing the user's single draft.
+     * The write goes through {@link ProfileDraftWriteBuffer}, so rapid saves may be
+     * coalesced into one database write.
+     * 
+     * @param userEmail The email of the user
+     * @param googleId The Google ID of the user (from OAuth2)
+     * @param formDataJson The form data as a JSON string
+     * @param expectedVersion The draft version the client last saw, or null to overwrite unconditionally
+     * @return The saved draft with its new version
+     * @throws IllegalArgumentException If no user is found by email or Google ID
+     * @throws DraftVersionConflictException If expectedVersion is not the current version
      */
-    private void validateJobOffer(ProfileSubmissionRequest request, List<String> validationErrors) {
-        Boolean hasJobOffer = request.getHasJobOffer();
-        Integer jobOfferNocCode = request.getJobOfferNocCode();
-        Boolean isLmiaApproved = request.getIsJobOfferLmiaApproved();
-        Integer wage = request.getJobOfferWageCAD();
+    @Transactional
+    public ProfileDraft saveProfileDraftWithGoogleId(String userEmail, String googleId, String formDataJson,
+            Long expectedVersion) {
+        log.debug("Saving profile draft for user - Email: {}, Google ID: {}", userEmail, googleId);
         
-        if (Boolean.TRUE.equals(hasJobOffer)) {
-            // If has job offer is true, NOC code must be provided
-            if (jobOfferNocCode == null) {
-                validationErrors.add("Job offer selected but no NOC code provided");
-                log.error("Validation failed: Job offer selected but no NOC code provided");
-            }
-            
-            // Wage should be positive if provided
-            if (wage != null && wage <= 0) {
-                validationErrors.add("Job offer wage must be positive");
-            }
-        } else if (Boolean.FALSE.equals(hasJobOffer)) {
-            // If no job offer, ensure job offer fields are null/empty
-            if (jobOfferNocCode != null || isLmiaApproved != null || wage != null) {
-                log.warn("Inconsistent data: No job offer selected but job data provided - NOC:{}, LMIA:{}, Wage:{}", 
-                        jobOfferNocCode, isLmiaApproved, wage);
-                // This will be cleaned during profile creation
-                // Do not add to validation errors since this will be cleaned up
-            }
-        }
-    }
-    
-    /**
-     * Validate that foreign work experience information is consistent.
-     * If foreignWorkExperienceYears > 0, the NOC code must be provided.
-     */
-    private void validateForeignWorkExperience(ProfileSubmissionRequest request, List<String> validationErrors) {
-        Integer foreignYears = request.getForeignWorkExperienceYears();
-        Integer foreignNoc = request.getNocCodeForeign();
+        User user = findDraftOwner(userEmail, googleId);
+        String draftEmail = userEmail != null ? userEmail : user.getEmail(); // Use user.getEmail() as fallback
         
-        if (foreignYears != null && foreignYears > 0) {
-            // If foreign work experience is indicated, NOC code must be provided
-            if (foreignNoc == null) {
-                validationErrors.add("Foreign work experience years > 0 but no NOC code provided");
-                log.error("Validation failed: Foreign work experience years > 0 but no NOC code provided");
+        return draftWriteBuffer.update(user, draftEmail, current -> {
+            if (expectedVersion != null) {
+                checkDraftVersion(expectedVersion, current);
             }
-        } else {
-            // If no foreign work experience, ensure NOC code is null
-            if (foreignNoc != null) {
-                log.warn("Inconsistent data: No foreign work experience selected but NOC code provided: {}. This will be cleared.", foreignNoc);
-                // This will be cleaned during profile creation
-            }
-        }
-    }
-    
-    /**
-     * Validate that secondary language test information is consistent.
-     * If tookSecondaryLanguageTest is true, then all test scores must be provided and valid.
-     * Additionally, secondary test type cannot be the same as primary test type.
-     */
-    private void validateSecondaryLanguageTest(ProfileSubmissionRequest request, List<String> validationErrors) {
-        Boolean tookSecondaryTest = request.getTookSecondaryLanguageTest();
-        String secondaryTestType = request.getSecondaryTestType();
-        Integer speakingScore = request.getSecondaryTestSpeakingScore();
-        Integer listeningScore = request.getSecondaryTestListeningScore();
-        Integer readingScore = request.getSecondaryTestReadingScore();
-        Integer writingScore = request.getSecondaryTestWritingScore();
-        
-        if (Boolean.TRUE.equals(tookSecondaryTest)) {
-            // If secondary test taken, type must be provided
-            if (secondaryTestType == null || secondaryTestType.trim().isEmpty()) {
-                validationErrors.add("Secondary language test type is required when secondary test is indicated");
-            }
-            
-            // Check that secondary language test type is not the same as primary
-            if (secondaryTestType != null && !secondaryTestType.trim().isEmpty() && 
-                secondaryTestType.equals(request.getPrimaryLanguageTestType())) {
-                validationErrors.add("Secondary language test type cannot be the same as primary test type");
-            }
-            
-            // Validate that all scores are provided and within range
-            if (speakingScore == null) {
-                validationErrors.add("Secondary language speaking score is required when secondary test is indicated");
-            } else if (speakingScore < MIN_LANGUAGE_SCORE || speakingScore > MAX_LANGUAGE_SCORE) {
-                validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Secondary speaking", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-            }
-            
-            if (listeningScore == null) {
-                validationErrors.add("Secondary language listening score is required when secondary test is indicated");
-            } else if (listeningScore < MIN_LANGUAGE_SCORE || listeningScore > MAX_LANGUAGE_SCORE) {
-                validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Secondary listening", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-            }
-            
-            if (readingScore == null) {
-                validationErrors.add("Secondary language reading score is required when secondary test is indicated");
-            } else if (readingScore < MIN_LANGUAGE_SCORE || readingScore > MAX_LANGUAGE_SCORE) {
-                validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Secondary reading", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-            }
-            
-            if (writingScore == null) {
-                validationErrors.add("Secondary language writing score is required when secondary test is indicated");
-            } else if (writingScore < MIN_LANGUAGE_SCORE || writingScore > MAX_LANGUAGE_SCORE) {
-                validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Secondary writing", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-            }
-        } else if (Boolean.FALSE.equals(tookSecondaryTest)) {
-            // If no secondary test, ensure all secondary test fields are null/empty
-            if (secondaryTestType != null && !secondaryTestType.trim().isEmpty() || 
-                speakingScore != null || listeningScore != null || 
-                readingScore != null || writingScore != null) {
-                log.warn("Inconsistent data: No secondary test indicated but test data provided. This will be cleaned during profile creation.");
-                // This will be cleaned during profile creation
-                // Do not add to validation errors since this will be cleaned up
-            }
-        }
+            return formDataJson;
+        });
     }
     
     /**
-     * Validate that partner data is consistent with marital status.
-     * If marital status is "Single", partner fields should be null/empty.
+     * Apply a JSON Patch (RFC 6902) to a user's draft, based on the version the client last saw.
+     * Only the changed fields travel over the wire; the current draft is patched on the server.
+     * 
+     * @param userEmail The email of the user
+     * @param googleId The Google ID of the user (from OAuth2)
+     * @param patch The JSON Patch operations array
+     * @param expectedVersion The draft version the patch was computed against
+     * @return The saved draft with its new version
+     * @throws IllegalArgumentException If no user is found by email or Google ID
+     * @throws DraftVersionConflictException If there is no draft or expectedVersion is not the current version
+     * @throws InvalidDraftPatchException If the patch cannot be applied
      */
-    private void validatePartnerData(ProfileSubmissionRequest request, List<String> validationErrors) {
-        String maritalStatus = request.getApplicantMaritalStatus();
-        String partnerEducation = request.getPartnerEducationLevel();
-        String partnerTestType = request.getPartnerLanguageTestType();
-        Integer partnerSpeaking = request.getPartnerTestSpeakingScore();
-        Integer partnerListening = request.getPartnerTestListeningScore();
-        Integer partnerReading = request.getPartnerTestReadingScore();
-        Integer partnerWriting = request.getPartnerTestWritingScore();
-        Integer partnerCanadianYears = request.getPartnerCanadianWorkExperienceYears();
+    @Transactional
+    public ProfileDraft patchProfileDraftWithGoogleId(String userEmail, String googleId, JsonNode patch,
+            long expectedVersion) {
+        User user = findDraftOwner(userEmail, googleId);
+        String draftEmail = userEmail != null ? userEmail : user.getEmail();
         
-        if (MARITAL_STATUS_SINGLE.equalsIgnoreCase(maritalStatus)) {
-            // If single, ensure all partner fields are null/empty
-            if (partnerEducation != null && !partnerEducation.trim().isEmpty() || 
-                partnerTestType != null && !partnerTestType.trim().isEmpty() || 
-                partnerSpeaking != null || partnerListening != null || 
-                partnerReading != null || partnerWriting != null || 
-                partnerCanadianYears != null) {
-                validationErrors.add("Partner data provided for a single person");
-                log.error("Validation failed: Single applicant but partner data provided");
-            }
-        } else if (maritalStatus != null && !MARITAL_STATUS_SINGLE.equalsIgnoreCase(maritalStatus)) {
-            // For non-single applicants, partner fields are optional but should be validated if provided
-            
-            // If partner test type is provided, at least one score should be present
-            if (partnerTestType != null && !partnerTestType.trim().isEmpty() &&
-                partnerSpeaking == null && partnerListening == null && 
-                partnerReading == null && partnerWriting == null) {
-                validationErrors.add("At least one partner language test score must be provided when a partner test type is indicated");
-            }
-            
-            // Validate ranges of provided scores
-            if (partnerSpeaking != null && (partnerSpeaking < MIN_LANGUAGE_SCORE || partnerSpeaking > MAX_LANGUAGE_SCORE)) {
-                validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Partner speaking", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-            }
-            
-            if (partnerListening != null && (partnerListening < MIN_LANGUAGE_SCORE || partnerListening > MAX_LANGUAGE_SCORE)) {
-                validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Partner listening", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-            }
-            
-            if (partnerReading != null && (partnerReading < MIN_LANGUAGE_SCORE || partnerReading > MAX_LANGUAGE_SCORE)) {
-                validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Partner reading", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-            }
-            
-            if (partnerWriting != null && (partnerWriting < MIN_LANGUAGE_SCORE || partnerWriting > MAX_LANGUAGE_SCORE)) {
-                validationErrors.add(String.format(VALIDATION_SCORE_RANGE, "Partner writing", MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
-            }
-            
-            // Partner Canadian work experience years should be non-negative if provided
-            if (partnerCanadianYears != null && partnerCanadianYears < 0) {
-                validationErrors.add(String.format(VALIDATION_NON_NEGATIVE, "Partner Canadian work experience years"));
+        ProfileDraft saved = draftWriteBuffer.update(user, draftEmail, current -> {
+            checkDraftVersion(expectedVersion, current);
+            try {
+                JsonNode patched = JsonPatchApplier.apply(objectMapper.readTree(current.getFormDataJson()), patch);
+                return objectMapper.writeValueAsString(patched);
+            } catch (JsonProcessingException e) {
+                throw new InvalidDraftPatchException(ERR_STORED_DRAFT_UNREADABLE, e);
             }
-        }
+        });
+        log.debug(LOG_PATCHED_DRAFT, patch.size(), user.getEmail(), saved.getVersion());
+        return saved;
     }
     
     /**
-     * Validate that Canadian education information is consistent.
-     * If educationCompletedInCanada is true, canadianEducationLevel must be provided.
+     * Check that a draft exists and is at the version the client expects.
+     * 
+     * @throws DraftVersionConflictException If it is not
      */
-    private void validateCanadianEducation(ProfileSubmissionRequest request, List<String> validationErrors) {
-        Boolean educationInCanada = request.getEducationCompletedInCanada();
-        String canadianLevel = request.getCanadianEducationLevel();
-        
-        if (Boolean.TRUE.equals(educationInCanada)) {
-            // If education completed in Canada, level must be provided
-            if (canadianLevel == null || canadianLevel.trim().isEmpty()) {
-                validationErrors.add("Canadian education level is required when education completed in Canada is indicated");
-                log.error("Validation failed: Canadian education selected but no level provided");
-            }
-        } else if (Boolean.FALSE.equals(educationInCanada)) {
-            // If no education in Canada, ensure level is null/empty
-            if (canadianLevel != null && !canadianLevel.trim().isEmpty()) {
-                log.warn("Inconsistent data: No Canadian education selected but level provided: {}. This will be cleared.", canadianLevel);
-                // This will be cleaned during profile creation
-            }
+    private static void checkDraftVersion(long expectedVersion, ProfileDraft current) {
+        Long currentVersion = current != null ? current.getVersion() : null;
+        if (currentVersion == null || currentVersion != expectedVersion) {
+            throw new DraftVersionConflictException(expectedVersion, currentVersion);
         }
     }
     
     /**
-     * Validate that provincial nomination information is consistent.
-     * If hasProvincialNomination is true, provinceOfInterest must be provided.
+     * Get the current profile form draft for a user, finding the user by email or Google ID.
+     * 
+     * @param userEmail The email of the user
+     * @param googleId The Google ID of the user (from OAuth2)
+     * @return Optional containing the draft if found
      */
-    private void validateProvincialNomination(ProfileSubmissionRequest request, List<String> validationErrors) {
-        Boolean hasNomination = request.getHasProvincialNomination();
-        String province = request.getProvinceOfInterest();
+    @Transactional(readOnly = true)
+    public Optional<ProfileDraft> getCurrentProfileDraftWithGoogleId(String userEmail, String googleId) {
+        log.debug("Retrieving current profile draft for user - Email: {}, Google ID: {}", userEmail, googleId);
         
-        if (Boolean.TRUE.equals(hasNomination)) {
-            // If provincial nomination is indicated, province must be provided
-            if (province == null || province.trim().isEmpty()) {
-                validationErrors.add("Provincial nomination selected but no province provided");
-                log.error("Validation failed: Provincial nomination selected but no province provided");
-            }
+        Optional<User> user = findUser(userEmail, googleId);
+        if (user.isEmpty()) {
+            log.info("No draft found for unknown user - Email: {}, Google ID: {}", userEmail, googleId);
+            return Optional.empty();
         }
-    }
-    
-    /**
-     * Validate that working in Canada information is consistent.
-     * If workingInCanada is true, appropriate work experience should be indicated.
-     */
-    private void validateWorkingInCanada(ProfileSubmissionRequest request, List<String> validationErrors) {
-        Boolean workingInCanada = request.getWorkingInCanada();
-        Integer canadianYears = request.getCanadianWorkExperienceYears();
         
-        if (Boolean.TRUE.equals(workingInCanada)) {
-            // If currently working in Canada, should have some Canadian work experience
-            if (canadianYears == null || canadianYears <= 0) {
-                validationErrors.add("Canadian work experience years should be positive when currently working in Canada");
-                log.warn("Inconsistent data: Working in Canada but no Canadian work experience years provided");
-            }
+        // Drafts not yet written by the write-behind buffer are the current ones
+        Optional<ProfileDraft> buffered = draftWriteBuffer.find(user.get().getId());
+        if (buffered.isPresent()) {
+            return buffered;
         }
         
-        // Canadian work experience years should be non-negative if provided
-        if (canadianYears != null && canadianYears < 0) {
-            validationErrors.add("Canadian work experience years must be non-negative");
+        Optional<ProfileDraft> draft = profileDraftRepository.findById(user.get().getId());
+        if (draft.isPresent()) {
+            return draft;
         }
-    }
-
-    /**
-     * Validate that Canadian relatives information is consistent.
-     * If hasCanadianRelatives is true, a relationship must be specified.
-     */
-    private void validateCanadianRelatives(ProfileSubmissionRequest request, List<String> validationErrors) {
-        Boolean hasCanadianRelatives = request.getHasCanadianRelatives();
-        String relationship = request.getRelationshipWithCanadianRelative();
         
-        if (Boolean.TRUE.equals(hasCanadianRelatives)) {
-            if (relationship == null || relationship.trim().isEmpty()) {
-                validationErrors.add("Canadian relative selected but no relationship with Canadian relative specified");
-                log.error("Validation failed: Canadian relative selected but no relationship specified");
-            }
-        } else if (Boolean.FALSE.equals(hasCanadianRelatives)) {
-            // If no Canadian relatives, ensure relationship is null/empty
-            if (relationship != null && !relationship.trim().isEmpty()) {
-                log.warn("Inconsistent data: No Canadian relatives selected but relationship provided: {}. This will be cleared.", relationship);
-                // This will be cleaned during profile creation
-            }
-        }
+        // Drafts saved before the one-draft-per-user scheme, replaced on the next save
+        return profileDraftRepository.findFirstByUserOrderByLastModifiedAtDesc(user.get());
     }
-
+    
     /**
-     * Save form draft for a user, finding the user by email or Google ID.
+     * Take the user's buffered draft edits that could not be saved because the draft was
+     * changed elsewhere meanwhile. Reported once, so the client can show or re-apply them.
      * 
      * @param userEmail The email of the user
      * @param googleId The Google ID of the user (from OAuth2)
-     * @param formDataJson The form data as a JSON string
-     * @return The saved draft
-     * @throws IllegalArgumentException If no user is found by email or Google ID
+     * @return Optional containing the unsaved draft if there was an unreported conflict
      */
-    @Transactional
-    public ProfileDraft saveProfileDraftWithGoogleId(String userEmail, String googleId, String formDataJson) {
-        log.debug("Saving profile draft for user - Email: {}, Google ID: {}", userEmail, googleId);
-        
-        // Try to find the user by email or Google ID
-        User user = null;
-        
-        // First try by email
-        if (userEmail != null && !userEmail.isEmpty()) {
-            Optional<User> userByEmail = userRepository.findByEmail(userEmail);
-            if (userByEmail.isPresent()) {
-                user = userByEmail.get();
-                log.info("Found user by email: {}", userEmail);
-            }
-        }
-        
-        // If not found by email, try by Google ID
-        if (user == null && googleId != null && !googleId.isEmpty()) {
-            Optional<User> userByGoogleId = userRepository.findByGoogleId(googleId);
-            if (userByGoogleId.isPresent()) {
-                user = userByGoogleId.get();
-                log.info("Found user by Google ID: {}", googleId);
-            }
-        }
-        
-        // If still not found, throw an exception
-        if (user == null) {
-            String errorMsg = "User not found - Email: " + userEmail + ", Google ID: " + googleId;
-            log.error(errorMsg);
-            throw new IllegalArgumentException(errorMsg);
-        }
-        
-        // Create a new draft
-        ProfileDraft draft = ProfileDraft.builder()
-                .user(user)
-                .userEmail(userEmail != null ? userEmail : user.getEmail()) // Use user.getEmail() as fallback
-                .formDataJson(formDataJson)
-                .createdAt(Instant.now())
-                .lastModifiedAt(Instant.now())
-                .build();
-        
-        // Save and return the draft
-        return profileDraftRepository.save(draft);
+    public Optional<ProfileDraft> takeUnsavedDraftConflict(String userEmail, String googleId) {
+        return findUser(userEmail, googleId).flatMap(user -> draftWriteBuffer.takeConflict(user.getId()));
     }
     
     /**
@@ -1237,37 +908,42 @@ public class ProfileService {
      */
     @Transactional(readOnly = true)
     public Optional<String> getLatestProfileDraftWithGoogleId(String userEmail, String googleId) {
-        log.debug("Retrieving latest profile draft for user - Email: {}, Google ID: {}", userEmail, googleId);
-        
-        // First try by email
-        if (userEmail != null && !userEmail.isEmpty()) {
-            Optional<ProfileDraft> latestDraftByEmail = profileDraftRepository.findFirstByUserEmailOrderByLastModifiedAtDesc(userEmail);
-            if (latestDraftByEmail.isPresent()) {
-                log.info("Found latest draft by email: {}", userEmail);
-                return latestDraftByEmail.map(ProfileDraft::getFormDataJson);
-            }
-        }
-        
-        // If not found by email and we have a Google ID, try finding the user by Google ID
-        if (googleId != null && !googleId.isEmpty()) {
-            // Find the user by Google ID
-            Optional<User> userByGoogleId = userRepository.findByGoogleId(googleId);
-            if (userByGoogleId.isPresent()) {
-                User user = userByGoogleId.get();
-                log.info("Found user by Google ID: {}", googleId);
-                
-                // Get drafts by user
-                Optional<ProfileDraft> latestDraftByUser = profileDraftRepository.findFirstByUserOrderByLastModifiedAtDesc(user);
-                if (latestDraftByUser.isPresent()) {
-                    log.info("Found latest draft by user with Google ID: {}", googleId);
-                    return latestDraftByUser.map(ProfileDraft::getFormDataJson);
-                }
-            }
-        }
-        
-        // If we reach here, no draft was found
-        log.info("No draft found for user - Email: {}, Google ID: {}", userEmail, googleId);
-        return Optional.empty();
+        return getCurrentProfileDraftWithGoogleId(userEmail, googleId).map(ProfileDraft::getFormDataJson);
+    }
+    
+    /**
+     * Get the previous versions of a user's draft, newest first.
+     * Empty unless profile.draft.history-size is set.
+     * 
+     * @param userEmail The email of the user
+     * @param googleId The Google ID of the user (from OAuth2)
+     * @return The draft snapshots
+     */
+    @Transactional(readOnly = true)
+    public List<ProfileDraftSnapshot> getProfileDraftHistory(String userEmail, String googleId) {
+        return findUser(userEmail, googleId)
+                .map(user -> profileDraftSnapshotRepository.findByDraftIdOrderByDraftVersionDesc(user.getId()))
+                .orElse(List.of());
+    }
+    
+    /**
+     * Find the user owning a draft by email, then by Google ID.
+     * 
+     * @throws IllegalArgumentException If no user is found
+     */
+    private User findDraftOwner(String userEmail, String googleId) {
+        return findUser(userEmail, googleId).orElseThrow(() -> {
+            String errorMsg = "User not found - Email: " + userEmail + ", Google ID: " + googleId;
+            log.error(errorMsg);
+            return new IllegalArgumentException(errorMsg);
+        });
+    }
+    
+    /**
+     * Find a user by email, falling back to Google ID.
+     */
+    private Optional<User> findUser(String userEmail, String googleId) {
+        return userIdentityResolver.resolve(null, userEmail, googleId);
     }
     
     /**
@@ -1309,10 +985,9 @@ public class ProfileService {
     public void deleteAllProfileDrafts(String userEmail) {
         log.debug(LOG_DELETING_DRAFTS, userEmail);
         
-        // Find all drafts for the user
-        List<ProfileDraft> drafts = profileDraftRepository.findByUserEmail(userEmail);
-        
-        // Delete all drafts
-        profileDraftRepository.deleteAll(drafts);
+        findUser(userEmail, null).ifPresent(user -> draftWriteBuffer.discard(user.getId()));
+        // Bulk deletes, so legacy rows without a version are removed as well
+        profileDraftSnapshotRepository.deleteByUserEmail(userEmail);
+        profileDraftRepository.deleteByUserEmail(userEmail);
     }
 }
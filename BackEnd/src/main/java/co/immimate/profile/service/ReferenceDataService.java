@@ -0,0 +1,269 @@
+package co.immimate.profile.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.immimate.profile.dto.CitySuggestion;
+import co.immimate.profile.dto.SerializedPayload;
+
+/**
+ * Serves the Canadian city and country reference lists used by the profile form.
+ * The bundled JSON files are parsed once at startup into immutable arrays. Cities
+ * are stored in descending population order, so a filtered scan returns the most
+ * populated matches first and can stop as soon as it has enough results.
+ */
+@Service
+public class ReferenceDataService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataService.class);
+
+    // Bundled reference files
+    private static final String CITIES_RESOURCE = "reference-data/canadacities.json";
+    private static final String COUNTRIES_RESOURCE = "reference-data/countries.json";
+    private static final String FIELD_CITY = "City";
+    private static final String FIELD_POPULATION = "Population";
+    private static final String FIELD_PROVINCE = "Provinces";
+    private static final String FIELD_COUNTRY = "Countries";
+
+    // Marker for a city without a population figure
+    private static final int NO_POPULATION = -1;
+
+    // Text normalization
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_DIGITS = Pattern.compile("[^0-9]");
+    private static final String WORD_SEPARATORS = " -'";
+
+    // Log and error messages
+    private static final String LOG_LOADED = "Loaded {} cities in {} provinces and {} countries";
+    private static final String ERROR_READING = "Failed to read reference data %s";
+    private static final String ERROR_PARSING = "Failed to parse bundled city and country reference data";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Cities, ordered by population descending
+    private String[] cityNames;
+    private String[] cityProvinces;
+    private int[] cityPopulations;
+    private String[] foldedCityNames;
+
+    private List<String> provinces;
+    private List<String> countries;
+    private String[] foldedCountries;
+
+    private String version;
+    private SerializedPayload countriesPayload;
+    private SerializedPayload provincesPayload;
+
+    /**
+     * Parse the bundled files once at startup
+     */
+    @PostConstruct
+    public void load() {
+        byte[] citiesJson = read(CITIES_RESOURCE);
+        byte[] countriesJson = read(COUNTRIES_RESOURCE);
+        try {
+            loadCities(objectMapper.readTree(citiesJson));
+            loadCountries(objectMapper.readTree(countriesJson));
+            countriesPayload = SerializedPayload.of(objectMapper.writeValueAsBytes(countries));
+            provincesPayload = SerializedPayload.of(objectMapper.writeValueAsBytes(provinces));
+        } catch (IOException e) {
+            throw new UncheckedIOException(ERROR_PARSING, e);
+        }
+
+        byte[] combined = Arrays.copyOf(citiesJson, citiesJson.length + countriesJson.length);
+        System.arraycopy(countriesJson, 0, combined, citiesJson.length, countriesJson.length);
+        version = DigestUtils.md5DigestAsHex(combined);
+
+        logger.info(LOG_LOADED, cityNames.length, provinces.size(), countries.size());
+    }
+
+    /**
+     * Suggest cities whose name, or a word in it, starts with the query.
+     * Name prefixes rank before word prefixes, each ordered by population.
+     * @param query The search text, or blank for the most populated cities
+     * @param province Optional province filter (case-insensitive)
+     * @param limit The maximum number of results
+     * @return The matching cities
+     */
+    public List<CitySuggestion> searchCities(String query, String province, int limit) {
+        String foldedQuery = fold(query).trim();
+        List<CitySuggestion> results = new ArrayList<>(Math.max(limit, 0));
+        boolean[] taken = new boolean[cityNames.length];
+
+        // First pass: city name starts with the query
+        for (int i = 0; i < cityNames.length && results.size() < limit; i++) {
+            if (inProvince(i, province) && foldedCityNames[i].startsWith(foldedQuery)) {
+                results.add(toSuggestion(i));
+                taken[i] = true;
+            }
+        }
+        // Second pass: a later word of the name starts with the query
+        for (int i = 0; i < cityNames.length && results.size() < limit && !foldedQuery.isEmpty(); i++) {
+            if (!taken[i] && inProvince(i, province) && hasWordStartingWith(foldedCityNames[i], foldedQuery)) {
+                results.add(toSuggestion(i));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Get countries whose name starts with the query
+     * @param query The search text
+     * @return The matching countries in alphabetical order
+     */
+    public List<String> searchCountries(String query) {
+        String foldedQuery = fold(query).trim();
+        List<String> results = new ArrayList<>();
+        for (int i = 0; i < foldedCountries.length; i++) {
+            if (foldedCountries[i].startsWith(foldedQuery) || hasWordStartingWith(foldedCountries[i], foldedQuery)) {
+                results.add(countries.get(i));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Get the full country list, pre-serialized with a strong ETag
+     * @return The serialized country names
+     */
+    public SerializedPayload getCountriesPayload() {
+        return countriesPayload;
+    }
+
+    /**
+     * Get the province names, pre-serialized with a strong ETag
+     * @return The serialized province names
+     */
+    public SerializedPayload getProvincesPayload() {
+        return provincesPayload;
+    }
+
+    /**
+     * Get a hash of the loaded reference files, used to build ETags for search results
+     * @return The reference data version
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    private void loadCities(JsonNode root) {
+        List<CitySuggestion> cities = new ArrayList<>();
+        TreeSet<String> provinceNames = new TreeSet<>();
+        for (JsonNode node : root) {
+            String province = blankToNull(node.path(FIELD_PROVINCE).asText(""));
+            int population = parsePopulation(node.get(FIELD_POPULATION));
+            cities.add(new CitySuggestion(node.path(FIELD_CITY).asText("").trim(), province,
+                    population == NO_POPULATION ? null : population));
+            if (province != null) {
+                provinceNames.add(province);
+            }
+        }
+        // Rows without a population (e.g. the "any city" option) stay on top, most populated cities follow;
+        // the stable sort keeps the file order for equal or missing populations
+        cities.sort(Comparator.comparing(CitySuggestion::getPopulation,
+                Comparator.nullsFirst(Comparator.<Integer>reverseOrder())));
+
+        int size = cities.size();
+        cityNames = new String[size];
+        cityProvinces = new String[size];
+        cityPopulations = new int[size];
+        foldedCityNames = new String[size];
+        for (int i = 0; i < size; i++) {
+            CitySuggestion city = cities.get(i);
+            cityNames[i] = city.getCity();
+            // Share one String instance per province across all cities
+            cityProvinces[i] = city.getProvince() == null ? null : provinceNames.floor(city.getProvince());
+            cityPopulations[i] = city.getPopulation() == null ? NO_POPULATION : city.getPopulation();
+            foldedCityNames[i] = fold(city.getCity());
+        }
+        provinces = List.copyOf(provinceNames);
+    }
+
+    private void loadCountries(JsonNode root) {
+        List<String> names = new ArrayList<>();
+        for (JsonNode node : root) {
+            String name = blankToNull(node.path(FIELD_COUNTRY).asText(""));
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        countries = List.copyOf(names);
+        foldedCountries = names.stream().map(ReferenceDataService::fold).toArray(String[]::new);
+    }
+
+    /**
+     * Population is a number for most rows and an empty string for a few
+     */
+    private static int parsePopulation(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return NO_POPULATION;
+        }
+        if (node.isNumber()) {
+            return node.asInt();
+        }
+        String digits = NON_DIGITS.matcher(node.asText("")).replaceAll("");
+        return digits.isEmpty() ? NO_POPULATION : Integer.parseInt(digits);
+    }
+
+    private boolean inProvince(int position, String province) {
+        return province == null || province.isBlank() || province.equalsIgnoreCase(cityProvinces[position]);
+    }
+
+    private CitySuggestion toSuggestion(int position) {
+        return new CitySuggestion(cityNames[position], cityProvinces[position],
+                cityPopulations[position] == NO_POPULATION ? null : cityPopulations[position]);
+    }
+
+    private static boolean hasWordStartingWith(String text, String prefix) {
+        for (int i = 1; i < text.length(); i++) {
+            if (WORD_SEPARATORS.indexOf(text.charAt(i - 1)) >= 0 && text.startsWith(prefix, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lower-case and strip accents so "montreal" matches "Montréal"
+     */
+    private static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("").toLowerCase();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static byte[] read(String resource) {
+        try (InputStream input = new ClassPathResource(resource).getInputStream()) {
+            return StreamUtils.copyToByteArray(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format(ERROR_READING, resource), e);
+        }
+    }
+}
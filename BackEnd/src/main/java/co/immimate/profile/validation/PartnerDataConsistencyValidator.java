@@ -7,8 +7,8 @@ import co.immimate.profile.dto.ProfileSubmissionRequest;
 
 /**
  * Validator implementation for the {@link PartnerDataConsistency} annotation.
- * Validates that partner data is consistent with marital status.
- * If applicant is single, partner data should not be provided.
+ * Validates that partner data is consistent with marital status by checking the
+ * partner rules of the {@link ProfileRuleTable}.
  */
 public class PartnerDataConsistencyValidator implements ConstraintValidator<PartnerDataConsistency, ProfileSubmissionRequest> {
 
@@ -19,72 +19,6 @@ public class PartnerDataConsistencyValidator implements ConstraintValidator<Part
 
     @Override
     public boolean isValid(ProfileSubmissionRequest request, ConstraintValidatorContext context) {
-        // If marital status is not "Single", validation passes
-        if (request.getApplicantMaritalStatus() == null || 
-            !request.getApplicantMaritalStatus().equalsIgnoreCase("Single")) {
-            return true;
-        }
-        
-        // If applicant is single, partner data should not be provided
-        boolean isValid = true;
-        
-        // Disable default error message
-        context.disableDefaultConstraintViolation();
-        
-        // Check partner education level
-        if (request.getPartnerEducationLevel() != null && !request.getPartnerEducationLevel().trim().isEmpty()) {
-            context.buildConstraintViolationWithTemplate("Partner education level should not be provided for single applicants")
-                   .addPropertyNode("partnerEducationLevel")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        // Check partner language test type
-        if (request.getPartnerLanguageTestType() != null && !request.getPartnerLanguageTestType().trim().isEmpty()) {
-            context.buildConstraintViolationWithTemplate("Partner language test information should not be provided for single applicants")
-                   .addPropertyNode("partnerLanguageTestType")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        // Check partner test scores
-        if (request.getPartnerTestSpeakingScore() != null) {
-            context.buildConstraintViolationWithTemplate("Partner language scores should not be provided for single applicants")
-                   .addPropertyNode("partnerTestSpeakingScore")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        if (request.getPartnerTestListeningScore() != null) {
-            context.buildConstraintViolationWithTemplate("Partner language scores should not be provided for single applicants")
-                   .addPropertyNode("partnerTestListeningScore")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        if (request.getPartnerTestReadingScore() != null) {
-            context.buildConstraintViolationWithTemplate("Partner language scores should not be provided for single applicants")
-                   .addPropertyNode("partnerTestReadingScore")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        if (request.getPartnerTestWritingScore() != null) {
-            context.buildConstraintViolationWithTemplate("Partner language scores should not be provided for single applicants")
-                   .addPropertyNode("partnerTestWritingScore")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        // Check partner work experience - ignore if it's 0 since that's effectively the same as null
-        if (request.getPartnerCanadianWorkExperienceYears() != null && 
-            request.getPartnerCanadianWorkExperienceYears() > 0) {
-            context.buildConstraintViolationWithTemplate("Partner work experience should not be provided for single applicants")
-                   .addPropertyNode("partnerCanadianWorkExperienceYears")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        return isValid;
+        return ProfileRuleConstraints.check(ProfileRuleTable.GROUP_PARTNER, request, context);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package co.immimate.profile.validation;
+
+import java.util.function.Predicate;
+
+import co.immimate.profile.dto.ProfileSubmissionRequest;
+import lombok.Value;
+
+/**
+ * One row of the profile rule table: a named check on a submission and the message reported when it fails.
+ */
+@Value
+public class ProfileRule {
+
+    /**
+     * Stable identifier, e.g. "job-offer.noc-required"
+     */
+    String id;
+
+    /**
+     * Group the rule belongs to, see {@link ProfileRuleTable}
+     */
+    String group;
+
+    /**
+     * Request property the violation is reported on
+     */
+    String field;
+
+    /**
+     * Returns true when the request breaks the rule
+     */
+    Predicate<ProfileSubmissionRequest> violatedBy;
+
+    /**
+     * Message reported for a violation
+     */
+    String message;
+
+    /**
+     * Check the rule against a request
+     * @param request The submission to check
+     * @return The violation, or null when the rule holds
+     */
+    public ProfileRuleViolation check(ProfileSubmissionRequest request) {
+        return violatedBy.test(request) ? new ProfileRuleViolation(id, field, message) : null;
+    }
+}
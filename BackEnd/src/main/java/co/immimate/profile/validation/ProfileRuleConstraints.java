@@ -0,0 +1,43 @@
+package co.immimate.profile.validation;
+
+import javax.validation.ConstraintValidatorContext;
+
+import co.immimate.profile.dto.ProfileSubmissionRequest;
+
+/**
+ * Reports rule table violations as Bean Validation constraint violations
+ */
+final class ProfileRuleConstraints {
+
+    private ProfileRuleConstraints() {
+    }
+
+    /**
+     * Check one rule group, adding a constraint violation on the rule's field for each broken rule
+     * @param group Rule group to check
+     * @param request The submission
+     * @param context Validation context
+     * @return True if every rule of the group holds
+     */
+    static boolean check(String group, ProfileSubmissionRequest request, ConstraintValidatorContext context) {
+        if (request == null) {
+            return true;
+        }
+        boolean isValid = true;
+        for (ProfileRule rule : ProfileRuleTable.group(group)) {
+            ProfileRuleViolation violation = rule.check(request);
+            if (violation == null) {
+                continue;
+            }
+            if (isValid) {
+                // Disable default error message
+                context.disableDefaultConstraintViolation();
+                isValid = false;
+            }
+            context.buildConstraintViolationWithTemplate(violation.getMessage())
+                   .addPropertyNode(violation.getField())
+                   .addConstraintViolation();
+        }
+        return isValid;
+    }
+}
@@ -0,0 +1,253 @@
+package co.immimate.profile.validation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import co.immimate.profile.dto.ProfileSubmissionRequest;
+
+/**
+ * Business rules for profile submissions, declared once as a table and shared by the
+ * service-level {@link ProfileValidationEngine} and the class-level Bean Validation constraints.
+ * Rules are listed in reporting order, so fail-fast validation returns the same first error as collect-all.
+ */
+public final class ProfileRuleTable {
+
+    // Rule groups
+    public static final String GROUP_APPLICANT = "applicant";
+    public static final String GROUP_LANGUAGE = "language";
+    public static final String GROUP_EDUCATION = "education";
+    public static final String GROUP_JOB_OFFER = "job-offer";
+    public static final String GROUP_FUNDS = "funds";
+    public static final String GROUP_WORK = "work";
+    public static final String GROUP_SECONDARY_LANGUAGE = "secondary-language";
+    public static final String GROUP_PARTNER = "partner";
+    public static final String GROUP_PROVINCIAL = "provincial";
+    public static final String GROUP_RELATIVES = "relatives";
+
+    // Limits
+    private static final int MIN_LANGUAGE_SCORE = 1;
+    private static final int MAX_LANGUAGE_SCORE = 12;
+    private static final int MAX_REASONABLE_AGE = 120;
+    private static final String MARITAL_STATUS_SINGLE = "Single";
+    private static final String EDUCATION_HIGH_SCHOOL = "high-school";
+
+    // Message templates
+    private static final String VALIDATION_REQUIRED_FIELD = "%s is required";
+    private static final String VALIDATION_SCORE_RANGE = "%s score must be between %d and %d";
+    private static final String VALIDATION_NON_NEGATIVE = "%s must be non-negative";
+    private static final String VALIDATION_POSITIVE = "%s must be positive";
+
+    /**
+     * All rules, in reporting order
+     */
+    public static final List<ProfileRule> RULES = List.of(
+            // Applicant
+            rule("applicant.name-required", GROUP_APPLICANT, "applicantName",
+                    r -> isBlank(r.getApplicantName()),
+                    String.format(VALIDATION_REQUIRED_FIELD, "Applicant name")),
+            rule("applicant.age-required", GROUP_APPLICANT, "applicantAge",
+                    r -> r.getApplicantAge() == null,
+                    String.format(VALIDATION_REQUIRED_FIELD, "Applicant age")),
+            rule("applicant.age-positive", GROUP_APPLICANT, "applicantAge",
+                    r -> r.getApplicantAge() != null && r.getApplicantAge() <= 0,
+                    String.format(VALIDATION_POSITIVE, "Applicant age")),
+            rule("applicant.age-reasonable", GROUP_APPLICANT, "applicantAge",
+                    r -> r.getApplicantAge() != null && r.getApplicantAge() > MAX_REASONABLE_AGE,
+                    "Applicant age must be reasonable (under " + MAX_REASONABLE_AGE + ")"),
+
+            // Primary language test
+            rule("language.primary-complete", GROUP_LANGUAGE, "primaryLanguageTestType",
+                    ProfileRuleTable::hasIncompletePrimaryScores,
+                    "All primary language test scores (speaking, listening, reading, writing) must be provided"),
+            scoreRange("language.primary-speaking-range", GROUP_LANGUAGE, "primaryTestSpeakingScore",
+                    ProfileSubmissionRequest::getPrimaryTestSpeakingScore, "Primary speaking"),
+            scoreRange("language.primary-listening-range", GROUP_LANGUAGE, "primaryTestListeningScore",
+                    ProfileSubmissionRequest::getPrimaryTestListeningScore, "Primary listening"),
+            scoreRange("language.primary-reading-range", GROUP_LANGUAGE, "primaryTestReadingScore",
+                    ProfileSubmissionRequest::getPrimaryTestReadingScore, "Primary reading"),
+            scoreRange("language.primary-writing-range", GROUP_LANGUAGE, "primaryTestWritingScore",
+                    ProfileSubmissionRequest::getPrimaryTestWritingScore, "Primary writing"),
+
+            // Educational credential assessment
+            rule("education.eca-for-foreign", GROUP_EDUCATION, "hasEducationalCredentialAssessment",
+                    r -> Boolean.FALSE.equals(r.getEducationCompletedInCanada())
+                            && !Boolean.TRUE.equals(r.getHasEducationalCredentialAssessment())
+                            && r.getApplicantEducationLevel() != null
+                            && !r.getApplicantEducationLevel().equalsIgnoreCase(EDUCATION_HIGH_SCHOOL),
+                    "Foreign education without ECA: You have indicated foreign education but no Educational Credential Assessment (ECA). An ECA is typically required for foreign education credentials."),
+
+            // Job offer
+            rule("job-offer.noc-required", GROUP_JOB_OFFER, "jobOfferNocCode",
+                    r -> Boolean.TRUE.equals(r.getHasJobOffer()) && r.getJobOfferNocCode() == null,
+                    "Job offer selected but no NOC code provided"),
+            rule("job-offer.wage-positive", GROUP_JOB_OFFER, "jobOfferWageCAD",
+                    r -> Boolean.TRUE.equals(r.getHasJobOffer()) && r.getJobOfferWageCAD() != null
+                            && r.getJobOfferWageCAD() <= 0,
+                    "Job offer wage must be positive"),
+
+            // Settlement funds
+            rule("funds.non-negative", GROUP_FUNDS, "settlementFundsCAD",
+                    r -> r.getSettlementFundsCAD() != null && r.getSettlementFundsCAD() < 0,
+                    "Settlement funds cannot be negative"),
+
+            // Foreign work experience
+            rule("work.foreign-noc-required", GROUP_WORK, "nocCodeForeign",
+                    r -> r.getForeignWorkExperienceYears() != null && r.getForeignWorkExperienceYears() > 0
+                            && r.getNocCodeForeign() == null,
+                    "Foreign work experience years > 0 but no NOC code provided"),
+
+            // Secondary language test
+            rule("secondary-language.type-required", GROUP_SECONDARY_LANGUAGE, "secondaryTestType",
+                    r -> tookSecondaryTest(r) && isBlank(r.getSecondaryTestType()),
+                    "Secondary language test type is required when secondary test is indicated"),
+            rule("secondary-language.type-differs", GROUP_SECONDARY_LANGUAGE, "secondaryTestType",
+                    r -> tookSecondaryTest(r) && !isBlank(r.getSecondaryTestType())
+                            && r.getSecondaryTestType().equals(r.getPrimaryLanguageTestType()),
+                    "Secondary language test type cannot be the same as primary test type"),
+            secondaryScoreRequired("speaking", "secondaryTestSpeakingScore",
+                    ProfileSubmissionRequest::getSecondaryTestSpeakingScore),
+            secondaryScoreRange("speaking", "secondaryTestSpeakingScore",
+                    ProfileSubmissionRequest::getSecondaryTestSpeakingScore),
+            secondaryScoreRequired("listening", "secondaryTestListeningScore",
+                    ProfileSubmissionRequest::getSecondaryTestListeningScore),
+            secondaryScoreRange("listening", "secondaryTestListeningScore",
+                    ProfileSubmissionRequest::getSecondaryTestListeningScore),
+            secondaryScoreRequired("reading", "secondaryTestReadingScore",
+                    ProfileSubmissionRequest::getSecondaryTestReadingScore),
+            secondaryScoreRange("reading", "secondaryTestReadingScore",
+                    ProfileSubmissionRequest::getSecondaryTestReadingScore),
+            secondaryScoreRequired("writing", "secondaryTestWritingScore",
+                    ProfileSubmissionRequest::getSecondaryTestWritingScore),
+            secondaryScoreRange("writing", "secondaryTestWritingScore",
+                    ProfileSubmissionRequest::getSecondaryTestWritingScore),
+
+            // Partner
+            rule("partner.none-for-single", GROUP_PARTNER, "applicantMaritalStatus",
+                    r -> isSingle(r) && hasPartnerData(r),
+                    "Partner data provided for a single person"),
+            rule("partner.test-scores-required", GROUP_PARTNER, "partnerLanguageTestType",
+                    r -> hasPartner(r) && !isBlank(r.getPartnerLanguageTestType())
+                            && r.getPartnerTestSpeakingScore() == null && r.getPartnerTestListeningScore() == null
+                            && r.getPartnerTestReadingScore() == null && r.getPartnerTestWritingScore() == null,
+                    "At least one partner language test score must be provided when a partner test type is indicated"),
+            partnerScoreRange("speaking", "partnerTestSpeakingScore", ProfileSubmissionRequest::getPartnerTestSpeakingScore),
+            partnerScoreRange("listening", "partnerTestListeningScore", ProfileSubmissionRequest::getPartnerTestListeningScore),
+            partnerScoreRange("reading", "partnerTestReadingScore", ProfileSubmissionRequest::getPartnerTestReadingScore),
+            partnerScoreRange("writing", "partnerTestWritingScore", ProfileSubmissionRequest::getPartnerTestWritingScore),
+            rule("partner.canadian-years-non-negative", GROUP_PARTNER, "partnerCanadianWorkExperienceYears",
+                    r -> hasPartner(r) && r.getPartnerCanadianWorkExperienceYears() != null
+                            && r.getPartnerCanadianWorkExperienceYears() < 0,
+                    String.format(VALIDATION_NON_NEGATIVE, "Partner Canadian work experience years")),
+
+            // Canadian education
+            rule("education.canadian-level-required", GROUP_EDUCATION, "canadianEducationLevel",
+                    r -> Boolean.TRUE.equals(r.getEducationCompletedInCanada()) && isBlank(r.getCanadianEducationLevel()),
+                    "Canadian education level is required when education completed in Canada is indicated"),
+
+            // Provincial nomination
+            rule("provincial.province-required", GROUP_PROVINCIAL, "provinceOfInterest",
+                    r -> Boolean.TRUE.equals(r.getHasProvincialNomination()) && isBlank(r.getProvinceOfInterest()),
+                    "Provincial nomination selected but no province provided"),
+
+            // Canadian relatives
+            rule("relatives.relationship-required", GROUP_RELATIVES, "relationshipWithCanadianRelative",
+                    r -> Boolean.TRUE.equals(r.getHasCanadianRelatives()) && isBlank(r.getRelationshipWithCanadianRelative()),
+                    "Canadian relative selected but no relationship with Canadian relative specified"),
+
+            // Working in Canada
+            rule("work.canadian-years-when-working", GROUP_WORK, "canadianWorkExperienceYears",
+                    r -> Boolean.TRUE.equals(r.getWorkingInCanada())
+                            && (r.getCanadianWorkExperienceYears() == null || r.getCanadianWorkExperienceYears() <= 0),
+                    "Canadian work experience years should be positive when currently working in Canada"),
+            rule("work.canadian-years-non-negative", GROUP_WORK, "canadianWorkExperienceYears",
+                    r -> r.getCanadianWorkExperienceYears() != null && r.getCanadianWorkExperienceYears() < 0,
+                    "Canadian work experience years must be non-negative"));
+
+    private static final Map<String, List<ProfileRule>> RULES_BY_GROUP = RULES.stream()
+            .collect(Collectors.groupingBy(ProfileRule::getGroup, Collectors.toUnmodifiableList()));
+
+    private ProfileRuleTable() {
+    }
+
+    /**
+     * Rules of one group, in reporting order
+     * @param group One of the GROUP_ constants
+     * @return The rules, empty for an unknown group
+     */
+    public static List<ProfileRule> group(String group) {
+        return RULES_BY_GROUP.getOrDefault(group, List.of());
+    }
+
+    private static ProfileRule rule(String id, String group, String field,
+            Predicate<ProfileSubmissionRequest> violatedBy, String message) {
+        return new ProfileRule(id, group, field, violatedBy, message);
+    }
+
+    private static ProfileRule scoreRange(String id, String group, String field,
+            Function<ProfileSubmissionRequest, Integer> score, String label) {
+        return rule(id, group, field, r -> isOutOfRange(score.apply(r)),
+                String.format(VALIDATION_SCORE_RANGE, label, MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
+    }
+
+    private static ProfileRule secondaryScoreRequired(String skill, String field,
+            Function<ProfileSubmissionRequest, Integer> score) {
+        return rule("secondary-language." + skill + "-required", GROUP_SECONDARY_LANGUAGE, field,
+                r -> tookSecondaryTest(r) && score.apply(r) == null,
+                "Secondary language " + skill + " score is required when secondary test is indicated");
+    }
+
+    private static ProfileRule secondaryScoreRange(String skill, String field,
+            Function<ProfileSubmissionRequest, Integer> score) {
+        return rule("secondary-language." + skill + "-range", GROUP_SECONDARY_LANGUAGE, field,
+                r -> tookSecondaryTest(r) && isOutOfRange(score.apply(r)),
+                String.format(VALIDATION_SCORE_RANGE, "Secondary " + skill, MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
+    }
+
+    private static ProfileRule partnerScoreRange(String skill, String field,
+            Function<ProfileSubmissionRequest, Integer> score) {
+        return rule("partner." + skill + "-range", GROUP_PARTNER, field,
+                r -> hasPartner(r) && isOutOfRange(score.apply(r)),
+                String.format(VALIDATION_SCORE_RANGE, "Partner " + skill, MIN_LANGUAGE_SCORE, MAX_LANGUAGE_SCORE));
+    }
+
+    private static boolean hasIncompletePrimaryScores(ProfileSubmissionRequest r) {
+        int provided = (r.getPrimaryTestSpeakingScore() != null ? 1 : 0)
+                + (r.getPrimaryTestListeningScore() != null ? 1 : 0)
+                + (r.getPrimaryTestReadingScore() != null ? 1 : 0)
+                + (r.getPrimaryTestWritingScore() != null ? 1 : 0);
+        return provided > 0 && provided < 4;
+    }
+
+    private static boolean tookSecondaryTest(ProfileSubmissionRequest r) {
+        return Boolean.TRUE.equals(r.getTookSecondaryLanguageTest());
+    }
+
+    private static boolean isSingle(ProfileSubmissionRequest r) {
+        return MARITAL_STATUS_SINGLE.equalsIgnoreCase(r.getApplicantMaritalStatus());
+    }
+
+    private static boolean hasPartner(ProfileSubmissionRequest r) {
+        return r.getApplicantMaritalStatus() != null && !isSingle(r);
+    }
+
+    /**
+     * Zero partner work experience is treated like none
+     */
+    private static boolean hasPartnerData(ProfileSubmissionRequest r) {
+        return !isBlank(r.getPartnerEducationLevel()) || !isBlank(r.getPartnerLanguageTestType())
+                || r.getPartnerTestSpeakingScore() != null || r.getPartnerTestListeningScore() != null
+                || r.getPartnerTestReadingScore() != null || r.getPartnerTestWritingScore() != null
+                || r.getPartnerCanadianWorkExperienceYears() != null && r.getPartnerCanadianWorkExperienceYears() > 0;
+    }
+
+    private static boolean isOutOfRange(Integer score) {
+        return score != null && (score < MIN_LANGUAGE_SCORE || score > MAX_LANGUAGE_SCORE);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package co.immimate.profile.validation;
+
+import lombok.Value;
+
+/**
+ * A profile rule that a submission breaks
+ */
+@Value
+public class ProfileRuleViolation {
+    String rule;
+    String field;
+    String message;
+}
@@ -0,0 +1,144 @@
+package co.immimate.profile.validation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import co.immimate.config.MetricsSource;
+import co.immimate.profile.dto.ProfileSubmissionRequest;
+
+/**
+ * Runs the {@link ProfileRuleTable} against profile submissions.
+ * Fail-fast mode stops at the first violation (submit path), collect-all reports every violation
+ * (form UI), and batch mode validates many profiles at once, in parallel for large batches (imports).
+ * Each run evaluates at most {@code ProfileRuleTable.RULES.size()} constant-time rules.
+ */
+@Component
+public class ProfileValidationEngine implements MetricsSource {
+
+    /**
+     * How far a single validation goes
+     */
+    public enum Mode {
+        FAIL_FAST,
+        COLLECT_ALL
+    }
+
+    // Defaults
+    private static final int DEFAULT_MAX_BATCH_SIZE = 10_000;
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+
+    // Error messages
+    private static final String ERR_BATCH_TOO_LARGE = "Batch of %d profiles exceeds the maximum of %d";
+
+    // Metrics
+    private static final String METRICS_NAME = "profileValidation";
+    private static final String METRIC_VALIDATIONS = "validations";
+    private static final String METRIC_BATCHES = "batches";
+    private static final String METRIC_RULES_EVALUATED = "rulesEvaluated";
+    private static final String METRIC_VIOLATIONS = "violations";
+    private static final String METRIC_RULE_COUNT = "ruleCount";
+    private static final String METRIC_AVG_MICROS = "avgMicros";
+    private static final String METRIC_MAX_MICROS = "maxMicros";
+
+    private final List<ProfileRule> rules = ProfileRuleTable.RULES;
+
+    private final LongAdder validations = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder rulesEvaluated = new LongAdder();
+    private final LongAdder violations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    // Largest batch accepted by validateBatch
+    @Value("${profile.validation.max-batch-size:" + DEFAULT_MAX_BATCH_SIZE + "}")
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    // Batches at least this large are validated in parallel
+    @Value("${profile.validation.parallel-threshold:" + DEFAULT_PARALLEL_THRESHOLD + "}")
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * Validate one submission
+     * @param request The submission
+     * @param mode FAIL_FAST to stop at the first violation, COLLECT_ALL to report all of them
+     * @return The violations in rule table order, empty when the submission is valid
+     */
+    public List<ProfileRuleViolation> validate(ProfileSubmissionRequest request, Mode mode) {
+        long start = System.nanoTime();
+        List<ProfileRuleViolation> found = new ArrayList<>(mode == Mode.FAIL_FAST ? 1 : 4);
+        int evaluated = 0;
+        for (ProfileRule rule : rules) {
+            evaluated++;
+            ProfileRuleViolation violation = rule.check(request);
+            if (violation != null) {
+                found.add(violation);
+                if (mode == Mode.FAIL_FAST) {
+                    break;
+                }
+            }
+        }
+        record(evaluated, found.size(), System.nanoTime() - start);
+        return found;
+    }
+
+    /**
+     * Validate many submissions, e.g. imported profiles
+     * @param requests The submissions
+     * @param mode Mode applied to each submission
+     * @return Violations per submission, in input order
+     * @throws IllegalArgumentException If the batch exceeds the configured maximum size
+     */
+    public List<List<ProfileRuleViolation>> validateBatch(List<ProfileSubmissionRequest> requests, Mode mode) {
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException(String.format(ERR_BATCH_TOO_LARGE, requests.size(), maxBatchSize));
+        }
+        batches.increment();
+        if (requests.size() < parallelThreshold) {
+            List<List<ProfileRuleViolation>> results = new ArrayList<>(requests.size());
+            for (ProfileSubmissionRequest request : requests) {
+                results.add(validate(request, mode));
+            }
+            return results;
+        }
+        // Ordered parallel stream, results stay aligned with the input
+        return requests.parallelStream()
+                .map(request -> validate(request, mode))
+                .collect(Collectors.toList());
+    }
+
+    private void record(int evaluated, int violationCount, long nanos) {
+        validations.increment();
+        rulesEvaluated.add(evaluated);
+        violations.add(violationCount);
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return METRICS_NAME;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        long count = validations.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(METRIC_VALIDATIONS, count);
+        metrics.put(METRIC_BATCHES, batches.sum());
+        metrics.put(METRIC_RULES_EVALUATED, rulesEvaluated.sum());
+        metrics.put(METRIC_VIOLATIONS, violations.sum());
+        metrics.put(METRIC_RULE_COUNT, rules.size());
+        metrics.put(METRIC_AVG_MICROS, count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.sum() / count));
+        metrics.put(METRIC_MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(maxNanos.get()));
+        return metrics;
+    }
+}
@@ -7,7 +7,8 @@ import co.immimate.profile.dto.ProfileSubmissionRequest;
 
 /**
  * Validator implementation for the {@link SecondaryLanguageConsistency} annotation.
- * Validates that if secondary language test is indicated, all related fields are provided.
+ * Validates that if secondary language test is indicated, all related fields are provided,
+ * by checking the secondary language rules of the {@link ProfileRuleTable}.
  */
 public class SecondaryLanguageConsistencyValidator implements ConstraintValidator<SecondaryLanguageConsistency, ProfileSubmissionRequest> {
 
@@ -18,57 +19,6 @@ public class SecondaryLanguageConsistencyValidator implements ConstraintValidato
 
     @Override
     public boolean isValid(ProfileSubmissionRequest request, ConstraintValidatorContext context) {
-        // If secondary language test is not indicated, validation passes
-        if (request.getTookSecondaryLanguageTest() == null || !request.getTookSecondaryLanguageTest()) {
-            return true;
-        }
-        
-        // If secondary language test is indicated, all related fields must be provided
-        boolean isValid = true;
-        
-        // Disable default error message
-        context.disableDefaultConstraintViolation();
-        
-        // Check secondary test type
-        if (request.getSecondaryTestType() == null || request.getSecondaryTestType().trim().isEmpty()) {
-            context.buildConstraintViolationWithTemplate("Secondary language test type is required when secondary test is indicated")
-                   .addPropertyNode("secondaryTestType")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        // Check secondary test speaking score
-        if (request.getSecondaryTestSpeakingScore() == null) {
-            context.buildConstraintViolationWithTemplate("Secondary language speaking score is required when secondary test is indicated")
-                   .addPropertyNode("secondaryTestSpeakingScore")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        // Check secondary test listening score
-        if (request.getSecondaryTestListeningScore() == null) {
-            context.buildConstraintViolationWithTemplate("Secondary language listening score is required when secondary test is indicated")
-                   .addPropertyNode("secondaryTestListeningScore")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        // Check secondary test reading score
-        if (request.getSecondaryTestReadingScore() == null) {
-            context.buildConstraintViolationWithTemplate("Secondary language reading score is required when secondary test is indicated")
-                   .addPropertyNode("secondaryTestReadingScore")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        // Check secondary test writing score
-        if (request.getSecondaryTestWritingScore() == null) {
-            context.buildConstraintViolationWithTemplate("Secondary language writing score is required when secondary test is indicated")
-                   .addPropertyNode("secondaryTestWritingScore")
-                   .addConstraintViolation();
-            isValid = false;
-        }
-        
-        return isValid;
+        return ProfileRuleConstraints.check(ProfileRuleTable.GROUP_SECONDARY_LANGUAGE, request, context);
     }
-} 
\ No newline at end of file
+}
@@ -5,11 +5,14 @@ import java.util.UUID;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 
+import co.immimate.user.service.UserIdentityCacheListener;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,7 +20,9 @@ import lombok.Setter;
 
 
 @Entity  // Marks this class as a JPA entity (maps to a database table)
-@Table(name = "users")  // Specifies the table name in the database
+@EntityListeners(UserIdentityCacheListener.class)  // Keeps the user lookup cache in step with the table
+@Table(name = "users",  // Specifies the table name in the database
+        indexes = @Index(name = "idx_users_google_id", columnList = "google_id"))  // Google ID lookups
 @Getter  // Generates getter methods for all fields (from Lombok)
 @Setter  // Generates setter methods for all fields (from Lombok)
 @NoArgsConstructor  // Generates a no-argument constructor (from Lombok)
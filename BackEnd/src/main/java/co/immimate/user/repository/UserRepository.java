@@ -1,10 +1,13 @@
 package co.immimate.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +35,19 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Optional<User> findByGoogleId(String googleId);
     
+    /**
+     * Find every user matching the ID, email or Google ID in a single query.
+     * Null arguments match nothing; callers pick the best match.
+     *
+     * @param id User ID
+     * @param email User email
+     * @param googleId Google ID from OAuth
+     * @return Matching users, at most one per argument
+     */
+    @Query("SELECT u FROM User u WHERE u.id = :id OR u.email = :email OR u.googleId = :googleId")
+    List<User> findByIdOrEmailOrGoogleId(@Param("id") UUID id, @Param("email") String email,
+            @Param("googleId") String googleId);
+    
     /**
      * Check if a user exists with the given email
      *
@@ -40,6 +56,19 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     boolean existsByEmail(String email);
     
+    /**
+     * Replace a password hash, unless the password was changed since the old hash was read
+     *
+     * @param id User ID
+     * @param oldHash Hash the new one replaces
+     * @param newHash New hash of the same password
+     * @return Number of rows updated, 0 if the stored hash no longer matches oldHash
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordHash(@Param("id") UUID id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+    
     /**
      * Delete a user by email
      * 
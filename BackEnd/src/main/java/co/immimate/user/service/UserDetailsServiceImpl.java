@@ -1,50 +1,128 @@
 package co.immimate.user.service;
 
 import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.immimate.config.MetricsSource;
 import co.immimate.user.model.User;
 import co.immimate.user.repository.UserRepository;
 
 /**
- * Service for loading user-specific data for Spring Security
+ * Service for loading user-specific data for Spring Security.
+ * Loaded users are kept in a short-TTL cache, and role or password changes are recorded so that
+ * tokens issued before the change are no longer trusted on their claims alone.
  */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, MetricsSource {
 
     private static final Logger logger = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
 
+    // Defaults
+    private static final long DEFAULT_CACHE_TTL_MS = 60_000L;
+    private static final long DEFAULT_CACHE_MAX_SIZE = 10_000L;
+    private static final long DEFAULT_TOKEN_LIFETIME_MS = 86_400_000L;
+    private static final long MAX_TRACKED_CHANGES = 100_000L;
+
+    // Authorities
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    // Log messages
+    private static final String LOG_USER_INVALIDATED = "Invalidated cached user details for: {}";
+
+    // Metrics
+    private static final String METRICS_NAME = "userDetailsCache";
+    private static final String METRIC_HITS = "hits";
+    private static final String METRIC_MISSES = "misses";
+    private static final String METRIC_INVALIDATIONS = "invalidations";
+    private static final String METRIC_SIZE = "size";
+
     @Autowired
     private UserRepository userRepository;
 
+    // How long a loaded user is served from memory; 0 disables the cache
+    @Value("${auth.user-details-cache.ttl-ms:" + DEFAULT_CACHE_TTL_MS + "}")
+    private long cacheTtlMs = DEFAULT_CACHE_TTL_MS;
+
+    @Value("${auth.user-details-cache.max-size:" + DEFAULT_CACHE_MAX_SIZE + "}")
+    private long cacheMaxSize = DEFAULT_CACHE_MAX_SIZE;
+
+    // A change only matters while tokens issued before it can still be presented
+    @Value("${jwt.expiration:" + DEFAULT_TOKEN_LIFETIME_MS + "}")
+    private long tokenLifetimeMs = DEFAULT_TOKEN_LIFETIME_MS;
+
+    private volatile Cache<String, UserDetails> userCache;
+    private volatile Cache<String, Long> credentialChanges;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Builds the user cache and the role/password change log
+     */
+    @PostConstruct
+    public void initCaches() {
+        userCache = cacheTtlMs > 0 && cacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS)
+                        .<String, UserDetails>build()
+                : null;
+        credentialChanges = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_CHANGES)
+                .expireAfterWrite(Math.max(tokenLifetimeMs, 0), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
     /**
-     * Loads a user by username (email)
+     * Loads a user by username (email).
+     * Not transactional, so a cache hit costs no database connection; a miss reads only plain
+     * columns of the user row in the repository's own transaction.
      *
      * @param email User email
      * @return UserDetails for Spring Security
      * @throws UsernameNotFoundException If user not found
      */
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        Cache<String, UserDetails> cache = userCache;
+        if (cache != null && email != null) {
+            UserDetails cached = cache.getIfPresent(email);
+            if (cached != null) {
+                hits.increment();
+                // Hand out a copy, authentication erases the credentials of the instance it receives
+                return org.springframework.security.core.userdetails.User.withUserDetails(cached).build();
+            }
+        }
+        misses.increment();
         logger.debug("Loading user by email: {}", email);
         
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         List<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole())
+                new SimpleGrantedAuthority(ROLE_PREFIX + user.getRole())
         );
         
         // Check if this might be an OAuth2 user with a null or empty password
@@ -57,7 +135,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         }
 
         logger.debug("Returning UserDetails for email: {}", email);
-        return new org.springframework.security.core.userdetails.User(
+        UserDetails userDetails = new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
                 password,
                 true,   // enabled
@@ -66,5 +144,92 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 true,   // accountNonLocked
                 authorities
         );
+        if (cache != null) {
+            cache.put(email, org.springframework.security.core.userdetails.User.withUserDetails(userDetails).build());
+        }
+        return userDetails;
+    }
+
+    /**
+     * Builds user details straight from verified token claims, without touching the database
+     *
+     * @param email Token subject
+     * @param role Role claim of the token
+     * @return UserDetails carrying the role as its only authority
+     */
+    public UserDetails fromClaims(String email, String role) {
+        return org.springframework.security.core.userdetails.User.withUsername(email)
+                .password("")
+                .authorities(ROLE_PREFIX + role)
+                .build();
+    }
+
+    /**
+     * Must be called whenever a user's role or password changes. Drops the cached user and
+     * marks tokens issued up to now as stale, so they are re-checked against the database.
+     *
+     * @param email User email
+     */
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        Cache<String, UserDetails> cache = userCache;
+        if (cache != null) {
+            cache.invalidate(email);
+        }
+        Cache<String, Long> changes = credentialChanges;
+        if (changes != null) {
+            changes.put(email, System.currentTimeMillis());
+        }
+        invalidations.increment();
+        logger.debug(LOG_USER_INVALIDATED, email);
+    }
+
+    /**
+     * Drops the cached user without marking tokens stale, e.g. after a password hash was upgraded
+     * to a new cost without the password itself changing
+     *
+     * @param email User email
+     */
+    public void evictCached(String email) {
+        Cache<String, UserDetails> cache = userCache;
+        if (cache != null && email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    /**
+     * Whether the user's role or password changed at or after the given token issue time.
+     * Only changes made on this node are known, and a deleted user is never reported.
+     *
+     * @param email User email
+     * @param issuedAt Issue time of the token, null if the token has none
+     * @return True if claims from that token may be out of date
+     */
+    public boolean isChangedSince(String email, Date issuedAt) {
+        Cache<String, Long> changes = credentialChanges;
+        Long changedAt = changes == null || email == null ? null : changes.getIfPresent(email);
+        if (changedAt == null) {
+            return false;
+        }
+        // Issue times have second precision, so a token from the same second counts as stale
+        return issuedAt == null || issuedAt.getTime() <= changedAt;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return METRICS_NAME;
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Cache<String, UserDetails> cache = userCache;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put(METRIC_HITS, hits.sum());
+        metrics.put(METRIC_MISSES, misses.sum());
+        metrics.put(METRIC_INVALIDATIONS, invalidations.sum());
+        metrics.put(METRIC_SIZE, cache == null ? 0 : cache.estimatedSize());
+        return metrics;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package co.immimate.user.service;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.immimate.user.model.User;
+
+/**
+ * JPA entity listener that keeps the {@link UserIdentityResolver} cache in step with the users table.
+ * Eviction runs after commit, so a concurrent lookup cannot re-cache the pre-commit state.
+ */
+public class UserIdentityCacheListener {
+
+    @Autowired
+    private ObjectProvider<UserIdentityResolver> userIdentityResolver;
+
+    /**
+     * A new user may be a better match for cached email or Google ID lookups
+     * @param user The created user
+     */
+    @PostPersist
+    public void onUserCreated(User user) {
+        afterCommit(() -> userIdentityResolver.ifAvailable(UserIdentityResolver::evictAll));
+    }
+
+    /**
+     * Drop the lookups resolved to a changed or deleted user
+     * @param user The updated or deleted user
+     */
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        afterCommit(() -> userIdentityResolver.ifAvailable(resolver -> resolver.evict(user.getId())));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (userIdentityResolver == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
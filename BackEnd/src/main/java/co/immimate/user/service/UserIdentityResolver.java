@@ -0,0 +1,221 @@
+package co.immimate.user.service;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.immimate.user.model.User;
+import co.immimate.user.repository.UserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves the application user behind an ID, email, Google ID or authenticated principal
+ * with a single query instead of chained findById / findByEmail / findByGoogleId lookups.
+ * The user entity is cached for the current request only. Across requests just the resolved
+ * user ID is cached briefly, and the user is loaded by primary key through the persistence
+ * context, so callers never share a detached entity. {@link UserIdentityCacheListener} evicts
+ * the IDs when users are created, updated or deleted.
+ */
+@Component
+public class UserIdentityResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(UserIdentityResolver.class);
+
+    // OAuth2 attributes
+    private static final String OAUTH2_ATTR_EMAIL = "email";
+    private static final String OAUTH2_ATTR_SUB = "sub";
+
+    // Principal names containing this are emails, anything else is treated as a Google ID
+    private static final String EMAIL_MARKER = "@";
+
+    // Cache settings
+    private static final long MAX_CACHED_USERS = 10_000;
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserIdentityResolver.class.getName() + ".";
+    private static final String KEY_SEPARATOR = "|";
+
+    // Log messages
+    private static final String LOG_RESOLVED = "Resolved user {} for identity {}";
+
+    private final UserRepository userRepository;
+    private final Cache<String, UUID> recentUserIds;
+
+    public UserIdentityResolver(UserRepository userRepository,
+            @Value("${user.identity-cache.ttl-ms:30000}") long cacheTtlMs) {
+        this.userRepository = userRepository;
+        this.recentUserIds = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_USERS)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .build();
+    }
+
+    /**
+     * Resolve the user of the current security context
+     * @return The user, or empty if nobody is authenticated or the user does not exist
+     */
+    public Optional<User> resolveCurrent() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return Optional.empty();
+        }
+        return resolve(authentication);
+    }
+
+    /**
+     * Resolve the user behind an authenticated principal (form login, JWT or OAuth2)
+     * @param principal The principal
+     * @return The user, or empty if not found
+     */
+    public Optional<User> resolve(Principal principal) {
+        if (principal == null) {
+            return Optional.empty();
+        }
+        Identity identity = identify(principal);
+        return resolve(null, identity.getEmail(), identity.getGoogleId());
+    }
+
+    /**
+     * Resolve a user by ID, email or Google ID, in that order of preference
+     * @param id The user ID, may be null
+     * @param email The email, may be null
+     * @param googleId The Google ID, may be null
+     * @return The user, or empty if none matches
+     */
+    public Optional<User> resolve(UUID id, String email, String googleId) {
+        email = blankToNull(email);
+        googleId = blankToNull(googleId);
+        if (id == null && email == null && googleId == null) {
+            return Optional.empty();
+        }
+
+        String key = cacheKey(id, email, googleId);
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        String requestAttribute = REQUEST_ATTRIBUTE_PREFIX + key;
+        if (request != null && request.getAttribute(requestAttribute, RequestAttributes.SCOPE_REQUEST) instanceof User user) {
+            return Optional.of(user);
+        }
+
+        User user = null;
+        UUID cachedId = recentUserIds.getIfPresent(key);
+        if (cachedId != null) {
+            user = userRepository.findById(cachedId).orElse(null);
+            if (user == null || !matches(user, id, email, googleId)) {
+                user = null;
+                // Deleted or re-identified since it was cached
+                recentUserIds.invalidate(key);
+            }
+        }
+        if (user == null) {
+            user = pickBestMatch(userRepository.findByIdOrEmailOrGoogleId(id, email, googleId), id, email);
+            if (user == null) {
+                // Not cached, so a user who registers next is found right away
+                return Optional.empty();
+            }
+            log.debug(LOG_RESOLVED, user.getId(), key);
+            recentUserIds.put(key, user.getId());
+        }
+        if (request != null) {
+            request.setAttribute(requestAttribute, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of(user);
+    }
+
+    /**
+     * Extract the email and Google ID carried by a principal
+     * @param principal The principal
+     * @return The identity, with null fields when unknown
+     */
+    public Identity identify(Principal principal) {
+        if (principal instanceof OAuth2AuthenticationToken oauth2Auth) {
+            return new Identity(
+                    oauth2Auth.getPrincipal().getAttribute(OAUTH2_ATTR_EMAIL),
+                    oauth2Auth.getPrincipal().getAttribute(OAUTH2_ATTR_SUB));
+        }
+        String name = principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserDetails userDetails
+                ? userDetails.getUsername() : principal.getName();
+        if (name == null) {
+            return new Identity(null, null);
+        }
+        return name.contains(EMAIL_MARKER) ? new Identity(name, null) : new Identity(null, name);
+    }
+
+    /**
+     * Drop the cached lookups that resolved to a user, e.g. after the user was updated or deleted
+     * @param userId The user ID
+     */
+    public void evict(UUID userId) {
+        recentUserIds.asMap().values().removeIf(userId::equals);
+    }
+
+    /**
+     * Drop all cached lookups, e.g. after a user was created and may now be the better match
+     */
+    public void evictAll() {
+        recentUserIds.invalidateAll();
+    }
+
+    /**
+     * Whether a cached user still carries the identity it was resolved by
+     */
+    private static boolean matches(User user, UUID id, String email, String googleId) {
+        if (id != null) {
+            return id.equals(user.getId());
+        }
+        return (email != null && email.equals(user.getEmail()))
+                || (googleId != null && googleId.equals(user.getGoogleId()));
+    }
+
+    /**
+     * The query may match different users on different columns, prefer ID, then email, then Google ID
+     */
+    private static User pickBestMatch(List<User> candidates, UUID id, String email) {
+        User best = null;
+        int bestRank = Integer.MAX_VALUE;
+        for (User candidate : candidates) {
+            int rank = id != null && id.equals(candidate.getId()) ? 0
+                    : email != null && email.equals(candidate.getEmail()) ? 1 : 2;
+            if (rank < bestRank) {
+                best = candidate;
+                bestRank = rank;
+            }
+        }
+        return best;
+    }
+
+    private static String cacheKey(UUID id, String email, String googleId) {
+        return Objects.toString(id, "") + KEY_SEPARATOR + Objects.toString(email, "") + KEY_SEPARATOR
+                + Objects.toString(googleId, "");
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /**
+     * Email and Google ID carried by a principal
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Identity {
+        private final String email;
+        private final String googleId;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import org.mockito.Mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,21 +15,27 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import co.immimate.profile.controller.ProfileController;
+import co.immimate.profile.model.ProfileDraft;
 import co.immimate.profile.service.ProfileService;
-import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserIdentityResolver;
 
 public class ProfileDraftStorageTest {
 
+    private static final String EMAIL = "test@example.com";
+
     @Mock
     private ProfileService profileService;
     
     @Mock
-    private UserRepository userRepository;
+    private UserIdentityResolver userIdentityResolver;
     
     @Mock
     private Principal mockPrincipal;
@@ -40,12 +47,16 @@ public class ProfileDraftStorageTest {
     public void setup() {
         MockitoAnnotations.openMocks(this);
         
-        // Create the controller with our mocked service and repository
-        ProfileController profileController = new ProfileController(profileService, userRepository);
+        // Create the controller with our mocked service and resolver
+        ProfileController profileController = new ProfileController(profileService, userIdentityResolver, new ObjectMapper());
         mockMvc = MockMvcBuilders.standaloneSetup(profileController).build();
         
         // Mock principal to return test email
-        when(mockPrincipal.getName()).thenReturn("test@example.com");
+        when(mockPrincipal.getName()).thenReturn(EMAIL);
+    }
+    
+    private static ProfileDraft draft(long version, String formData) {
+        return ProfileDraft.builder().userEmail(EMAIL).formDataJson(formData).version(version).build();
     }
     
     @Test
@@ -53,35 +64,46 @@ public class ProfileDraftStorageTest {
         // Create test form data
         String formData = "{\"applicantName\":\"Test User\",\"applicantAge\":30}";
         
-        // Perform the request
+        when(profileService.saveProfileDraftWithGoogleId(eq(EMAIL), isNull(), eq(formData), eq(3L)))
+                .thenReturn(draft(4L, formData));
+        
+        // Perform the request, based on the version the form was loaded from
         mockMvc.perform(post("/api/profiles/draft")
                 .principal(mockPrincipal)
+                .header("If-Match", "\"3\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(formData))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.version").value(4))
+                .andExpect(header().string("ETag", "\"4\""));
         
         // Verify the service method was called with correct parameters
-        verify(profileService).saveProfileDraft(eq("test@example.com"), eq(formData));
+        verify(profileService).saveProfileDraftWithGoogleId(eq(EMAIL), isNull(), eq(formData), eq(3L));
     }
     
     @Test
     public void testGetLatestDraft() throws Exception {
         // Setup mock service response
         String formData = "{\"applicantName\":\"Test User\",\"applicantAge\":30}";
-        when(profileService.getLatestProfileDraft("test@example.com")).thenReturn(Optional.of(formData));
+        when(profileService.getCurrentProfileDraftWithGoogleId(EMAIL, null))
+                .thenReturn(Optional.of(draft(2L, formData)));
         
         // Test retrieving the latest draft
         mockMvc.perform(get("/api/profiles/draft")
                 .principal(mockPrincipal))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.formData").exists());
+                .andExpect(jsonPath("$.formData.applicantName").value("Test User"))
+                .andExpect(jsonPath("$.version").value(2))
+                .andExpect(jsonPath("$.conflict").doesNotExist())
+                .andExpect(header().string("ETag", "\"2\""));
     }
     
     @Test
     public void testGetNonExistentDraft() throws Exception {
         // Setup mock service response for no draft found
-        when(profileService.getLatestProfileDraft("test@example.com")).thenReturn(Optional.empty());
+        when(profileService.getCurrentProfileDraftWithGoogleId(EMAIL, null)).thenReturn(Optional.empty());
         
         // Test retrieving a non-existent draft
         mockMvc.perform(get("/api/profiles/draft")
@@ -101,6 +123,9 @@ public class ProfileDraftStorageTest {
         
         // For this unit test, we'll verify that the controller correctly handles the request
         // when it bypasses Spring Security (standalone setup doesn't include security filters)
+        when(profileService.saveProfileDraftWithGoogleId(eq(EMAIL), isNull(), eq(formData), isNull()))
+                .thenReturn(draft(1L, formData));
+        
         mockMvc.perform(post("/api/profiles/draft")
                 .principal(mockPrincipal)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -108,7 +133,7 @@ public class ProfileDraftStorageTest {
                 .andExpect(status().isOk());
         
         // Verify the service method was called with correct parameters
-        verify(profileService).saveProfileDraft(eq("test@example.com"), eq(formData));
+        verify(profileService).saveProfileDraftWithGoogleId(eq(EMAIL), isNull(), eq(formData), isNull());
     }
     
     @Test
@@ -116,24 +141,31 @@ public class ProfileDraftStorageTest {
         // Create test form data
         String formData = "{\"applicantName\":\"Test User\",\"applicantAge\":30}";
         
+        when(profileService.saveProfileDraftWithGoogleId(eq(EMAIL), isNull(), eq(formData), isNull()))
+                .thenReturn(draft(1L, formData));
+        
         // First save the draft
         mockMvc.perform(post("/api/profiles/draft")
                 .principal(mockPrincipal)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(formData))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
                 
         // Verify the service method was called with the correct parameters
-        verify(profileService).saveProfileDraft(eq("test@example.com"), eq(formData));
+        verify(profileService).saveProfileDraftWithGoogleId(eq(EMAIL), isNull(), eq(formData), isNull());
         
         // Setup mock service response to return the saved draft
-        when(profileService.getLatestProfileDraft("test@example.com")).thenReturn(Optional.of(formData));
+        when(profileService.getCurrentProfileDraftWithGoogleId(EMAIL, null))
+                .thenReturn(Optional.of(draft(1L, formData)));
         
-        // Then retrieve the saved draft
+        // Then retrieve the saved draft, with the version it was saved as
         mockMvc.perform(get("/api/profiles/draft")
                 .principal(mockPrincipal))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.formData").exists());
+                .andExpect(jsonPath("$.formData.applicantAge").value(30))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(header().string("ETag", "\"1\""));
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package co.immimate.auth.controller;
+
+import java.util.Map;
+
+import javax.servlet.http.Cookie;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfToken;
+
+/**
+ * Unit tests for the single, cacheable CSRF token endpoint
+ */
+public class CsrfControllerTest {
+
+    private CsrfController controller;
+    private CookieCsrfTokenRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        controller = new CsrfController();
+        repository = CookieCsrfTokenRepository.withHttpOnlyFalse();
+    }
+
+    @Test
+    public void testTokenFromSessionCookieIsReturnedUnchanged() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/csrf");
+        request.setCookies(new Cookie("XSRF-TOKEN", "existing-token"));
+        // What the CsrfFilter does before the controller runs
+        request.setAttribute(CsrfToken.class.getName(), repository.loadToken(request));
+
+        ResponseEntity<Map<String, String>> result = controller.getCsrfToken(request);
+
+        assertEquals("existing-token", result.getBody().get("token"));
+        assertEquals("X-XSRF-TOKEN", result.getBody().get("headerName"));
+    }
+
+    @Test
+    public void testResponseIsPrivatelyCacheablePerCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/csrf");
+        request.setAttribute(CsrfToken.class.getName(), repository.generateToken(request));
+
+        HttpHeaders headers = controller.getCsrfToken(request).getHeaders();
+
+        assertEquals("max-age=300, private", headers.getCacheControl());
+        assertEquals(HttpHeaders.COOKIE, headers.getFirst(HttpHeaders.VARY));
+    }
+
+    @Test
+    public void testNoTokenIsNotCached() {
+        ResponseEntity<Map<String, String>> result =
+                controller.getCsrfToken(new MockHttpServletRequest("GET", "/api/csrf"));
+
+        assertTrue(result.getBody().isEmpty());
+        assertEquals("no-store", result.getHeaders().getCacheControl());
+    }
+}
@@ -0,0 +1,77 @@
+package co.immimate.auth.security;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.servlet.config.annotation.CorsRegistry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.immimate.config.WebConfig;
+import co.immimate.profile.controller.ProfileController;
+import co.immimate.profile.service.ProfileService;
+import co.immimate.user.service.UserIdentityResolver;
+
+/**
+ * Tests that the SPA, served from another origin, may send conditional draft requests
+ */
+public class CorsConfigurationTest {
+
+    private static final String SPA_ORIGIN = "http://localhost:3000";
+    private static final String DRAFT_PATH = "/api/profiles/draft";
+
+    @Test
+    public void testDraftPatchPreflightAllowsIfMatch() throws Exception {
+        ProfileController controller = new ProfileController(
+                mock(ProfileService.class), mock(UserIdentityResolver.class), new ObjectMapper());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new CorsFilter(new SecurityConfig().corsConfigurationSource()))
+                .build();
+
+        mockMvc.perform(options(DRAFT_PATH)
+                .header(HttpHeaders.ORIGIN, SPA_ORIGIN)
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "content-type, if-match, x-xsrf-token"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, SPA_ORIGIN))
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, containsString("PATCH")))
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS,
+                        containsStringIgnoringCase("if-match")));
+    }
+
+    @Test
+    public void testDraftVersionHeadersAreAllowedAndExposed() {
+        CorsConfiguration security = new SecurityConfig().corsConfigurationSource()
+                .getCorsConfiguration(new MockHttpServletRequest("PATCH", DRAFT_PATH));
+        assertTrue(security.getAllowedHeaders().contains(HttpHeaders.IF_MATCH));
+        assertTrue(security.getExposedHeaders().contains(HttpHeaders.ETAG));
+
+        ExposedCorsRegistry registry = new ExposedCorsRegistry();
+        new WebConfig().addCorsMappings(registry);
+        CorsConfiguration mvc = registry.configurations().get("/**");
+        assertTrue(mvc.getAllowedHeaders().contains(HttpHeaders.IF_MATCH));
+        assertTrue(mvc.getExposedHeaders().contains(HttpHeaders.ETAG));
+    }
+
+    /**
+     * Gives the test access to the registered MVC CORS mappings
+     */
+    private static class ExposedCorsRegistry extends CorsRegistry {
+        Map<String, CorsConfiguration> configurations() {
+            return getCorsConfigurations();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package co.immimate.auth.security;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+
+/**
+ * Tests the shared JDBC bucket store against an in-memory H2 database
+ */
+public class JdbcBucketStoreTest {
+
+    private static final String KEY = "/api/auth/login|203.0.113.7";
+    private static final long IDLE_EXPIRY_MS = 60_000;
+
+    private final BucketConfiguration limit = BucketConfiguration.builder()
+            .addLimit(Bandwidth.classic(5, Refill.intervally(5, Duration.ofMinutes(1))))
+            .build();
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new JdbcBucketStore(dataSource, "rate_limit_bucket", IDLE_EXPIRY_MS).createTableIfMissing();
+    }
+
+    @Test
+    public void testLimitIsSharedBetweenNodes() {
+        JdbcBucketStore nodeA = new JdbcBucketStore(dataSource, "rate_limit_bucket", IDLE_EXPIRY_MS);
+        JdbcBucketStore nodeB = new JdbcBucketStore(dataSource, "rate_limit_bucket", IDLE_EXPIRY_MS);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(nodeA.resolve(KEY, () -> limit).tryConsume(1));
+        }
+        assertTrue(nodeB.resolve(KEY, () -> limit).tryConsume(1));
+        assertTrue(nodeB.resolve(KEY, () -> limit).tryConsume(1));
+
+        assertFalse(nodeA.resolve(KEY, () -> limit).tryConsume(1));
+        assertFalse(nodeB.resolve(KEY, () -> limit).tryConsume(1));
+        assertTrue(nodeB.resolve("/api/auth/login|198.51.100.1", () -> limit).tryConsume(1));
+    }
+
+    @Test
+    public void testMetricsAndTableNameValidation() {
+        JdbcBucketStore store = new JdbcBucketStore(dataSource, "rate_limit_bucket", IDLE_EXPIRY_MS);
+        store.resolve(KEY, () -> limit).tryConsume(1);
+
+        assertEquals("jdbc", store.getMetrics().get("backend"));
+        assertTrue((Long) store.getMetrics().get("transactions") > 0L);
+        assertThrows(IllegalArgumentException.class, () -> new JdbcBucketStore(dataSource, "buckets; DROP TABLE users", IDLE_EXPIRY_MS));
+    }
+
+    @Test
+    public void testExpiredBucketsArePurgedInBatches() throws Exception {
+        JdbcBucketStore store = new JdbcBucketStore(dataSource, "rate_limit_bucket", IDLE_EXPIRY_MS);
+        for (int i = 0; i < 3; i++) {
+            store.resolve("/api/auth/login|198.51.100." + i, () -> limit).tryConsume(1);
+        }
+        long now = System.currentTimeMillis();
+
+        assertEquals(0, store.purgeExpired(now, 10));
+        assertEquals(2, store.purgeExpired(now + IDLE_EXPIRY_MS + 1_000, 2));
+        assertEquals(1, store.purgeExpired(now + IDLE_EXPIRY_MS + 1_000, 2));
+        assertEquals(3L, store.getMetrics().get("purged"));
+    }
+
+    @Test
+    public void testUseRenewsExpiry() throws Exception {
+        JdbcBucketStore store = new JdbcBucketStore(dataSource, "rate_limit_bucket", IDLE_EXPIRY_MS);
+        store.resolve(KEY, () -> limit).tryConsume(1);
+        long firstUse = System.currentTimeMillis();
+        Thread.sleep(20);
+        store.resolve(KEY, () -> limit).tryConsume(1);
+
+        assertEquals(0, store.purgeExpired(firstUse + IDLE_EXPIRY_MS + 10, 10));
+        assertTrue(store.resolve(KEY, () -> limit).tryConsume(3));
+        assertFalse(store.resolve(KEY, () -> limit).tryConsume(1));
+    }
+}
@@ -0,0 +1,162 @@
+package co.immimate.auth.security;
+
+import java.util.UUID;
+
+import javax.servlet.http.Cookie;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.immimate.user.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+
+/**
+ * Unit tests for JwtAuthFilter token handling
+ */
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthFilterTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final String COOKIE_NAME = "jwt";
+
+    @Spy
+    private JwtUtil jwtUtil = new JwtUtil();
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private Environment environment;
+
+    private JwtAuthFilter jwtAuthFilter;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", "test_secret_key");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 60_000L);
+        jwtAuthFilter = new JwtAuthFilter();
+        ReflectionTestUtils.setField(jwtAuthFilter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(jwtAuthFilter, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(jwtAuthFilter, "environment", environment);
+        ReflectionTestUtils.setField(jwtAuthFilter, "publicEndpointMatcher",
+                new PublicEndpointMatcher(PublicEndpointMatcher.DEFAULT_PUBLIC_PATHS));
+        ReflectionTestUtils.setField(jwtAuthFilter, "jwtCookieName", COOKIE_NAME);
+        lenient().when(environment.acceptsProfiles(any(Profiles.class))).thenReturn(false);
+
+        co.immimate.user.model.User user = new co.immimate.user.model.User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        token = jwtUtil.generateToken(user);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testTokenIsVerifiedOncePerRequest() throws Exception {
+        when(userDetailsService.loadUserByUsername(anyString()))
+                .thenReturn(User.withUsername(EMAIL).password("").authorities("ROLE_USER").build());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profiles/recent");
+        request.setCookies(new Cookie(COOKIE_NAME, token));
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(jwtUtil, times(1)).parseClaims(token);
+        Claims claims = JwtUtil.getVerifiedClaims(request);
+        assertNotNull(claims);
+        assertEquals(EMAIL, claims.getSubject());
+        assertTrue(SecurityContextHolder.getContext().getAuthentication().isAuthenticated());
+    }
+
+    @Test
+    public void testStatelessModeSkipsUserLookup() throws Exception {
+        UserDetailsServiceImpl realService = new UserDetailsServiceImpl();
+        realService.initCaches();
+        UserDetailsServiceImpl statelessService = spy(realService);
+        ReflectionTestUtils.setField(jwtAuthFilter, "userDetailsService", statelessService);
+        ReflectionTestUtils.setField(jwtAuthFilter, "statelessAuth", true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profiles/recent");
+        request.setCookies(new Cookie(COOKIE_NAME, tokenWithRole("ADMIN")));
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(statelessService, never()).loadUserByUsername(anyString());
+        assertEquals(EMAIL, SecurityContextHolder.getContext().getAuthentication().getName());
+        assertTrue(SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority())));
+    }
+
+    @Test
+    public void testStatelessModeReloadsUserAfterRoleChange() throws Exception {
+        ReflectionTestUtils.setField(jwtAuthFilter, "statelessAuth", true);
+        String staleToken = tokenWithRole("ADMIN");
+        when(userDetailsService.isChangedSince(eq(EMAIL), any())).thenReturn(true);
+        when(userDetailsService.loadUserByUsername(EMAIL))
+                .thenReturn(User.withUsername(EMAIL).password("").authorities("ROLE_USER").build());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profiles/recent");
+        request.setCookies(new Cookie(COOKIE_NAME, staleToken));
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+        assertTrue(SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .allMatch(authority -> "ROLE_USER".equals(authority.getAuthority())));
+    }
+
+    @Test
+    public void testClaimsForAnotherUserAreRejected() {
+        Claims claims = jwtUtil.parseClaims(token);
+
+        assertFalse(jwtUtil.validateClaims(claims,
+                User.withUsername("other@example.com").password("").authorities("ROLE_USER").build()));
+    }
+
+    @Test
+    public void testRequestWithoutTokenHasNoClaims() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profiles/recent");
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(JwtUtil.getVerifiedClaims(request));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private String tokenWithRole(String role) {
+        co.immimate.user.model.User user = new co.immimate.user.model.User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setRole(role);
+        return jwtUtil.generateToken(user);
+    }
+}
@@ -0,0 +1,110 @@
+package co.immimate.auth.security;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.Cookie;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.immimate.user.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Unit tests for the verified-token cache in JwtUtil
+ */
+public class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", "test_secret_key");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "jwtCookieName", "jwt");
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxTtlMs", 60_000L);
+        jwtUtil.initClaimsCache();
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("test@example.com");
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Test
+    public void testRepeatTokenIsServedFromCache() {
+        Claims first = jwtUtil.parseClaims(token);
+        Claims second = jwtUtil.parseClaims(token);
+
+        assertSame(first, second);
+        assertEquals(1L, jwtUtil.getMetrics().get("hits"));
+        assertEquals(1L, jwtUtil.getMetrics().get("misses"));
+    }
+
+    @Test
+    public void testRequestClaimsAreVerifiedOnce() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        Claims first = jwtUtil.verifyRequestClaims(request, token);
+        Claims second = jwtUtil.verifyRequestClaims(request, "not-a-token");
+
+        assertSame(first, second);
+        assertSame(first, JwtUtil.getVerifiedClaims(request));
+        assertEquals(1L, jwtUtil.getMetrics().get("misses"));
+    }
+
+    @Test
+    public void testLogoutEvictsToken() {
+        Claims first = jwtUtil.parseClaims(token);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("jwt", token));
+
+        jwtUtil.evictToken(request);
+
+        assertNotSame(first, jwtUtil.parseClaims(token));
+    }
+
+    @Test
+    public void testEntryTtlIsCappedAtTokenExpiry() {
+        Claims claims = Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + 5_000));
+
+        long ttlNanos = ReflectionTestUtils.invokeMethod(jwtUtil, "remainingLifetimeNanos", claims);
+
+        assertTrue(ttlNanos > 0 && ttlNanos <= TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testEntryTtlIsCappedAtMaxTtl() {
+        Claims claims = Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + 3_600_000));
+
+        long ttlNanos = ReflectionTestUtils.invokeMethod(jwtUtil, "remainingLifetimeNanos", claims);
+
+        assertEquals(TimeUnit.MINUTES.toNanos(1), ttlNanos);
+    }
+
+    @Test
+    public void testExpiredTokenIsNotCached() {
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", -1_000L);
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("expired@example.com");
+        String expired = jwtUtil.generateToken(user);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseClaims(expired));
+        assertEquals(0L, jwtUtil.getMetrics().get("size"));
+    }
+}
@@ -0,0 +1,59 @@
+package co.immimate.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Unit tests for the shared public-endpoint matcher
+ */
+public class PublicEndpointMatcherTest {
+
+    private final PublicEndpointMatcher matcher = new PublicEndpointMatcher(PublicEndpointMatcher.DEFAULT_PUBLIC_PATHS);
+
+    @Test
+    public void testExactPaths() {
+        assertTrue(matcher.matches("/api/auth/login"));
+        assertTrue(matcher.matches("/api/csrf"));
+        assertTrue(matcher.matches("/api/health"));
+        assertFalse(matcher.matches("/api/csrf-info"));
+        assertFalse(matcher.matches("/api/csrf-other"));
+        assertFalse(matcher.matches("/api/auth/login/extra"));
+        assertFalse(matcher.matches("/api/auth"));
+    }
+
+    @Test
+    public void testPrefixPatternsStopAtSegmentBoundary() {
+        assertTrue(matcher.matches("/api/oauth2"));
+        assertTrue(matcher.matches("/api/oauth2/authorization/google"));
+        assertTrue(matcher.matches("/api/login/oauth2/code/google"));
+        assertFalse(matcher.matches("/api/oauth2x/authorization"));
+    }
+
+    @Test
+    public void testAuthMeIsNeverPublic() {
+        assertFalse(matcher.matches("/api/auth/me"));
+        assertFalse(matcher.matches("/api/api/auth/me"));
+    }
+
+    @Test
+    public void testDuplicatedApiPrefixAndRequests() {
+        assertTrue(matcher.matches("/api/api/auth/login"));
+        assertTrue(matcher.matches(new MockHttpServletRequest("POST", "/api/auth/register")));
+        assertFalse(matcher.matches(new MockHttpServletRequest("GET", "/api/profiles/recent")));
+        assertFalse(matcher.matches("/api/héalth"));
+    }
+
+    @Test
+    public void testConfiguredList() {
+        PublicEndpointMatcher custom = new PublicEndpointMatcher(" /api/health , /api/docs/** ,");
+
+        assertArrayEquals(new String[] {"/api/health", "/api/docs/**"}, custom.getPatterns());
+        assertTrue(custom.matches("/api/docs/index.html"));
+        assertFalse(custom.matches("/api/auth/login"));
+        assertThrows(IllegalArgumentException.class, () -> new PublicEndpointMatcher("api/health"));
+    }
+}
@@ -0,0 +1,111 @@
+package co.immimate.auth.security;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Unit tests for rate limiting with the bounded in-memory bucket store
+ */
+public class RateLimitFilterTest {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String REGISTER_PATH = "/api/auth/register";
+    private static final String PROXY_ADDRESS = "10.1.0.2";
+
+    private RateLimitFilter filter;
+    private InMemoryBucketStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new InMemoryBucketStore(100, 60_000);
+        filter = new RateLimitFilter();
+        ReflectionTestUtils.setField(filter, "bucketStore", store);
+        ReflectionTestUtils.setField(filter, "registerCapacity", 2L);
+        ReflectionTestUtils.setField(filter, "trustedProxies", List.of(PROXY_ADDRESS));
+        filter.initLimits();
+    }
+
+    @Test
+    public void testSixthLoginFromSameAddressIsRejected() throws Exception {
+        int lastStatus = 0;
+        for (int i = 0; i < 6; i++) {
+            lastStatus = post(LOGIN_PATH, "203.0.113.7").getStatus();
+        }
+
+        assertEquals(429, lastStatus);
+        assertEquals(5L, filter.getMetrics().get("allowed"));
+        assertEquals(1L, filter.getMetrics().get("rejected"));
+    }
+
+    @Test
+    public void testEndpointsHaveTheirOwnConfiguredLimits() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            post(LOGIN_PATH, "203.0.113.7");
+        }
+
+        assertEquals(200, post(REGISTER_PATH, "203.0.113.7").getStatus());
+        assertEquals(200, post(REGISTER_PATH, "203.0.113.7").getStatus());
+        assertEquals(429, post(REGISTER_PATH, "203.0.113.7").getStatus());
+    }
+
+    @Test
+    public void testRotatingAddressesStayWithinBound() throws Exception {
+        for (int i = 0; i < 1_000; i++) {
+            post(LOGIN_PATH, "198.51.100.1, 10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        store.cleanUp();
+        assertTrue((Long) filter.getMetrics().get("liveBuckets") <= 100L);
+        assertTrue((Long) filter.getMetrics().get("evictions") > 0L);
+    }
+
+    @Test
+    public void testForwardedForIsIgnoredWithoutTrustedProxy() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            post(LOGIN_PATH, "203.0.113.7", "198.51.100." + i);
+        }
+
+        assertEquals(429, post(LOGIN_PATH, "203.0.113.7", "198.51.100.99").getStatus());
+    }
+
+    @Test
+    public void testRightmostUntrustedHopIsTheClient() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            post(LOGIN_PATH, PROXY_ADDRESS, "198.51.100." + i + ", 203.0.113.7, " + PROXY_ADDRESS);
+        }
+
+        assertEquals(429, post(LOGIN_PATH, PROXY_ADDRESS, "198.51.100.99, 203.0.113.7").getStatus());
+        assertEquals(200, post(LOGIN_PATH, PROXY_ADDRESS, "203.0.113.8").getStatus());
+    }
+
+    @Test
+    public void testOversizedForwardedForIsTruncated() throws Exception {
+        post(LOGIN_PATH, "x".repeat(10_000));
+
+        Cache<?, ?> buckets = (Cache<?, ?>) ReflectionTestUtils.getField(store, "buckets");
+        assertTrue(buckets.asMap().keySet().stream().allMatch(key -> ((String) key).length() <= LOGIN_PATH.length() + 1 + 45));
+    }
+
+    private MockHttpServletResponse post(String path, String forwardedFor) throws Exception {
+        return post(path, PROXY_ADDRESS, forwardedFor);
+    }
+
+    private MockHttpServletResponse post(String path, String remoteAddress, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddress);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,81 @@
+package co.immimate.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for the precomputed security header set
+ */
+public class SecurityHeadersFilterTest {
+
+    private static final String CSP = "Content-Security-Policy";
+
+    @Test
+    public void testDefaultPolicyMatchesDevelopmentSetup() throws Exception {
+        MockHttpServletResponse response = apply(filter("unsafe-inline"), new MockHttpServletRequest());
+
+        String csp = response.getHeader(CSP);
+        assertTrue(csp.startsWith("default-src 'self'; script-src 'self' 'unsafe-inline' http://localhost:3000"));
+        assertTrue(csp.endsWith("object-src 'none'; upgrade-insecure-requests"));
+        assertEquals("nosniff", response.getHeader("X-Content-Type-Options"));
+        assertEquals("DENY", response.getHeader("X-Frame-Options"));
+        assertEquals("max-age=31536000; includeSubDomains", response.getHeader("Strict-Transport-Security"));
+    }
+
+    @Test
+    public void testHashModeWithoutLocalhostOrigins() throws Exception {
+        SecurityHeadersFilter filter = new SecurityHeadersFilter();
+        ReflectionTestUtils.setField(filter, "inlineMode", "hash");
+        ReflectionTestUtils.setField(filter, "scriptOrigins", "https://app.immimate.co");
+        ReflectionTestUtils.setField(filter, "styleOrigins", "");
+        ReflectionTestUtils.setField(filter, "connectOrigins", "");
+        ReflectionTestUtils.setField(filter, "scriptHashes", "sha256-abc=");
+        ReflectionTestUtils.setField(filter, "hstsValue", "");
+        filter.init();
+
+        MockHttpServletResponse response = apply(filter, new MockHttpServletRequest());
+
+        String csp = response.getHeader(CSP);
+        assertTrue(csp.contains("script-src 'self' 'sha256-abc=' https://app.immimate.co;"));
+        assertTrue(csp.contains("style-src 'self';"));
+        assertTrue(csp.contains("connect-src 'self';"));
+        assertFalse(csp.contains("unsafe-inline"));
+        assertFalse(csp.contains("localhost"));
+        assertNull(response.getHeader("Strict-Transport-Security"));
+    }
+
+    @Test
+    public void testHashModeWithoutHashesFailsStartup() {
+        SecurityHeadersFilter filter = new SecurityHeadersFilter();
+        ReflectionTestUtils.setField(filter, "inlineMode", "hash");
+        ReflectionTestUtils.setField(filter, "scriptHashes", " , ");
+
+        assertThrows(IllegalArgumentException.class, filter::init);
+    }
+
+    @Test
+    public void testNonceModeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> filter("nonce"));
+    }
+
+    private SecurityHeadersFilter filter(String inlineMode) {
+        SecurityHeadersFilter filter = new SecurityHeadersFilter();
+        ReflectionTestUtils.setField(filter, "inlineMode", inlineMode);
+        filter.init();
+        return filter;
+    }
+
+    private MockHttpServletResponse apply(SecurityHeadersFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
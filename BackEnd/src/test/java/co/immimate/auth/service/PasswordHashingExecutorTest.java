@@ -0,0 +1,85 @@
+package co.immimate.auth.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.immimate.auth.exception.PasswordHashingRejectedException;
+
+/**
+ * Unit tests for the bounded password hashing pool
+ */
+public class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor hashingExecutor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    public void setUp() {
+        hashingExecutor = new PasswordHashingExecutor();
+        ReflectionTestUtils.setField(hashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(hashingExecutor, "timeoutMs", 5_000L);
+        hashingExecutor.start();
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        callers.shutdownNow();
+        hashingExecutor.stop();
+    }
+
+    @Test
+    public void testHashRunsOnPool() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+
+        String hash = hashingExecutor.call(() -> encoder.encode("secret"));
+
+        assertTrue(encoder.matches("secret", hash));
+        assertEquals(1L, hashingExecutor.getMetrics().get("completed"));
+    }
+
+    @Test
+    public void testFullQueueIsRejectedImmediately() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> hashingExecutor.call(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> hashingExecutor.call(() -> true));
+        waitForQueueDepth(1);
+
+        assertThrows(PasswordHashingRejectedException.class, () -> hashingExecutor.call(() -> true));
+        assertEquals(1L, hashingExecutor.getMetrics().get("rejected"));
+        release.countDown();
+    }
+
+    @Test
+    public void testTaskExceptionIsRethrownUnchanged() {
+        assertThrows(BadCredentialsException.class, () -> hashingExecutor.call(() -> {
+            throw new BadCredentialsException("Bad credentials");
+        }));
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (((Number) hashingExecutor.getMetrics().get("queueDepth")).intValue() < depth
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package co.immimate.auth.service;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import co.immimate.config.PasswordEncoderConfig;
+import co.immimate.user.model.User;
+import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserDetailsServiceImpl;
+
+/**
+ * Unit tests for the background password hash upgrade
+ */
+@ExtendWith(MockitoExtension.class)
+public class PasswordUpgradeServiceTest {
+
+    private static final String PASSWORD = "Password123!";
+
+    @Spy
+    private PasswordEncoder passwordEncoder = new PasswordEncoderConfig().passwordEncoder(5);
+
+    @Spy
+    private PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @InjectMocks
+    private PasswordUpgradeService passwordUpgradeService;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        passwordHashingExecutor.start();
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("test@example.com");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        passwordHashingExecutor.stop();
+    }
+
+    @Test
+    public void testLowerCostHashIsUpgradedInBackground() {
+        String oldHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        user.setPassword(oldHash);
+        when(userRepository.updatePasswordHash(eq(user.getId()), eq(oldHash), any())).thenReturn(1);
+
+        assertTrue(passwordUpgradeService.upgradeIfNeeded(user, PASSWORD));
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository, timeout(5_000)).updatePasswordHash(eq(user.getId()), eq(oldHash), newHash.capture());
+        verify(userDetailsService, timeout(5_000)).evictCached(user.getEmail());
+        assertTrue(newHash.getValue().startsWith("{bcrypt}$2a$05$"));
+        assertTrue(passwordEncoder.matches(PASSWORD, newHash.getValue()));
+    }
+
+    @Test
+    public void testCurrentHashIsLeftAlone() {
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+
+        assertFalse(passwordUpgradeService.upgradeIfNeeded(user, PASSWORD));
+        verify(passwordHashingExecutor, never()).submit(any());
+    }
+
+    @Test
+    public void testUnprefixedHashAtCurrentCostIsLeftAlone() {
+        user.setPassword(new BCryptPasswordEncoder(5).encode(PASSWORD));
+
+        assertTrue(passwordEncoder.matches(PASSWORD, user.getPassword()));
+        assertFalse(passwordUpgradeService.upgradeIfNeeded(user, PASSWORD));
+        verify(passwordHashingExecutor, never()).submit(any());
+    }
+
+    @Test
+    public void testPrefixedLowerCostHashIsUpgraded() {
+        String oldHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+        user.setPassword(oldHash);
+        when(userRepository.updatePasswordHash(eq(user.getId()), eq(oldHash), any())).thenReturn(1);
+
+        assertTrue(passwordUpgradeService.upgradeIfNeeded(user, PASSWORD));
+        verify(userRepository, timeout(5_000)).updatePasswordHash(eq(user.getId()), eq(oldHash), any());
+    }
+
+    @Test
+    public void testOauthPlaceholderNeverMatches() {
+        assertFalse(passwordEncoder.matches("oauth2User", "{noop}oauth2User"));
+        assertFalse(passwordUpgradeService.upgradeIfNeeded(user, PASSWORD));
+    }
+}
@@ -0,0 +1,71 @@
+package co.immimate.benchmark;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.immimate.scoringevaluations.calculation.service.EvaluationService;
+import co.immimate.scoringevaluations.evaluation.model.Evaluation;
+
+/**
+ * Measures full-grid scoring of the CRS seed grid and profile-to-variables binding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvaluationServiceBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean married;
+
+    private ScoringEngineFixture fixture;
+    private EvaluationService evaluationService;
+    private UUID applicationId;
+    private Map<String, Object> userVariables;
+    private boolean hasSpouse;
+
+    @Setup
+    public void setUp() {
+        ScoringEngineFixture.quietLogging();
+        fixture = new ScoringEngineFixture();
+        evaluationService = fixture.getEvaluationService();
+        applicationId = fixture.registerProfile(married
+                ? ScoringEngineFixture.marriedApplicant()
+                : ScoringEngineFixture.singleApplicant());
+        userVariables = evaluationService.getUserVariables(applicationId);
+        hasSpouse = evaluationService.hasSpouse(applicationId);
+    }
+
+    /**
+     * Scores every category, subcategory and field of the CRS grid for one profile.
+     */
+    @Benchmark
+    public Evaluation scoreFullGrid() {
+        fixture.clearEvaluationResults();
+        return evaluationService.createEvaluation(applicationId, ScoringEngineFixture.GRID_NAME,
+                userVariables, hasSpouse);
+    }
+
+    /**
+     * Binds a stored profile to the variable map used by the logic expressions.
+     */
+    @Benchmark
+    public Map<String, Object> bindProfileVariables() {
+        return evaluationService.getUserVariables(applicationId);
+    }
+}
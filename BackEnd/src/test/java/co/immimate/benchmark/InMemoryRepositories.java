@@ -0,0 +1,48 @@
+package co.immimate.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds lightweight repository implementations for the benchmarks.
+ * Only the methods registered in the handler map are supported; anything else
+ * fails fast so a benchmark never silently measures an unstubbed call.
+ */
+final class InMemoryRepositories {
+
+    private static final String METHOD_TO_STRING = "toString";
+    private static final String METHOD_HASH_CODE = "hashCode";
+    private static final String METHOD_EQUALS = "equals";
+    private static final String ERR_UNSUPPORTED = "%s.%s is not supported by the in-memory benchmark repository";
+
+    private InMemoryRepositories() {
+    }
+
+    /**
+     * Creates a repository proxy backed by the given method handlers.
+     *
+     * @param repositoryType The repository interface to implement
+     * @param handlers Handlers keyed by method name, receiving the call arguments
+     * @return A repository instance dispatching to the handlers
+     */
+    static <R> R create(Class<R> repositoryType, Map<String, Function<Object[], Object>> handlers) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            String name = method.getName();
+            Function<Object[], Object> handler = handlers.get(name);
+            if (handler != null) {
+                return handler.apply(args);
+            }
+            return switch (name) {
+                case METHOD_TO_STRING -> "InMemory" + repositoryType.getSimpleName();
+                case METHOD_HASH_CODE -> System.identityHashCode(proxy);
+                case METHOD_EQUALS -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(
+                        String.format(ERR_UNSUPPORTED, repositoryType.getSimpleName(), name));
+            };
+        };
+        return repositoryType.cast(Proxy.newProxyInstance(
+                repositoryType.getClassLoader(), new Class<?>[] { repositoryType }, invocationHandler));
+    }
+}
@@ -0,0 +1,69 @@
+package co.immimate.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.immimate.scoringevaluations.calculation.service.LogicExpressionEvaluator;
+
+/**
+ * Measures {@link LogicExpressionEvaluator} for each operator type supported by the grids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogicExpressionEvaluatorBenchmark {
+
+    /**
+     * Expressions keyed by the operator they exercise, written the way grid fields store them.
+     */
+    private static final Map<String, String> EXPRESSIONS = Map.ofEntries(
+            Map.entry("EQUALS", "applicant_age == 31"),
+            Map.entry("NOT_EQUALS", "applicant_marital_status != MARRIED"),
+            Map.entry("GREATER_THAN", "canadian_work_experience_years > 1"),
+            Map.entry("LESS_THAN", "applicant_age < 45"),
+            Map.entry("GREATER_EQUALS", "primary_clb_score >= 9"),
+            Map.entry("LESS_EQUALS", "primary_clb_score <= 10"),
+            Map.entry("IN", "applicant_education_level IN (bachelor, master, phd)"),
+            Map.entry("NOT_IN", "applicant_education_level NOT IN (secondary, one-year)"),
+            Map.entry("TRUTHY", "has_canadian_relatives"),
+            Map.entry("AND_COMPOUND", "applicant_education_level == master;primary_clb_score >= 7;primary_clb_score <= 8"),
+            Map.entry("OR_INLINE", "canadian_education_level == one-year OR canadian_education_level == master"));
+
+    @Param({ "EQUALS", "NOT_EQUALS", "GREATER_THAN", "LESS_THAN", "GREATER_EQUALS", "LESS_EQUALS",
+             "IN", "NOT_IN", "TRUTHY", "AND_COMPOUND", "OR_INLINE" })
+    public String operator;
+
+    private LogicExpressionEvaluator evaluator;
+    private Map<String, Object> variables;
+    private String expression;
+
+    @Setup
+    public void setUp() {
+        ScoringEngineFixture.quietLogging();
+        ScoringEngineFixture fixture = new ScoringEngineFixture();
+        evaluator = fixture.getLogicExpressionEvaluator();
+        variables = fixture.getEvaluationService().getUserVariables(
+                fixture.registerProfile(ScoringEngineFixture.singleApplicant()));
+        expression = EXPRESSIONS.get(operator);
+    }
+
+    @Benchmark
+    public boolean evaluate() {
+        return evaluator.evaluateLogicExpression(expression, variables, null);
+    }
+}
@@ -0,0 +1,62 @@
+package co.immimate.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.immimate.profile.dto.NocSearchResult;
+import co.immimate.profile.repository.JobsNocRepository;
+import co.immimate.profile.service.NocIndex;
+import co.immimate.profile.service.NocIndexService;
+
+/**
+ * Measures NOC autocomplete queries against the bundled jobs.json snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NocSearchBenchmark {
+
+    /**
+     * Keystroke-style queries: a single letter, a word prefix, two words and a code prefix.
+     */
+    @Param({ "s", "soft", "software dev", "2123" })
+    public String query;
+
+    private NocIndex index;
+
+    @Setup
+    public void setUp() {
+        JobsNocRepository repository = Mockito.mock(JobsNocRepository.class);
+        Mockito.when(repository.findAll()).thenThrow(new DataAccessResourceFailureException("benchmark"));
+
+        NocIndexService service = new NocIndexService();
+        ReflectionTestUtils.setField(service, "jobsNocRepository", repository);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        index = service.getIndex();
+    }
+
+    @Benchmark
+    public List<NocSearchResult> search() {
+        return index.search(query, 10);
+    }
+}
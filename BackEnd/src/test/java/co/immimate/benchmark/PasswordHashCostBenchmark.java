@@ -0,0 +1,55 @@
+package co.immimate.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Measures the BCrypt verification done on every password login, per cost factor.
+ * Sample-time mode reports percentiles: set auth.bcrypt.strength to the highest strength whose
+ * p0.99 fits the login latency budget on production hardware, leaving room for the rest of the
+ * request and for queueing on the password hashing pool. Each step doubles the cost.
+ * <p>
+ * Run only this benchmark: mvn -B -Pbenchmark verify -Djmh.include=PasswordHashCostBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashCostBenchmark {
+
+    private static final String PASSWORD = "Correct-Horse-Battery-Staple-42";
+
+    /**
+     * BCrypt cost factor; 12 is the current default
+     */
+    @Param({ "10", "11", "12", "13" })
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        storedHash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyLogin() {
+        return encoder.matches(PASSWORD, storedHash);
+    }
+}
@@ -0,0 +1,360 @@
+package co.immimate.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import co.immimate.profile.model.UserImmigrationProfile;
+import co.immimate.profile.repository.UserImmigrationProfileRepository;
+import co.immimate.scoringevaluations.calculation.service.EvaluationService;
+import co.immimate.scoringevaluations.calculation.service.LogicExpressionEvaluator;
+import co.immimate.scoringevaluations.calculation.service.specialcases.SkillTransferabilityCappingService;
+import co.immimate.scoringevaluations.evaluation.model.Evaluation;
+import co.immimate.scoringevaluations.evaluation.model.EvaluationCategory;
+import co.immimate.scoringevaluations.evaluation.model.EvaluationField;
+import co.immimate.scoringevaluations.evaluation.model.EvaluationSubcategory;
+import co.immimate.scoringevaluations.evaluation.repository.EvaluationCategoryRepository;
+import co.immimate.scoringevaluations.evaluation.repository.EvaluationFieldRepository;
+import co.immimate.scoringevaluations.evaluation.repository.EvaluationRepository;
+import co.immimate.scoringevaluations.evaluation.repository.EvaluationSubcategoryRepository;
+import co.immimate.scoringevaluations.grid.model.Grid;
+import co.immimate.scoringevaluations.grid.model.GridCategory;
+import co.immimate.scoringevaluations.grid.model.GridField;
+import co.immimate.scoringevaluations.grid.model.GridSubcategory;
+import co.immimate.scoringevaluations.grid.repository.GridCategoryRepository;
+import co.immimate.scoringevaluations.grid.repository.GridFieldRepository;
+import co.immimate.scoringevaluations.grid.repository.GridRepository;
+import co.immimate.scoringevaluations.grid.repository.GridSubcategoryRepository;
+
+/**
+ * Shared fixtures for the scoring engine benchmarks.
+ * The CRS grid is loaded once from the H2 seed script, then served from memory so
+ * the measured code paths exercise the engine rather than a database.
+ */
+public class ScoringEngineFixture {
+
+    public static final String GRID_NAME = "CRS";
+
+    // Seed data
+    private static final String H2_URL = "jdbc:h2:mem:crs_benchmark;DB_CLOSE_DELAY=-1";
+    private static final String H2_USER = "sa";
+    private static final String SEED_SCRIPT = "RUNSCRIPT FROM 'classpath:benchmark/crs-grid-seed.sql'";
+    private static final String SCHEMA = "static_canadian_immigration_data.";
+    private static final String SELECT_GRIDS = "SELECT * FROM " + SCHEMA + "grids";
+    private static final String SELECT_CATEGORIES = "SELECT * FROM " + SCHEMA + "grids_categories ORDER BY sort_order";
+    private static final String SELECT_SUBCATEGORIES = "SELECT * FROM " + SCHEMA + "grids_subcategories ORDER BY category_id, sort_order";
+    private static final String SELECT_FIELDS = "SELECT * FROM " + SCHEMA + "grids_fields ORDER BY subcategory_id, sort_order";
+
+    // Repository method names used by the services
+    private static final String FIND_BY_ID = "findById";
+    private static final String SAVE = "save";
+
+    // Profile values
+    private static final String MARITAL_STATUS_SINGLE = "SINGLE";
+    private static final String MARITAL_STATUS_MARRIED = "MARRIED";
+
+    private static GridData gridData;
+
+    private final Map<UUID, UserImmigrationProfile> profiles = new HashMap<>();
+    private final Map<UUID, Evaluation> evaluations = new HashMap<>();
+    private final Map<UUID, EvaluationCategory> evaluationCategories = new HashMap<>();
+    private final Map<UUID, List<EvaluationSubcategory>> evaluationSubcategories = new HashMap<>();
+
+    private final LogicExpressionEvaluator logicExpressionEvaluator = new LogicExpressionEvaluator();
+    private final SkillTransferabilityCappingService cappingService = new SkillTransferabilityCappingService();
+    private final EvaluationService evaluationService = new EvaluationService();
+
+    /**
+     * Creates a fixture with an {@link EvaluationService} wired to in-memory repositories.
+     */
+    public ScoringEngineFixture() {
+        GridData grid = gridData();
+
+        EvaluationSubcategoryRepository subcategoryRepository = InMemoryRepositories.create(
+                EvaluationSubcategoryRepository.class, Map.of(
+                        SAVE, args -> saveSubcategory((EvaluationSubcategory) args[0]),
+                        "findByCatEvalId", args -> evaluationSubcategories.getOrDefault(args[0], List.of())));
+        ReflectionTestUtils.setField(cappingService, "subcategoryRepository", subcategoryRepository);
+
+        ReflectionTestUtils.setField(evaluationService, "gridRepository", InMemoryRepositories.create(
+                GridRepository.class, Map.of(
+                        "findByGridName", args -> GRID_NAME.equals(args[0]) ? Optional.of(grid.grid) : Optional.empty())));
+        ReflectionTestUtils.setField(evaluationService, "gridCategoryRepository", InMemoryRepositories.create(
+                GridCategoryRepository.class, Map.of(
+                        "findByGridId", args -> grid.categories)));
+        ReflectionTestUtils.setField(evaluationService, "gridSubcategoryRepository", InMemoryRepositories.create(
+                GridSubcategoryRepository.class, Map.of(
+                        "findByCategoryId", args -> grid.subcategoriesByCategory.getOrDefault(args[0], List.of()))));
+        ReflectionTestUtils.setField(evaluationService, "gridFieldRepository", InMemoryRepositories.create(
+                GridFieldRepository.class, Map.of(
+                        "findBySubcategoryId", args -> grid.fieldsBySubcategory.getOrDefault(args[0], List.of()))));
+        ReflectionTestUtils.setField(evaluationService, "evaluationRepository", InMemoryRepositories.create(
+                EvaluationRepository.class, Map.of(
+                        SAVE, args -> {
+                            Evaluation evaluation = (Evaluation) args[0];
+                            evaluations.put(evaluation.getEvaluationId(), evaluation);
+                            return evaluation;
+                        },
+                        FIND_BY_ID, args -> Optional.ofNullable(evaluations.get(args[0])))));
+        ReflectionTestUtils.setField(evaluationService, "evaluationCategoryRepository", InMemoryRepositories.create(
+                EvaluationCategoryRepository.class, Map.of(
+                        SAVE, args -> {
+                            EvaluationCategory category = (EvaluationCategory) args[0];
+                            evaluationCategories.put(category.getCatEvalId(), category);
+                            return category;
+                        },
+                        FIND_BY_ID, args -> Optional.ofNullable(evaluationCategories.get(args[0])))));
+        ReflectionTestUtils.setField(evaluationService, "evaluationSubcategoryRepository", subcategoryRepository);
+        ReflectionTestUtils.setField(evaluationService, "evaluationFieldRepository", InMemoryRepositories.create(
+                EvaluationFieldRepository.class, Map.of(
+                        SAVE, args -> (EvaluationField) args[0])));
+        ReflectionTestUtils.setField(evaluationService, "profileRepository", InMemoryRepositories.create(
+                UserImmigrationProfileRepository.class, Map.of(
+                        "findByApplicationId", args -> Optional.ofNullable(profiles.get(args[0])))));
+        ReflectionTestUtils.setField(evaluationService, "logicExpressionEvaluator", logicExpressionEvaluator);
+        ReflectionTestUtils.setField(evaluationService, "skillTransferabilityCappingService", cappingService);
+    }
+
+    public EvaluationService getEvaluationService() {
+        return evaluationService;
+    }
+
+    public LogicExpressionEvaluator getLogicExpressionEvaluator() {
+        return logicExpressionEvaluator;
+    }
+
+    public SkillTransferabilityCappingService getCappingService() {
+        return cappingService;
+    }
+
+    /**
+     * Registers a profile so it can be resolved by application ID.
+     *
+     * @param profile The profile to register
+     * @return The application ID of the profile
+     */
+    public UUID registerProfile(UserImmigrationProfile profile) {
+        profiles.put(profile.getApplicationId(), profile);
+        return profile.getApplicationId();
+    }
+
+    /**
+     * Registers evaluation subcategories under a category evaluation ID.
+     *
+     * @param catEvalId The category evaluation ID
+     * @param subcategories The subcategories to register
+     */
+    public void registerSubcategories(UUID catEvalId, List<EvaluationSubcategory> subcategories) {
+        evaluationSubcategories.put(catEvalId, subcategories);
+    }
+
+    /**
+     * Drops evaluation rows written by previous invocations so memory stays flat.
+     */
+    public void clearEvaluationResults() {
+        evaluations.clear();
+        evaluationCategories.clear();
+        evaluationSubcategories.clear();
+    }
+
+    /**
+     * Builds a single applicant profile with a strong first language and Canadian experience.
+     *
+     * @return A single applicant profile
+     */
+    public static UserImmigrationProfile singleApplicant() {
+        UserImmigrationProfile profile = baseProfile();
+        profile.setApplicantMaritalStatus(MARITAL_STATUS_SINGLE);
+        return profile;
+    }
+
+    /**
+     * Builds a married applicant profile with partner language and work experience.
+     *
+     * @return A married applicant profile
+     */
+    public static UserImmigrationProfile marriedApplicant() {
+        UserImmigrationProfile profile = baseProfile();
+        profile.setApplicantMaritalStatus(MARITAL_STATUS_MARRIED);
+        profile.setPartnerEducationLevel("bachelor");
+        profile.setPartnerLanguageTestType("IELTS");
+        profile.setPartnerTestSpeakingScore(7);
+        profile.setPartnerTestListeningScore(8);
+        profile.setPartnerTestReadingScore(7);
+        profile.setPartnerTestWritingScore(7);
+        profile.setPartnerCanadianWorkExperienceYears(1);
+        return profile;
+    }
+
+    private static UserImmigrationProfile baseProfile() {
+        UserImmigrationProfile profile = new UserImmigrationProfile();
+        profile.setApplicationId(UUID.randomUUID());
+        profile.setUserEmail("benchmark@example.com");
+        profile.setApplicantName("Benchmark Applicant");
+        profile.setApplicantAge(31);
+        profile.setApplicantCitizenship("India");
+        profile.setApplicantResidence("Canada");
+        profile.setApplicantEducationLevel("master");
+        profile.setEducationCompletedInCanada(true);
+        profile.setCanadianEducationLevel("master");
+        profile.setHasEducationalCredentialAssessment(true);
+        profile.setPrimaryLanguageTestType("IELTS");
+        profile.setPrimaryTestSpeakingScore(9);
+        profile.setPrimaryTestListeningScore(10);
+        profile.setPrimaryTestReadingScore(9);
+        profile.setPrimaryTestWritingScore(8);
+        profile.setTookSecondaryLanguageTest(true);
+        profile.setSecondaryTestType("TEF");
+        profile.setSecondaryTestSpeakingScore(7);
+        profile.setSecondaryTestListeningScore(7);
+        profile.setSecondaryTestReadingScore(8);
+        profile.setSecondaryTestWritingScore(7);
+        profile.setCanadianWorkExperienceYears(2);
+        profile.setNocCodeCanadian(21231);
+        profile.setCanadianOccupationTeerCategory(1);
+        profile.setForeignWorkExperienceYears(3);
+        profile.setNocCodeForeign(21231);
+        profile.setForeignOccupationTeerCategory(1);
+        profile.setWorkingInCanada(true);
+        profile.setHasProvincialNomination(false);
+        profile.setProvinceOfInterest("Ontario");
+        profile.setHasCanadianRelatives(true);
+        profile.setRelationshipWithCanadianRelative("sibling");
+        profile.setSettlementFundsCad(25000);
+        profile.setPreferredCity("Toronto");
+        profile.setPreferredDestinationProvince("Ontario");
+        profile.setHasJobOffer(false);
+        profile.setTradesCertification(false);
+        profile.setJsonPayload("{}");
+        return profile;
+    }
+
+    /**
+     * Raises the log level so benchmark numbers are not dominated by console output.
+     * Only for the forked benchmark JVMs: the level is not restored, so call it from a benchmark's setup,
+     * never from a test that shares the surefire JVM.
+     */
+    public static void quietLogging() {
+        Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.WARN);
+    }
+
+    private EvaluationSubcategory saveSubcategory(EvaluationSubcategory subcategory) {
+        List<EvaluationSubcategory> siblings = evaluationSubcategories
+                .computeIfAbsent(subcategory.getCatEvalId(), id -> new ArrayList<>());
+        if (!siblings.contains(subcategory)) {
+            siblings.add(subcategory);
+        }
+        return subcategory;
+    }
+
+    private static synchronized GridData gridData() {
+        if (gridData == null) {
+            gridData = loadGridFromSeed();
+        }
+        return gridData;
+    }
+
+    private static GridData loadGridFromSeed() {
+        try (Connection connection = DriverManager.getConnection(H2_URL, H2_USER, "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(SEED_SCRIPT);
+            GridData data = new GridData();
+
+            try (ResultSet rs = statement.executeQuery(SELECT_GRIDS)) {
+                rs.next();
+                data.grid = new Grid();
+                data.grid.setGridId(rs.getObject("grid_id", UUID.class));
+                data.grid.setGridName(rs.getString("grid_name"));
+                data.grid.setGridVersion(rs.getString("grid_version"));
+                data.grid.setCoverage(rs.getString("coverage"));
+                data.grid.setMaxTotalPoints(rs.getInt("max_total_points"));
+                data.grid.setUpdatedBy(rs.getString("updated_by"));
+            }
+
+            try (ResultSet rs = statement.executeQuery(SELECT_CATEGORIES)) {
+                while (rs.next()) {
+                    GridCategory category = new GridCategory();
+                    category.setCategoryId(rs.getObject("category_id", UUID.class));
+                    category.setGridId(rs.getObject("grid_id", UUID.class));
+                    category.setGridName(rs.getString("grid_name"));
+                    category.setCategoryName(rs.getString("category_name"));
+                    category.setCategoryDescription(rs.getString("category_description"));
+                    category.setMaxPointsSpouse(rs.getInt("max_points_spouse"));
+                    category.setMaxPointsNoSpouse(rs.getInt("max_points_no_spouse"));
+                    category.setSortOrder(rs.getInt("sort_order"));
+                    category.setUpdatedBy(rs.getString("updated_by"));
+                    data.categories.add(category);
+                }
+            }
+
+            try (ResultSet rs = statement.executeQuery(SELECT_SUBCATEGORIES)) {
+                while (rs.next()) {
+                    GridSubcategory subcategory = new GridSubcategory();
+                    subcategory.setSubcategoryId(rs.getObject("subcategory_id", UUID.class));
+                    subcategory.setCategoryId(rs.getObject("category_id", UUID.class));
+                    subcategory.setCategoryName(rs.getString("category_name"));
+                    subcategory.setGridName(rs.getString("grid_name"));
+                    subcategory.setSubcategoryName(rs.getString("subcategory_name"));
+                    subcategory.setMaxPointsSpouse(rs.getInt("max_points_spouse"));
+                    subcategory.setMaxPointsNoSpouse(rs.getInt("max_points_no_spouse"));
+                    subcategory.setSortOrder(rs.getInt("sort_order"));
+                    subcategory.setUpdatedBy(rs.getString("updated_by"));
+                    data.subcategoriesByCategory
+                            .computeIfAbsent(subcategory.getCategoryId(), id -> new ArrayList<>())
+                            .add(subcategory);
+                }
+            }
+
+            try (ResultSet rs = statement.executeQuery(SELECT_FIELDS)) {
+                while (rs.next()) {
+                    GridField field = new GridField();
+                    field.setFieldId(rs.getObject("field_id", UUID.class));
+                    field.setSubcategoryId(rs.getObject("subcategory_id", UUID.class));
+                    field.setSubcategoryName(rs.getString("subcategory_name"));
+                    field.setCategoryId(rs.getObject("category_id", UUID.class));
+                    field.setCategoryName(rs.getString("category_name"));
+                    field.setGridId(rs.getObject("grid_id", UUID.class));
+                    field.setGridName(rs.getString("grid_name"));
+                    field.setFieldName(rs.getString("field_name"));
+                    field.setLogicExpression(rs.getString("logic_expression"));
+                    field.setLogicOperator(rs.getString("logic_operator"));
+                    field.setPointsWithSpouse(rs.getInt("points_with_spouse"));
+                    field.setPointsWithoutSpouse(rs.getInt("points_without_spouse"));
+                    field.setMutuallyExclusive(rs.getBoolean("mutually_exclusive"));
+                    field.setSortOrder(rs.getInt("sort_order"));
+                    field.setUpdatedBy(rs.getString("updated_by"));
+                    data.fieldsBySubcategory
+                            .computeIfAbsent(field.getSubcategoryId(), id -> new ArrayList<>())
+                            .add(field);
+                }
+            }
+            return data;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load CRS grid seed data", e);
+        }
+    }
+
+    /**
+     * Grid rows read from the seed database.
+     */
+    private static class GridData {
+        private Grid grid;
+        private final List<GridCategory> categories = new ArrayList<>();
+        private final Map<UUID, List<GridSubcategory>> subcategoriesByCategory = new HashMap<>();
+        private final Map<UUID, List<GridField>> fieldsBySubcategory = new HashMap<>();
+    }
+}
@@ -0,0 +1,31 @@
+package co.immimate.benchmark;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import co.immimate.scoringevaluations.evaluation.model.Evaluation;
+
+/**
+ * Guards the benchmark fixtures so the JMH suite keeps measuring a working scoring path.
+ */
+public class ScoringEngineFixtureTest {
+
+    @Test
+    @DisplayName("Seed grid scores the single applicant fixture end to end")
+    public void testSingleApplicantScoresAgainstSeedGrid() {
+        ScoringEngineFixture fixture = new ScoringEngineFixture();
+        UUID applicationId = fixture.registerProfile(ScoringEngineFixture.singleApplicant());
+
+        Map<String, Object> variables = fixture.getEvaluationService().getUserVariables(applicationId);
+        Evaluation evaluation = fixture.getEvaluationService().createEvaluation(
+                applicationId, ScoringEngineFixture.GRID_NAME, variables, false);
+
+        assertEquals(8, variables.get("primary_clb_score"));
+        assertTrue(evaluation.getTotalScore() > 0, "Expected a positive CRS score from the seed grid");
+    }
+}
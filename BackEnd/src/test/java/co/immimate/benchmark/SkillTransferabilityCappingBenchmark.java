@@ -0,0 +1,82 @@
+package co.immimate.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.immimate.scoringevaluations.calculation.service.specialcases.SkillTransferabilityCappingService;
+import co.immimate.scoringevaluations.evaluation.model.EvaluationSubcategory;
+
+/**
+ * Measures the Skill Transferability group and category capping rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillTransferabilityCappingBenchmark {
+
+    private static final String[] SUBCATEGORY_NAMES = {
+        "Education and First Official Language Proficiency",
+        "Education and Canadian Work Experience",
+        "Foreign Work Experience and First Official Language Proficiency",
+        "Canadian Work Experience and Foreign Work Experience",
+        "Trades Certificate and First Official Language Proficiency"
+    };
+
+    /**
+     * Raw subcategory score: 20 stays under every cap, 50 forces group and category capping.
+     */
+    @Param({ "20", "50" })
+    public int subcategoryScore;
+
+    private ScoringEngineFixture fixture;
+    private SkillTransferabilityCappingService cappingService;
+    private UUID catEvalId;
+
+    @Setup
+    public void setUp() {
+        ScoringEngineFixture.quietLogging();
+        fixture = new ScoringEngineFixture();
+        cappingService = fixture.getCappingService();
+        catEvalId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public int applyGroupCaps() {
+        // Capping rewrites the scores in place, so every invocation starts from fresh rows
+        fixture.registerSubcategories(catEvalId, freshSubcategories());
+        return cappingService.applySkillTransferabilityGroupCaps(catEvalId,
+                new SkillTransferabilityCappingService.CappingDetails());
+    }
+
+    private List<EvaluationSubcategory> freshSubcategories() {
+        List<EvaluationSubcategory> subcategories = new ArrayList<>(SUBCATEGORY_NAMES.length);
+        for (String name : SUBCATEGORY_NAMES) {
+            EvaluationSubcategory subcategory = new EvaluationSubcategory();
+            subcategory.setSubcatEvalId(UUID.randomUUID());
+            subcategory.setCatEvalId(catEvalId);
+            subcategory.setSubcategoryId(UUID.nameUUIDFromBytes(name.getBytes()));
+            subcategory.setSubcategoryName(name);
+            subcategory.setUserScore(subcategoryScore);
+            subcategory.setMaxPossibleScore(50);
+            subcategories.add(subcategory);
+        }
+        return subcategories;
+    }
+}
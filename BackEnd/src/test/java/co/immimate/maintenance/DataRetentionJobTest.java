@@ -0,0 +1,107 @@
+package co.immimate.maintenance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.immimate.profile.repository.ProfileDraftRepository;
+import co.immimate.profile.repository.ProfileDraftSnapshotRepository;
+
+/**
+ * Unit tests for DataRetentionJob
+ */
+@ExtendWith(MockitoExtension.class)
+public class DataRetentionJobTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JdbcTemplate plainJdbcTemplate;
+
+    @Mock
+    private ProfileDraftRepository profileDraftRepository;
+
+    @Mock
+    private ProfileDraftSnapshotRepository profileDraftSnapshotRepository;
+
+    @InjectMocks
+    private DataRetentionJob job;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(job, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "maxChunks", 10);
+        ReflectionTestUtils.setField(job, "chunkPauseMs", 0L);
+        ReflectionTestUtils.setField(job, "evaluationsPerApplication", 3);
+
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(plainJdbcTemplate);
+        when(plainJdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(5L);
+        when(profileDraftRepository.findSupersededDraftIds(any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Expired evaluations are deleted in chunks, children before parents")
+    public void testEvaluationsAreDeletedInChunks() {
+        when(jdbcTemplate.queryForList(contains("ROW_NUMBER"), anyMap(), eq(UUID.class)))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .thenReturn(List.of(UUID.randomUUID()));
+        when(jdbcTemplate.update(anyString(), anyMap())).thenReturn(1);
+
+        Map<String, Long> deleted = job.run();
+
+        verify(jdbcTemplate, times(2)).queryForList(contains("ROW_NUMBER"), anyMap(), eq(UUID.class));
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(contains("DELETE FROM " + DataRetentionJob.TABLE_EVALUATION_FIELDS), anyMap());
+        order.verify(jdbcTemplate).update(contains("DELETE FROM " + DataRetentionJob.TABLE_EVALUATION_SUBCATEGORIES), anyMap());
+        order.verify(jdbcTemplate).update(contains("DELETE FROM " + DataRetentionJob.TABLE_EVALUATION_CATEGORIES), anyMap());
+        order.verify(jdbcTemplate).update(contains("DELETE FROM " + DataRetentionJob.TABLE_EVALUATIONS + " "), anyMap());
+        assertEquals(2L, deleted.get(DataRetentionJob.TABLE_EVALUATIONS));
+    }
+
+    @Test
+    @DisplayName("Superseded drafts are deleted with their history and stats are reported")
+    public void testSupersededDraftsAreDeleted() {
+        ReflectionTestUtils.setField(job, "evaluationsPerApplication", 0);
+        List<UUID> ids = List.of(UUID.randomUUID());
+        when(profileDraftRepository.findSupersededDraftIds(any())).thenReturn(ids);
+        when(profileDraftRepository.deleteByIds(ids)).thenReturn(1);
+
+        Map<String, Long> deleted = job.run();
+
+        verify(profileDraftSnapshotRepository).deleteByDraftIds(ids);
+        verify(profileDraftRepository, never()).findIdsLastModifiedBefore(any(), any());
+        verify(jdbcTemplate, never()).queryForList(anyString(), anyMap(), eq(UUID.class));
+        assertEquals(1L, deleted.get(DataRetentionJob.TABLE_PROFILE_DRAFTS));
+        assertTrue(job.getMetrics().containsKey("after"));
+    }
+}
@@ -0,0 +1,53 @@
+package co.immimate.maintenance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.immimate.auth.security.JdbcBucketStore;
+
+/**
+ * Unit tests for RateLimitBucketPurgeJob
+ */
+public class RateLimitBucketPurgeJobTest {
+
+    private RateLimitBucketPurgeJob job;
+
+    @BeforeEach
+    public void setUp() {
+        job = new RateLimitBucketPurgeJob();
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "maxChunks", 10);
+        ReflectionTestUtils.setField(job, "chunkPauseMs", 0L);
+    }
+
+    @Test
+    @DisplayName("Expired buckets are deleted in chunks until a short chunk")
+    public void testExpiredBucketsAreDeletedInChunks() throws Exception {
+        JdbcBucketStore store = mock(JdbcBucketStore.class);
+        when(store.purgeExpired(anyLong(), eq(2))).thenReturn(2, 2, 1);
+        ReflectionTestUtils.setField(job, "bucketStore", store);
+
+        job.runScheduled();
+
+        verify(store, times(3)).purgeExpired(anyLong(), eq(2));
+    }
+
+    @Test
+    @DisplayName("A run stops after max chunks")
+    public void testRunIsBoundedByMaxChunks() throws Exception {
+        JdbcBucketStore store = mock(JdbcBucketStore.class);
+        when(store.purgeExpired(anyLong(), eq(2))).thenReturn(2);
+        ReflectionTestUtils.setField(job, "maxChunks", 3);
+
+        assertEquals(6L, job.run(store));
+    }
+}
@@ -12,20 +12,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import co.immimate.profile.dto.ProfileSubmissionRequest;
 import co.immimate.profile.dto.ProfileSubmissionResponse;
 import co.immimate.profile.model.UserImmigrationProfile;
 import co.immimate.profile.repository.UserImmigrationProfileRepository;
+import co.immimate.profile.validation.ProfileValidationEngine;
 import co.immimate.profile.service.ProfileService;
 import co.immimate.user.model.User;
 import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserIdentityResolver;
 
 /**
  * Comprehensive test class for ProfileService
@@ -39,6 +45,15 @@ class ProfileServiceTest {
     
     @Mock
     private UserRepository userRepository;
+    
+    @Mock
+    private UserIdentityResolver userIdentityResolver;
+    
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Spy
+    private ProfileValidationEngine validationEngine = new ProfileValidationEngine();
 
     
     @InjectMocks
@@ -78,8 +93,7 @@ class ProfileServiceTest {
         // Set up repository mocks
         when(profileRepository.findByApplicationId(TEST_APPLICATION_ID)).thenReturn(Optional.of(testProfile));
         when(profileRepository.findFirstByUserEmailOrderByCreatedAtDesc(TEST_EMAIL)).thenReturn(Optional.of(testProfile));
-        when(userRepository.findById(TEST_USER_ID)).thenReturn(Optional.of(testUser));
-        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+        when(userIdentityResolver.resolve(TEST_USER_ID, TEST_EMAIL, null)).thenReturn(Optional.of(testUser));
         
         // Mock the save method to set the applicationId and return the profile
         when(profileRepository.save(any(UserImmigrationProfile.class))).thenAnswer(invocation -> {
@@ -359,8 +373,8 @@ class ProfileServiceTest {
         // Test submitting a profile for an existing user
         ProfileSubmissionResponse response = profileService.submitProfile(testRequest);
         
-        // Verify the user repository was called to find the user
-        verify(userRepository).findById(TEST_USER_ID);
+        // Verify the user was resolved in a single lookup
+        verify(userIdentityResolver).resolve(TEST_USER_ID, TEST_EMAIL, null);
         
         // Verify the profile repository was called to save the profile
         verify(profileRepository).save(any(UserImmigrationProfile.class));
@@ -379,8 +393,7 @@ class ProfileServiceTest {
         newUserRequest.setUserEmail("newuser@example.com");
         
         // Mock the user repository to return empty for both ID and email
-        when(userRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
-        when(userRepository.findByEmail("newuser@example.com")).thenReturn(Optional.empty());
+        when(userIdentityResolver.resolve(any(UUID.class), eq("newuser@example.com"), any())).thenReturn(Optional.empty());
         
         // Mock the user repository to return a new user when saved
         User newUser = new User();
@@ -392,8 +405,7 @@ class ProfileServiceTest {
         ProfileSubmissionResponse response = profileService.submitProfile(newUserRequest);
         
         // Verify the user repository was called to find and then save the user
-        verify(userRepository).findById(any(UUID.class));
-        verify(userRepository).findByEmail("newuser@example.com");
+        verify(userIdentityResolver).resolve(any(UUID.class), eq("newuser@example.com"), any());
         verify(userRepository).save(any(User.class));
         
         // Verify the profile repository was called to save the profile
@@ -0,0 +1,66 @@
+package co.immimate.profile.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the bounds on the public batch CLB conversion request
+ */
+public class CLBBatchConversionRequestTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    @DisplayName("The four skills, in any case, are accepted")
+    public void testFourSkillsAreValid() {
+        CLBBatchConversionRequest request = request(Map.of(
+                "Listening", "8.5", "reading", "7.0", "writing", "7.5", "speaking", "7.5"));
+
+        assertTrue(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    @DisplayName("More score entries than skills are rejected")
+    public void testOversizedScoreMapIsRejected() {
+        CLBBatchConversionRequest request = request(Map.of(
+                "listening", "8.5", "reading", "7.0", "writing", "7.5", "speaking", "7.5", "LISTENING", "8.5"));
+
+        assertEquals(Set.of("tests[0].scores"), violatedPaths(request));
+    }
+
+    @Test
+    @DisplayName("Unknown skill labels are rejected")
+    public void testUnknownSkillIsRejected() {
+        CLBBatchConversionRequest request = request(Map.of("listening", "8.5", "typing", "1.0"));
+
+        assertEquals(Set.of("tests[0].knownSkills"), violatedPaths(request));
+    }
+
+    private Set<String> violatedPaths(CLBBatchConversionRequest request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getPropertyPath)
+                .map(Object::toString)
+                .collect(Collectors.toSet());
+    }
+
+    private static CLBBatchConversionRequest request(Map<String, String> scores) {
+        CLBBatchConversionRequest.TestScores test = new CLBBatchConversionRequest.TestScores();
+        test.setLabel("primary");
+        test.setTestType("IELTS");
+        test.setScores(scores);
+        CLBBatchConversionRequest request = new CLBBatchConversionRequest();
+        request.setTests(List.of(test));
+        return request;
+    }
+}
@@ -0,0 +1,84 @@
+package co.immimate.profile.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.immimate.profile.dto.CLBConversionResponse;
+
+/**
+ * Unit tests for the compiled CLB score index
+ */
+public class CLBScoreIndexTest {
+
+    private CLBScoreIndex index;
+
+    @BeforeEach
+    public void setup() {
+        CLBConversionResponse tables = new CLBConversionResponse();
+        tables.setCelpip(new HashMap<>());
+        tables.setIelts(Map.of("reading", scores("8.0", 10, "7", 9, "6.5", 8, "6.0", 7)));
+        tables.setPte(Map.of("reading", scores("88-90", 10, "78-87", 9, "69-77", 8, "60-68", 7)));
+        tables.setTef(Map.of("listening", scores("316-360", 10, "298-315", 9, "280-297", 8)));
+        tables.setTcf(new HashMap<>());
+        index = CLBScoreIndex.compile(tables);
+    }
+
+    @Test
+    public void testExactKeysAreNormalized() {
+        assertEquals(9, index.lookup("IELTS", "reading", "7.0"));
+        assertEquals(9, index.lookup("IELTS", "reading", "7"));
+        assertEquals(10, index.lookup("IELTS", "reading", "8"));
+        assertEquals(8, index.lookup("ielts", "READING", "6.50"));
+    }
+
+    @Test
+    public void testNumericScoreResolvesThroughRanges() {
+        assertEquals(10, index.lookup("PTE", "reading", "90"));
+        assertEquals(9, index.lookup("PTE", "reading", "78"));
+        assertEquals(9, index.lookup("PTE", "reading", "87"));
+        assertEquals(7, index.lookup("PTE", "reading", "60"));
+        assertNull(index.lookup("PTE", "reading", "59"));
+        assertNull(index.lookup("PTE", "reading", "91"));
+    }
+
+    @Test
+    public void testRangeScoreMatchesExactOrOverlappingBand() {
+        assertEquals(9, index.lookup("TEF", "listening", "298-315"));
+        assertEquals(8, index.lookup("TEF", "listening", "270-285"));
+        assertNull(index.lookup("TEF", "listening", "100-200"));
+    }
+
+    @Test
+    public void testInvalidInputsReturnNull() {
+        assertNull(index.lookup("IELTS", "reading", "not_a_number"));
+        assertNull(index.lookup("IELTS", "reading", "5.0"));
+        assertNull(index.lookup("UNKNOWN", "reading", "7.0"));
+        assertNull(index.lookup("IELTS", "unknown", "7.0"));
+        assertTrue(index.supports("IELTS", "reading"));
+        assertFalse(index.supports("IELTS", "speaking"));
+    }
+
+    @Test
+    public void testHugeExponentAndOverlongScoresAreRejected() {
+        assertNull(index.lookup("IELTS", "reading", "1e100000000"));
+        assertNull(index.lookup("PTE", "reading", "1e100000000-1e100000001"));
+        assertNull(index.lookup("IELTS", "reading", "7." + "0".repeat(1_000_000)));
+        assertNull(CLBScoreIndex.normalizeKey("1e100000000"));
+        assertEquals("1.0E300", CLBScoreIndex.normalizeKey("1e300"));
+    }
+
+    private static Map<String, Object> scores(Object... keysAndLevels) {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < keysAndLevels.length; i += 2) {
+            map.put((String) keysAndLevels[i], keysAndLevels[i + 1]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,62 @@
+package co.immimate.profile.service;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.immimate.profile.model.CLBTestConverter;
+
+class CLBTestConverterCacheListenerTest {
+
+    private CLBTestConverterService converterService;
+    private CLBTestConverterCacheListener listener;
+
+    @BeforeEach
+    void setUp() {
+        converterService = mock(CLBTestConverterService.class);
+        listener = new CLBTestConverterCacheListener();
+        ReflectionTestUtils.setField(listener, "converterService",
+                new StaticListableBeanFactory(Map.of("clbTestConverterService", converterService))
+                        .getBeanProvider(CLBTestConverterService.class));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict the caches once per transaction however many rows change")
+    void evictsOncePerTransaction() {
+        for (long i = 0; i < 3; i++) {
+            CLBTestConverter conversion = new CLBTestConverter();
+            conversion.setId(i);
+            listener.onConversionChanged(conversion);
+        }
+
+        verify(converterService, never()).evictConversionCaches();
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        verify(converterService, times(1)).evictConversionCaches();
+        assertFalse(TransactionSynchronizationManager.hasResource(
+                CLBTestConverterCacheListener.class.getName() + ".evictionScheduled"));
+    }
+}
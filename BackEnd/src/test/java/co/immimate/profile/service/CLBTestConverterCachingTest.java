@@ -0,0 +1,128 @@
+package co.immimate.profile.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import co.immimate.config.CacheConfig;
+import co.immimate.profile.controller.CLBTestConverterController;
+import co.immimate.profile.dto.SerializedPayload;
+import co.immimate.profile.model.CLBTestConverter;
+import co.immimate.profile.repository.CLBTestConverterRepository;
+
+/**
+ * Verifies that CLB conversions are served from the Caffeine cache through the Spring proxy
+ */
+@SpringJUnitConfig(classes = { CacheConfig.class, JacksonAutoConfiguration.class,
+        CLBTestConverterService.class, CLBTestConverterController.class })
+public class CLBTestConverterCachingTest {
+
+    @MockBean
+    private CLBTestConverterRepository repository;
+
+    @Autowired
+    private CLBTestConverterService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CLBTestConverterController controller;
+
+    @BeforeEach
+    public void setup() {
+        service.evictConversionCaches();
+
+        CLBTestConverter clb9 = new CLBTestConverter();
+        clb9.setClbLevel(9);
+        clb9.setIeltsReading("7.0");
+        when(repository.findByActiveIsTrueOrderByClbLevelDesc()).thenReturn(List.of(clb9));
+    }
+
+    @Test
+    public void testRepeatedConversionsHitTheCache() {
+        assertEquals(9, service.convertToCLB("IELTS", "reading", "7.0"));
+        assertEquals(9, service.convertToCLB("IELTS", "reading", "7.0"));
+        assertEquals(9, service.convertToCLB("IELTS", "reading", "7.0"));
+
+        verify(repository, times(1)).findByActiveIsTrueOrderByClbLevelDesc();
+    }
+
+    @Test
+    public void testEvictionReloadsTables() {
+        service.convertToCLB("IELTS", "reading", "7.0");
+        service.evictConversionCaches();
+        service.convertToCLB("IELTS", "reading", "7.0");
+
+        verify(repository, times(2)).findByActiveIsTrueOrderByClbLevelDesc();
+    }
+
+    @Test
+    public void testCacheRecordsStatistics() {
+        service.convertToCLB("IELTS", "reading", "7.0");
+        service.convertToCLB("IELTS", "reading", "7.0");
+
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.CACHE_CLB_SCORE_INDEX);
+        assertTrue(cache.getNativeCache().stats().hitCount() >= 1);
+    }
+
+    @Test
+    public void testPayloadIsSerializedOnceAndReused() {
+        SerializedPayload first = service.getScoreOptionsPayload();
+        SerializedPayload second = service.getScoreOptionsPayload();
+
+        assertSame(first, second);
+        assertTrue(first.getEtag().startsWith("\""));
+        assertTrue(first.asString().contains("\"7.0\""));
+    }
+
+    @Test
+    public void testPayloadEtagChangesWhenTablesChange() {
+        String before = service.getConversionTablesPayload().getEtag();
+
+        CLBTestConverter clb8 = new CLBTestConverter();
+        clb8.setClbLevel(8);
+        clb8.setIeltsReading("6.5");
+        when(repository.findByActiveIsTrueOrderByClbLevelDesc()).thenReturn(List.of(clb8));
+        service.evictConversionCaches();
+
+        assertNotEquals(before, service.getConversionTablesPayload().getEtag());
+    }
+
+    @Test
+    public void testConditionalRequestReturnsNotModified() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        String optionsPath = CLBTestConverterController.BASE_PATH + "/options";
+        String etag = service.getScoreOptionsPayload().getEtag();
+
+        mockMvc.perform(get(optionsPath))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL));
+
+        mockMvc.perform(get(optionsPath).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
@@ -2,7 +2,9 @@ package co.immimate.profile.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -18,6 +20,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import co.immimate.profile.dto.CLBBatchConversionRequest;
+import co.immimate.profile.dto.CLBBatchConversionResponse;
 import co.immimate.profile.dto.CLBConversionResponse;
 import co.immimate.profile.model.CLBTestConverter;
 import co.immimate.profile.repository.CLBTestConverterRepository;
@@ -296,4 +300,78 @@ class CLBTestConverterServiceTest {
         assertNull(service.convertToCLB("IELTS", "writing", null)); // Null score
         assertNull(service.convertToCLB("PTE", "speaking", "not_a_number")); // Non-numeric score
     }
-} 
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Should convert several tests in one batch with a per-test minimum")
+    void convertBatch() {
+        // Arrange
+        when(repository.findByActiveIsTrueOrderByClbLevelDesc()).thenReturn(mockData);
+        
+        Map<String, String> primaryScores = new LinkedHashMap<>();
+        primaryScores.put("listening", "8.5");
+        primaryScores.put("reading", "7.0");
+        primaryScores.put("writing", "7.5");
+        primaryScores.put("speaking", "7.5");
+        
+        CLBBatchConversionRequest.TestScores primary = new CLBBatchConversionRequest.TestScores();
+        primary.setLabel("primary");
+        primary.setTestType("ielts");
+        primary.setScores(primaryScores);
+        
+        CLBBatchConversionRequest.TestScores secondary = new CLBBatchConversionRequest.TestScores();
+        secondary.setLabel("secondary");
+        secondary.setTestType("TCF");
+        secondary.setScores(Map.of("listening", "600", "reading", "not_a_number"));
+        
+        CLBBatchConversionRequest.TestScores partner = new CLBBatchConversionRequest.TestScores();
+        partner.setLabel("partner");
+        partner.setTestType("IELTS");
+        partner.setScores(Map.of("listening", "8.5", "typing", "1.0"));
+        
+        CLBBatchConversionRequest request = new CLBBatchConversionRequest();
+        request.setTests(List.of(primary, secondary, partner));
+        
+        // Act
+        CLBBatchConversionResponse response = service.convertBatch(request);
+        
+        // Assert
+        CLBBatchConversionResponse.TestResult primaryResult = response.getResults().get("primary");
+        assertEquals("IELTS", primaryResult.getTestType());
+        assertEquals(10, primaryResult.getClbLevels().get("listening"));
+        assertEquals(9, primaryResult.getClbLevels().get("reading"));
+        assertEquals(9, primaryResult.getMinimumClb());
+        
+        CLBBatchConversionResponse.TestResult secondaryResult = response.getResults().get("secondary");
+        assertEquals(10, secondaryResult.getClbLevels().get("listening"));
+        assertEquals(0, secondaryResult.getClbLevels().get("reading")); // Unconvertible score
+        assertEquals(0, secondaryResult.getMinimumClb());
+        
+        CLBBatchConversionResponse.TestResult partnerResult = response.getResults().get("partner");
+        assertEquals(Map.of("listening", 10), partnerResult.getClbLevels()); // Unknown skill left out
+        assertEquals(10, partnerResult.getMinimumClb());
+        
+        verify(repository, times(1)).findByActiveIsTrueOrderByClbLevelDesc();
+    }
+    
+    @Test
+    @DisplayName("Should sort mixed single and range score options numerically")
+    void sortScoreOptions() {
+        // Arrange
+        CLBTestConverter clb5 = new CLBTestConverter();
+        clb5.setClbLevel(5);
+        clb5.setTcfWriting("6");
+        CLBTestConverter clb7 = new CLBTestConverter();
+        clb7.setClbLevel(7);
+        clb7.setTcfWriting("10-11");
+        CLBTestConverter clb6 = new CLBTestConverter();
+        clb6.setClbLevel(6);
+        clb6.setTcfWriting("7-9");
+        when(repository.findByActiveIsTrueOrderByClbLevelDesc()).thenReturn(List.of(clb7, clb5, clb6));
+        
+        // Act
+        Map<String, Map<String, List<String>>> options = service.getScoreOptions();
+        
+        // Assert
+        assertEquals(List.of("6", "7-9", "10-11"), options.get("TCF").get("writing"));
+    }
+}
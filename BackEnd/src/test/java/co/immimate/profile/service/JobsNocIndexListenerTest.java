@@ -0,0 +1,58 @@
+package co.immimate.profile.service;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.immimate.profile.model.JobsNoc;
+
+class JobsNocIndexListenerTest {
+
+    private NocIndexService nocIndexService;
+    private JobsNocIndexListener listener;
+
+    @BeforeEach
+    void setUp() {
+        nocIndexService = mock(NocIndexService.class);
+        listener = new JobsNocIndexListener();
+        ReflectionTestUtils.setField(listener, "nocIndexService",
+                new StaticListableBeanFactory(Map.of("nocIndexService", nocIndexService))
+                        .getBeanProvider(NocIndexService.class));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refresh the index once per transaction however many rows change")
+    void refreshesOncePerTransaction() {
+        for (int i = 0; i < 3; i++) {
+            listener.onJobsNocChanged(new JobsNoc(21231 + i, 1, "Title", null));
+        }
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        verify(nocIndexService, times(1)).refresh();
+        assertFalse(TransactionSynchronizationManager.hasResource(
+                JobsNocIndexListener.class.getName() + ".refreshScheduled"));
+    }
+}
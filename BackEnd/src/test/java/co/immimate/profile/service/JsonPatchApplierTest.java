@@ -0,0 +1,68 @@
+package co.immimate.profile.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.immimate.profile.exception.InvalidDraftPatchException;
+
+/**
+ * Unit tests for JsonPatchApplier
+ */
+public class JsonPatchApplierTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Add, replace and remove update object fields and array elements")
+    public void testAddReplaceRemove() throws Exception {
+        JsonNode result = apply("{\"name\":\"A\",\"age\":30,\"jobs\":[\"x\",\"z\"]}",
+                "[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"B\"},"
+                + "{\"op\":\"remove\",\"path\":\"/age\"},"
+                + "{\"op\":\"add\",\"path\":\"/jobs/1\",\"value\":\"y\"},"
+                + "{\"op\":\"add\",\"path\":\"/jobs/-\",\"value\":\"end\"},"
+                + "{\"op\":\"add\",\"path\":\"/a~1b\",\"value\":true}]");
+
+        assertEquals(mapper.readTree("{\"name\":\"B\",\"jobs\":[\"x\",\"y\",\"z\",\"end\"],\"a/b\":true}"), result);
+    }
+
+    @Test
+    @DisplayName("Move and copy relocate values and test checks them")
+    public void testMoveCopyAndTest() throws Exception {
+        JsonNode result = apply("{\"a\":{\"b\":1},\"c\":[]}",
+                "[{\"op\":\"test\",\"path\":\"/a/b\",\"value\":1},"
+                + "{\"op\":\"copy\",\"from\":\"/a/b\",\"path\":\"/c/0\"},"
+                + "{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/d\"}]");
+
+        assertEquals(mapper.readTree("{\"c\":[1],\"d\":{\"b\":1}}"), result);
+    }
+
+    @Test
+    @DisplayName("A failing operation leaves the original document untouched")
+    public void testFailedPatchDoesNotModifyInput() throws Exception {
+        JsonNode document = mapper.readTree("{\"a\":1}");
+
+        assertThrows(InvalidDraftPatchException.class, () -> JsonPatchApplier.apply(document, mapper.readTree(
+                "[{\"op\":\"replace\",\"path\":\"/a\",\"value\":2},{\"op\":\"test\",\"path\":\"/a\",\"value\":1}]")));
+        assertEquals(mapper.readTree("{\"a\":1}"), document);
+    }
+
+    @Test
+    @DisplayName("Malformed patches and missing paths are rejected")
+    public void testInvalidPatchesAreRejected() {
+        assertThrows(InvalidDraftPatchException.class, () -> apply("{}", "{\"op\":\"add\"}"));
+        assertThrows(InvalidDraftPatchException.class, () -> apply("{}", "[{\"op\":\"jump\",\"path\":\"/a\"}]"));
+        assertThrows(InvalidDraftPatchException.class, () -> apply("{}", "[{\"op\":\"remove\",\"path\":\"/a\"}]"));
+        assertThrows(InvalidDraftPatchException.class, () -> apply("{}", "[{\"op\":\"add\",\"path\":\"/a/b\",\"value\":1}]"));
+        assertThrows(InvalidDraftPatchException.class, () -> apply("{\"l\":[]}", "[{\"op\":\"add\",\"path\":\"/l/01\",\"value\":1}]"));
+        assertThrows(InvalidDraftPatchException.class, () -> apply("{\"a\":{}}", "[{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/a/b\"}]"));
+    }
+
+    private JsonNode apply(String document, String patch) throws Exception {
+        return JsonPatchApplier.apply(mapper.readTree(document), mapper.readTree(patch));
+    }
+}
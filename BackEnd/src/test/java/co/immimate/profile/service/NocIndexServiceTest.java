@@ -0,0 +1,77 @@
+package co.immimate.profile.service;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.immimate.profile.model.JobsNoc;
+import co.immimate.profile.repository.JobsNocRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NocIndexServiceTest {
+
+    @Mock
+    private JobsNocRepository jobsNocRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private NocIndexService nocIndexService;
+
+    @Test
+    @DisplayName("Should resolve TEER categories from memory after a single table load")
+    void resolvesFromDatabaseRows() {
+        when(jobsNocRepository.findAll()).thenReturn(List.of(
+                new JobsNoc(21231, 1, "Software engineers and designers", null),
+                new JobsNoc(10010, 0, "Financial managers", null),
+                new JobsNoc(75101, null, "Material handlers", null)));
+
+        assertEquals(1, nocIndexService.findTeerCategory(21231));
+        assertEquals(0, nocIndexService.findTeerCategory(10010));
+        assertNull(nocIndexService.findTeerCategory(75101)); // Row without a TEER category
+        assertNull(nocIndexService.findTeerCategory(99999)); // Unknown code
+        assertNull(nocIndexService.findTeerCategory(null));
+        assertEquals("Financial managers", nocIndexService.getIndex().findJobTitle(10010));
+
+        verify(jobsNocRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the bundled snapshot when the table is unavailable")
+    void fallsBackToSnapshot() {
+        when(jobsNocRepository.findAll()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        nocIndexService.refresh();
+
+        assertTrue(nocIndexService.getIndex().size() > 0);
+        assertEquals(0, nocIndexService.findTeerCategory(10010));
+    }
+
+    @Test
+    @DisplayName("Should pick up table changes on refresh")
+    void refreshReplacesIndex() {
+        when(jobsNocRepository.findAll())
+                .thenReturn(List.of(new JobsNoc(21231, 1, "Software engineers and designers", null)))
+                .thenReturn(List.of(new JobsNoc(21231, 2, "Software engineers and designers", null)));
+
+        assertEquals(1, nocIndexService.findTeerCategory(21231));
+        nocIndexService.refresh();
+        assertEquals(2, nocIndexService.findTeerCategory(21231));
+    }
+}
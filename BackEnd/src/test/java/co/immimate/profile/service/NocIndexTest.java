@@ -0,0 +1,69 @@
+package co.immimate.profile.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import co.immimate.profile.dto.NocSearchResult;
+import co.immimate.profile.model.JobsNoc;
+
+class NocIndexTest {
+
+    private NocIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = NocIndex.of(List.of(
+                new JobsNoc(21231, 1, "Software engineers and designers", null),
+                new JobsNoc(21232, 1, "Software developers and programmers", null),
+                new JobsNoc(21230, 1, "Computer systems developers and programmers", null),
+                new JobsNoc(22220, 2, "Computer network and web technicians", null),
+                new JobsNoc(21211, 1, "Data scientists", null),
+                new JobsNoc(21223, 1, "Database analysts", null),
+                new JobsNoc(21999, 1, "Big data engineers", null),
+                new JobsNoc(63100, 3, "Maîtres d'hôtel and hosts/hostesses", null),
+                new JobsNoc(10, 0, "Legislators", null)));
+    }
+
+    @Test
+    @DisplayName("Should require every query word to prefix a title word")
+    void matchesAllWordPrefixes() {
+        assertEquals(List.of(21231), codes(index.search("soft eng", 10)));
+        assertEquals(List.of(21232, 21230), codes(index.search("develop prog", 10)));
+        assertTrue(index.search("software nurse", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rank title prefixes, then whole words, then shorter titles")
+    void ranksMatches() {
+        assertEquals(List.of(21211, 21223, 21999), codes(index.search("data", 10)));
+        assertEquals(List.of(21231, 21232), codes(index.search("software", 10)));
+        assertEquals(List.of(22220, 21230), codes(index.search("comp", 10)));
+    }
+
+    @Test
+    @DisplayName("Should match NOC code prefixes, exact codes first, and zero-padded codes")
+    void matchesCodes() {
+        assertEquals(List.of(21230, 21231, 21232), codes(index.search("2123", 10)));
+        assertEquals(List.of(21211), codes(index.search("21211", 10)));
+        assertEquals(21231, codes(index.search("21231", 10)).get(0));
+        assertEquals(List.of(10), codes(index.search("0001", 10)));
+    }
+
+    @Test
+    @DisplayName("Should fold accents and bound results to the limit")
+    void foldsAccentsAndLimits() {
+        assertEquals(List.of(63100), codes(index.search("maitres d'hotel", 10)));
+        assertEquals(2, index.search("2", 2).size());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    private static List<Integer> codes(List<NocSearchResult> results) {
+        return results.stream().map(NocSearchResult::getNocCode).collect(Collectors.toList());
+    }
+}
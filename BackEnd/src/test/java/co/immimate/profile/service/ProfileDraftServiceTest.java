@@ -0,0 +1,171 @@
+package co.immimate.profile.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.immimate.profile.exception.DraftVersionConflictException;
+import co.immimate.profile.model.ProfileDraft;
+import co.immimate.profile.model.ProfileDraftSnapshot;
+import co.immimate.profile.repository.ProfileDraftRepository;
+import co.immimate.profile.repository.ProfileDraftSnapshotRepository;
+import co.immimate.profile.validation.ProfileValidationEngine;
+import co.immimate.user.model.User;
+import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserIdentityResolver;
+
+/**
+ * Unit tests for the one-draft-per-user save path in ProfileService
+ */
+@ExtendWith(MockitoExtension.class)
+public class ProfileDraftServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProfileDraftRepository profileDraftRepository;
+
+    @Mock
+    private ProfileDraftSnapshotRepository profileDraftSnapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProfileDraftWriteBuffer draftWriteBuffer;
+
+    private ProfileService profileService;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        // Write-behind is off outside Spring, so every save is written through
+        draftWriteBuffer = new ProfileDraftWriteBuffer(
+                profileDraftRepository, profileDraftSnapshotRepository, transactionManager);
+        profileService = new ProfileService(null, userRepository, null,
+                profileDraftRepository, profileDraftSnapshotRepository, draftWriteBuffer,
+                new UserIdentityResolver(userRepository, 0), new ObjectMapper(), new ProfileValidationEngine());
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        when(userRepository.findByIdOrEmailOrGoogleId(null, EMAIL, null)).thenReturn(List.of(user));
+    }
+
+    @Test
+    @DisplayName("First save creates the draft under the user's ID and replaces legacy rows")
+    public void testFirstSaveReplacesLegacyDrafts() {
+        when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.empty());
+        when(profileDraftRepository.save(any(ProfileDraft.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ProfileDraft saved = profileService.saveProfileDraftWithGoogleId(EMAIL, null, "{\"a\":1}", null);
+
+        assertEquals(user.getId(), saved.getId());
+        assertEquals(0L, saved.getVersion());
+        verify(profileDraftRepository).deleteOtherDrafts(user, user.getId());
+    }
+
+    @Test
+    @DisplayName("Later saves update the existing draft in place")
+    public void testSaveUpdatesDraftInPlace() {
+        ProfileDraft existing = draft(3L, "{\"a\":1}");
+        when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.of(existing));
+
+        ProfileDraft saved = profileService.saveProfileDraftWithGoogleId(EMAIL, null, "{\"a\":2}", 3L);
+
+        assertEquals("{\"a\":2}", saved.getFormDataJson());
+        assertEquals(4L, saved.getVersion());
+        verify(profileDraftRepository).save(existing);
+        verify(profileDraftRepository, never()).deleteOtherDrafts(any(), any());
+        verify(profileDraftSnapshotRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Saving against a stale version is rejected")
+    public void testStaleVersionIsRejected() {
+        when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.of(draft(5L, "{}")));
+
+        DraftVersionConflictException e = assertThrows(DraftVersionConflictException.class,
+                () -> profileService.saveProfileDraftWithGoogleId(EMAIL, null, "{}", 4L));
+
+        assertEquals(5L, e.getCurrentVersion());
+        verify(profileDraftRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("History snapshots reuse a fixed number of slots per draft")
+    public void testHistorySnapshotsWrapAround() {
+        ReflectionTestUtils.setField(draftWriteBuffer, "draftHistorySize", 3);
+        ProfileDraft existing = draft(7L, "{\"v\":7}");
+        when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.of(existing));
+
+        profileService.saveProfileDraftWithGoogleId(EMAIL, null, "{\"v\":8}", null);
+
+        ArgumentCaptor<ProfileDraftSnapshot> captor = ArgumentCaptor.forClass(ProfileDraftSnapshot.class);
+        verify(profileDraftSnapshotRepository).save(captor.capture());
+        ProfileDraftSnapshot snapshot = captor.getValue();
+        assertEquals(1, snapshot.getSlot());
+        assertEquals(ProfileDraftSnapshot.idFor(user.getId(), 1), snapshot.getId());
+        assertEquals("{\"v\":7}", snapshot.getFormDataJson());
+    }
+
+    @Test
+    @DisplayName("A JSON Patch is applied to the stored draft")
+    public void testPatchAppliesToStoredDraft() throws Exception {
+        ProfileDraft existing = draft(2L, "{\"name\":\"A\",\"age\":30}");
+        when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.of(existing));
+        JsonNode patch = new ObjectMapper().readTree("[{\"op\":\"replace\",\"path\":\"/age\",\"value\":31}]");
+
+        ProfileDraft saved = profileService.patchProfileDraftWithGoogleId(EMAIL, null, patch, 2L);
+
+        assertEquals("{\"name\":\"A\",\"age\":31}", saved.getFormDataJson());
+        assertEquals("{\"name\":\"A\",\"age\":31}", existing.getFormDataJson());
+    }
+
+    @Test
+    @DisplayName("A JSON Patch against a stale version is rejected")
+    public void testPatchAgainstStaleVersionIsRejected() throws Exception {
+        when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.of(draft(2L, "{}")));
+        JsonNode patch = new ObjectMapper().readTree("[]");
+
+        assertThrows(DraftVersionConflictException.class,
+                () -> profileService.patchProfileDraftWithGoogleId(EMAIL, null, patch, 1L));
+        verify(profileDraftRepository, never()).save(any());
+    }
+
+    private ProfileDraft draft(Long version, String formDataJson) {
+        ProfileDraft draft = ProfileDraft.builder()
+                .id(user.getId())
+                .user(user)
+                .userEmail(EMAIL)
+                .formDataJson(formDataJson)
+                .createdAt(Instant.now())
+                .lastModifiedAt(Instant.now())
+                .build();
+        draft.setVersion(version);
+        return draft;
+    }
+}
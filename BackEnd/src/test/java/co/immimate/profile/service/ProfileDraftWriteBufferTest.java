@@ -0,0 +1,206 @@
+package co.immimate.profile.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import co.immimate.profile.exception.DraftVersionConflictException;
+import co.immimate.profile.model.ProfileDraft;
+import co.immimate.profile.repository.ProfileDraftRepository;
+import co.immimate.profile.repository.ProfileDraftSnapshotRepository;
+import co.immimate.user.model.User;
+
+/**
+ * Unit tests for ProfileDraftWriteBuffer in write-behind and write-through mode
+ */
+@ExtendWith(MockitoExtension.class)
+public class ProfileDraftWriteBufferTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private ProfileDraftRepository profileDraftRepository;
+
+    @Mock
+    private ProfileDraftSnapshotRepository profileDraftSnapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProfileDraftWriteBuffer buffer;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        buffer = new ProfileDraftWriteBuffer(profileDraftRepository, profileDraftSnapshotRepository, transactionManager);
+        ReflectionTestUtils.setField(buffer, "writeBehind", true);
+        ReflectionTestUtils.setField(buffer, "idleFlushMs", 0L);
+
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("A burst of saves is coalesced into one database write")
+    public void testBurstIsCoalescedIntoOneWrite() {
+        buffer.update(user, EMAIL, current -> "{\"v\":1}");
+        buffer.update(user, EMAIL, current -> "{\"v\":2}");
+        ProfileDraft latest = buffer.update(user, EMAIL, current -> "{\"v\":3}");
+
+        verify(profileDraftRepository, never()).save(any());
+        assertEquals(2L, latest.getVersion());
+        assertEquals("{\"v\":3}", buffer.find(user.getId()).get().getFormDataJson());
+
+        buffer.flushDue();
+
+        ArgumentCaptor<ProfileDraft> captor = ArgumentCaptor.forClass(ProfileDraft.class);
+        verify(profileDraftRepository, times(1)).save(captor.capture());
+        assertEquals("{\"v\":3}", captor.getValue().getFormDataJson());
+        assertEquals(2L, captor.getValue().getVersion());
+        assertEquals(2L, buffer.getMetrics().get("coalesced"));
+        assertEquals(1L, buffer.getMetrics().get("flushed"));
+        assertEquals(0L, buffer.getMetrics().get("pending"));
+    }
+
+    @Test
+    @DisplayName("An update whose draft is flushed while the updater runs starts again from the stored draft")
+    public void testUpdateRetriesWhenDraftIsFlushedMeanwhile() {
+        buffer.update(user, EMAIL, current -> "{\"v\":1}");
+        AtomicInteger calls = new AtomicInteger();
+
+        ProfileDraft latest = buffer.update(user, EMAIL, current -> {
+            if (calls.getAndIncrement() == 0) {
+                buffer.flushDue();
+                when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.of(ProfileDraft.builder()
+                        .id(user.getId()).user(user).formDataJson("{\"v\":1}").version(0L).build()));
+            }
+            return "{\"v\":2}";
+        });
+
+        assertEquals(2, calls.get());
+        assertEquals(1L, latest.getVersion());
+        assertEquals("{\"v\":2}", buffer.find(user.getId()).get().getFormDataJson());
+        assertEquals(0L, buffer.getMetrics().get("coalesced"));
+    }
+
+    @Test
+    @DisplayName("Flushed drafts are not written again until they change")
+    public void testFlushedDraftIsNotRewritten() {
+        buffer.update(user, EMAIL, current -> "{}");
+        buffer.flushDue();
+        buffer.flushDue();
+
+        verify(profileDraftRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("Pending drafts are written on shutdown")
+    public void testShutdownFlushesPendingDrafts() throws Exception {
+        ReflectionTestUtils.setField(buffer, "idleFlushMs", 60_000L);
+        ReflectionTestUtils.setField(buffer, "maxDelayMs", 60_000L);
+        buffer.update(user, EMAIL, current -> "{}");
+        buffer.flushDue();
+        verify(profileDraftRepository, never()).save(any());
+
+        buffer.shutdown();
+
+        verify(profileDraftRepository).save(any());
+    }
+
+    @Test
+    @DisplayName("Written drafts are dropped, later reads and saves use the database")
+    public void testFlushedDraftIsNotServedFromMemory() {
+        buffer.update(user, EMAIL, current -> "{}");
+        buffer.flushDue();
+
+        assertTrue(buffer.find(user.getId()).isEmpty());
+        buffer.update(user, EMAIL, current -> "{}");
+        verify(profileDraftRepository, times(3)).findById(user.getId());
+    }
+
+    @Test
+    @DisplayName("A draft that conflicts on flush is kept and reported instead of dropped")
+    public void testFlushConflictIsKeptAndReported() {
+        buffer.update(user, EMAIL, current -> "{\"mine\":true}");
+        ProfileDraft newer = ProfileDraft.builder().id(user.getId()).user(user).version(4L).formDataJson("{}").build();
+        when(profileDraftRepository.findById(user.getId())).thenReturn(Optional.of(newer));
+
+        buffer.flushDue();
+
+        verify(profileDraftRepository, never()).save(any());
+        assertTrue(buffer.find(user.getId()).isEmpty());
+        DraftVersionConflictException conflict = assertThrows(DraftVersionConflictException.class,
+                () -> buffer.update(user, EMAIL, current -> "{}"));
+        assertEquals(4L, conflict.getCurrentVersion());
+        assertEquals("{\"mine\":true}", buffer.takeConflict(user.getId()).get().getFormDataJson());
+        assertTrue(buffer.takeConflict(user.getId()).isEmpty());
+        assertEquals(5L, buffer.update(user, EMAIL, current -> "{}").getVersion());
+    }
+
+    @Test
+    @DisplayName("Write-through saves of one draft reach the database in order")
+    public void testWriteThroughIsSerializedPerDraft() throws Exception {
+        ReflectionTestUtils.setField(buffer, "writeBehind", false);
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            written.add(invocation.<ProfileDraft>getArgument(0).getFormDataJson());
+            return null;
+        }).when(profileDraftRepository).save(any());
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> buffer.update(user, EMAIL, current -> {
+                firstStarted.countDown();
+                sleep(200);
+                return "first";
+            }));
+            firstStarted.await(5, TimeUnit.SECONDS);
+            Future<?> second = executor.submit(() -> buffer.update(user, EMAIL, current -> "second"));
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of("first", "second"), written);
+        assertTrue(buffer.find(user.getId()).isEmpty());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package co.immimate.profile.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * Unit tests for ProfilePayloadScanner
+ */
+public class ProfilePayloadScannerTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    public void testValidPayloadWithNumericNocCode() {
+        ProfilePayloadScanner.Result result = ProfilePayloadScanner.scan(jsonFactory,
+                "{\"applicantName\":\"A\",\"jobOffer\":{\"jobOfferNocCode\":21231,\"lmia\":true}}");
+
+        assertTrue(result.isValid());
+        assertEquals(21231, result.getJobOfferNocCode());
+    }
+
+    @Test
+    public void testNocCodeAsStringIsParsed() {
+        ProfilePayloadScanner.Result result = ProfilePayloadScanner.scan(jsonFactory,
+                "{\"jobOfferNocCode\":\" 12345 \"}");
+
+        assertEquals(12345, result.getJobOfferNocCode());
+    }
+
+    @Test
+    public void testNonNumericNocCodeIsIgnored() {
+        ProfilePayloadScanner.Result result = ProfilePayloadScanner.scan(jsonFactory,
+                "{\"jobOfferNocCode\":{\"code\":1},\"other\":[1,2]}");
+
+        assertTrue(result.isValid());
+        assertNull(result.getJobOfferNocCode());
+    }
+
+    @Test
+    public void testMalformedPayloadIsInvalid() {
+        ProfilePayloadScanner.Result result = ProfilePayloadScanner.scan(jsonFactory, "{\"a\":1,");
+
+        assertFalse(result.isValid());
+        assertTrue(result.getError() != null);
+    }
+
+    @Test
+    public void testMissingPayloadIsInvalid() {
+        assertFalse(ProfilePayloadScanner.scan(jsonFactory, null).isValid());
+        assertFalse(ProfilePayloadScanner.scan(jsonFactory, "  ").isValid());
+    }
+}
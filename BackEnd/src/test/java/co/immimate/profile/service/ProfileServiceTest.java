@@ -3,6 +3,7 @@ package co.immimate.profile.service;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,16 +13,23 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import co.immimate.profile.dto.ProfileSubmissionRequest;
 import co.immimate.profile.dto.ProfileSubmissionResponse;
 import co.immimate.profile.model.UserImmigrationProfile;
 import co.immimate.profile.repository.UserImmigrationProfileRepository;
+import co.immimate.profile.validation.ProfileValidationEngine;
 import co.immimate.user.model.User;
 import co.immimate.user.repository.UserRepository;
+import co.immimate.user.service.UserIdentityResolver;
 
 /**
  * Unit tests for ProfileService class
@@ -35,6 +43,15 @@ public class ProfileServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private UserIdentityResolver userIdentityResolver;
+    
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Spy
+    private ProfileValidationEngine validationEngine = new ProfileValidationEngine();
+    
     @InjectMocks
     private ProfileService profileService;
     
@@ -82,7 +99,7 @@ public class ProfileServiceTest {
     @Test
     void testSubmitProfile_Success() {
         // Setup
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
+        when(userIdentityResolver.resolve(any(), anyString(), any())).thenReturn(Optional.of(testUser));
         
         // Mock repository to set an applicationId on the saved profile
         when(profileRepository.save(any(UserImmigrationProfile.class))).thenAnswer(invocation -> {
@@ -101,4 +118,15 @@ public class ProfileServiceTest {
         assertNotNull(response.getProfileId());
         verify(profileRepository).save(any(UserImmigrationProfile.class));
     }
-} 
\ No newline at end of file
+    
+    @Test
+    void testSubmitProfile_OversizedPayloadIsRejected() {
+        ReflectionTestUtils.setField(profileService, "maxPayloadChars", 10);
+        testRequest.setJsonPayload("{\"applicantName\":\"Test User\"}");
+        
+        ProfileSubmissionResponse response = profileService.submitProfile(testRequest);
+        
+        assertFalse(response.isSuccess());
+        verify(profileRepository, never()).save(any(UserImmigrationProfile.class));
+    }
+}
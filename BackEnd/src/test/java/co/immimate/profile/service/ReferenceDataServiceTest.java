@@ -0,0 +1,106 @@
+package co.immimate.profile.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.immimate.profile.controller.ReferenceDataController;
+import co.immimate.profile.dto.CitySuggestion;
+
+class ReferenceDataServiceTest {
+
+    private ReferenceDataService service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new ReferenceDataService();
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        service.load();
+    }
+
+    @Test
+    @DisplayName("Should rank name prefixes by population, then word prefixes")
+    void searchCitiesByPrefix() {
+        List<String> cities = names(service.searchCities("mont", null, 50));
+
+        assertEquals("Montréal", cities.get(0));
+        assertTrue(cities.indexOf("Montréal") < cities.indexOf("Mont-Laurier"));
+        assertEquals(List.of("Quebec City"), names(service.searchCities("quebec c", null, 5)));
+        assertTrue(names(service.searchCities("city", null, 50)).contains("Quebec City"));
+    }
+
+    @Test
+    @DisplayName("Should filter by province and suggest the most populated cities first")
+    void filterByProvince() {
+        List<CitySuggestion> ontario = service.searchCities("", "ontario", 3);
+
+        assertEquals(3, ontario.size());
+        assertEquals("Toronto", ontario.get(0).getCity());
+        assertTrue(ontario.stream().allMatch(city -> "Ontario".equals(city.getProvince())));
+        assertTrue(ontario.get(0).getPopulation() >= ontario.get(1).getPopulation());
+    }
+
+    @Test
+    @DisplayName("Should treat empty population strings as unknown")
+    void emptyPopulationIsNull() {
+        CitySuggestion anyCity = service.searchCities("i'm willing", null, 1).get(0);
+
+        assertNull(anyCity.getPopulation());
+        assertNull(anyCity.getProvince());
+    }
+
+    @Test
+    @DisplayName("Should keep rows without a population on top, in file order")
+    void unrankedRowsComeFirst() {
+        List<CitySuggestion> cities = service.searchCities("", null, 2);
+
+        assertTrue(cities.get(0).getCity().startsWith("I'm willing to live in any"));
+        assertNull(cities.get(0).getPopulation());
+        assertEquals("Toronto", cities.get(1).getCity());
+    }
+
+    @Test
+    @DisplayName("Should list provinces and search countries")
+    void provincesAndCountries() {
+        assertTrue(service.getProvincesPayload().asString().contains("\"British Columbia\""));
+        assertEquals(List.of("Canada"), service.searchCountries("canad"));
+        assertTrue(service.searchCountries("barb").contains("Antigua & Barbuda"));
+    }
+
+    @Test
+    @DisplayName("Should answer repeated requests with 304 Not Modified")
+    void conditionalRequests() throws Exception {
+        ReferenceDataController controller = new ReferenceDataController();
+        ReflectionTestUtils.setField(controller, "referenceDataService", service);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        for (String path : List.of("/cities?q=tor&province=Ontario", "/countries", "/countries?q=can", "/provinces")) {
+            MvcResult first = mockMvc.perform(get(ReferenceDataController.BASE_PATH + path))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(ReferenceDataController.BASE_PATH + path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+    }
+
+    private static List<String> names(List<CitySuggestion> cities) {
+        return cities.stream().map(CitySuggestion::getCity).collect(Collectors.toList());
+    }
+}
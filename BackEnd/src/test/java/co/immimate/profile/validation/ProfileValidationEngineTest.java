@@ -0,0 +1,132 @@
+package co.immimate.profile.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import co.immimate.profile.dto.ProfileSubmissionRequest;
+
+/**
+ * Unit tests for the rule-table validation engine and the constraints built on it
+ */
+public class ProfileValidationEngineTest {
+
+    private ProfileValidationEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new ProfileValidationEngine();
+    }
+
+    @Test
+    @DisplayName("A consistent profile breaks no rules")
+    public void testValidProfile() {
+        assertTrue(engine.validate(validRequest(), ProfileValidationEngine.Mode.COLLECT_ALL).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Fail-fast reports the first broken rule in table order, collect-all reports every one")
+    public void testFailFastAndCollectAll() {
+        ProfileSubmissionRequest request = validRequest();
+        request.setApplicantName(" ");
+        request.setSettlementFundsCAD(-1);
+        request.setHasJobOffer(true);
+
+        List<ProfileRuleViolation> first = engine.validate(request, ProfileValidationEngine.Mode.FAIL_FAST);
+        List<ProfileRuleViolation> all = engine.validate(request, ProfileValidationEngine.Mode.COLLECT_ALL);
+
+        assertEquals(1, first.size());
+        assertEquals("Applicant name is required", first.get(0).getMessage());
+        assertEquals(List.of("applicant.name-required", "job-offer.noc-required", "funds.non-negative"),
+                all.stream().map(ProfileRuleViolation::getRule).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Batch results line up with the input, sequentially and in parallel")
+    public void testBatchKeepsOrder() {
+        ReflectionTestUtils.setField(engine, "parallelThreshold", 2);
+        List<ProfileSubmissionRequest> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ProfileSubmissionRequest request = validRequest();
+            request.setApplicantAge(i % 2 == 0 ? 30 : -1);
+            batch.add(request);
+        }
+
+        List<List<ProfileRuleViolation>> results = engine.validateBatch(batch, ProfileValidationEngine.Mode.FAIL_FAST);
+
+        assertEquals(50, results.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i % 2 == 0 ? 0 : 1, results.get(i).size());
+        }
+        assertEquals(50L, engine.getMetrics().get("validations"));
+    }
+
+    @Test
+    @DisplayName("Oversized batches are rejected")
+    public void testBatchSizeIsBounded() {
+        ReflectionTestUtils.setField(engine, "maxBatchSize", 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.validateBatch(List.of(validRequest(), validRequest()), ProfileValidationEngine.Mode.FAIL_FAST));
+    }
+
+    @Test
+    @DisplayName("Class-level constraints report the shared partner and secondary language rules")
+    public void testConstraintsUseRuleTable() {
+        ProfileSubmissionRequest request = validRequest();
+        request.setPartnerEducationLevel("bachelors-degree");
+        request.setTookSecondaryLanguageTest(true);
+        request.setSecondaryTestType("CELPIP");
+
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        Set<String> messages = validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+
+        assertTrue(messages.contains("Partner data provided for a single person"));
+        assertTrue(messages.contains("Secondary language speaking score is required when secondary test is indicated"));
+    }
+
+    private ProfileSubmissionRequest validRequest() {
+        ProfileSubmissionRequest request = new ProfileSubmissionRequest();
+        request.setUserEmail("test@example.com");
+        request.setApplicantName("Test User");
+        request.setApplicantAge(30);
+        request.setApplicantCitizenship("Canada");
+        request.setApplicantResidence("Canada");
+        request.setApplicantMaritalStatus("Single");
+        request.setApplicantEducationLevel("bachelors-degree");
+        request.setEducationCompletedInCanada(false);
+        request.setHasEducationalCredentialAssessment(true);
+        request.setPrimaryLanguageTestType("IELTS");
+        request.setPrimaryTestSpeakingScore(8);
+        request.setPrimaryTestListeningScore(8);
+        request.setPrimaryTestReadingScore(8);
+        request.setPrimaryTestWritingScore(8);
+        request.setTookSecondaryLanguageTest(false);
+        request.setCanadianWorkExperienceYears(2);
+        request.setForeignWorkExperienceYears(0);
+        request.setWorkingInCanada(true);
+        request.setHasProvincialNomination(false);
+        request.setProvinceOfInterest("Ontario");
+        request.setHasCanadianRelatives(false);
+        request.setReceivedInvitationToApply(false);
+        request.setSettlementFundsCAD(12500);
+        request.setHasJobOffer(false);
+        request.setJsonPayload("{}");
+        return request;
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import co.immimate.profile.dto.ProfileSubmissionRequest;
@@ -29,6 +30,9 @@ import co.immimate.user.model.User;
 @ExtendWith(MockitoExtension.class)
 public class ProfileValidationTest {
     
+    @Spy
+    private ProfileValidationEngine validationEngine = new ProfileValidationEngine();
+    
     @InjectMocks
     private ProfileService profileService;
     
@@ -0,0 +1,79 @@
+package co.immimate.user.service;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import co.immimate.user.model.User;
+import co.immimate.user.repository.UserRepository;
+
+/**
+ * Unit tests for the user details cache and its invalidation
+ */
+@ExtendWith(MockitoExtension.class)
+public class UserDetailsServiceImplTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    public void setUp() {
+        userDetailsService.initCaches();
+        User user = new User();
+        user.setEmail(EMAIL);
+        user.setPassword("{bcrypt}hash");
+        user.setRole("USER");
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    public void testRepeatLoadsAreCached() {
+        userDetailsService.loadUserByUsername(EMAIL);
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertEquals(1L, userDetailsService.getMetrics().get("hits"));
+    }
+
+    @Test
+    public void testErasedCredentialsDoNotLeakIntoCache() {
+        UserDetails first = userDetailsService.loadUserByUsername(EMAIL);
+        ((CredentialsContainer) first).eraseCredentials();
+
+        assertNotNull(userDetailsService.loadUserByUsername(EMAIL).getPassword());
+    }
+
+    @Test
+    public void testInvalidateReloadsAndMarksOlderTokensStale() {
+        Date issuedBefore = new Date(System.currentTimeMillis() - 5_000);
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        userDetailsService.invalidate(EMAIL);
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+        assertTrue(userDetailsService.isChangedSince(EMAIL, issuedBefore));
+        assertFalse(userDetailsService.isChangedSince(EMAIL, new Date(System.currentTimeMillis() + 5_000)));
+        assertFalse(userDetailsService.isChangedSince("other@example.com", issuedBefore));
+    }
+}
@@ -0,0 +1,179 @@
+package co.immimate.user.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import co.immimate.user.model.User;
+import co.immimate.user.repository.UserRepository;
+
+/**
+ * Unit tests for UserIdentityResolver
+ */
+@ExtendWith(MockitoExtension.class)
+public class UserIdentityResolverTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final String GOOGLE_ID = "1234567890";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setGoogleId(GOOGLE_ID);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Repeated lookups within the TTL run the identity query once, then load by ID")
+    public void testLookupsAreCachedAcrossRequests() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 60_000);
+        when(userRepository.findByIdOrEmailOrGoogleId(null, EMAIL, null)).thenReturn(List.of(user));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        assertSame(user, resolver.resolve(null, EMAIL, null).orElseThrow());
+        assertSame(user, resolver.resolve(null, EMAIL, null).orElseThrow());
+
+        verify(userRepository, times(1)).findByIdOrEmailOrGoogleId(null, EMAIL, null);
+        verify(userRepository, times(1)).findById(user.getId());
+    }
+
+    @Test
+    @DisplayName("A cached ID whose user changed email is resolved again")
+    public void testReidentifiedUserIsResolvedAgain() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 60_000);
+        User renamed = new User();
+        renamed.setId(user.getId());
+        renamed.setEmail("renamed@example.com");
+        when(userRepository.findByIdOrEmailOrGoogleId(null, EMAIL, null))
+                .thenReturn(List.of(user))
+                .thenReturn(List.of());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(renamed));
+
+        resolver.resolve(null, EMAIL, null);
+
+        assertTrue(resolver.resolve(null, EMAIL, null).isEmpty());
+        verify(userRepository, times(2)).findByIdOrEmailOrGoogleId(null, EMAIL, null);
+    }
+
+    @Test
+    @DisplayName("Evicting a user drops the lookups that resolved to it")
+    public void testEvictDropsUserLookups() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 60_000);
+        when(userRepository.findByIdOrEmailOrGoogleId(null, EMAIL, null)).thenReturn(List.of(user));
+
+        resolver.resolve(null, EMAIL, null);
+        resolver.evict(user.getId());
+        resolver.resolve(null, EMAIL, null);
+
+        verify(userRepository, times(2)).findByIdOrEmailOrGoogleId(null, EMAIL, null);
+        verify(userRepository, times(0)).findById(user.getId());
+    }
+
+    @Test
+    @DisplayName("Lookups within one request are served from the request attributes")
+    public void testLookupsAreCachedPerRequest() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 0);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findByIdOrEmailOrGoogleId(null, EMAIL, null)).thenReturn(List.of(user));
+
+        resolver.resolve(null, EMAIL, null);
+        resolver.resolve(null, EMAIL, null);
+
+        verify(userRepository, times(1)).findByIdOrEmailOrGoogleId(null, EMAIL, null);
+    }
+
+    @Test
+    @DisplayName("Misses are not cached so new users are found right away")
+    public void testMissesAreNotCached() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 60_000);
+        when(userRepository.findByIdOrEmailOrGoogleId(null, EMAIL, null))
+                .thenReturn(List.of())
+                .thenReturn(List.of(user));
+
+        assertTrue(resolver.resolve(null, EMAIL, null).isEmpty());
+        assertSame(user, resolver.resolve(null, EMAIL, null).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("A match on ID wins over a different user matching the email")
+    public void testIdMatchIsPreferred() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 0);
+        User other = new User();
+        other.setId(UUID.randomUUID());
+        other.setEmail("other@example.com");
+        when(userRepository.findByIdOrEmailOrGoogleId(other.getId(), EMAIL, null)).thenReturn(List.of(user, other));
+
+        Optional<User> resolved = resolver.resolve(other.getId(), EMAIL, null);
+
+        assertSame(other, resolved.orElseThrow());
+    }
+
+    @Test
+    @DisplayName("OAuth2 principals are resolved by email and Google ID together")
+    public void testOAuth2PrincipalIsResolvedInOneQuery() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 0);
+        DefaultOAuth2User oauth2User = new DefaultOAuth2User(AuthorityUtils.createAuthorityList("ROLE_USER"),
+                Map.of("sub", GOOGLE_ID, "email", EMAIL), "sub");
+        OAuth2AuthenticationToken token = new OAuth2AuthenticationToken(
+                oauth2User, oauth2User.getAuthorities(), "google");
+        when(userRepository.findByIdOrEmailOrGoogleId(null, EMAIL, GOOGLE_ID)).thenReturn(List.of(user));
+
+        assertSame(user, resolver.resolve(token).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("A principal name without @ is treated as a Google ID")
+    public void testNonEmailPrincipalIsGoogleId() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 0);
+
+        UserIdentityResolver.Identity identity = resolver.identify(
+                new UsernamePasswordAuthenticationToken(GOOGLE_ID, null));
+
+        assertNull(identity.getEmail());
+        assertEquals(GOOGLE_ID, identity.getGoogleId());
+    }
+
+    @Test
+    @DisplayName("Nothing to match on means no query")
+    public void testBlankIdentitySkipsQuery() {
+        UserIdentityResolver resolver = new UserIdentityResolver(userRepository, 0);
+
+        assertTrue(resolver.resolve(null, " ", null).isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+}
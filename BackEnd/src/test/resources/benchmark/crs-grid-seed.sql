@@ -0,0 +1,222 @@
+-- Realistic Comprehensive Ranking System (CRS) grid used by the JMH benchmarks.
+-- Mirrors the static_canadian_immigration_data grid tables so the fixtures are loaded
+-- the same way the application reads them. Loaded into an in-memory H2 database.
+
+CREATE SCHEMA IF NOT EXISTS static_canadian_immigration_data;
+
+CREATE TABLE static_canadian_immigration_data.grids (
+    grid_id UUID PRIMARY KEY,
+    grid_name VARCHAR(100) NOT NULL,
+    grid_version VARCHAR(20),
+    coverage VARCHAR(100),
+    max_total_points INT,
+    updated_by VARCHAR(100) NOT NULL
+);
+
+CREATE TABLE static_canadian_immigration_data.grids_categories (
+    category_id UUID PRIMARY KEY,
+    grid_id UUID NOT NULL,
+    grid_name VARCHAR(100),
+    category_name VARCHAR(200) NOT NULL,
+    category_description VARCHAR(500),
+    max_points_spouse INT,
+    max_points_no_spouse INT,
+    sort_order INT,
+    updated_by VARCHAR(100) NOT NULL
+);
+
+CREATE TABLE static_canadian_immigration_data.grids_subcategories (
+    subcategory_id UUID PRIMARY KEY,
+    category_id UUID NOT NULL,
+    category_name VARCHAR(200),
+    grid_name VARCHAR(100),
+    subcategory_name VARCHAR(200) NOT NULL,
+    max_points_spouse INT,
+    max_points_no_spouse INT,
+    sort_order INT,
+    updated_by VARCHAR(100) NOT NULL
+);
+
+CREATE TABLE static_canadian_immigration_data.grids_fields (
+    field_id UUID PRIMARY KEY,
+    subcategory_id UUID NOT NULL,
+    subcategory_name VARCHAR(200),
+    category_id UUID,
+    category_name VARCHAR(200),
+    grid_id UUID,
+    grid_name VARCHAR(100),
+    field_name VARCHAR(200) NOT NULL,
+    logic_expression VARCHAR(1000),
+    logic_operator VARCHAR(50),
+    points_with_spouse INT,
+    points_without_spouse INT,
+    mutually_exclusive BOOLEAN,
+    sort_order INT,
+    updated_by VARCHAR(100) NOT NULL
+);
+
+INSERT INTO static_canadian_immigration_data.grids VALUES ('26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', '2024.1', 'Express Entry', 1200, 'benchmark');
+
+-- Core / Human Capital Factors
+INSERT INTO static_canadian_immigration_data.grids_categories VALUES ('e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Core / Human Capital Factors', 'Age, education, official languages and Canadian work experience', 460, 500, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('0fce4786-c59b-5628-a34c-a5160572dcb2', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', 'CRS', 'Age', 100, 110, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('51a17463-9bac-5b32-8a59-c3c31be5cf01', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age >= 20;applicant_age <= 29', 'AND', 100, 110, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('5900221c-8c48-523e-ba03-b688da5c1d79', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 18', NULL, 90, 99, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('43565ad4-f60b-5722-9880-155132d94b27', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 19', NULL, 95, 105, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('8dad0825-6d03-5104-9909-14022f112f60', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 30', NULL, 95, 105, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('b437deb9-49d5-5291-a241-0223ac96a816', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 31', NULL, 90, 99, TRUE, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('3bd04b6c-728c-58fc-ab3a-49265bfc4b43', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 32', NULL, 85, 94, TRUE, 6, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('a943687a-8392-55ba-a535-8558712021d5', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 33', NULL, 80, 88, TRUE, 7, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c4232835-662c-5676-ba56-862c20554090', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 34', NULL, 75, 83, TRUE, 8, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('0b42a849-e42f-5625-9c9e-dd0cd7d37c9e', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 35', NULL, 70, 77, TRUE, 9, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('b17589ae-5fcd-55c5-b75e-a8e57469a2e3', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 36', NULL, 65, 72, TRUE, 10, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('f88d91ce-93ab-504c-b75f-904ccecbfba5', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 37', NULL, 60, 66, TRUE, 11, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('9c7c95d4-89fb-5821-9ecc-e659f3ea4740', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 38', NULL, 55, 61, TRUE, 12, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('bf8c6429-e0a7-5d64-b7f0-bd480161b6f8', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 39', NULL, 50, 55, TRUE, 13, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('18435d6a-9fff-51bd-95db-c0d5292427b3', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 40', NULL, 45, 50, TRUE, 14, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('1383e8f1-24c4-5761-a538-01ff335d705b', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 41', NULL, 35, 39, TRUE, 15, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('fe374efa-f132-5e4f-9275-4201a81aec78', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 42', NULL, 25, 28, TRUE, 16, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('cfdb31ee-23f2-590f-a291-8a3f15e95256', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 43', NULL, 15, 17, TRUE, 17, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c9a7510f-f4a6-58a6-8c0a-27c93201a1d9', '0fce4786-c59b-5628-a34c-a5160572dcb2', 'Age', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Age', 'applicant_age == 44', NULL, 5, 6, TRUE, 18, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('cb0551c5-e855-5223-89ce-23795227250a', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', 'CRS', 'Level of Education', 140, 150, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('277ba8fe-a6e3-5c49-8a39-ab202fb62290', 'cb0551c5-e855-5223-89ce-23795227250a', 'Level of Education', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Level of Education', 'applicant_education_level == secondary', NULL, 28, 30, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c6a6606b-904b-5e3a-bd43-e85966ec8310', 'cb0551c5-e855-5223-89ce-23795227250a', 'Level of Education', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Level of Education', 'applicant_education_level == one-year', NULL, 84, 90, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('1a3c2d69-ad09-51c0-b98e-762c5dc9a560', 'cb0551c5-e855-5223-89ce-23795227250a', 'Level of Education', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Level of Education', 'applicant_education_level == two-year', NULL, 91, 98, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('daf6faf3-a0a1-508e-8d17-3d7b31bbe7cd', 'cb0551c5-e855-5223-89ce-23795227250a', 'Level of Education', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Level of Education', 'applicant_education_level == bachelor', NULL, 112, 120, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('64179d8f-2b40-5dcb-acdb-678939c931d4', 'cb0551c5-e855-5223-89ce-23795227250a', 'Level of Education', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Level of Education', 'applicant_education_level == two-or-more', NULL, 119, 128, TRUE, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('db42169e-9971-523e-8394-57f2efd0f6b7', 'cb0551c5-e855-5223-89ce-23795227250a', 'Level of Education', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Level of Education', 'applicant_education_level == master', NULL, 126, 135, TRUE, 6, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c7cb943c-8f09-52d5-8d61-0bdb2e9a1c77', 'cb0551c5-e855-5223-89ce-23795227250a', 'Level of Education', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Level of Education', 'applicant_education_level == phd', NULL, 140, 150, TRUE, 7, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('91354779-207b-50c7-87df-cbdb72447a8d', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', 'CRS', 'First Official Language', 128, 136, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('bf7908fd-cf9c-53dc-a9fa-a4ff4613b58c', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'primary_clb_speaking >= 4;primary_clb_speaking <= 5', 'AND', 6, 6, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('0b850692-6940-584a-8b4b-91b1034cae87', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'primary_clb_speaking == 6', NULL, 8, 9, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('b1cee1fe-b379-5704-ad55-e87e7c07bed5', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'primary_clb_speaking == 7', NULL, 16, 17, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('984f5b6e-17ed-58fa-a44f-ed0cd1b64b05', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'primary_clb_speaking == 8', NULL, 22, 23, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('8f39d997-f60b-5cb0-af72-5f7e6407fd8f', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'primary_clb_speaking == 9', NULL, 29, 31, TRUE, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('fce77b45-d0ab-5943-8c32-0e2c274629b2', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'primary_clb_speaking >= 10', NULL, 32, 34, TRUE, 6, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('eb232ccf-eaa5-5f44-b742-f322c7b7ee28', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'primary_clb_listening >= 4;primary_clb_listening <= 5', 'AND', 6, 6, TRUE, 7, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('0d7bfab2-af83-5409-b3d9-3ad51bebe14f', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'primary_clb_listening == 6', NULL, 8, 9, TRUE, 8, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('cf0883fc-91bc-56ee-9645-2765521976fa', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'primary_clb_listening == 7', NULL, 16, 17, TRUE, 9, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('5c236d97-f730-5aa2-8319-d7659b2613af', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'primary_clb_listening == 8', NULL, 22, 23, TRUE, 10, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('3cfc6b68-e33e-55d5-9242-6abbb48193a2', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'primary_clb_listening == 9', NULL, 29, 31, TRUE, 11, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('0d12b3e0-2c39-5750-9bf0-0b7ca0825375', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'primary_clb_listening >= 10', NULL, 32, 34, TRUE, 12, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('f59f5973-d092-5674-aad0-4be5ec70e874', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'primary_clb_reading >= 4;primary_clb_reading <= 5', 'AND', 6, 6, TRUE, 13, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c95cc185-e601-5238-82f5-b4765e7d5309', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'primary_clb_reading == 6', NULL, 8, 9, TRUE, 14, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('f7d030c5-c9fd-5a03-9d0d-8b7f63413a56', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'primary_clb_reading == 7', NULL, 16, 17, TRUE, 15, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('599cf1a3-ce76-5f11-b2f3-94a1fed4723b', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'primary_clb_reading == 8', NULL, 22, 23, TRUE, 16, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('d193655b-73aa-5363-aa9a-71bfaf4605a3', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'primary_clb_reading == 9', NULL, 29, 31, TRUE, 17, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('61e2532d-6cfb-55ff-8b16-0e1df144af0e', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'primary_clb_reading >= 10', NULL, 32, 34, TRUE, 18, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('edfe6a67-f0af-58be-af7b-e618048af031', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'primary_clb_writing >= 4;primary_clb_writing <= 5', 'AND', 6, 6, TRUE, 19, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('10d5c11d-51f2-54ca-a024-ba1114a00274', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'primary_clb_writing == 6', NULL, 8, 9, TRUE, 20, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('9cd1959a-c611-5da4-8c97-7128b57f1f4a', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'primary_clb_writing == 7', NULL, 16, 17, TRUE, 21, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('48e42f77-ecf6-5c38-9daf-fb406737838d', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'primary_clb_writing == 8', NULL, 22, 23, TRUE, 22, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('9d69d83d-dc23-5977-bf7e-2c846c1e5b3f', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'primary_clb_writing == 9', NULL, 29, 31, TRUE, 23, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('43de2ea3-c8a3-55b2-b87e-963d3841e7d0', '91354779-207b-50c7-87df-cbdb72447a8d', 'First Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'primary_clb_writing >= 10', NULL, 32, 34, TRUE, 24, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('e1f4b848-5d03-529f-bb76-f23dc7438f17', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', 'CRS', 'Second Official Language', 22, 24, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('8a6e093a-c4e2-5f9e-a3c7-4a3f314010e9', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'secondary_clb_speaking >= 5;secondary_clb_speaking <= 6', 'AND', 1, 1, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('0ea74905-11e9-59b6-90e1-d3ca1a0b0989', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'secondary_clb_speaking >= 7;secondary_clb_speaking <= 8', 'AND', 3, 3, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('cd78fa60-d92d-5304-8841-4628b808f1a5', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'secondary_clb_speaking >= 9', 'AND', 6, 6, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('1199becb-f9a5-595e-a957-77345fb376f2', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'secondary_clb_listening >= 5;secondary_clb_listening <= 6', 'AND', 1, 1, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('4e3d4cb8-bbeb-55df-b89e-8c0613918ba3', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'secondary_clb_listening >= 7;secondary_clb_listening <= 8', 'AND', 3, 3, TRUE, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('23c47633-ae59-564f-bcb1-9bbf89770e38', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'secondary_clb_listening >= 9', 'AND', 6, 6, TRUE, 6, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('b7f67335-9f4d-5666-a99e-6a17965d142d', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'secondary_clb_reading >= 5;secondary_clb_reading <= 6', 'AND', 1, 1, TRUE, 7, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('5a331003-daf3-5f7b-93da-df7697889de0', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'secondary_clb_reading >= 7;secondary_clb_reading <= 8', 'AND', 3, 3, TRUE, 8, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('a3010c59-f314-57f4-94d8-123c6c691a95', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'secondary_clb_reading >= 9', 'AND', 6, 6, TRUE, 9, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('5d5260b4-a78d-5a3e-aa1d-f5d164306571', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'secondary_clb_writing >= 5;secondary_clb_writing <= 6', 'AND', 1, 1, TRUE, 10, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('533d1797-a006-51d9-a3a6-9327235cb2df', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'secondary_clb_writing >= 7;secondary_clb_writing <= 8', 'AND', 3, 3, TRUE, 11, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('1d4b6695-fe33-5d9c-b38a-3431fc3db125', 'e1f4b848-5d03-529f-bb76-f23dc7438f17', 'Second Official Language', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'secondary_clb_writing >= 9', 'AND', 6, 6, TRUE, 12, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('509577d5-e8d2-5483-af0f-b9fd5e04ba53', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', 'CRS', 'Canadian Work Experience', 70, 80, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('d57a584a-acb9-5b11-ac70-bde7717ee4e0', '509577d5-e8d2-5483-af0f-b9fd5e04ba53', 'Canadian Work Experience', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Years of Experience', 'canadian_work_experience_years == 1', NULL, 35, 40, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('b369a998-ea08-5d64-9764-011a38a04d04', '509577d5-e8d2-5483-af0f-b9fd5e04ba53', 'Canadian Work Experience', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Years of Experience', 'canadian_work_experience_years == 2', NULL, 46, 53, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('3e2b39a2-5ed6-553c-8cd0-a183b28ec2e8', '509577d5-e8d2-5483-af0f-b9fd5e04ba53', 'Canadian Work Experience', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Years of Experience', 'canadian_work_experience_years == 3', NULL, 56, 64, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('0368aa6a-6a35-58a3-858f-836f10c7e895', '509577d5-e8d2-5483-af0f-b9fd5e04ba53', 'Canadian Work Experience', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Years of Experience', 'canadian_work_experience_years == 4', NULL, 63, 72, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('e781b126-1ad5-5079-a183-7f54d4b0218e', '509577d5-e8d2-5483-af0f-b9fd5e04ba53', 'Canadian Work Experience', 'e8ab0f0f-2efc-5dd9-a6c8-2f67cc0a61b2', 'Core / Human Capital Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Years of Experience', 'canadian_work_experience_years >= 5', NULL, 70, 80, TRUE, 5, 'benchmark');
+
+-- Spouse Factors
+INSERT INTO static_canadian_immigration_data.grids_categories VALUES ('ce41603d-af71-5b28-abaa-08c19eaf4bb0', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Factors', 'Accompanying spouse or common-law partner factors', 40, 0, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('198ddfe2-bbea-55e2-9b62-34f52643061e', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', 'CRS', 'Spouse Education', 10, 0, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('cde54147-73fc-53ee-9555-bbd20a5a12ff', '198ddfe2-bbea-55e2-9b62-34f52643061e', 'Spouse Education', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Education', 'partner_education_level == secondary', NULL, 2, 0, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('3b6c63fe-8456-5b91-901c-fcfb8e094813', '198ddfe2-bbea-55e2-9b62-34f52643061e', 'Spouse Education', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Education', 'partner_education_level == one-year', NULL, 6, 0, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('8431f046-48ff-527a-9710-5d8b4f45be6f', '198ddfe2-bbea-55e2-9b62-34f52643061e', 'Spouse Education', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Education', 'partner_education_level == two-year', NULL, 7, 0, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('47a4f9b5-67ab-50fa-bfc0-30962a36dd0e', '198ddfe2-bbea-55e2-9b62-34f52643061e', 'Spouse Education', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Education', 'partner_education_level == bachelor', NULL, 8, 0, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('bfb21546-d173-57b6-b6d3-2231f4d535b4', '198ddfe2-bbea-55e2-9b62-34f52643061e', 'Spouse Education', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Education', 'partner_education_level == two-or-more', NULL, 9, 0, TRUE, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('60a46d23-9483-58a9-9976-d70fedca83a5', '198ddfe2-bbea-55e2-9b62-34f52643061e', 'Spouse Education', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Education', 'partner_education_level == master', NULL, 10, 0, TRUE, 6, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('331ea445-ad4d-57f3-b65f-06b7c69cb389', '198ddfe2-bbea-55e2-9b62-34f52643061e', 'Spouse Education', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Education', 'partner_education_level == phd', NULL, 10, 0, TRUE, 7, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', 'CRS', 'Spouse Official Language', 20, 0, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('cd63214d-c5d4-5508-9673-77f03f79435a', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'partner_clb_speaking >= 5;partner_clb_speaking <= 6', 'AND', 1, 0, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('75b94878-0eae-5053-8c89-7d25da46278a', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'partner_clb_speaking >= 7;partner_clb_speaking <= 8', 'AND', 3, 0, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('4365b0a0-7fa2-554c-8d2a-7e8b62780afa', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Speaking', 'partner_clb_speaking >= 9', 'AND', 5, 0, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('8e67e2fe-5b42-5fc6-93b8-7f92d55ade1c', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'partner_clb_listening >= 5;partner_clb_listening <= 6', 'AND', 1, 0, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('5032266f-dbb7-5d51-8888-644f756ec3d1', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'partner_clb_listening >= 7;partner_clb_listening <= 8', 'AND', 3, 0, TRUE, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('a8dc8701-7cb8-5ce6-b0dd-3b8febbb1595', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Listening', 'partner_clb_listening >= 9', 'AND', 5, 0, TRUE, 6, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('298d35be-350b-51c6-9a21-774bc9078131', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'partner_clb_reading >= 5;partner_clb_reading <= 6', 'AND', 1, 0, TRUE, 7, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('49cd2363-4894-527b-b270-55970d9dd465', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'partner_clb_reading >= 7;partner_clb_reading <= 8', 'AND', 3, 0, TRUE, 8, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('aa6456d4-2aa1-52d5-a422-500cc34d3ecb', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Reading', 'partner_clb_reading >= 9', 'AND', 5, 0, TRUE, 9, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('444150c2-5f74-5651-9dcb-10007c0a4fc8', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'partner_clb_writing >= 5;partner_clb_writing <= 6', 'AND', 1, 0, TRUE, 10, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('87568010-c20e-57aa-8784-2ac4fcce898e', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'partner_clb_writing >= 7;partner_clb_writing <= 8', 'AND', 3, 0, TRUE, 11, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('f51c1852-6e44-5bd3-b9d6-9c8f7f932cc9', '8ddb5a14-1c83-5a26-a5ca-dd43d08d0069', 'Spouse Official Language', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Writing', 'partner_clb_writing >= 9', 'AND', 5, 0, TRUE, 12, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('3a81173b-b466-5dc4-a436-ebe97e05ddfe', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', 'CRS', 'Spouse Canadian Work Experience', 10, 0, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('cf1f252a-aaf3-51ff-a71f-b6938e40265f', '3a81173b-b466-5dc4-a436-ebe97e05ddfe', 'Spouse Canadian Work Experience', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Work Experience', 'partner_canadian_work_experience_years == 1', NULL, 5, 0, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('81fcef3a-2a3d-5701-bf64-159d8ed40dd3', '3a81173b-b466-5dc4-a436-ebe97e05ddfe', 'Spouse Canadian Work Experience', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Work Experience', 'partner_canadian_work_experience_years == 2', NULL, 7, 0, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('96414997-36f1-596e-95a8-471f2fa1ccd1', '3a81173b-b466-5dc4-a436-ebe97e05ddfe', 'Spouse Canadian Work Experience', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Work Experience', 'partner_canadian_work_experience_years == 3', NULL, 8, 0, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('96d84ef9-2891-5c4a-8575-37f5573478fe', '3a81173b-b466-5dc4-a436-ebe97e05ddfe', 'Spouse Canadian Work Experience', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Work Experience', 'partner_canadian_work_experience_years == 4', NULL, 9, 0, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('9d8dc32d-5f91-532c-b9e6-8c30e9bbf919', '3a81173b-b466-5dc4-a436-ebe97e05ddfe', 'Spouse Canadian Work Experience', 'ce41603d-af71-5b28-abaa-08c19eaf4bb0', 'Spouse Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Spouse Work Experience', 'partner_canadian_work_experience_years >= 5', NULL, 10, 0, TRUE, 5, 'benchmark');
+
+-- Skill Transferability Factors
+INSERT INTO static_canadian_immigration_data.grids_categories VALUES ('82dfea97-f86d-5353-bbb4-5be39893c795', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Skill Transferability Factors', 'Combinations of education, language and work experience', 100, 100, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('1af7759c-3b5b-5206-a765-8eb6debce269', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', 'CRS', 'Education and First Official Language Proficiency', 50, 50, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('6e10d8fc-1493-59a3-95d7-ce8e9a6a6522', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == one-year;primary_clb_score >= 7;primary_clb_score <= 8', 'AND', 13, 13, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('40bdf5e1-1d02-53cb-b5bd-2241ff7dd430', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == one-year;primary_clb_score >= 9', 'AND', 25, 25, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('881387cc-1e59-5db2-acfd-f6ac1e542faf', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == two-year;primary_clb_score >= 7;primary_clb_score <= 8', 'AND', 13, 13, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('74a0817c-dfc2-5708-a864-9671f1bac0eb', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == two-year;primary_clb_score >= 9', 'AND', 25, 25, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('ceb3c20d-be0d-55ad-a39d-faa5710f836b', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == bachelor;primary_clb_score >= 7;primary_clb_score <= 8', 'AND', 13, 13, TRUE, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('acb9ad62-2de8-505b-9e40-c7f90071610c', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == bachelor;primary_clb_score >= 9', 'AND', 25, 25, TRUE, 6, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('7886569f-a64a-5f01-9a1e-fcc5ece64ff3', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == two-or-more;primary_clb_score >= 7;primary_clb_score <= 8', 'AND', 25, 25, TRUE, 7, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('80df3e33-9a42-5c70-8a9f-91f0e0ec4449', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == two-or-more;primary_clb_score >= 9', 'AND', 50, 50, TRUE, 8, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('34dbf216-a26d-598e-be1e-167831856e9f', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == master;primary_clb_score >= 7;primary_clb_score <= 8', 'AND', 25, 25, TRUE, 9, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c3fe139c-7bc9-5fb9-ab6b-e8da1a7129fd', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == master;primary_clb_score >= 9', 'AND', 50, 50, TRUE, 10, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('14490d9e-0659-52cd-bd20-66c48b3b7a5a', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == phd;primary_clb_score >= 7;primary_clb_score <= 8', 'AND', 25, 25, TRUE, 11, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('a68af6d9-2600-547f-a2af-aba588aa7998', '1af7759c-3b5b-5206-a765-8eb6debce269', 'Education and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Language', 'applicant_education_level == phd;primary_clb_score >= 9', 'AND', 50, 50, TRUE, 12, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('5361ac32-d56f-5d09-95d7-13acf654f075', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', 'CRS', 'Education and Canadian Work Experience', 50, 50, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('308b96aa-099c-5cd3-b154-fe28f915042d', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == one-year;canadian_work_experience_years == 1', 'AND', 13, 13, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('6e5ce1ad-d44a-5fea-a318-7e823649d922', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == one-year;canadian_work_experience_years >= 2', 'AND', 25, 25, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('62c2add6-6c0b-58a6-8687-a49bbd480d60', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == two-year;canadian_work_experience_years == 1', 'AND', 13, 13, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('fe0dfa91-4b0b-50f3-b752-79e203f098a0', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == two-year;canadian_work_experience_years >= 2', 'AND', 25, 25, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('dd87c471-8163-5990-9e83-c7e9d630ed62', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == bachelor;canadian_work_experience_years == 1', 'AND', 13, 13, TRUE, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('5b6efedd-4abf-5e04-a9e2-b137cf24dd52', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == bachelor;canadian_work_experience_years >= 2', 'AND', 25, 25, TRUE, 6, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c4adc429-f89f-59c1-acd9-2be0af4368dc', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == two-or-more;canadian_work_experience_years == 1', 'AND', 25, 25, TRUE, 7, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('3eaf4f28-8971-58ed-b13d-c629d5f0358f', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == two-or-more;canadian_work_experience_years >= 2', 'AND', 50, 50, TRUE, 8, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('192a71d8-ea7f-5f69-b10c-6c5c78ebdd2d', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == master;canadian_work_experience_years == 1', 'AND', 25, 25, TRUE, 9, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('7cbd16f5-e2a1-5384-ab93-12b8ead44647', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == master;canadian_work_experience_years >= 2', 'AND', 50, 50, TRUE, 10, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('e4d61a6d-7013-5639-a282-d30b402027aa', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == phd;canadian_work_experience_years == 1', 'AND', 25, 25, TRUE, 11, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('2ff9cbd8-a017-56e8-a6f5-78925357e83c', '5361ac32-d56f-5d09-95d7-13acf654f075', 'Education and Canadian Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Education and Canadian Work', 'applicant_education_level == phd;canadian_work_experience_years >= 2', 'AND', 50, 50, TRUE, 12, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('755a6e1f-d535-58f1-8625-54897bc1abc0', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', 'CRS', 'Foreign Work Experience and First Official Language Proficiency', 50, 50, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c9968622-2016-54dd-aa60-57e8feb995c4', '755a6e1f-d535-58f1-8625-54897bc1abc0', 'Foreign Work Experience and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Foreign Work and Language', 'foreign_work_experience_years >= 1;foreign_work_experience_years <= 2;primary_clb_score >= 7;primary_clb_score <= 8', 'AND', 13, 13, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('0980a0cf-db8f-5bbb-8880-68fb76ecf056', '755a6e1f-d535-58f1-8625-54897bc1abc0', 'Foreign Work Experience and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Foreign Work and Language', 'foreign_work_experience_years >= 1;foreign_work_experience_years <= 2;primary_clb_score >= 9', 'AND', 25, 25, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('3e5551b5-d640-5aca-96a8-a300b0977699', '755a6e1f-d535-58f1-8625-54897bc1abc0', 'Foreign Work Experience and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Foreign Work and Language', 'foreign_work_experience_years >= 3;primary_clb_score >= 7;primary_clb_score <= 8', 'AND', 25, 25, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('f183cf98-bbe9-5c79-8bda-b96f87e9b40d', '755a6e1f-d535-58f1-8625-54897bc1abc0', 'Foreign Work Experience and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Foreign Work and Language', 'foreign_work_experience_years >= 3;primary_clb_score >= 9', 'AND', 50, 50, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('5047b36b-9349-596c-9f47-5030781acb0f', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', 'CRS', 'Canadian Work Experience and Foreign Work Experience', 50, 50, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('51a8bbfc-f9bc-544d-8cf2-799ba30960b0', '5047b36b-9349-596c-9f47-5030781acb0f', 'Canadian Work Experience and Foreign Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Foreign and Canadian Work', 'foreign_work_experience_years >= 1;foreign_work_experience_years <= 2;canadian_work_experience_years == 1', 'AND', 13, 13, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('91af3fa8-d4cc-5aca-b68d-b8e02d42be32', '5047b36b-9349-596c-9f47-5030781acb0f', 'Canadian Work Experience and Foreign Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Foreign and Canadian Work', 'foreign_work_experience_years >= 1;foreign_work_experience_years <= 2;canadian_work_experience_years >= 2', 'AND', 25, 25, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('4c8a607b-0b26-575b-81ac-bd66d999bb82', '5047b36b-9349-596c-9f47-5030781acb0f', 'Canadian Work Experience and Foreign Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Foreign and Canadian Work', 'foreign_work_experience_years >= 3;canadian_work_experience_years == 1', 'AND', 25, 25, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('158b6381-8f91-5740-a981-7016f4387b0d', '5047b36b-9349-596c-9f47-5030781acb0f', 'Canadian Work Experience and Foreign Work Experience', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Foreign and Canadian Work', 'foreign_work_experience_years >= 3;canadian_work_experience_years >= 2', 'AND', 50, 50, TRUE, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('888588b2-0ed9-5524-a3b6-499702afd362', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', 'CRS', 'Trades Certificate and First Official Language Proficiency', 50, 50, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('84efe1ca-3c71-5d9f-972b-4ece18247559', '888588b2-0ed9-5524-a3b6-499702afd362', 'Trades Certificate and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Certificate and Language', 'trades_certification;primary_clb_score >= 5;primary_clb_score <= 6', 'AND', 25, 25, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('c22a6b08-5f29-5e21-821e-9c34c62e8bcb', '888588b2-0ed9-5524-a3b6-499702afd362', 'Trades Certificate and First Official Language Proficiency', '82dfea97-f86d-5353-bbb4-5be39893c795', 'Skill Transferability Factors', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Certificate and Language', 'trades_certification;primary_clb_score >= 7', 'AND', 50, 50, TRUE, 2, 'benchmark');
+
+-- Additional Points
+INSERT INTO static_canadian_immigration_data.grids_categories VALUES ('f11c0b2e-2082-50a5-bf84-93d38fe27f1f', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Additional Points', 'Provincial nomination, job offer, Canadian education, French and siblings', 600, 600, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('3ddb08cd-2f88-5087-ba0d-ab665cbf96bb', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', 'CRS', 'Provincial Nomination', 600, 600, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('48f0e155-a50e-54a9-a6bc-c1ab7d8eb8c4', '3ddb08cd-2f88-5087-ba0d-ab665cbf96bb', 'Provincial Nomination', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Provincial Nomination', 'has_provincial_nomination == true', NULL, 600, 600, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('e26f1456-069f-5a15-a102-e7c2c0cde000', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', 'CRS', 'Arranged Employment', 200, 200, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('a61b82fe-473f-5813-97c4-1bf75dfc8202', 'e26f1456-069f-5a15-a102-e7c2c0cde000', 'Arranged Employment', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Job Offer', 'has_job_offer;joboffer_occupation_teer_category == 0', 'AND', 200, 200, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('a5cfb051-2685-5adf-ac05-461b586ec4ca', 'e26f1456-069f-5a15-a102-e7c2c0cde000', 'Arranged Employment', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Job Offer', 'has_job_offer;joboffer_occupation_teer_category >= 1;joboffer_occupation_teer_category <= 3', 'AND', 50, 50, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('739a12a1-4e72-52f0-b10e-6de77ee3d345', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', 'CRS', 'Canadian Post-Secondary Education', 30, 30, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('3e18963f-766d-5dda-9593-231992cd5778', '739a12a1-4e72-52f0-b10e-6de77ee3d345', 'Canadian Post-Secondary Education', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Canadian Education', 'canadian_education_level == one-year OR canadian_education_level == two-year', NULL, 15, 15, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('72027bd7-4ef5-5e2b-8307-be51f12c985f', '739a12a1-4e72-52f0-b10e-6de77ee3d345', 'Canadian Post-Secondary Education', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Canadian Education', 'education_completed_in_canada;canadian_education_level == bachelor', 'AND', 30, 30, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('56553576-0860-5ed8-8bd5-58c08d1e48c1', '739a12a1-4e72-52f0-b10e-6de77ee3d345', 'Canadian Post-Secondary Education', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Canadian Education', 'education_completed_in_canada;canadian_education_level == master', 'AND', 30, 30, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('4342d97c-d5f9-5616-b3b3-0ba947a7462c', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', 'CRS', 'French Language Skills', 50, 50, 4, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('72ede9d8-92a1-56ab-8f75-e220eb67d698', '4342d97c-d5f9-5616-b3b3-0ba947a7462c', 'French Language Skills', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'French', 'secondary_test_type == TEF;secondary_clb_score >= 7;primary_clb_score <= 4', 'AND', 25, 25, TRUE, 1, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('28dd91e1-62e5-52fd-ba32-ed8082852460', '4342d97c-d5f9-5616-b3b3-0ba947a7462c', 'French Language Skills', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'French', 'secondary_test_type == TEF;secondary_clb_score >= 7;primary_clb_score >= 5', 'AND', 50, 50, TRUE, 2, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('ab023977-7388-5615-a49b-bab44c819753', '4342d97c-d5f9-5616-b3b3-0ba947a7462c', 'French Language Skills', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'French', 'secondary_test_type == TCF;secondary_clb_score >= 7;primary_clb_score >= 5', 'AND', 50, 50, TRUE, 3, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_subcategories VALUES ('5ef5b42d-5f14-5a3a-bdfa-de5f49bbb315', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', 'CRS', 'Sibling in Canada', 15, 15, 5, 'benchmark');
+INSERT INTO static_canadian_immigration_data.grids_fields VALUES ('b8e9f4ca-7637-50eb-869d-b22bda08160e', '5ef5b42d-5f14-5a3a-bdfa-de5f49bbb315', 'Sibling in Canada', 'f11c0b2e-2082-50a5-bf84-93d38fe27f1f', 'Additional Points', '26001270-3164-5f2d-8aaa-f59feb43598f', 'CRS', 'Sibling', 'has_canadian_relatives;relationship_with_canadian_relative == sibling', 'AND', 15, 15, TRUE, 1, 'benchmark');
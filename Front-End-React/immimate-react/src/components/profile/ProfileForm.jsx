@@ -7,6 +7,9 @@ import { useAuth } from '../../contexts/AuthContext';
 import apiService from '../../services/ApiService';
 import Logger from '../../utils/LoggingService';
 import Select from 'react-select';
+import AsyncSelect from 'react-select/async';
+import { searchCities, getCountries } from '../../services/ReferenceDataService';
+import { searchOccupations } from '../../services/NocService';
 
 // Import validation
 // eslint-disable-next-line no-unused-vars
@@ -74,6 +77,14 @@ const sectionNames = {
   'additional': 'Additional Information'
 };
 
+// Kinds of async select options, used to key their remembered labels
+const CITY_OPTION = 'city';
+const NOC_OPTION = 'noc';
+
+// The NOC search only answers typed queries
+const nocNoOptionsMessage = ({ inputValue }) =>
+  inputValue ? 'No matching occupations' : 'Type a job title or NOC code';
+
 const ProfileForm = () => {
   // Configuration
   // const API_BASE_URL = 'http://localhost:8080/api'; // No longer needed - using apiService
@@ -938,98 +949,83 @@ const ProfileForm = () => {
   };
 
   // --------------------- DROPDOWN DATA (COUNTRIES, CITIES, JOBS) --------------------- //
+  // Countries are a short list loaded once; cities and NOC codes are searched on the server as the user types
   const [countries, setCountries] = useState([]);
-  const [cities, setCities] = useState({});
-  const [jobs, setJobs] = useState([
-    { NOC: '21234', 'Job Title': 'Software Developer' },
-    { NOC: '31102', 'Job Title': 'Medical Doctor' },
-    { NOC: '41200', 'Job Title': 'Teacher' }
-  ]);
-
-  // Load reference data from local JSON files
+  // Labels of the city and NOC options seen so far, so a selected value keeps its full label
+  const optionLabels = useRef(new Map());
+  const [, setOptionLabelsVersion] = useState(0);
+
   useEffect(() => {
-    const loadReferenceData = async () => {
-      Logger.debug('Loading reference data from local files...');
-      setIsLoading(true);
-      
-      try {
-        // Load from public/Data files
     const loadCountries = async () => {
       try {
-            Logger.debug('Loading countries from local file');
-        const response = await fetch('/Data/countries.json');
-            
-            if (!response.ok) {
-              throw new Error(`Failed to fetch countries: ${response.status} ${response.statusText}`);
-            }
-            
-          const data = await response.json();
-            Logger.debug('Countries loaded successfully:', data.length);
-          setCountries(data);
-            return data;
-      } catch (error) {
-            Logger.error('Error loading countries from file:', error);
-            throw error;
-      }
-    };
-        
-    const loadCities = async () => {
-      try {
-            Logger.debug('Loading cities from local file');
-        const response = await fetch('/Data/canadacities.json');
-            
-            if (!response.ok) {
-              throw new Error(`Failed to fetch cities: ${response.status} ${response.statusText}`);
-            }
-            
-          const data = await response.json();
-            Logger.debug('Cities loaded successfully:', data.length);
-          setCities(data);
-            return data;
-      } catch (error) {
-            Logger.error('Error loading cities from file:', error);
-            throw error;
-      }
-    };
-        
-    const loadJobs = async () => {
-      try {
-            Logger.debug('Loading jobs from local file');
-        const response = await fetch('/Data/jobs.json');
-            
-            if (!response.ok) {
-              throw new Error(`Failed to fetch jobs: ${response.status} ${response.statusText}`);
-            }
-            
-          const data = await response.json();
-            Logger.debug('Jobs loaded successfully:', data.length);
-          setJobs(data);
-            return data;
+        Logger.debug('Loading countries from the reference data API');
+        const data = await getCountries();
+        Logger.debug('Countries loaded successfully:', data.length);
+        setCountries(data);
       } catch (error) {
-            Logger.error('Error loading jobs from file:', error);
-            throw error;
-          }
-        };
-        
-        // Load all data in parallel
-        await Promise.all([
-          loadCountries(),
-          loadCities(),
-          loadJobs()
-        ]);
-        
-        Logger.debug('Reference data loaded successfully from local files');
-      } catch (error) {
-        Logger.error('Error loading reference data:', error);
-      } finally {
-          setIsLoading(false);
+        Logger.error('Error loading countries:', error);
       }
     };
 
-    // Start loading reference data
-    loadReferenceData();
+    loadCountries();
   }, []);
 
+  // Remember the labels of loaded options, keyed by option kind and value
+  const rememberOptionLabels = (kind, options) => {
+    options.forEach(option => optionLabels.current.set(`${kind}:${option.value}`, option.label));
+    return options;
+  };
+
+  // City suggestions for the async select: rows without a population first, then the most populated
+  const loadCityOptions = async (inputValue) => {
+    try {
+      const suggestions = await searchCities(inputValue);
+      return rememberOptionLabels(CITY_OPTION, suggestions.map((city) => ({
+        value: city.city,
+        label: `${city.city}${city.province ? `, ${city.province}` : ''}`
+      })));
+    } catch (error) {
+      return [];
+    }
+  };
+
+  // Occupation matches for the async select, by job title or NOC code
+  const loadJobOptions = async (inputValue) => {
+    try {
+      const occupations = await searchOccupations(inputValue);
+      return rememberOptionLabels(NOC_OPTION, occupations.map((job) => ({
+        value: job.nocCode,
+        label: `${job.nocCode} - ${job.jobTitle}`
+      })));
+    } catch (error) {
+      return [];
+    }
+  };
+
+  // Option for a stored value; falls back to the raw value until its label has been loaded
+  const selectedOption = (kind, value) => {
+    if (value === undefined || value === null || value === '') {
+      return null;
+    }
+    return { value, label: optionLabels.current.get(`${kind}:${value}`) || String(value) };
+  };
+
+  // Look up labels for values restored from a draft or profile, which were never shown as options
+  const { nocCodeCanadian, nocCodeForeign, jobOfferNocCode, prefDestCity } = watchAllFields;
+  useEffect(() => {
+    const missing = (kind, value) => value && !optionLabels.current.has(`${kind}:${value}`);
+    const lookups = [nocCodeCanadian, nocCodeForeign, jobOfferNocCode]
+      .filter(code => missing(NOC_OPTION, code))
+      .map(code => loadJobOptions(String(code)));
+    if (missing(CITY_OPTION, prefDestCity)) {
+      lookups.push(loadCityOptions(prefDestCity));
+    }
+    if (lookups.length > 0) {
+      Promise.all(lookups).then(() => setOptionLabelsVersion(version => version + 1));
+    }
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [nocCodeCanadian, nocCodeForeign, jobOfferNocCode, prefDestCity]);
+
   // Check if user already has a profile
   useEffect(() => {
     const checkExistingProfile = async () => {
@@ -2374,36 +2370,14 @@ const ProfileForm = () => {
 
 
 
-  // Format jobs data for react-select component
-  const formatJobsForSelect = () => {
-    if (!jobs || !Array.isArray(jobs)) {
-      return [];
-    }
-    return jobs.map((job) => ({
-      value: job.NOC,
-      label: `${job.NOC} - ${job['Job Title']}`
-    }));
-  };
-
-  // Format cities data for react-select component
-  const formatCitiesForSelect = () => {
-    if (!cities || !Array.isArray(cities)) {
-      return [];
-    }
-    return cities.map((city) => ({
-      value: city.City,
-      label: `${city.City}${city.Provinces ? `, ${city.Provinces}` : ''}`
-    }));
-  };
-
   // Format countries data for react-select component
   const formatCountriesForSelect = () => {
     if (!countries || !Array.isArray(countries)) {
       return [];
     }
     return countries.map((country) => ({
-      value: country.Countries,
-      label: country.Countries
+      value: country,
+      label: country
     }));
   };
 
@@ -2762,6 +2736,7 @@ const ProfileForm = () => {
         {isSaving && <span className="saving">Saving draft...</span>}
         {saveStatus === 'saved' && <span className="saved">Draft saved</span>}
         {saveStatus === 'error' && <span className="error">Error saving draft</span>}
+        {saveStatus === 'conflict' && <span className="error">Draft changed in another window</span>}
         {hasUnsavedChanges && <span className="unsaved">Unsaved changes</span>}
       </div>
 
@@ -3674,15 +3649,16 @@ const ProfileForm = () => {
                     control={control}
                     rules={{ required: true }}
                     render={({ field }) => (
-                      <Select
+                      <AsyncSelect
                         inputId="nocCodeCanadian"
-                        options={formatJobsForSelect()}
+                        loadOptions={loadJobOptions}
+                        cacheOptions
+                        noOptionsMessage={nocNoOptionsMessage}
                         className="react-select-container"
                         classNamePrefix="react-select"
                         placeholder="Search and select a NOC code..."
-                        isSearchable={true}
                         isClearable={true}
-                        value={formatJobsForSelect().find(option => option.value === parseInt(field.value)) || null}
+                        value={selectedOption(NOC_OPTION, field.value)}
                         onChange={(option) => field.onChange(option ? option.value : '')}
                         onBlur={field.onBlur}
                       />
@@ -3737,15 +3713,16 @@ const ProfileForm = () => {
                     control={control}
                     rules={{ required: true }}
                     render={({ field }) => (
-                      <Select
+                      <AsyncSelect
                         inputId="nocCodeForeign"
-                        options={formatJobsForSelect()}
+                        loadOptions={loadJobOptions}
+                        cacheOptions
+                        noOptionsMessage={nocNoOptionsMessage}
                         className="react-select-container"
                         classNamePrefix="react-select"
                         placeholder="Search and select a NOC code..."
-                        isSearchable={true}
                         isClearable={true}
-                        value={formatJobsForSelect().find(option => option.value === parseInt(field.value)) || null}
+                        value={selectedOption(NOC_OPTION, field.value)}
                         onChange={(option) => field.onChange(option ? option.value : '')}
                         onBlur={field.onBlur}
                       />
@@ -4139,15 +4116,16 @@ const ProfileForm = () => {
                       control={control}
                       rules={{ required: true }}
                       render={({ field }) => (
-                        <Select
+                        <AsyncSelect
                           inputId="jobOfferNocCode"
-                          options={formatJobsForSelect()}
+                          loadOptions={loadJobOptions}
+                          cacheOptions
+                          noOptionsMessage={nocNoOptionsMessage}
                           className="react-select-container"
                           classNamePrefix="react-select"
                           placeholder="Search and select a NOC code..."
-                          isSearchable={true}
                           isClearable={true}
-                          value={formatJobsForSelect().find(option => option.value === parseInt(field.value)) || null}
+                          value={selectedOption(NOC_OPTION, field.value)}
                           onChange={(option) => field.onChange(option ? option.value : '')}
                           onBlur={field.onBlur}
                         />
@@ -4546,15 +4524,16 @@ const ProfileForm = () => {
                   name="prefDestCity"
                   control={control}
                   render={({ field }) => (
-                    <Select
+                    <AsyncSelect
                       inputId="prefDestCity"
-                      options={formatCitiesForSelect()}
+                      loadOptions={loadCityOptions}
+                      defaultOptions
+                      cacheOptions
                       className="react-select-container"
                       classNamePrefix="react-select"
                       placeholder="Search and select a city..."
-                      isSearchable={true}
                       isClearable={true}
-                      value={formatCitiesForSelect().find(option => option.value === field.value) || null}
+                      value={selectedOption(CITY_OPTION, field.value)}
                       onChange={(option) => field.onChange(option ? option.value : '')}
                       onBlur={field.onBlur}
                     />
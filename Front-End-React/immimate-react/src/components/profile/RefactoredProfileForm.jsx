@@ -778,6 +778,7 @@ const RefactoredProfileForm = ({ draftOptions = {} }) => {
           {isSaving && <span className="saving">Saving draft...</span>}
           {saveStatus === 'saved' && <span className="saved">Draft saved</span>}
           {saveStatus === 'error' && <span className="error">Error saving draft</span>}
+          {saveStatus === 'conflict' && <span className="error">Draft changed in another window</span>}
           {hasUnsavedChanges && <span className="unsaved">Unsaved changes</span>}
         </div>
       )}
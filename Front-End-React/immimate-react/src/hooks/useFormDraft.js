@@ -4,6 +4,7 @@ import Logger from '../utils/LoggingService';
 import { useAuth } from '../contexts/AuthContext';
 import { debounce } from 'lodash';
 import { isEqual } from 'lodash';
+import { createJsonPatch, rebaseDraft } from '../utils/jsonPatch';
 
 // Create a module-level variable to track network errors across hook instances
 const networkErrorTracker = {
@@ -14,6 +15,23 @@ const networkErrorTracker = {
 // Track which forms have already been loaded to prevent duplicate loading
 const loadedForms = new Set();
 
+// Draft metadata that differs on every save and never counts as a conflicting edit
+const DRAFT_METADATA_KEYS = ['_formId', '_lastSaved'];
+
+/**
+ * Save a draft to the server: a JSON Patch when the server copy is known, otherwise
+ * (or when the patch is unusable) a full save conditional on the known draft version.
+ */
+const saveDraftToServer = async (serverDraft, draftData) => {
+    if (serverDraft) {
+        const patched = await apiService.patchFormDraft(createJsonPatch(serverDraft, draftData));
+        if (patched) {
+            return patched;
+        }
+    }
+    return apiService.saveFormDraft(draftData);
+};
+
 /**
  * Custom hook for managing form drafts with auto-save functionality.
  * 
@@ -48,6 +66,8 @@ const useFormDraft = ({
     const requestCountRef = useRef(0);
     const isMountedRef = useRef(true);
     const lastSaveTimeRef = useRef(0);
+    // Draft as last stored on the server, used as the base for delta (JSON Patch) saves
+    const serverDraftRef = useRef(null);
     
     // Generate a unique instance ID to prevent duplicate hook instances from causing conflicts
     const instanceIdRef = useRef(`form-instance-${Date.now()}-${Math.random().toString(36).substring(2, 9)}`);
@@ -95,7 +115,42 @@ const useFormDraft = ({
                 // Try to save to server if authenticated and no network errors
                 if (currentUser && !networkErrorTracker.hasNetworkError) {
                     try {
-                        await apiService.saveFormDraft(draftData);
+                        // Send only the changes when the server copy is known, else the whole draft
+                        let savedData = draftData;
+                        let saved = await saveDraftToServer(serverDraftRef.current, draftData);
+                        
+                        if (saved && saved.conflict) {
+                            // Saved from another window meanwhile: rebase our edits on the newer draft
+                            const base = serverDraftRef.current;
+                            const serverData = await apiService.getLatestFormDraft();
+                            serverDraftRef.current = serverData || null;
+                            // Edits the server lost after accepting them leave no common base to rebase on
+                            const rebased = base && serverData && !apiService.unsavedDraftConflict
+                                ? rebaseDraft(base, draftData, serverData, DRAFT_METADATA_KEYS)
+                                : null;
+                            
+                            if (rebased && rebased.conflicts.length === 0) {
+                                savedData = rebased.merged;
+                                saved = await saveDraftToServer(serverData, savedData);
+                            }
+                            if (!saved || saved.conflict || !rebased || rebased.conflicts.length > 0) {
+                                Logger.warn('Form draft conflicts with a newer server draft', {
+                                    formId,
+                                    fields: rebased ? rebased.conflicts : []
+                                });
+                                if (isMountedRef.current) {
+                                    setSaveStatus('conflict');
+                                    setError('This draft was changed in another window. Reload it before saving again.');
+                                }
+                                return;
+                            }
+                            if (isMountedRef.current) {
+                                const { _formId, _lastSaved, ...mergedFormData } = savedData;
+                                setFormData(mergedFormData);
+                            }
+                        }
+                        
+                        serverDraftRef.current = saved && saved.success ? savedData : null;
                         if (isMountedRef.current) {
                             Logger.debug('Form draft saved successfully to server', { formId });
                         }
@@ -354,6 +409,14 @@ const useFormDraft = ({
                         // Race between the draft load and the timeout
                         const serverData = await Promise.race([draftPromise, timeoutPromise]);
                         
+                        // Whatever the server returned is the base for the next delta save
+                        serverDraftRef.current = serverData || null;
+                        
+                        if (apiService.unsavedDraftConflict && isMountedRef.current) {
+                            setSaveStatus('conflict');
+                            setError('Some draft changes could not be saved because the draft was changed in another window.');
+                        }
+                        
                         if (serverData && serverData._formId === formId) {
                             // Compare timestamps to use the most recent data
                             const serverTime = new Date(serverData._lastSaved || 0).getTime();
@@ -479,7 +542,8 @@ const useFormDraft = ({
             // Clear server draft if authenticated
             if (currentUser && !networkErrorTracker.hasNetworkError) {
                 try {
-                    await apiService.saveFormDraft({ _formId: formId, _discarded: true });
+                    await apiService.saveFormDraft({ _formId: formId, _discarded: true }, true);
+                    serverDraftRef.current = null;
                     Logger.debug('Form draft discarded on server', { formId });
                 } catch (serverError) {
                     Logger.error('Error discarding server form draft', serverError);
@@ -13,6 +13,10 @@ class ApiService {
         this.resetTime = null;
         this.retryCount = 0;
         this.maxRetries = 10;
+        // Version of the server-side form draft, sent as If-Match with draft patches
+        this.draftVersion = null;
+        // Edits the server accepted but could not store because the draft changed elsewhere
+        this.unsavedDraftConflict = null;
         
         // Create axios instance with default config
         this.api = axios.create({
@@ -52,6 +56,8 @@ class ApiService {
                 
                 // Add CSRF token for non-GET requests if available
                 if (['post', 'put', 'delete', 'patch'].includes(config.method)) {
+                    // The XSRF-TOKEN cookie is the source of truth (double-submit), no fetch needed
+                    this.csrfToken = this.readCsrfCookie() || this.csrfToken;
                     if (this.csrfToken) {
                         config.headers[this.csrfHeaderName] = this.csrfToken;
                         Logger.debug(`ApiService: Added CSRF token to ${config.method.toUpperCase()} request: ${this.csrfToken.substring(0, 10)}...`);
@@ -142,9 +148,21 @@ class ApiService {
     }
     
     /**
-     * Fetch a CSRF token from the server.
+     * Read the CSRF token from the XSRF-TOKEN cookie the server issues once per session.
+     * @returns {string|null} The token, or null when the cookie is not set or not readable
+     */
+    readCsrfCookie() {
+        if (typeof document === 'undefined' || !document.cookie) {
+            return null;
+        }
+        const match = document.cookie.match(/(?:^|;\s*)XSRF-TOKEN=([^;]*)/);
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+    
+    /**
+     * Get a CSRF token, from the session cookie when available, otherwise from the server.
      * This should be called before making any state-changing requests.
-     * @param {boolean} forceFresh - If true, always fetch a new token regardless of existing token
+     * @param {boolean} forceFresh - If true, always fetch the token from the server
      */
     async fetchCsrfToken(forceFresh = false) {
         // Clear the fetching flag
@@ -161,6 +179,13 @@ class ApiService {
             }
         }
         
+        // Prefer the session cookie, it saves a round trip before the first form submission
+        const cookieToken = forceFresh ? null : this.readCsrfCookie();
+        if (cookieToken) {
+            this.csrfToken = cookieToken;
+            return this.csrfToken;
+        }
+        
         // If we already have a token and not forcing refresh, don't fetch a new one
         if (this.csrfToken && !forceFresh) {
             Logger.debug('CSRF token already exists, reusing existing token');
@@ -225,11 +250,14 @@ class ApiService {
     
     /**
      * Save form draft to the server.
+     * The save is conditional on the last known draft version (If-Match), so it cannot
+     * overwrite a newer draft saved from another window; that case resolves to a conflict.
      * 
      * @param {Object} formData The form data to save
-     * @returns {Promise<Object>} The response from the server
+     * @param {boolean} unconditional - If true, replace the server draft whatever its version
+     * @returns {Promise<Object>} The response from the server, { success: false, conflict: true } on a version conflict
      */
-    async saveFormDraft(formData) {
+    async saveFormDraft(formData, unconditional = false) {
         // Don't attempt operation if circuit is broken
         if (this.isCircuitBroken) {
             Logger.debug('Circuit broken. Draft save operation suppressed.');
@@ -244,12 +272,23 @@ class ApiService {
             
             Logger.debug('Saving form draft to server');
             // Use only the general endpoint that's implemented in the backend
+            const headers = {};
+            if (!unconditional && this.draftVersion != null) {
+                headers['If-Match'] = `"${this.draftVersion}"`;
+            }
             const response = await this.api.post('/profiles/draft', formData, {
-                withCredentials: true // Ensure cookies are sent with the request
+                withCredentials: true, // Ensure cookies are sent with the request
+                headers
             });
             Logger.debug('Form draft saved successfully');
+            this.draftVersion = response.data && response.data.version != null ? response.data.version : null;
             return response.data;
         } catch (error) {
+            if (error.response && error.response.status === 409) {
+                Logger.debug('Form draft save rejected, the server draft changed since it was loaded');
+                return this.draftConflict(error.response);
+            }
+            
             // Handle 404 Not Found errors gracefully - endpoint might not be implemented yet
             if (error.response && error.response.status === 404) {
                 Logger.warn('Form draft endpoint not found (404). Falling back to localStorage only.');
@@ -263,6 +302,64 @@ class ApiService {
         }
     }
     
+    /**
+     * Send only the changes to the server draft as a JSON Patch.
+     * Resolves to null when the patch cannot be applied (no known draft version, or the patch
+     * was rejected) so the caller can fall back to a full save. A draft changed elsewhere is
+     * never overwritten: that resolves to { success: false, conflict: true } instead.
+     * 
+     * @param {Array<Object>} operations JSON Patch operations against the last saved draft
+     * @returns {Promise<Object|null>} The response from the server, a conflict result, or null
+     */
+    async patchFormDraft(operations) {
+        if (this.isCircuitBroken || this.draftVersion == null) {
+            return null;
+        }
+        
+        try {
+            // Ensure we have a CSRF token
+            if (!this.csrfToken) {
+                await this.fetchCsrfToken();
+            }
+            
+            Logger.debug(`Patching form draft version ${this.draftVersion} with ${operations.length} operations`);
+            const response = await this.api.patch('/profiles/draft', operations, {
+                withCredentials: true,
+                headers: {
+                    'Content-Type': 'application/json-patch+json',
+                    'If-Match': `"${this.draftVersion}"`
+                }
+            });
+            this.draftVersion = response.data && response.data.version != null ? response.data.version : null;
+            return response.data;
+        } catch (error) {
+            const status = error.response ? error.response.status : null;
+            if (status === 409) {
+                Logger.debug('Form draft patch rejected, the server draft changed since it was loaded');
+                return this.draftConflict(error.response);
+            }
+            if ([422, 428].includes(status)) {
+                // The version is still right, only this patch was unusable
+                Logger.debug(`Form draft patch not applied (${status}), a full save is needed`);
+            } else {
+                Logger.error('Error patching form draft:', error);
+                this.draftVersion = null;
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * Build the result for a draft save rejected with 409 Conflict.
+     * @param {Object} response The error response
+     * @returns {Object} { success: false, conflict: true, currentVersion }
+     */
+    draftConflict(response) {
+        const currentVersion = response.data && response.data.currentVersion != null
+            ? response.data.currentVersion : null;
+        return { success: false, conflict: true, currentVersion };
+    }
+    
     /**
      * Get the latest form draft from the server.
      * 
@@ -297,6 +394,10 @@ class ApiService {
             // Reset retry count on successful call
             this.retryCount = 0;
             
+            this.draftVersion = response.data && response.data.version != null ? response.data.version : null;
+            this.unsavedDraftConflict = response.data && response.data.conflict
+                ? response.data.unsavedFormData || {} : null;
+            
             if (response.data && response.data.success) {
                 if (response.data.formData) {
                     Logger.debug('Form draft fetched successfully with formData key');
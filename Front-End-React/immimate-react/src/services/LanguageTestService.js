@@ -6,6 +6,7 @@ import Logger from '../utils/LoggingService';
 const LANGUAGE_TESTS_PATH = '/language-tests';
 const CONVERSIONS_PATH = '/conversions';
 const CONVERT_PATH = '/convert';
+const CONVERT_BATCH_PATH = '/convert/batch';
 const OPTIONS_PATH = '/options';
 
 /**
@@ -89,6 +90,25 @@ export const convertToCLB = async (testType, skill, score) => {
   }
 };
 
+/**
+ * Convert every skill score of one or more language tests in a single request
+ * @param {Array<{label: string, testType: string, scores: Object<string, string>}>} tests
+ *   The tests to convert, e.g. [{ label: 'primary', testType: 'IELTS', scores: { listening: '8.0' } }]
+ * @returns {Promise<Object>} CLB levels per test label, each with clbLevels and minimumClb
+ */
+export const convertBatchToCLB = async (tests) => {
+  try {
+    const response = await axios.post(
+      `${API_BASE_URL}${LANGUAGE_TESTS_PATH}${CONVERT_BATCH_PATH}`,
+      { tests }
+    );
+    return response.data.results;
+  } catch (error) {
+    Logger.error('Error converting language tests to CLB in batch:', error);
+    throw error;
+  }
+};
+
 /**
  * Service for language test related operations
  */
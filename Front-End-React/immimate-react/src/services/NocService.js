@@ -0,0 +1,37 @@
+import axios from 'axios';
+import { API_BASE_URL } from '../config/config';
+import Logger from '../utils/LoggingService';
+
+// API paths
+const NOC_PATH = '/noc';
+const SEARCH_PATH = '/search';
+
+// Default number of suggestions shown in the occupation autocomplete
+const DEFAULT_LIMIT = 10;
+
+/**
+ * Search occupations by job title or NOC code as the user types
+ * @param {string} query The search text, e.g. "software" or "2123"
+ * @param {number} limit The maximum number of suggestions (server caps at 25)
+ * @param {AbortSignal} signal Optional signal to cancel a superseded keystroke request
+ * @returns {Promise<Array<{nocCode: number, teerCategory: number, jobTitle: string}>>} Best matches first
+ */
+export const searchOccupations = async (query, limit = DEFAULT_LIMIT, signal) => {
+  if (!query || !query.trim()) {
+    return [];
+  }
+  
+  try {
+    const response = await axios.get(`${API_BASE_URL}${NOC_PATH}${SEARCH_PATH}`, {
+      params: { q: query, limit },
+      signal
+    });
+    return response.data;
+  } catch (error) {
+    if (axios.isCancel(error)) {
+      return [];
+    }
+    Logger.error('Error searching occupations:', error);
+    throw error;
+  }
+};
@@ -0,0 +1,63 @@
+import axios from 'axios';
+import { API_BASE_URL } from '../config/config';
+import Logger from '../utils/LoggingService';
+
+// API paths
+const REFERENCE_DATA_PATH = '/reference-data';
+const CITIES_PATH = '/cities';
+const PROVINCES_PATH = '/provinces';
+const COUNTRIES_PATH = '/countries';
+
+// Default number of city suggestions
+const DEFAULT_CITY_LIMIT = 20;
+
+/**
+ * Suggest Canadian cities, most populated first.
+ * Responses carry ETags, so repeated queries are answered by the browser cache or a 304.
+ * @param {string} query Name prefix, e.g. "mont" (blank for the largest cities)
+ * @param {string} province Optional province filter, e.g. "Quebec"
+ * @param {number} limit The maximum number of suggestions (server caps at 100)
+ * @returns {Promise<Array<{city: string, province: string, population: number}>>}
+ */
+export const searchCities = async (query = '', province, limit = DEFAULT_CITY_LIMIT) => {
+  try {
+    const response = await axios.get(`${API_BASE_URL}${REFERENCE_DATA_PATH}${CITIES_PATH}`, {
+      params: { q: query, province, limit }
+    });
+    return response.data;
+  } catch (error) {
+    Logger.error('Error searching cities:', error);
+    throw error;
+  }
+};
+
+/**
+ * Get the Canadian province and territory names
+ * @returns {Promise<Array<string>>}
+ */
+export const getProvinces = async () => {
+  try {
+    const response = await axios.get(`${API_BASE_URL}${REFERENCE_DATA_PATH}${PROVINCES_PATH}`);
+    return response.data;
+  } catch (error) {
+    Logger.error('Error fetching provinces:', error);
+    throw error;
+  }
+};
+
+/**
+ * Get country names, optionally filtered by prefix
+ * @param {string} query Optional name prefix
+ * @returns {Promise<Array<string>>}
+ */
+export const getCountries = async (query) => {
+  try {
+    const response = await axios.get(`${API_BASE_URL}${REFERENCE_DATA_PATH}${COUNTRIES_PATH}`, {
+      params: query ? { q: query } : undefined
+    });
+    return response.data;
+  } catch (error) {
+    Logger.error('Error fetching countries:', error);
+    throw error;
+  }
+};
@@ -0,0 +1,86 @@
+import { isEqual, isPlainObject } from 'lodash';
+
+/**
+ * Escape an object key for use as a JSON Pointer segment (RFC 6901).
+ */
+const escapePointerSegment = (key) => String(key).replace(/~/g, '~0').replace(/\//g, '~1');
+
+/**
+ * Build a JSON Patch (RFC 6902) that turns `previous` into `next`.
+ * Nested objects are diffed field by field; arrays and primitives are replaced whole,
+ * which keeps patches small for form data without array move detection.
+ *
+ * @param {Object} previous The document the server currently holds
+ * @param {Object} next The document to save
+ * @param {string} basePath JSON Pointer of the documents (used for recursion)
+ * @returns {Array<Object>} The patch operations, empty if nothing changed
+ */
+export const createJsonPatch = (previous, next, basePath = '') => {
+    const operations = [];
+
+    Object.keys(previous).forEach((key) => {
+        if (!Object.prototype.hasOwnProperty.call(next, key) || next[key] === undefined) {
+            if (previous[key] !== undefined) {
+                operations.push({ op: 'remove', path: `${basePath}/${escapePointerSegment(key)}` });
+            }
+        }
+    });
+
+    Object.keys(next).forEach((key) => {
+        const value = next[key];
+        if (value === undefined) {
+            return;
+        }
+        const path = `${basePath}/${escapePointerSegment(key)}`;
+        const hadKey = Object.prototype.hasOwnProperty.call(previous, key) && previous[key] !== undefined;
+
+        if (!hadKey) {
+            operations.push({ op: 'add', path, value });
+        } else if (isPlainObject(value) && isPlainObject(previous[key])) {
+            operations.push(...createJsonPatch(previous[key], value, path));
+        } else if (!isEqual(previous[key], value)) {
+            operations.push({ op: 'replace', path, value });
+        }
+    });
+
+    return operations;
+};
+
+/**
+ * Rebase local draft edits onto a newer server draft.
+ * Top-level fields the user changed since `base` are applied on top of `server`; a field that
+ * was changed both locally and on the server, to different values, is reported as a conflict.
+ *
+ * @param {Object} base The server draft the local edits started from
+ * @param {Object} local The local draft
+ * @param {Object} server The current server draft
+ * @param {Array<string>} ignoredKeys Metadata keys that never conflict, taken from `local`
+ * @returns {{merged: Object, conflicts: Array<string>}} The rebased draft and the conflicting fields
+ */
+export const rebaseDraft = (base, local, server, ignoredKeys = []) => {
+    const merged = { ...server };
+    const conflicts = [];
+    const keys = new Set([...Object.keys(base), ...Object.keys(local)]);
+
+    keys.forEach((key) => {
+        if (ignoredKeys.includes(key) || isEqual(base[key], local[key])) {
+            return;
+        }
+        if (!isEqual(base[key], server[key]) && !isEqual(local[key], server[key])) {
+            conflicts.push(key);
+        } else if (local[key] === undefined) {
+            delete merged[key];
+        } else {
+            merged[key] = local[key];
+        }
+    });
+    ignoredKeys.forEach((key) => {
+        if (local[key] !== undefined) {
+            merged[key] = local[key];
+        }
+    });
+
+    return { merged, conflicts };
+};
+
+export default createJsonPatch;